@@ -0,0 +1,23 @@
+package io.lostyzen.demo.domain.exception;
+
+import io.lostyzen.demo.domain.model.OperationResult;
+
+import java.util.List;
+
+/**
+ * Exception thrown when a step of a batch of operations fails
+ * The whole batch is rolled back; the results describe what happened to each step
+ */
+public class BatchAbortedException extends RuntimeException {
+
+    private final transient List<OperationResult> results;
+
+    public BatchAbortedException(int failedIndex, String reason, List<OperationResult> results) {
+        super("Operation " + failedIndex + " failed: " + reason);
+        this.results = List.copyOf(results);
+    }
+
+    public List<OperationResult> getResults() {
+        return results;
+    }
+}
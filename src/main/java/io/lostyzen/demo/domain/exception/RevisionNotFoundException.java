@@ -0,0 +1,10 @@
+package io.lostyzen.demo.domain.exception;
+
+/**
+ * Exception thrown when a message has no revision with the requested number
+ */
+public class RevisionNotFoundException extends RuntimeException {
+    public RevisionNotFoundException(String messageId, int revision) {
+        super("Revision " + revision + " of message " + messageId);
+    }
+}
@@ -0,0 +1,10 @@
+package io.lostyzen.demo.domain.exception;
+
+/**
+ * Exception thrown when a webhook subscription is not found
+ */
+public class WebhookNotFoundException extends RuntimeException {
+    public WebhookNotFoundException(String subscriptionId) {
+        super(subscriptionId);
+    }
+}
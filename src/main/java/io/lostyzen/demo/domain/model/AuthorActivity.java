@@ -0,0 +1,38 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Approximate summary of the messages created over a time range
+ * The distinct author count is within distinctAuthorsError (relative standard error) of the true count;
+ * each author count overestimates the true count by at most countErrorBound, with probability countConfidence
+ */
+@Getter
+public class AuthorActivity {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final long messages;
+    private final long distinctAuthors;
+    private final double distinctAuthorsError;
+    private final List<AuthorCount> topAuthors;
+    private final long countErrorBound;
+    private final double countConfidence;
+
+    public AuthorActivity(LocalDateTime from, LocalDateTime to, long messages, long distinctAuthors,
+                          double distinctAuthorsError, List<AuthorCount> topAuthors, long countErrorBound,
+                          double countConfidence) {
+        this.from = Objects.requireNonNull(from, "Range start cannot be null");
+        this.to = Objects.requireNonNull(to, "Range end cannot be null");
+        this.messages = messages;
+        this.distinctAuthors = distinctAuthors;
+        this.distinctAuthorsError = distinctAuthorsError;
+        this.topAuthors = List.copyOf(topAuthors);
+        this.countErrorBound = countErrorBound;
+        this.countConfidence = countConfidence;
+    }
+}
@@ -0,0 +1,20 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Estimated number of messages created by an author
+ */
+@Getter
+public class AuthorCount {
+
+    private final String author;
+    private final long messages; // Never below the true count
+
+    public AuthorCount(String author, long messages) {
+        this.author = Objects.requireNonNull(author, "Author cannot be null");
+        this.messages = messages;
+    }
+}
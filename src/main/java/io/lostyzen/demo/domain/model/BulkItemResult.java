@@ -0,0 +1,48 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one message within a bulk operation
+ * Bulk operations never fail as a whole because of a single message; each ID gets its own result
+ */
+@Getter
+public class BulkItemResult {
+
+    public enum Outcome {
+        SUCCESS,
+        NOT_FOUND,
+        ALREADY_DELETED,
+        INVALID_TRANSITION
+    }
+
+    private final MessageId messageId;
+    private final Outcome outcome;
+    private final Message message; // Resulting message, null when not found
+    private final String error;    // Reason of the failure, null on success
+
+    private BulkItemResult(MessageId messageId, Outcome outcome, Message message, String error) {
+        this.messageId = Objects.requireNonNull(messageId, "ID cannot be null");
+        this.outcome = Objects.requireNonNull(outcome, "Outcome cannot be null");
+        this.message = message;
+        this.error = error;
+    }
+
+    public static BulkItemResult success(Message message) {
+        return new BulkItemResult(message.getId(), Outcome.SUCCESS, message, null);
+    }
+
+    public static BulkItemResult notFound(MessageId messageId) {
+        return new BulkItemResult(messageId, Outcome.NOT_FOUND, null, "Message not found");
+    }
+
+    public static BulkItemResult failure(Message message, Outcome outcome, String error) {
+        return new BulkItemResult(message.getId(), outcome, message, error);
+    }
+
+    public boolean isSuccess() {
+        return outcome == Outcome.SUCCESS;
+    }
+}
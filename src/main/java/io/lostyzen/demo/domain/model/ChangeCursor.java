@@ -0,0 +1,75 @@
+package io.lostyzen.demo.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Value Object marking a position in the stream of message changes
+ * Changes are ordered by (updatedAt, id); the cursor holds the last change a client has seen.
+ * It travels as an opaque URL-safe token.
+ */
+public class ChangeCursor {
+
+    private static final char SEPARATOR = ',';
+
+    private final LocalDateTime updatedAt;
+    private final MessageId lastId;
+
+    public ChangeCursor(LocalDateTime updatedAt, MessageId lastId) {
+        this.updatedAt = Objects.requireNonNull(updatedAt, "Update date cannot be null");
+        this.lastId = Objects.requireNonNull(lastId, "ID cannot be null");
+    }
+
+    // Cursor positioned right after the given message
+    public static ChangeCursor after(Message message) {
+        return new ChangeCursor(message.getUpdatedAt(), message.getId());
+    }
+
+    public static ChangeCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new ChangeCursor(LocalDateTime.parse(value.substring(0, separator)),
+                MessageId.of(value.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String value = updatedAt.toString() + SEPARATOR + lastId.getValue();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public MessageId getLastId() {
+        return lastId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChangeCursor that = (ChangeCursor) o;
+        return updatedAt.equals(that.updatedAt) && lastId.equals(that.lastId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(updatedAt, lastId);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeCursor{updatedAt=" + updatedAt + ", lastId=" + lastId.getValue() + "}";
+    }
+}
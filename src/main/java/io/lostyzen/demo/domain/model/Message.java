@@ -17,6 +17,7 @@ public class Message {
     private LocalDateTime updatedAt;
     private LocalDateTime publishedAt;
     private LocalDateTime deletedAt;
+    private LocalDateTime publishAt;
     private String author;
 
     // Constructor for creating a new message
@@ -39,11 +40,19 @@ public class Message {
     // Complete constructor with publishedAt and deletedAt (for reconstruction from persistence)
     public Message(MessageId id, String content, MessageStatus status, String author,
                    LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime publishedAt, LocalDateTime deletedAt) {
+        this(id, content, status, author, createdAt, updatedAt, publishedAt, deletedAt, null);
+    }
+
+    // Complete constructor with scheduled publication time (for reconstruction from persistence)
+    public Message(MessageId id, String content, MessageStatus status, String author,
+                   LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime publishedAt, LocalDateTime deletedAt,
+                   LocalDateTime publishAt) {
         this.id = Objects.requireNonNull(id, "ID cannot be null");
         this.createdAt = Objects.requireNonNull(createdAt, "Creation date cannot be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "Update date cannot be null");
         this.publishedAt = publishedAt; // Can be null for non-published messages
         this.deletedAt = deletedAt; // Can be null for non-deleted messages
+        this.publishAt = publishAt; // Can be null for messages without scheduled publication
 
         this.setContent(content);
         this.setAuthor(author);
@@ -58,6 +67,7 @@ public class Message {
         }
         this.status = MessageStatus.PUBLISHED;
         this.publishedAt = LocalDateTime.now(); // Set publication timestamp
+        this.publishAt = null; // A pending schedule is fulfilled (or overridden) by this publication
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -68,6 +78,7 @@ public class Message {
                 "Cannot transition from " + status.getDisplayName() + " to ARCHIVED");
         }
         this.status = MessageStatus.ARCHIVED;
+        this.publishAt = null;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -79,6 +90,30 @@ public class Message {
         }
         this.status = MessageStatus.DELETED;
         this.deletedAt = LocalDateTime.now(); // Set deletion timestamp
+        this.publishAt = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Business logic: schedule the publication at a future time
+    public void schedulePublication(LocalDateTime publishAt) {
+        Objects.requireNonNull(publishAt, "Publication time cannot be null");
+        if (!status.canTransitionTo(MessageStatus.PUBLISHED)) {
+            throw new IllegalStateException(
+                "Cannot schedule publication of " + status.getDisplayName() + " message");
+        }
+        if (!publishAt.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Publication time must be in the future");
+        }
+        this.publishAt = publishAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Business logic: cancel a scheduled publication
+    public void cancelScheduledPublication() {
+        if (this.publishAt == null) {
+            throw new IllegalStateException("Message has no scheduled publication");
+        }
+        this.publishAt = null;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -119,6 +154,15 @@ public class Message {
         return this.status == MessageStatus.DELETED;
     }
 
+    public boolean isScheduled() {
+        return this.publishAt != null;
+    }
+
+    // Scheduled publication time reached
+    public boolean isDueForPublication(LocalDateTime now) {
+        return this.publishAt != null && !this.publishAt.isAfter(now);
+    }
+
     // Equals and hashCode based on ID
     @Override
     public boolean equals(Object o) {
@@ -144,6 +188,7 @@ public class Message {
                 ", updatedAt=" + updatedAt +
                 ", publishedAt=" + publishedAt +
                 ", deletedAt=" + deletedAt +
+                ", publishAt=" + publishAt +
                 '}';
     }
 }
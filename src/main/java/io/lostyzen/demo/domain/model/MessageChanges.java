@@ -0,0 +1,23 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Page of message changes after a cursor
+ * Deleted messages are included so clients can drop them (tombstones)
+ */
+@Getter
+public class MessageChanges {
+
+    private final List<Message> changes;
+    private final ChangeCursor cursor; // Position to resume from; null while nothing has changed yet
+    private final boolean hasMore;     // True when more changes are already waiting after the cursor
+
+    public MessageChanges(List<Message> changes, ChangeCursor cursor, boolean hasMore) {
+        this.changes = List.copyOf(changes);
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+    }
+}
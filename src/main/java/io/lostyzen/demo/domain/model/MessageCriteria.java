@@ -0,0 +1,45 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Value Object selecting a set of messages by their attributes
+ * Every criterion is optional; the ones that are set are combined with AND.
+ * Date ranges include their lower bound and exclude their upper bound.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class MessageCriteria {
+
+    @Singular
+    private final Set<MessageStatus> statuses; // Empty = any status
+    private final String author;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final LocalDateTime publishedFrom;
+    private final LocalDateTime publishedTo;
+
+    // True when no criterion is set, i.e. the criteria match every message
+    public boolean isUnrestricted() {
+        return statuses.isEmpty() && author == null
+            && createdFrom == null && createdTo == null
+            && publishedFrom == null && publishedTo == null;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageCriteria{" +
+                "statuses=" + statuses +
+                ", author='" + author + '\'' +
+                ", createdFrom=" + createdFrom +
+                ", createdTo=" + createdTo +
+                ", publishedFrom=" + publishedFrom +
+                ", publishedTo=" + publishedTo +
+                '}';
+    }
+}
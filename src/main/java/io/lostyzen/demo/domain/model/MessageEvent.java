@@ -0,0 +1,63 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain event raised by the command use cases after a message changed
+ * Carries the state of the message after the change, so consumers do not need to reload it
+ */
+@Getter
+public class MessageEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        PUBLISHED,
+        ARCHIVED,
+        DELETED;
+
+        // Event raised when a message reaches the given status through a transition
+        public static Type of(MessageStatus status) {
+            return switch (status) {
+                case DRAFT -> throw new IllegalArgumentException("No transition leads to " + status);
+                case PUBLISHED -> PUBLISHED;
+                case ARCHIVED -> ARCHIVED;
+                case DELETED -> DELETED;
+            };
+        }
+    }
+
+    private final Type type;
+    private final MessageId messageId;
+    private final Message message; // State after the change; null when the message no longer exists
+    private final LocalDateTime occurredAt;
+
+    private MessageEvent(Type type, MessageId messageId, Message message) {
+        this.type = Objects.requireNonNull(type, "Event type cannot be null");
+        this.messageId = Objects.requireNonNull(messageId, "ID cannot be null");
+        this.message = message;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static MessageEvent of(Type type, Message message) {
+        return new MessageEvent(type, message.getId(), message);
+    }
+
+    // Physical deletion: only the ID is left
+    public static MessageEvent removed(MessageId messageId) {
+        return new MessageEvent(Type.DELETED, messageId, null);
+    }
+
+    // Status after the change (DELETED once the message no longer exists)
+    public MessageStatus getStatus() {
+        return message != null ? message.getStatus() : MessageStatus.DELETED;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageEvent{type=" + type + ", messageId=" + messageId.getValue() + ", occurredAt=" + occurredAt + "}";
+    }
+}
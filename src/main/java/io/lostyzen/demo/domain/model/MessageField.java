@@ -0,0 +1,36 @@
+package io.lostyzen.demo.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Enumeration of the message fields that can be selected in a partial read
+ * The name is shared by the domain getters, the persistence mapping and the REST representation
+ */
+public enum MessageField {
+    ID("id"),
+    CONTENT("content"),
+    STATUS("status"),
+    AUTHOR("author"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    PUBLISHED_AT("publishedAt"),
+    DELETED_AT("deletedAt"),
+    PUBLISH_AT("publishAt");
+
+    private final String fieldName;
+
+    MessageField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public static MessageField fromFieldName(String fieldName) {
+        return Arrays.stream(values())
+                .filter(field -> field.fieldName.equalsIgnoreCase(fieldName.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown message field: " + fieldName));
+    }
+}
@@ -0,0 +1,21 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Result of fetching several messages by ID
+ * Found messages follow the order of the requested IDs; unknown IDs are listed apart
+ */
+@Getter
+public class MessageLookup {
+
+    private final List<Message> found;
+    private final List<MessageId> missing;
+
+    public MessageLookup(List<Message> found, List<MessageId> missing) {
+        this.found = List.copyOf(found);
+        this.missing = List.copyOf(missing);
+    }
+}
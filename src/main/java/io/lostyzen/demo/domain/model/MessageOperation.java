@@ -0,0 +1,83 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * One step of a batch of operations on messages
+ * The target is either a message ID or a reference "$n" to the message produced by the n-th step (0-based)
+ * of the same batch, so a batch can create a message and then edit or publish it.
+ */
+@Getter
+public class MessageOperation {
+
+    public static final String REFERENCE_PREFIX = "$";
+
+    public enum Type {
+        CREATE,
+        UPDATE,
+        PUBLISH,
+        ARCHIVE,
+        DELETE
+    }
+
+    private final Type type;
+    private final String target;  // Null for CREATE
+    private final String content; // CREATE and UPDATE only
+    private final String author;  // CREATE only
+
+    private MessageOperation(Type type, String target, String content, String author) {
+        this.type = Objects.requireNonNull(type, "Operation type cannot be null");
+        if (type != Type.CREATE && (target == null || target.isBlank())) {
+            throw new IllegalArgumentException(type + " requires a target message ID");
+        }
+        if ((type == Type.CREATE || type == Type.UPDATE) && content == null) {
+            throw new IllegalArgumentException(type + " requires a content");
+        }
+        if (type == Type.CREATE && author == null) {
+            throw new IllegalArgumentException(type + " requires an author");
+        }
+        this.target = target != null ? target.trim() : null;
+        this.content = content;
+        this.author = author;
+    }
+
+    public static MessageOperation create(String content, String author) {
+        return new MessageOperation(Type.CREATE, null, content, author);
+    }
+
+    public static MessageOperation update(String target, String content) {
+        return new MessageOperation(Type.UPDATE, target, content, null);
+    }
+
+    public static MessageOperation publish(String target) {
+        return new MessageOperation(Type.PUBLISH, target, null, null);
+    }
+
+    public static MessageOperation archive(String target) {
+        return new MessageOperation(Type.ARCHIVE, target, null, null);
+    }
+
+    public static MessageOperation delete(String target) {
+        return new MessageOperation(Type.DELETE, target, null, null);
+    }
+
+    public boolean isReference() {
+        return target != null && target.startsWith(REFERENCE_PREFIX);
+    }
+
+    // Index of the referenced step, only valid when isReference() is true
+    public int getReferencedIndex() {
+        try {
+            return Integer.parseInt(target.substring(REFERENCE_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid reference: " + target);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MessageOperation{type=" + type + ", target='" + target + "'}";
+    }
+}
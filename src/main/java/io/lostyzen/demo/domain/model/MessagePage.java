@@ -0,0 +1,25 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of a search result
+ * No total count is computed: hasNext is enough to page forward without scanning every match
+ */
+@Getter
+public class MessagePage {
+
+    private final List<Message> items;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+
+    public MessagePage(List<Message> items, int page, int size, boolean hasNext) {
+        this.items = List.copyOf(items);
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+}
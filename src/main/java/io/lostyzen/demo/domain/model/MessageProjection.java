@@ -0,0 +1,55 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only partial representation of a message, produced for a given MessageView
+ * Fields outside the view are null; content may be an excerpt
+ */
+@Getter
+public class MessageProjection {
+    private final MessageId id;
+    private final String content;
+    private final MessageStatus status;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime publishedAt;
+    private final LocalDateTime deletedAt;
+    private final LocalDateTime publishAt;
+
+    public MessageProjection(MessageId id, String content, MessageStatus status, String author,
+                             LocalDateTime createdAt, LocalDateTime updatedAt,
+                             LocalDateTime publishedAt, LocalDateTime deletedAt, LocalDateTime publishAt) {
+        this.id = id;
+        this.content = content;
+        this.status = status;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.publishedAt = publishedAt;
+        this.deletedAt = deletedAt;
+        this.publishAt = publishAt;
+    }
+
+    // Projects an already loaded message, applying the same rules as the persistence layer
+    public static MessageProjection of(Message message, MessageView view) {
+        String content = message.getContent();
+        if (view.isContentTruncated() && content.length() > view.getContentMaxLength()) {
+            content = content.substring(0, view.getContentMaxLength());
+        }
+        return new MessageProjection(
+            message.getId(),
+            view.includes(MessageField.CONTENT) ? content : null,
+            view.includes(MessageField.STATUS) ? message.getStatus() : null,
+            view.includes(MessageField.AUTHOR) ? message.getAuthor() : null,
+            view.includes(MessageField.CREATED_AT) ? message.getCreatedAt() : null,
+            view.includes(MessageField.UPDATED_AT) ? message.getUpdatedAt() : null,
+            view.includes(MessageField.PUBLISHED_AT) ? message.getPublishedAt() : null,
+            view.includes(MessageField.DELETED_AT) ? message.getDeletedAt() : null,
+            view.includes(MessageField.PUBLISH_AT) ? message.getPublishAt() : null
+        );
+    }
+}
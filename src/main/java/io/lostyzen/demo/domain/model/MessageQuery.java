@@ -0,0 +1,64 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Value Object describing a paginated search: which messages, in which order, which page
+ * Sorting is limited to indexed date fields and the page size is capped, so one query never scans the whole table
+ */
+@Getter
+public class MessageQuery {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Allow-list of sort fields, all backed by an index
+    public static final Set<MessageField> SORTABLE_FIELDS = Collections.unmodifiableSet(
+        EnumSet.of(MessageField.CREATED_AT, MessageField.UPDATED_AT, MessageField.PUBLISHED_AT));
+
+    private final MessageCriteria criteria;
+    private final MessageField sortField;
+    private final boolean ascending;
+    private final int page;
+    private final int size;
+
+    public MessageQuery(MessageCriteria criteria, MessageField sortField, boolean ascending, int page, int size) {
+        this.criteria = Objects.requireNonNull(criteria, "Criteria cannot be null");
+        this.sortField = Objects.requireNonNull(sortField, "Sort field cannot be null");
+        if (!SORTABLE_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Cannot sort by " + sortField.getFieldName());
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page cannot be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if ((long) page * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page is too far");
+        }
+        this.ascending = ascending;
+        this.page = page;
+        this.size = size;
+    }
+
+    // Newest first, first page of default size
+    public static MessageQuery of(MessageCriteria criteria) {
+        return new MessageQuery(criteria, MessageField.CREATED_AT, false, 0, DEFAULT_PAGE_SIZE);
+    }
+
+    public int getOffset() {
+        return page * size;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageQuery{" + criteria + ", sort=" + sortField.getFieldName() + (ascending ? " asc" : " desc") +
+                ", page=" + page + ", size=" + size + "}";
+    }
+}
@@ -0,0 +1,47 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Value Object: the content of a message as it was after one edit
+ * Revision 1 is the original content; each content update adds the next revision
+ */
+@Getter
+public class MessageRevision {
+
+    private final MessageId messageId;
+    private final int number;
+    private final String content;
+    private final LocalDateTime editedAt;
+
+    public MessageRevision(MessageId messageId, int number, String content, LocalDateTime editedAt) {
+        if (number < 1) {
+            throw new IllegalArgumentException("Revision numbers start at 1");
+        }
+        this.messageId = Objects.requireNonNull(messageId, "ID cannot be null");
+        this.number = number;
+        this.content = Objects.requireNonNull(content, "Content cannot be null");
+        this.editedAt = Objects.requireNonNull(editedAt, "Edit date cannot be null");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MessageRevision that = (MessageRevision) o;
+        return number == that.number && messageId.equals(that.messageId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(messageId, number);
+    }
+
+    @Override
+    public String toString() {
+        return "MessageRevision{messageId=" + messageId + ", number=" + number + ", editedAt=" + editedAt + "}";
+    }
+}
@@ -1,5 +1,8 @@
 package io.lostyzen.demo.domain.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Enumeration representing the status of a message
  */
@@ -27,4 +30,15 @@ public enum MessageStatus {
             case DELETED -> false; // A deleted message cannot change status
         };
     }
+
+    // Statuses from which a message may move to the given status
+    public static Set<MessageStatus> sourcesOf(MessageStatus newStatus) {
+        EnumSet<MessageStatus> sources = EnumSet.noneOf(MessageStatus.class);
+        for (MessageStatus status : values()) {
+            if (status.canTransitionTo(newStatus)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
@@ -0,0 +1,91 @@
+package io.lostyzen.demo.domain.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Value Object describing which part of a message a read needs
+ * Lets the persistence layer load only the selected fields and a bounded content excerpt
+ */
+public class MessageView {
+
+    public static final int SUMMARY_CONTENT_LENGTH = 80;
+
+    private static final MessageView SUMMARY = new MessageView(
+        EnumSet.of(MessageField.ID, MessageField.AUTHOR, MessageField.STATUS, MessageField.CONTENT),
+        SUMMARY_CONTENT_LENGTH);
+
+    private static final MessageView TIMELINE = new MessageView(
+        EnumSet.of(MessageField.ID, MessageField.AUTHOR, MessageField.STATUS, MessageField.CONTENT,
+            MessageField.CREATED_AT, MessageField.UPDATED_AT),
+        SUMMARY_CONTENT_LENGTH);
+
+    private final Set<MessageField> fields;
+    private final int contentMaxLength;
+
+    private MessageView(Set<MessageField> fields, int contentMaxLength) {
+        if (contentMaxLength < 0) {
+            throw new IllegalArgumentException("Content length cannot be negative");
+        }
+        EnumSet<MessageField> selected = EnumSet.of(MessageField.ID); // The ID is always returned
+        selected.addAll(Objects.requireNonNull(fields, "Fields cannot be null"));
+        this.fields = Collections.unmodifiableSet(selected);
+        this.contentMaxLength = contentMaxLength;
+    }
+
+    // Feed view: id, author, status and the beginning of the content
+    public static MessageView summary() {
+        return SUMMARY;
+    }
+
+    // Timeline view: the summary plus the dates that order and version the entries
+    public static MessageView timeline() {
+        return TIMELINE;
+    }
+
+    // Selected fields with full content
+    public static MessageView of(Set<MessageField> fields) {
+        return new MessageView(fields, 0);
+    }
+
+    // Selected fields with content cut to the given length (0 = full content)
+    public static MessageView of(Set<MessageField> fields, int contentMaxLength) {
+        return new MessageView(fields, contentMaxLength);
+    }
+
+    public Set<MessageField> getFields() {
+        return fields;
+    }
+
+    public boolean includes(MessageField field) {
+        return fields.contains(field);
+    }
+
+    public int getContentMaxLength() {
+        return contentMaxLength;
+    }
+
+    public boolean isContentTruncated() {
+        return contentMaxLength > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MessageView that = (MessageView) o;
+        return contentMaxLength == that.contentMaxLength && fields.equals(that.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fields, contentMaxLength);
+    }
+
+    @Override
+    public String toString() {
+        return "MessageView{fields=" + fields + ", contentMaxLength=" + contentMaxLength + "}";
+    }
+}
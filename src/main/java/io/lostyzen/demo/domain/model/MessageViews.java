@@ -0,0 +1,20 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * View count of a message
+ */
+@Getter
+public class MessageViews {
+
+    private final MessageId messageId;
+    private final long views;
+
+    public MessageViews(MessageId messageId, long views) {
+        this.messageId = Objects.requireNonNull(messageId, "ID cannot be null");
+        this.views = views;
+    }
+}
@@ -0,0 +1,54 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one step within a batch of operations
+ * A batch is all-or-nothing: when a step fails, earlier steps are rolled back and later ones skipped
+ */
+@Getter
+public class OperationResult {
+
+    public enum Outcome {
+        SUCCESS,
+        FAILED,
+        ROLLED_BACK,
+        SKIPPED
+    }
+
+    private final int index;
+    private final MessageOperation.Type type;
+    private final Outcome outcome;
+    private final Message message; // Resulting message, only on success
+    private final String error;    // Reason of the failure, only for the failed step
+
+    private OperationResult(int index, MessageOperation.Type type, Outcome outcome, Message message, String error) {
+        this.index = index;
+        this.type = Objects.requireNonNull(type, "Operation type cannot be null");
+        this.outcome = Objects.requireNonNull(outcome, "Outcome cannot be null");
+        this.message = message;
+        this.error = error;
+    }
+
+    public static OperationResult success(int index, MessageOperation.Type type, Message message) {
+        return new OperationResult(index, type, Outcome.SUCCESS, message, null);
+    }
+
+    public static OperationResult failed(int index, MessageOperation.Type type, String error) {
+        return new OperationResult(index, type, Outcome.FAILED, null, error);
+    }
+
+    public static OperationResult rolledBack(int index, MessageOperation.Type type) {
+        return new OperationResult(index, type, Outcome.ROLLED_BACK, null, null);
+    }
+
+    public static OperationResult skipped(int index, MessageOperation.Type type) {
+        return new OperationResult(index, type, Outcome.SKIPPED, null, null);
+    }
+
+    public boolean isSuccess() {
+        return outcome == Outcome.SUCCESS;
+    }
+}
@@ -0,0 +1,25 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of an author's timeline: message summaries, newest first
+ * Like MessagePage, hasNext replaces a total count
+ */
+@Getter
+public class TimelinePage {
+
+    private final List<MessageProjection> items;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+
+    public TimelinePage(List<MessageProjection> items, int page, int size, boolean hasNext) {
+        this.items = List.copyOf(items);
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+}
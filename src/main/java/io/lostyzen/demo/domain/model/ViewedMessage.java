@@ -0,0 +1,20 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * A message with its view count, as listed by the most viewed messages
+ */
+@Getter
+public class ViewedMessage {
+
+    private final Message message;
+    private final long views;
+
+    public ViewedMessage(Message message, long views) {
+        this.message = Objects.requireNonNull(message, "Message cannot be null");
+        this.views = views;
+    }
+}
@@ -0,0 +1,77 @@
+package io.lostyzen.demo.domain.model;
+
+import lombok.Getter;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Domain Entity: a partner endpoint called back when messages change
+ */
+@Getter
+public class WebhookSubscription {
+
+    private final String id;
+    private final String url;
+    private final Set<MessageEvent.Type> eventTypes;
+    private final LocalDateTime createdAt;
+
+    // Constructor for new subscriptions
+    public WebhookSubscription(String url, Set<MessageEvent.Type> eventTypes) {
+        this(UUID.randomUUID().toString(), url, eventTypes, LocalDateTime.now());
+    }
+
+    // Constructor for reconstitution from persistence
+    public WebhookSubscription(String id, String url, Set<MessageEvent.Type> eventTypes, LocalDateTime createdAt) {
+        this.id = Objects.requireNonNull(id, "ID cannot be null");
+        this.url = validateUrl(url);
+        if (eventTypes == null || eventTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one event type is required");
+        }
+        this.eventTypes = Collections.unmodifiableSet(EnumSet.copyOf(eventTypes));
+        this.createdAt = Objects.requireNonNull(createdAt, "Creation date cannot be null");
+    }
+
+    public boolean accepts(MessageEvent event) {
+        return eventTypes.contains(event.getType());
+    }
+
+    private static String validateUrl(String url) {
+        if (url == null || url.trim().isEmpty()) {
+            throw new IllegalArgumentException("Webhook URL cannot be empty");
+        }
+        try {
+            URI uri = new URI(url.trim());
+            if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())
+                    || uri.getHost() == null) {
+                throw new IllegalArgumentException("Webhook URL must be an absolute http(s) URL");
+            }
+            return uri.toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid webhook URL: " + url);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return id.equals(((WebhookSubscription) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "WebhookSubscription{id=" + id + ", url=" + url + ", eventTypes=" + eventTypes + "}";
+    }
+}
@@ -0,0 +1,18 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+
+/**
+ * Input Port (Use Case Interface) for archiving messages
+ */
+public interface ArchiveMessagePort {
+
+    /**
+     * Archives a published message
+     *
+     * @param messageId the message ID
+     * @return the archived message
+     */
+    Message execute(MessageId messageId);
+}
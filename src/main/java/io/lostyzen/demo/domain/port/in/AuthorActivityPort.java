@@ -0,0 +1,20 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.AuthorActivity;
+
+/**
+ * Input Port (Use Case Interface) for the approximate author statistics
+ */
+public interface AuthorActivityPort {
+
+    /**
+     * Summarizes the messages created over the latest time windows, the current one included
+     * Answers come from fixed-size sketches, so their cost does not depend on the number of messages
+     *
+     * @param windows the number of windows to cover
+     * @param top     the maximum number of most active authors to return
+     * @return the approximate activity, with its error bounds
+     * @throws IllegalArgumentException if windows or top is below 1 or above what the sketches retain
+     */
+    AuthorActivity getAuthorActivity(int windows, int top);
+}
@@ -0,0 +1,63 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.BulkItemResult;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageId;
+
+import java.util.List;
+
+/**
+ * Input Port (Use Case Interface) for applying a status transition to a list of messages
+ * All messages are loaded and written back in a single transaction; results follow the input order
+ */
+public interface BulkTransitionPort {
+
+    /**
+     * Publishes every listed message that can be published
+     *
+     * @param messageIds the message IDs
+     * @return one result per distinct ID
+     */
+    List<BulkItemResult> publishAll(List<MessageId> messageIds);
+
+    /**
+     * Archives every listed message that can be archived
+     *
+     * @param messageIds the message IDs
+     * @return one result per distinct ID
+     */
+    List<BulkItemResult> archiveAll(List<MessageId> messageIds);
+
+    /**
+     * Marks every listed message as deleted
+     *
+     * @param messageIds the message IDs
+     * @return one result per distinct ID
+     */
+    List<BulkItemResult> deleteAll(List<MessageId> messageIds);
+
+    /**
+     * Publishes every message matching the criteria that can be published
+     * Runs as set-based updates in bounded chunks, each committed on its own
+     *
+     * @param criteria the selection; at least one criterion is required
+     * @return the number of messages published
+     */
+    long publishMatching(MessageCriteria criteria);
+
+    /**
+     * Archives every message matching the criteria that can be archived
+     *
+     * @param criteria the selection; at least one criterion is required
+     * @return the number of messages archived
+     */
+    long archiveMatching(MessageCriteria criteria);
+
+    /**
+     * Marks every message matching the criteria as deleted
+     *
+     * @param criteria the selection; at least one criterion is required
+     * @return the number of messages deleted
+     */
+    long deleteMatching(MessageCriteria criteria);
+}
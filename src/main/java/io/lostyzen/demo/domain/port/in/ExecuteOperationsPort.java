@@ -0,0 +1,22 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.MessageOperation;
+import io.lostyzen.demo.domain.model.OperationResult;
+
+import java.util.List;
+
+/**
+ * Input Port (Use Case Interface) for running an ordered list of operations on messages
+ * All operations run in a single transaction: either every step is applied or none is
+ */
+public interface ExecuteOperationsPort {
+
+    /**
+     * Runs the operations in order; a step may target the message produced by an earlier step
+     *
+     * @param operations the operations, in execution order
+     * @return one successful result per operation
+     * @throws io.lostyzen.demo.domain.exception.BatchAbortedException if a step fails (nothing is applied)
+     */
+    List<OperationResult> execute(List<MessageOperation> operations);
+}
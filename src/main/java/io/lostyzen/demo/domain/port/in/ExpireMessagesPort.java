@@ -0,0 +1,33 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.Message;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Input Port (Use Case Interface) for archiving published messages past their lifetime
+ */
+public interface ExpireMessagesPort {
+
+    /**
+     * Archives the oldest expired messages, in one transaction
+     *
+     * @param lifetime how long a message stays published
+     * @param limit    maximum number of messages archived by this call
+     * @return the archived messages; fewer than limit once the backlog is drained
+     */
+    List<Message> archiveExpired(Duration lifetime, int limit);
+
+    /**
+     * Counts the published messages past their lifetime
+     */
+    long countExpired(Duration lifetime);
+
+    /**
+     * Publication time of the oldest message still published
+     */
+    Optional<LocalDateTime> getOldestPublishedAt();
+}
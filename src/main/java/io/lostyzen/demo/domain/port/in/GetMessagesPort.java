@@ -1,15 +1,107 @@
 package io.lostyzen.demo.domain.port.in;
 
+import io.lostyzen.demo.domain.model.ChangeCursor;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageChanges;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageLookup;
+import io.lostyzen.demo.domain.model.MessagePage;
+import io.lostyzen.demo.domain.model.MessageQuery;
+import io.lostyzen.demo.domain.model.MessageProjection;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageView;
+import io.lostyzen.demo.domain.model.TimelinePage;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Input Port (Use Case Interface) for retrieving messages
  */
 public interface GetMessagesPort {
 
+    /**
+     * Retrieves a single message by its ID
+     *
+     * @param messageId the message ID
+     * @return the message
+     * @throws io.lostyzen.demo.domain.exception.MessageNotFoundException if no message has this ID
+     */
+    Message getById(MessageId messageId);
+
+    /**
+     * Retrieves several messages by ID in as few queries as possible
+     *
+     * @param messageIds the message IDs; duplicates are returned once
+     * @return the found messages in input order, plus the IDs that do not exist
+     */
+    MessageLookup getByIds(List<MessageId> messageIds);
+
+    /**
+     * Searches messages matching combined criteria, sorted and paginated
+     *
+     * @param query the criteria, sort order and page
+     * @return the requested page
+     */
+    MessagePage search(MessageQuery query);
+
+    /**
+     * Searches the page of matching messages that follows a given message, newest first.
+     * The position is a (createdAt, id) key rather than an offset, so writes between two pages
+     * neither repeat nor skip messages.
+     *
+     * @param query the criteria, page number and size; the sort must be by creation date, descending
+     * @param last the last message of the previous page, or null for the first page
+     * @return the requested page
+     */
+    MessagePage searchAfter(MessageQuery query, Message last);
+
+    /**
+     * Retrieves the messages changed after a cursor, deleted ones included, oldest change first
+     *
+     * @param since the last change already seen, or null to start from the beginning
+     * @param limit the maximum number of changes to return
+     * @return the changes and the cursor to resume from
+     */
+    MessageChanges getChangesSince(ChangeCursor since, int limit);
+
+    /**
+     * Returns a version token for the whole message collection.
+     * The token changes after every committed write, so it can back conditional list reads.
+     *
+     * @return the current collection version
+     */
+    String getCollectionVersion();
+
+    /**
+     * Counts messages of every status in one query
+     *
+     * @return the count of each status, zero included
+     */
+    Map<MessageStatus, Long> countByStatus();
+
+    /**
+     * Counts the messages of several authors in one query
+     *
+     * @param authors the author names; duplicates are counted once
+     * @param statuses the statuses to count
+     * @return the count of each requested author, zero included
+     */
+    Map<String, Long> countByAuthors(Collection<String> authors, Set<MessageStatus> statuses);
+
+    /**
+     * Retrieves the latest messages of several authors in one query
+     *
+     * @param authors the author names; duplicates are loaded once
+     * @param statuses the statuses to include
+     * @param limitPerAuthor the maximum number of messages per author
+     * @return the messages of each requested author, newest first, empty lists included
+     */
+    Map<String, List<Message>> getLatestByAuthors(Collection<String> authors, Set<MessageStatus> statuses,
+                                                  int limitPerAuthor);
+
     /**
      * Retrieves all active messages
      *
@@ -32,5 +124,48 @@ public interface GetMessagesPort {
      * @return list of messages from the given author
      */
     List<Message> getByAuthor(String author);
-}
 
+    /**
+     * Retrieves all active messages, loading only the fields of the given view
+     *
+     * @param view the fields to load
+     * @return list of partial active messages
+     */
+    List<MessageProjection> getAllActive(MessageView view);
+
+    /**
+     * Retrieves messages by status, loading only the fields of the given view
+     *
+     * @param status the message status
+     * @param view the fields to load
+     * @return list of partial messages with the given status
+     */
+    List<MessageProjection> getByStatus(MessageStatus status, MessageView view);
+
+    /**
+     * Retrieves messages by author, loading only the fields of the given view
+     *
+     * @param author the author name
+     * @param view the fields to load
+     * @return list of partial messages from the given author
+     */
+    List<MessageProjection> getByAuthor(String author, MessageView view);
+
+    /**
+     * Retrieves one page of an author's timeline: summaries of the non-deleted messages, newest first
+     *
+     * @param author the author name
+     * @param page the page number, starting at 0
+     * @param size the page size
+     * @return the requested page, in the timeline view
+     */
+    TimelinePage getTimeline(String author, int page, int size);
+
+    /**
+     * Retrieves the most recently published messages, newest publication first
+     *
+     * @param limit the maximum number of messages to return
+     * @return the latest published messages
+     */
+    List<Message> getRecentlyPublished(int limit);
+}
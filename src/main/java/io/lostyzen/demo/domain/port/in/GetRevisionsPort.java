@@ -0,0 +1,25 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageRevision;
+
+import java.util.List;
+
+/**
+ * Input Port (Use Case Interface) for reading the content history of messages
+ */
+public interface GetRevisionsPort {
+
+    /**
+     * Retrieves every revision of a message, oldest first
+     * A message never edited has a single revision: its current content
+     */
+    List<MessageRevision> getRevisions(MessageId messageId);
+
+    /**
+     * Retrieves one revision of a message
+     *
+     * @param number revision number, starting at 1
+     */
+    MessageRevision getRevision(MessageId messageId, int number);
+}
@@ -0,0 +1,37 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Input Port (Use Case Interface) for managing webhook subscriptions
+ */
+public interface ManageWebhooksPort {
+
+    /**
+     * Registers an endpoint to be called back on message events
+     *
+     * @param url the absolute http(s) URL to call
+     * @param eventTypes the events to send; empty means publications only
+     * @return the created subscription
+     */
+    WebhookSubscription subscribe(String url, Set<MessageEvent.Type> eventTypes);
+
+    /**
+     * Retrieves all webhook subscriptions
+     *
+     * @return list of subscriptions, oldest first
+     */
+    List<WebhookSubscription> getAll();
+
+    /**
+     * Removes a webhook subscription
+     *
+     * @param subscriptionId the subscription ID
+     * @throws io.lostyzen.demo.domain.exception.WebhookNotFoundException if no subscription has this ID
+     */
+    void unsubscribe(String subscriptionId);
+}
@@ -0,0 +1,29 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.ViewedMessage;
+
+import java.util.List;
+
+/**
+ * Input Port (Use Case Interface) for counting message views
+ */
+public interface MessageViewsPort {
+
+    /**
+     * Counts one view of a message; only published messages are counted
+     *
+     * @param message the message that was read
+     */
+    void recordView(Message message);
+
+    /**
+     * Retrieves the most viewed published messages, most viewed first
+     * Counts lag behind the reads by at most one flush of the counters
+     *
+     * @param limit the maximum number of messages to return
+     * @return the most viewed messages with their view counts
+     * @throws IllegalArgumentException if limit is below 1 or above the number of messages ranked
+     */
+    List<ViewedMessage> getMostViewed(int limit);
+}
@@ -0,0 +1,48 @@
+package io.lostyzen.demo.domain.port.in;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Input Port (Use Case Interface) for scheduled publication of messages
+ */
+public interface SchedulePublicationPort {
+
+    /**
+     * Schedules the publication of a message, replacing any previous schedule
+     *
+     * @param messageId the message ID
+     * @param publishAt when the message goes live, in the future
+     * @return the scheduled message
+     */
+    Message schedule(MessageId messageId, LocalDateTime publishAt);
+
+    /**
+     * Cancels the scheduled publication of a message
+     *
+     * @param messageId the message ID
+     * @return the message, left in its current status
+     */
+    Message cancel(MessageId messageId);
+
+    /**
+     * Lists scheduled messages due before a time, in (publishAt, id) order
+     *
+     * @param afterPublishAt publication time of the last message already read, or null to start from the beginning
+     * @param afterId        ID of the last message already read, or null to start from the beginning
+     */
+    List<Message> getScheduledBefore(LocalDateTime until, LocalDateTime afterPublishAt, MessageId afterId, int limit);
+
+    /**
+     * Publishes, in one transaction, the listed messages whose scheduled time has come
+     * Messages rescheduled, cancelled or already transitioned in the meantime are left alone
+     *
+     * @param messageIds the message IDs
+     * @return the published messages
+     */
+    List<Message> publishDue(Collection<MessageId> messageIds);
+}
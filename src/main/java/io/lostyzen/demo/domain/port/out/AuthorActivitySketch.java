@@ -0,0 +1,26 @@
+package io.lostyzen.demo.domain.port.out;
+
+import io.lostyzen.demo.domain.model.AuthorActivity;
+
+/**
+ * Port de sortie (interface) pour les statistiques approximatives sur les auteurs
+ * L'implémentation résume les créations de messages par fenêtres de temps successives, en mémoire bornée
+ */
+public interface AuthorActivitySketch {
+
+    /**
+     * Nombre de fenêtres conservées, fenêtre en cours comprise
+     */
+    int getRetainedWindows();
+
+    /**
+     * Nombre maximal d'auteurs suivis par fenêtre pour le classement
+     */
+    int getTrackedAuthors();
+
+    /**
+     * Résume les créations des windows dernières fenêtres, fenêtre en cours comprise
+     * Le classement retourne au plus top auteurs, du plus actif au moins actif
+     */
+    AuthorActivity summarize(int windows, int top);
+}
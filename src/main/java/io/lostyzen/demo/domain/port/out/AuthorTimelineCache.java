@@ -0,0 +1,41 @@
+package io.lostyzen.demo.domain.port.out;
+
+import io.lostyzen.demo.domain.model.MessageProjection;
+import io.lostyzen.demo.domain.model.TimelinePage;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port de sortie (interface) pour le cache des fils d'actualité par auteur
+ * Chaque fil conserve les résumés (vue timeline) des messages non supprimés les plus récents d'un auteur,
+ * du plus récent au plus ancien ; l'implémentation le tient à jour à partir des événements d'écriture
+ */
+public interface AuthorTimelineCache {
+
+    /**
+     * Nombre maximal de messages conservés par auteur
+     */
+    int getDepth();
+
+    /**
+     * Lit une page du fil d'un auteur
+     * Vide si l'auteur n'est pas en cache ou si la page dépasse la partie conservée
+     */
+    Optional<TimelinePage> findPage(String author, int page, int size);
+
+    /**
+     * Annonce le chargement du fil d'un auteur depuis la base
+     * Une écriture sur cet auteur avant l'appel à fill annule le chargement
+     * @return le jeton à passer à fill
+     */
+    long reserve(String author);
+
+    /**
+     * Enregistre le fil chargé, sauf si une écriture est intervenue depuis reserve
+     * @param newest au plus getDepth() résumés, du plus récent au plus ancien
+     * @param complete vrai si l'auteur n'a pas d'autre message que ceux-ci
+     * @return vrai si le fil a été enregistré
+     */
+    boolean fill(String author, long ticket, List<MessageProjection> newest, boolean complete);
+}
@@ -0,0 +1,15 @@
+package io.lostyzen.demo.domain.port.out;
+
+import io.lostyzen.demo.domain.model.MessageEvent;
+
+/**
+ * Port de sortie (interface) pour la diffusion des événements du cycle de vie des messages
+ * Cette interface est définie dans le domaine et implémentée dans l'infrastructure
+ */
+public interface MessageEventPublisher {
+
+    /**
+     * Publie un événement ; dans une transaction, les abonnés ne le reçoivent qu'après le commit
+     */
+    void publish(MessageEvent event);
+}
@@ -0,0 +1,40 @@
+package io.lostyzen.demo.domain.port.out;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageStatus;
+
+import java.util.List;
+
+/**
+ * Port de sortie (interface) pour le modèle de lecture des listes de messages
+ * Projection alimentée par les événements des cas d'usage de commande, triée par ordre de création
+ * Les messages retournés sont partagés entre les lecteurs et ne doivent pas être modifiés
+ */
+public interface MessageReadModel {
+
+    /**
+     * Indique si la projection est construite et peut répondre à la place du dépôt
+     */
+    boolean isReady();
+
+    /**
+     * Version du contenu de la projection, incrémentée après chaque changement appliqué
+     * Une lecture faite après avoir lu une version voit au moins les changements de cette version
+     */
+    long getVersion();
+
+    /**
+     * Trouve tous les messages (sauf supprimés)
+     */
+    List<Message> findAllActive();
+
+    /**
+     * Trouve tous les messages d'un statut donné
+     */
+    List<Message> findByStatus(MessageStatus status);
+
+    /**
+     * Trouve tous les messages d'un auteur donné
+     */
+    List<Message> findByAuthor(String author);
+}
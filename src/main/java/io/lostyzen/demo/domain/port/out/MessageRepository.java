@@ -1,11 +1,22 @@
 package io.lostyzen.demo.domain.port.out;
 
+import io.lostyzen.demo.domain.model.ChangeCursor;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageField;
 import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageProjection;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageView;
+import io.lostyzen.demo.domain.model.MessageViews;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Port de sortie (interface) pour la persistance des messages
@@ -18,11 +29,52 @@ public interface MessageRepository {
      */
     Message save(Message message);
 
+    /**
+     * Sauvegarde une liste de messages existants en un seul lot d'UPDATE
+     */
+    List<Message> saveAll(Collection<Message> messages);
+
     /**
      * Trouve un message par son ID
      */
     Optional<Message> findById(MessageId id);
 
+    /**
+     * Trouve plusieurs messages par leurs IDs (requêtes IN découpées en lots)
+     * Les IDs inexistants sont simplement absents du résultat
+     */
+    List<Message> findAllById(Collection<MessageId> ids);
+
+    /**
+     * Trouve une page de messages correspondant aux critères, en une seule requête paramétrée
+     * Le tri se fait sur le champ demandé puis sur l'ID pour un ordre stable entre les pages
+     */
+    List<Message> findMatching(MessageCriteria criteria, MessageField sortField, boolean ascending, int offset, int limit);
+
+    /**
+     * Trouve les messages correspondant aux critères créés avant le curseur, triés par (createdAt, id) décroissants
+     * Parcours par clé (keyset) : des écritures entre deux lectures ne décalent pas les pages suivantes
+     * @param beforeCreatedAt date de création du dernier message déjà lu, ou null pour partir du plus récent
+     * @param beforeId ID du dernier message déjà lu, ou null pour partir du plus récent
+     */
+    List<Message> findMatchingOlderThan(MessageCriteria criteria, LocalDateTime beforeCreatedAt, MessageId beforeId,
+                                        int limit);
+
+    /**
+     * Trouve les messages modifiés après le curseur (supprimés compris), triés par (updatedAt, id)
+     * Parcours par clé (keyset) sur l'index updated_at : le coût dépend du nombre de changements, pas de la table
+     * @param since dernier changement déjà vu, ou null pour partir du début
+     */
+    List<Message> findChangedSince(ChangeCursor since, int limit);
+
+    /**
+     * Trouve les messages dont la publication est programmée avant la date limite, triés par (publishAt, id)
+     * Parcours par clé sur l'index publish_at : le planificateur charge une fenêtre de temps par lots
+     * @param afterPublishAt date programmée du dernier message déjà chargé, ou null pour partir du début
+     * @param afterId ID du dernier message déjà chargé, ou null pour partir du début
+     */
+    List<Message> findScheduledBefore(LocalDateTime until, LocalDateTime afterPublishAt, MessageId afterId, int limit);
+
     /**
      * Trouve tous les messages d'un statut donné
      */
@@ -38,6 +90,48 @@ public interface MessageRepository {
      */
     List<Message> findAllActive();
 
+    /**
+     * Trouve tous les messages d'un statut donné, en ne lisant que les champs de la vue
+     */
+    List<MessageProjection> findByStatus(MessageStatus status, MessageView view);
+
+    /**
+     * Trouve tous les messages d'un auteur donné, en ne lisant que les champs de la vue
+     */
+    List<MessageProjection> findByAuthor(String author, MessageView view);
+
+    /**
+     * Trouve tous les messages (sauf supprimés), en ne lisant que les champs de la vue
+     */
+    List<MessageProjection> findAllActive(MessageView view);
+
+    /**
+     * Fait passer au statut cible tous les messages correspondant aux critères, par UPDATE ensemblistes
+     * Seuls les messages dont le statut courant autorise la transition sont modifiés ;
+     * chaque lot borné est validé dans sa propre transaction
+     * @param onChunk reçoit les messages modifiés par chaque lot, dans la transaction du lot
+     * @return le nombre de messages modifiés
+     */
+    long transitionMatching(MessageCriteria criteria, MessageStatus targetStatus,
+                            Consumer<List<Message>> onChunk);
+
+    /**
+     * Archive au plus limit messages publiés avant la date limite, les plus anciens d'abord
+     * Un seul UPDATE ensembliste, dans la transaction de l'appelant
+     * @return les messages archivés
+     */
+    List<Message> archivePublishedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Compte les messages publiés avant la date limite
+     */
+    long countPublishedBefore(LocalDateTime cutoff);
+
+    /**
+     * Retourne la date de publication du plus ancien message encore publié
+     */
+    Optional<LocalDateTime> findOldestPublishedAt();
+
     /**
      * Supprime définitivement un message
      */
@@ -47,4 +141,46 @@ public interface MessageRepository {
      * Compte le nombre de messages par statut
      */
     long countByStatus(MessageStatus status);
+
+    /**
+     * Compte les messages de chaque statut en une seule requête GROUP BY
+     * Les statuts sans message sont absents du résultat
+     */
+    Map<MessageStatus, Long> countGroupedByStatus();
+
+    /**
+     * Compte les messages de plusieurs auteurs en une seule requête GROUP BY
+     * Les auteurs sans message sont absents du résultat
+     */
+    Map<String, Long> countByAuthors(Collection<String> authors, Set<MessageStatus> statuses);
+
+    /**
+     * Trouve les messages les plus récents de plusieurs auteurs, au plus limitPerAuthor par auteur
+     * Une seule requête (fonction de fenêtrage) quel que soit le nombre d'auteurs
+     * Tri : auteur, puis du plus récent au plus ancien
+     */
+    List<Message> findLatestByAuthors(Collection<String> authors, Set<MessageStatus> statuses, int limitPerAuthor);
+
+    /**
+     * Ajoute des vues aux compteurs des messages, en un seul lot d'UPDATE
+     * Les compteurs ne sont jamais écrits par save, qui ne peut donc pas écraser un ajout concurrent
+     */
+    void addViews(Map<MessageId, Long> deltas);
+
+    /**
+     * Trouve le total de vues de ceux des messages donnés qui sont publiés
+     * Les autres messages sont absents du résultat
+     */
+    Map<MessageId, Long> findPublishedViews(Collection<MessageId> ids);
+
+    /**
+     * Trouve les messages publiés les plus vus, du plus vu au moins vu
+     */
+    List<MessageViews> findMostViewed(int limit);
+
+    /**
+     * Retourne un jeton de version de la collection de messages
+     * Le jeton change après chaque écriture validée (commit)
+     */
+    String getCollectionVersion();
 }
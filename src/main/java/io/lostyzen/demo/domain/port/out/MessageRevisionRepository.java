@@ -0,0 +1,41 @@
+package io.lostyzen.demo.domain.port.out;
+
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageRevision;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port de sortie (interface) pour l'historique des révisions du contenu des messages
+ * L'implémentation choisit la représentation stockée (différences, points de reprise)
+ */
+public interface MessageRevisionRepository {
+
+    /**
+     * Enregistre une nouvelle révision du contenu d'un message
+     * Lors de la première modification, le contenu d'origine est d'abord enregistré comme révision 1
+     * @param previousContent contenu avant la modification
+     * @param previousAt date de la version précédente (création ou dernière modification)
+     * @return le numéro de la nouvelle révision
+     */
+    int record(MessageId messageId, String previousContent, LocalDateTime previousAt,
+               String newContent, LocalDateTime editedAt);
+
+    /**
+     * Reconstruit une révision donnée d'un message
+     */
+    Optional<MessageRevision> findRevision(MessageId messageId, int number);
+
+    /**
+     * Reconstruit toutes les révisions d'un message, de la plus ancienne à la plus récente
+     * Liste vide si le contenu n'a jamais été modifié
+     */
+    List<MessageRevision> findAll(MessageId messageId);
+
+    /**
+     * Supprime l'historique d'un message
+     */
+    void deleteAll(MessageId messageId);
+}
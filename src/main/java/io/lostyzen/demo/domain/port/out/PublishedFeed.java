@@ -0,0 +1,21 @@
+package io.lostyzen.demo.domain.port.out;
+
+import io.lostyzen.demo.domain.model.Message;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port de sortie (interface) pour le fil des derniers messages publiés
+ * L'implémentation le tient à jour à partir des événements d'écriture
+ * Les messages retournés sont partagés entre les lecteurs et ne doivent pas être modifiés
+ */
+public interface PublishedFeed {
+
+    /**
+     * Retourne les derniers messages publiés, du plus récent au plus ancien
+     * Vide si le fil n'est pas encore chargé, ou s'il ne peut pas garantir les limit messages les plus récents
+     * (limite supérieure à sa capacité, ou entrées retirées alors que des messages plus anciens existent)
+     */
+    Optional<List<Message>> findLatest(int limit);
+}
@@ -0,0 +1,29 @@
+package io.lostyzen.demo.domain.port.out;
+
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageViews;
+
+import java.util.List;
+
+/**
+ * Port de sortie (interface) pour le comptage des vues des messages
+ * Les vues sont agrégées en mémoire et reportées périodiquement en base par l'implémentation
+ */
+public interface ViewCounter {
+
+    /**
+     * Compte une vue d'un message
+     */
+    void increment(MessageId messageId);
+
+    /**
+     * Nombre maximal de messages classés par top
+     */
+    int getCapacity();
+
+    /**
+     * Retourne les messages les plus vus, du plus vu au moins vu, avec leur total déjà reporté en base
+     * Le classement ne retient que les messages publiés lors du dernier report
+     */
+    List<MessageViews> top(int limit);
+}
@@ -0,0 +1,27 @@
+package io.lostyzen.demo.domain.port.out;
+
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+
+import java.util.List;
+
+/**
+ * Port de sortie (interface) pour la persistance des abonnements webhook
+ */
+public interface WebhookSubscriptionRepository {
+
+    /**
+     * Sauvegarde un abonnement
+     */
+    WebhookSubscription save(WebhookSubscription subscription);
+
+    /**
+     * Trouve tous les abonnements, du plus ancien au plus récent
+     */
+    List<WebhookSubscription> findAll();
+
+    /**
+     * Supprime un abonnement
+     * @return false si aucun abonnement n'a cet ID
+     */
+    boolean deleteById(String subscriptionId);
+}
@@ -0,0 +1,43 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.port.in.ArchiveMessagePort;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+
+/**
+ * Use Case: Archive a message
+ * Implements the ArchiveMessagePort interface to provide loose coupling
+ */
+@ApplicationScoped
+public class ArchiveMessageUseCase implements ArchiveMessagePort {
+
+    private final MessageRepository messageRepository;
+    private final MessageEventPublisher eventPublisher;
+
+    @Inject
+    public ArchiveMessageUseCase(MessageRepository messageRepository, MessageEventPublisher eventPublisher) {
+        this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public Message execute(MessageId messageId) {
+        Message message = messageRepository.findById(messageId)
+            .orElseThrow(() -> new MessageNotFoundException(messageId.getValue()));
+
+        // Business logic for archiving is in the entity
+        message.archive();
+
+        Message saved = messageRepository.save(message);
+        eventPublisher.publish(MessageEvent.of(MessageEvent.Type.ARCHIVED, saved));
+        return saved;
+    }
+}
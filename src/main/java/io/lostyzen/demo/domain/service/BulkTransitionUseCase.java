@@ -0,0 +1,121 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import io.lostyzen.demo.domain.model.BulkItemResult;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.in.BulkTransitionPort;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Apply a status transition to many messages at once
+ * Loads all messages with one query, applies the entity business rules to each one,
+ * then writes the changed messages back in one batch, all in a single transaction
+ */
+@ApplicationScoped
+public class BulkTransitionUseCase implements BulkTransitionPort {
+
+    private final MessageRepository messageRepository;
+    private final MessageEventPublisher eventPublisher;
+
+    @Inject
+    public BulkTransitionUseCase(MessageRepository messageRepository, MessageEventPublisher eventPublisher) {
+        this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public List<BulkItemResult> publishAll(List<MessageId> messageIds) {
+        return transitionAll(messageIds, Message::publish, MessageEvent.Type.PUBLISHED);
+    }
+
+    @Override
+    @Transactional
+    public List<BulkItemResult> archiveAll(List<MessageId> messageIds) {
+        return transitionAll(messageIds, Message::archive, MessageEvent.Type.ARCHIVED);
+    }
+
+    @Override
+    @Transactional
+    public List<BulkItemResult> deleteAll(List<MessageId> messageIds) {
+        return transitionAll(messageIds, Message::delete, MessageEvent.Type.DELETED);
+    }
+
+    // No transaction here: the repository commits each chunk separately to keep locks short
+    @Override
+    public long publishMatching(MessageCriteria criteria) {
+        return transitionMatching(criteria, MessageStatus.PUBLISHED);
+    }
+
+    @Override
+    public long archiveMatching(MessageCriteria criteria) {
+        return transitionMatching(criteria, MessageStatus.ARCHIVED);
+    }
+
+    @Override
+    public long deleteMatching(MessageCriteria criteria) {
+        return transitionMatching(criteria, MessageStatus.DELETED);
+    }
+
+    private long transitionMatching(MessageCriteria criteria, MessageStatus targetStatus) {
+        // Guard against accidentally transitioning the whole table
+        if (criteria.isUnrestricted()) {
+            throw new IllegalArgumentException("At least one criterion is required");
+        }
+        MessageEvent.Type eventType = MessageEvent.Type.of(targetStatus);
+        // Called inside each chunk transaction: observers of committed events are notified when it commits
+        return messageRepository.transitionMatching(criteria, targetStatus,
+            changed -> changed.forEach(message -> eventPublisher.publish(MessageEvent.of(eventType, message))));
+    }
+
+    private List<BulkItemResult> transitionAll(List<MessageId> messageIds, Consumer<Message> transition,
+                                               MessageEvent.Type eventType) {
+        List<MessageId> distinctIds = new ArrayList<>(new LinkedHashSet<>(messageIds));
+        Map<MessageId, Message> messages = messageRepository.findAllById(distinctIds).stream()
+            .collect(Collectors.toMap(Message::getId, Function.identity()));
+
+        List<BulkItemResult> results = new ArrayList<>(distinctIds.size());
+        List<Message> changed = new ArrayList<>();
+        for (MessageId messageId : distinctIds) {
+            Message message = messages.get(messageId);
+            if (message == null) {
+                results.add(BulkItemResult.notFound(messageId));
+            } else if (message.getStatus() == MessageStatus.DELETED) {
+                results.add(BulkItemResult.failure(message, BulkItemResult.Outcome.ALREADY_DELETED,
+                    "Message is already deleted"));
+            } else {
+                try {
+                    // Business logic for each transition is in the entity
+                    transition.accept(message);
+                    changed.add(message);
+                    results.add(BulkItemResult.success(message));
+                } catch (IllegalStateException e) {
+                    results.add(BulkItemResult.failure(message, BulkItemResult.Outcome.INVALID_TRANSITION,
+                        e.getMessage()));
+                }
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            // Events reach observers only once the surrounding transaction has committed
+            messageRepository.saveAll(changed)
+                .forEach(message -> eventPublisher.publish(MessageEvent.of(eventType, message)));
+        }
+        return results;
+    }
+}
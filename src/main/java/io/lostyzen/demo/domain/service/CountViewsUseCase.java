@@ -0,0 +1,61 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageViews;
+import io.lostyzen.demo.domain.model.ViewedMessage;
+import io.lostyzen.demo.domain.port.in.MessageViewsPort;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.ViewCounter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Count the views of published messages and rank the most viewed ones
+ * A view only touches the in-memory counter; the database sees the aggregated counts
+ */
+@ApplicationScoped
+public class CountViewsUseCase implements MessageViewsPort {
+
+    private final MessageRepository messageRepository;
+    private final ViewCounter viewCounter;
+
+    @Inject
+    public CountViewsUseCase(MessageRepository messageRepository, ViewCounter viewCounter) {
+        this.messageRepository = messageRepository;
+        this.viewCounter = viewCounter;
+    }
+
+    @Override
+    public void recordView(Message message) {
+        if (message.getStatus() == MessageStatus.PUBLISHED) {
+            viewCounter.increment(message.getId());
+        }
+    }
+
+    @Override
+    public List<ViewedMessage> getMostViewed(int limit) {
+        if (limit < 1 || limit > viewCounter.getCapacity()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + viewCounter.getCapacity());
+        }
+        List<MessageViews> top = viewCounter.top(limit);
+        Map<MessageId, Message> messages = messageRepository.findAllById(
+                top.stream().map(MessageViews::getMessageId).toList()).stream()
+            .collect(Collectors.toMap(Message::getId, Function.identity()));
+
+        // A message archived or deleted since the last flush leaves the list early
+        return top.stream()
+            .filter(views -> {
+                Message message = messages.get(views.getMessageId());
+                return message != null && message.getStatus() == MessageStatus.PUBLISHED;
+            })
+            .map(views -> new ViewedMessage(messages.get(views.getMessageId()), views.getViews()))
+            .toList();
+    }
+}
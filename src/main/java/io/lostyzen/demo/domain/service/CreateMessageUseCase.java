@@ -2,10 +2,13 @@ package io.lostyzen.demo.domain.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import io.lostyzen.demo.domain.exception.MessageNotFoundException;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
 import io.lostyzen.demo.domain.model.MessageId;
 import io.lostyzen.demo.domain.port.in.CreateMessagePort;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
 
 /**
@@ -16,16 +19,21 @@ import io.lostyzen.demo.domain.port.out.MessageRepository;
 public class CreateMessageUseCase implements CreateMessagePort {
 
     private final MessageRepository messageRepository;
+    private final MessageEventPublisher eventPublisher;
 
     @Inject
-    public CreateMessageUseCase(MessageRepository messageRepository) {
+    public CreateMessageUseCase(MessageRepository messageRepository, MessageEventPublisher eventPublisher) {
         this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public Message execute(String content, String author) {
         // Business validation is already in the Message entity
         Message message = new Message(content, author);
-        return messageRepository.save(message);
+        Message saved = messageRepository.save(message);
+        eventPublisher.publish(MessageEvent.of(MessageEvent.Type.CREATED, saved));
+        return saved;
     }
 }
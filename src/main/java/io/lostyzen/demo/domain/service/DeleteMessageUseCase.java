@@ -2,13 +2,17 @@ package io.lostyzen.demo.domain.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import io.lostyzen.demo.domain.exception.MessageAlreadyDeletedException;
 import io.lostyzen.demo.domain.exception.MessageNotFoundException;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
 import io.lostyzen.demo.domain.model.MessageId;
 import io.lostyzen.demo.domain.model.MessageStatus;
 import io.lostyzen.demo.domain.port.in.DeleteMessagePort;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.MessageRevisionRepository;
 
 /**
  * Use Case: Delete a message
@@ -18,13 +22,19 @@ import io.lostyzen.demo.domain.port.out.MessageRepository;
 public class DeleteMessageUseCase implements DeleteMessagePort {
 
     private final MessageRepository messageRepository;
+    private final MessageEventPublisher eventPublisher;
+    private final MessageRevisionRepository revisionRepository;
 
     @Inject
-    public DeleteMessageUseCase(MessageRepository messageRepository) {
+    public DeleteMessageUseCase(MessageRepository messageRepository, MessageEventPublisher eventPublisher,
+                                MessageRevisionRepository revisionRepository) {
         this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
+        this.revisionRepository = revisionRepository;
     }
 
     @Override
+    @Transactional
     public void execute(MessageId messageId) {
         Message message = messageRepository.findById(messageId)
             .orElseThrow(() -> new MessageNotFoundException(messageId.getValue()));
@@ -36,14 +46,19 @@ public class DeleteMessageUseCase implements DeleteMessagePort {
 
         // Logical deletion (status change)
         message.delete();
-        messageRepository.save(message);
+        Message saved = messageRepository.save(message);
+        eventPublisher.publish(MessageEvent.of(MessageEvent.Type.DELETED, saved));
     }
 
+    @Transactional
     public void executeHardDelete(MessageId messageId) {
         // Physical deletion from the database
         if (!messageRepository.findById(messageId).isPresent()) {
             throw new MessageNotFoundException(messageId.getValue());
         }
         messageRepository.deleteById(messageId);
+        // Logical deletion keeps the history; physical deletion removes it with the message
+        revisionRepository.deleteAll(messageId);
+        eventPublisher.publish(MessageEvent.removed(messageId));
     }
 }
@@ -0,0 +1,110 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import io.lostyzen.demo.domain.exception.BatchAbortedException;
+import io.lostyzen.demo.domain.exception.MessageAlreadyDeletedException;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageOperation;
+import io.lostyzen.demo.domain.model.OperationResult;
+import io.lostyzen.demo.domain.port.in.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use Case: Run an ordered list of operations on messages in one transaction
+ * Each step goes through the same use case as its single-message endpoint, so business rules are unchanged.
+ * The first failing step aborts the batch and rolls back every earlier step.
+ */
+@ApplicationScoped
+public class ExecuteOperationsUseCase implements ExecuteOperationsPort {
+
+    private final CreateMessagePort createMessagePort;
+    private final UpdateMessagePort updateMessagePort;
+    private final PublishMessagePort publishMessagePort;
+    private final ArchiveMessagePort archiveMessagePort;
+    private final DeleteMessagePort deleteMessagePort;
+    private final GetMessagesPort getMessagesPort;
+
+    @Inject
+    public ExecuteOperationsUseCase(CreateMessagePort createMessagePort,
+                                    UpdateMessagePort updateMessagePort,
+                                    PublishMessagePort publishMessagePort,
+                                    ArchiveMessagePort archiveMessagePort,
+                                    DeleteMessagePort deleteMessagePort,
+                                    GetMessagesPort getMessagesPort) {
+        this.createMessagePort = createMessagePort;
+        this.updateMessagePort = updateMessagePort;
+        this.publishMessagePort = publishMessagePort;
+        this.archiveMessagePort = archiveMessagePort;
+        this.deleteMessagePort = deleteMessagePort;
+        this.getMessagesPort = getMessagesPort;
+    }
+
+    @Override
+    @Transactional
+    public List<OperationResult> execute(List<MessageOperation> operations) {
+        List<OperationResult> results = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            MessageOperation operation = operations.get(index);
+            try {
+                Message message = apply(operation, resolveTarget(operation, index, results));
+                results.add(OperationResult.success(index, operation.getType(), message));
+            } catch (MessageNotFoundException | MessageAlreadyDeletedException
+                     | IllegalArgumentException | IllegalStateException e) {
+                String reason = e instanceof MessageNotFoundException
+                    ? "Message not found: " + e.getMessage()
+                    : e.getMessage();
+                // Throwing rolls back the transaction, so nothing of the batch is kept
+                throw new BatchAbortedException(index, reason, abortedResults(operations, results, index, reason));
+            }
+        }
+        return results;
+    }
+
+    private Message apply(MessageOperation operation, MessageId target) {
+        return switch (operation.getType()) {
+            case CREATE -> createMessagePort.execute(operation.getContent().trim(), operation.getAuthor().trim());
+            case UPDATE -> updateMessagePort.execute(target, operation.getContent().trim());
+            case PUBLISH -> publishMessagePort.execute(target);
+            case ARCHIVE -> archiveMessagePort.execute(target);
+            case DELETE -> {
+                deleteMessagePort.execute(target);
+                yield getMessagesPort.getById(target);
+            }
+        };
+    }
+
+    // A reference "$n" resolves to the message returned by step n, which must come earlier
+    private static MessageId resolveTarget(MessageOperation operation, int index, List<OperationResult> results) {
+        if (operation.getTarget() == null) {
+            return null;
+        }
+        if (!operation.isReference()) {
+            return MessageId.of(operation.getTarget());
+        }
+        int referenced = operation.getReferencedIndex();
+        if (referenced < 0 || referenced >= index) {
+            throw new IllegalArgumentException("Reference " + operation.getTarget() + " must point to an earlier operation");
+        }
+        return results.get(referenced).getMessage().getId();
+    }
+
+    private static List<OperationResult> abortedResults(List<MessageOperation> operations,
+                                                        List<OperationResult> succeeded,
+                                                        int failedIndex, String reason) {
+        List<OperationResult> results = new ArrayList<>(operations.size());
+        for (OperationResult result : succeeded) {
+            results.add(OperationResult.rolledBack(result.getIndex(), result.getType()));
+        }
+        results.add(OperationResult.failed(failedIndex, operations.get(failedIndex).getType(), reason));
+        for (int index = failedIndex + 1; index < operations.size(); index++) {
+            results.add(OperationResult.skipped(index, operations.get(index).getType()));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,59 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.port.in.ExpireMessagesPort;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use Case: Archive published messages past their lifetime
+ * Runs as a set-based UPDATE restricted to PUBLISHED rows, the only status Message.archive() accepts
+ * that has a publication date to expire from
+ */
+@ApplicationScoped
+public class ExpireMessagesUseCase implements ExpireMessagesPort {
+
+    private final MessageRepository messageRepository;
+    private final MessageEventPublisher eventPublisher;
+
+    @Inject
+    public ExpireMessagesUseCase(MessageRepository messageRepository, MessageEventPublisher eventPublisher) {
+        this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public List<Message> archiveExpired(Duration lifetime, int limit) {
+        List<Message> archived = messageRepository.archivePublishedBefore(cutoff(lifetime), limit);
+        // Events reach observers only once the surrounding transaction has committed
+        archived.forEach(message -> eventPublisher.publish(MessageEvent.of(MessageEvent.Type.ARCHIVED, message)));
+        return archived;
+    }
+
+    @Override
+    public long countExpired(Duration lifetime) {
+        return messageRepository.countPublishedBefore(cutoff(lifetime));
+    }
+
+    @Override
+    public Optional<LocalDateTime> getOldestPublishedAt() {
+        return messageRepository.findOldestPublishedAt();
+    }
+
+    private static LocalDateTime cutoff(Duration lifetime) {
+        if (lifetime.isNegative() || lifetime.isZero()) {
+            throw new IllegalArgumentException("Lifetime must be positive");
+        }
+        return LocalDateTime.now().minus(lifetime);
+    }
+}
@@ -0,0 +1,33 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import io.lostyzen.demo.domain.model.AuthorActivity;
+import io.lostyzen.demo.domain.port.in.AuthorActivityPort;
+import io.lostyzen.demo.domain.port.out.AuthorActivitySketch;
+
+/**
+ * Use Case: Summarize who created messages lately
+ * Reads the sketches fed by the message creations instead of grouping the messages table
+ */
+@ApplicationScoped
+public class GetAuthorActivityUseCase implements AuthorActivityPort {
+
+    private final AuthorActivitySketch authorActivitySketch;
+
+    @Inject
+    public GetAuthorActivityUseCase(AuthorActivitySketch authorActivitySketch) {
+        this.authorActivitySketch = authorActivitySketch;
+    }
+
+    @Override
+    public AuthorActivity getAuthorActivity(int windows, int top) {
+        if (windows < 1 || windows > authorActivitySketch.getRetainedWindows()) {
+            throw new IllegalArgumentException("Windows must be between 1 and " + authorActivitySketch.getRetainedWindows());
+        }
+        if (top < 1 || top > authorActivitySketch.getTrackedAuthors()) {
+            throw new IllegalArgumentException("Top must be between 1 and " + authorActivitySketch.getTrackedAuthors());
+        }
+        return authorActivitySketch.summarize(windows, top);
+    }
+}
@@ -2,39 +2,266 @@ package io.lostyzen.demo.domain.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.ChangeCursor;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageChanges;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageField;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageLookup;
+import io.lostyzen.demo.domain.model.MessagePage;
+import io.lostyzen.demo.domain.model.MessageQuery;
+import io.lostyzen.demo.domain.model.MessageProjection;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageView;
+import io.lostyzen.demo.domain.model.TimelinePage;
 import io.lostyzen.demo.domain.port.in.GetMessagesPort;
+import io.lostyzen.demo.domain.port.out.AuthorTimelineCache;
+import io.lostyzen.demo.domain.port.out.MessageReadModel;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.PublishedFeed;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Use Case: Retrieve messages
  * Implements the GetMessagesPort interface to provide loose coupling
+ * The full list reads are served by the read model once it is built, and by the repository until then;
+ * projected list reads always go to the repository, which only loads the fields of the view
+ * The first pages of author timelines are served by the timeline cache, deeper pages by the repository
+ * The latest published messages come from the published feed whenever it can answer
  */
 @ApplicationScoped
 public class GetMessagesUseCase implements GetMessagesPort {
 
     private final MessageRepository messageRepository;
+    private final MessageReadModel readModel;
+    private final AuthorTimelineCache timelineCache;
+    private final PublishedFeed publishedFeed;
 
     @Inject
-    public GetMessagesUseCase(MessageRepository messageRepository) {
+    public GetMessagesUseCase(MessageRepository messageRepository, MessageReadModel readModel,
+                              AuthorTimelineCache timelineCache, PublishedFeed publishedFeed) {
         this.messageRepository = messageRepository;
+        this.readModel = readModel;
+        this.timelineCache = timelineCache;
+        this.publishedFeed = publishedFeed;
+    }
+
+    @Override
+    public Message getById(MessageId messageId) {
+        return messageRepository.findById(messageId)
+            .orElseThrow(() -> new MessageNotFoundException(messageId.getValue()));
+    }
+
+    @Override
+    public MessageLookup getByIds(List<MessageId> messageIds) {
+        List<MessageId> distinctIds = new ArrayList<>(new LinkedHashSet<>(messageIds));
+        Map<MessageId, Message> messages = messageRepository.findAllById(distinctIds).stream()
+            .collect(Collectors.toMap(Message::getId, Function.identity()));
+
+        // The repository returns rows in database order; restore the caller's order
+        List<Message> found = new ArrayList<>(messages.size());
+        List<MessageId> missing = new ArrayList<>();
+        for (MessageId messageId : distinctIds) {
+            Message message = messages.get(messageId);
+            if (message != null) {
+                found.add(message);
+            } else {
+                missing.add(messageId);
+            }
+        }
+        return new MessageLookup(found, missing);
+    }
+
+    @Override
+    public MessagePage search(MessageQuery query) {
+        // One extra row tells whether a next page exists, without counting every match
+        List<Message> items = messageRepository.findMatching(query.getCriteria(), query.getSortField(),
+            query.isAscending(), query.getOffset(), query.getSize() + 1);
+        boolean hasNext = items.size() > query.getSize();
+        if (hasNext) {
+            items = items.subList(0, query.getSize());
+        }
+        return new MessagePage(items, query.getPage(), query.getSize(), hasNext);
+    }
+
+    @Override
+    public MessagePage searchAfter(MessageQuery query, Message last) {
+        if (query.getSortField() != MessageField.CREATED_AT || query.isAscending()) {
+            throw new IllegalArgumentException("Keyset pages are read by creation date, newest first");
+        }
+        List<Message> items = messageRepository.findMatchingOlderThan(query.getCriteria(),
+            last == null ? null : last.getCreatedAt(), last == null ? null : last.getId(), query.getSize() + 1);
+        boolean hasNext = items.size() > query.getSize();
+        if (hasNext) {
+            items = items.subList(0, query.getSize());
+        }
+        return new MessagePage(items, query.getPage(), query.getSize(), hasNext);
+    }
+
+    @Override
+    public MessageChanges getChangesSince(ChangeCursor since, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        // One extra row tells whether another page is already waiting
+        List<Message> changes = messageRepository.findChangedSince(since, limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        ChangeCursor cursor = changes.isEmpty() ? since : ChangeCursor.after(changes.get(changes.size() - 1));
+        return new MessageChanges(changes, cursor, hasMore);
+    }
+
+    // The repository version moves as soon as a write commits, possibly before the read model has applied it:
+    // adding the read model version gives the lists it serves a tag that moves again once they show the write
+    @Override
+    public String getCollectionVersion() {
+        String version = messageRepository.getCollectionVersion();
+        return readModel.isReady() ? version + "." + readModel.getVersion() : version;
+    }
+
+    @Override
+    public Map<MessageStatus, Long> countByStatus() {
+        Map<MessageStatus, Long> counts = new EnumMap<>(MessageStatus.class);
+        Map<MessageStatus, Long> found = messageRepository.countGroupedByStatus();
+        for (MessageStatus status : MessageStatus.values()) {
+            counts.put(status, found.getOrDefault(status, 0L));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> countByAuthors(Collection<String> authors, Set<MessageStatus> statuses) {
+        Set<String> distinctAuthors = new LinkedHashSet<>(authors);
+        if (distinctAuthors.isEmpty() || statuses.isEmpty()) {
+            return emptyPerAuthor(distinctAuthors, 0L);
+        }
+        Map<String, Long> found = messageRepository.countByAuthors(distinctAuthors, statuses);
+        Map<String, Long> counts = new LinkedHashMap<>();
+        distinctAuthors.forEach(author -> counts.put(author, found.getOrDefault(author, 0L)));
+        return counts;
+    }
+
+    @Override
+    public Map<String, List<Message>> getLatestByAuthors(Collection<String> authors, Set<MessageStatus> statuses,
+                                                         int limitPerAuthor) {
+        if (limitPerAuthor <= 0) {
+            throw new IllegalArgumentException("Limit per author must be positive");
+        }
+        Set<String> distinctAuthors = new LinkedHashSet<>(authors);
+        if (distinctAuthors.isEmpty() || statuses.isEmpty()) {
+            return emptyPerAuthor(distinctAuthors, List.of());
+        }
+        // Rows come sorted by author then newest first, so grouping keeps each author's order
+        Map<String, List<Message>> found = messageRepository
+            .findLatestByAuthors(distinctAuthors, statuses, limitPerAuthor).stream()
+            .collect(Collectors.groupingBy(Message::getAuthor));
+        Map<String, List<Message>> messages = new LinkedHashMap<>();
+        distinctAuthors.forEach(author -> messages.put(author, found.getOrDefault(author, List.of())));
+        return messages;
     }
 
     @Override
     public List<Message> getAllActive() {
-        return messageRepository.findAllActive();
+        return readModel.isReady() ? readModel.findAllActive() : messageRepository.findAllActive();
     }
 
     @Override
     public List<Message> getByStatus(MessageStatus status) {
-        return messageRepository.findByStatus(status);
+        return readModel.isReady() ? readModel.findByStatus(status) : messageRepository.findByStatus(status);
     }
 
     @Override
     public List<Message> getByAuthor(String author) {
-        return messageRepository.findByAuthor(author);
+        return readModel.isReady() ? readModel.findByAuthor(author) : messageRepository.findByAuthor(author);
+    }
+
+    // Projected reads keep the column pushdown: the query loads the view fields only, and the read
+    // model would have to copy whole messages to then drop most of their fields
+    @Override
+    public List<MessageProjection> getAllActive(MessageView view) {
+        return messageRepository.findAllActive(view);
+    }
+
+    @Override
+    public List<MessageProjection> getByStatus(MessageStatus status, MessageView view) {
+        return messageRepository.findByStatus(status, view);
+    }
+
+    @Override
+    public List<MessageProjection> getByAuthor(String author, MessageView view) {
+        return messageRepository.findByAuthor(author, view);
+    }
+
+    @Override
+    public TimelinePage getTimeline(String author, int page, int size) {
+        MessageCriteria.MessageCriteriaBuilder criteria = MessageCriteria.builder().author(author);
+        for (MessageStatus status : MessageStatus.values()) {
+            if (status != MessageStatus.DELETED) {
+                criteria.status(status);
+            }
+        }
+        // Same page bounds as a search, newest first
+        MessageQuery query = new MessageQuery(criteria.build(), MessageField.CREATED_AT, false, page, size);
+
+        Optional<TimelinePage> cached = timelineCache.findPage(author, page, size);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        int depth = timelineCache.getDepth();
+        if (query.getOffset() + size <= depth) {
+            // A first page missed: load the whole cached depth once, so the following reads stay in memory
+            long ticket = timelineCache.reserve(author);
+            List<Message> newest = messageRepository.findMatching(query.getCriteria(), MessageField.CREATED_AT,
+                false, 0, depth + 1);
+            boolean complete = newest.size() <= depth;
+            List<MessageProjection> entries = project(complete ? newest : newest.subList(0, depth),
+                MessageView.timeline());
+            timelineCache.fill(author, ticket, entries, complete);
+
+            int from = Math.min(query.getOffset(), entries.size());
+            int to = Math.min(from + size, entries.size());
+            return new TimelinePage(entries.subList(from, to), page, size, to < entries.size() || !complete);
+        }
+
+        // Deeper pages, and pages reaching past the cached depth, go to the database so they are never cut short
+        MessagePage result = search(query);
+        return new TimelinePage(project(result.getItems(), MessageView.timeline()), page, size, result.isHasNext());
+    }
+
+    @Override
+    public List<Message> getRecentlyPublished(int limit) {
+        if (limit < 1 || limit > MessageQuery.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MessageQuery.MAX_PAGE_SIZE);
+        }
+        return publishedFeed.findLatest(limit)
+            .orElseGet(() -> messageRepository.findMatching(
+                MessageCriteria.builder().status(MessageStatus.PUBLISHED).build(),
+                MessageField.PUBLISHED_AT, false, 0, limit));
+    }
+
+    private static List<MessageProjection> project(List<Message> messages, MessageView view) {
+        return messages.stream().map(message -> MessageProjection.of(message, view)).toList();
+    }
+
+    private static <T> Map<String, T> emptyPerAuthor(Set<String> authors, T empty) {
+        Map<String, T> result = new LinkedHashMap<>();
+        authors.forEach(author -> result.put(author, empty));
+        return result;
     }
 }
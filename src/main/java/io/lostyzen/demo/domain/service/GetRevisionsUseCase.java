@@ -0,0 +1,62 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.exception.RevisionNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageRevision;
+import io.lostyzen.demo.domain.port.in.GetRevisionsPort;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.MessageRevisionRepository;
+
+import java.util.List;
+
+/**
+ * Use Case: Read the content history of a message
+ * History is only stored from the first edit on; before that, revision 1 is the message itself
+ */
+@ApplicationScoped
+public class GetRevisionsUseCase implements GetRevisionsPort {
+
+    private final MessageRepository messageRepository;
+    private final MessageRevisionRepository revisionRepository;
+
+    @Inject
+    public GetRevisionsUseCase(MessageRepository messageRepository, MessageRevisionRepository revisionRepository) {
+        this.messageRepository = messageRepository;
+        this.revisionRepository = revisionRepository;
+    }
+
+    @Override
+    public List<MessageRevision> getRevisions(MessageId messageId) {
+        List<MessageRevision> revisions = revisionRepository.findAll(messageId);
+        if (!revisions.isEmpty()) {
+            return revisions;
+        }
+        return List.of(originalRevision(findMessage(messageId)));
+    }
+
+    @Override
+    public MessageRevision getRevision(MessageId messageId, int number) {
+        return revisionRepository.findRevision(messageId, number)
+            .orElseGet(() -> {
+                Message message = findMessage(messageId);
+                if (number != 1) {
+                    throw new RevisionNotFoundException(messageId.getValue(), number);
+                }
+                // Only an unedited message lacks its stored revision 1
+                return originalRevision(message);
+            });
+    }
+
+    private Message findMessage(MessageId messageId) {
+        return messageRepository.findById(messageId)
+            .orElseThrow(() -> new MessageNotFoundException(messageId.getValue()));
+    }
+
+    private static MessageRevision originalRevision(Message message) {
+        return new MessageRevision(message.getId(), 1, message.getContent(), message.getCreatedAt());
+    }
+}
@@ -0,0 +1,51 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import io.lostyzen.demo.domain.exception.WebhookNotFoundException;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+import io.lostyzen.demo.domain.port.in.ManageWebhooksPort;
+import io.lostyzen.demo.domain.port.out.WebhookSubscriptionRepository;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Use Case: Manage webhook subscriptions
+ * Implements the ManageWebhooksPort interface to provide loose coupling
+ */
+@ApplicationScoped
+public class ManageWebhooksUseCase implements ManageWebhooksPort {
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+
+    @Inject
+    public ManageWebhooksUseCase(WebhookSubscriptionRepository subscriptionRepository) {
+        this.subscriptionRepository = subscriptionRepository;
+    }
+
+    @Override
+    @Transactional
+    public WebhookSubscription subscribe(String url, Set<MessageEvent.Type> eventTypes) {
+        // Partners ask for publications unless they say otherwise
+        Set<MessageEvent.Type> types = eventTypes == null || eventTypes.isEmpty()
+            ? Set.of(MessageEvent.Type.PUBLISHED)
+            : eventTypes;
+        return subscriptionRepository.save(new WebhookSubscription(url, types));
+    }
+
+    @Override
+    public List<WebhookSubscription> getAll() {
+        return subscriptionRepository.findAll();
+    }
+
+    @Override
+    @Transactional
+    public void unsubscribe(String subscriptionId) {
+        if (!subscriptionRepository.deleteById(subscriptionId)) {
+            throw new WebhookNotFoundException(subscriptionId);
+        }
+    }
+}
@@ -2,10 +2,13 @@ package io.lostyzen.demo.domain.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import io.lostyzen.demo.domain.exception.MessageNotFoundException;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
 import io.lostyzen.demo.domain.model.MessageId;
 import io.lostyzen.demo.domain.port.in.PublishMessagePort;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
 
 /**
@@ -16,13 +19,16 @@ import io.lostyzen.demo.domain.port.out.MessageRepository;
 public class PublishMessageUseCase implements PublishMessagePort {
 
     private final MessageRepository messageRepository;
+    private final MessageEventPublisher eventPublisher;
 
     @Inject
-    public PublishMessageUseCase(MessageRepository messageRepository) {
+    public PublishMessageUseCase(MessageRepository messageRepository, MessageEventPublisher eventPublisher) {
         this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public Message execute(MessageId messageId) {
         Message message = messageRepository.findById(messageId)
             .orElseThrow(() -> new MessageNotFoundException(messageId.getValue()));
@@ -30,6 +36,8 @@ public class PublishMessageUseCase implements PublishMessagePort {
         // Business logic for publishing is in the entity
         message.publish();
 
-        return messageRepository.save(message);
+        Message saved = messageRepository.save(message);
+        eventPublisher.publish(MessageEvent.of(MessageEvent.Type.PUBLISHED, saved));
+        return saved;
     }
 }
@@ -0,0 +1,91 @@
+package io.lostyzen.demo.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.in.SchedulePublicationPort;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Use Case: Schedule the publication of messages
+ * A scheduled message stays in its status until it is due; then it goes through Message.publish()
+ * like any other publication. Scheduling is announced as an UPDATED event.
+ */
+@ApplicationScoped
+public class SchedulePublicationUseCase implements SchedulePublicationPort {
+
+    private final MessageRepository messageRepository;
+    private final MessageEventPublisher eventPublisher;
+
+    @Inject
+    public SchedulePublicationUseCase(MessageRepository messageRepository, MessageEventPublisher eventPublisher) {
+        this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public Message schedule(MessageId messageId, LocalDateTime publishAt) {
+        Message message = messageRepository.findById(messageId)
+            .orElseThrow(() -> new MessageNotFoundException(messageId.getValue()));
+
+        // Business logic for scheduling is in the entity
+        message.schedulePublication(publishAt);
+
+        Message saved = messageRepository.save(message);
+        eventPublisher.publish(MessageEvent.of(MessageEvent.Type.UPDATED, saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Message cancel(MessageId messageId) {
+        Message message = messageRepository.findById(messageId)
+            .orElseThrow(() -> new MessageNotFoundException(messageId.getValue()));
+
+        message.cancelScheduledPublication();
+
+        Message saved = messageRepository.save(message);
+        eventPublisher.publish(MessageEvent.of(MessageEvent.Type.UPDATED, saved));
+        return saved;
+    }
+
+    @Override
+    public List<Message> getScheduledBefore(LocalDateTime until, LocalDateTime afterPublishAt, MessageId afterId,
+                                            int limit) {
+        return messageRepository.findScheduledBefore(until, afterPublishAt, afterId, limit);
+    }
+
+    @Override
+    @Transactional
+    public List<Message> publishDue(Collection<MessageId> messageIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Message> due = new ArrayList<>();
+        for (Message message : messageRepository.findAllById(new ArrayList<>(new LinkedHashSet<>(messageIds)))) {
+            // Re-checked here: the caller's view of the schedule may be stale
+            if (message.isDueForPublication(now) && message.getStatus().canTransitionTo(MessageStatus.PUBLISHED)) {
+                message.publish();
+                due.add(message);
+            }
+        }
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        // Events reach observers only once the surrounding transaction has committed
+        List<Message> published = messageRepository.saveAll(due);
+        published.forEach(message -> eventPublisher.publish(MessageEvent.of(MessageEvent.Type.PUBLISHED, message)));
+        return published;
+    }
+}
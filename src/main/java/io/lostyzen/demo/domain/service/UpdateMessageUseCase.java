@@ -2,34 +2,55 @@ package io.lostyzen.demo.domain.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import io.lostyzen.demo.domain.exception.MessageNotFoundException;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
 import io.lostyzen.demo.domain.model.MessageId;
 import io.lostyzen.demo.domain.port.in.UpdateMessagePort;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.MessageRevisionRepository;
+
+import java.time.LocalDateTime;
 
 /**
  * Use Case: Update message content
  * Implements the UpdateMessagePort interface to provide loose coupling
+ * Each actual change of content is added to the revision history, in the same transaction
  */
 @ApplicationScoped
 public class UpdateMessageUseCase implements UpdateMessagePort {
 
     private final MessageRepository messageRepository;
+    private final MessageEventPublisher eventPublisher;
+    private final MessageRevisionRepository revisionRepository;
 
     @Inject
-    public UpdateMessageUseCase(MessageRepository messageRepository) {
+    public UpdateMessageUseCase(MessageRepository messageRepository, MessageEventPublisher eventPublisher,
+                                MessageRevisionRepository revisionRepository) {
         this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
+        this.revisionRepository = revisionRepository;
     }
 
     @Override
+    @Transactional
     public Message execute(MessageId messageId, String newContent) {
         Message message = messageRepository.findById(messageId)
             .orElseThrow(() -> new MessageNotFoundException(messageId.getValue()));
 
+        String previousContent = message.getContent();
+        LocalDateTime previousAt = message.getUpdatedAt();
+
         // Business validation is in the entity
         message.updateContent(newContent);
 
-        return messageRepository.save(message);
+        Message saved = messageRepository.save(message);
+        if (!saved.getContent().equals(previousContent)) {
+            revisionRepository.record(messageId, previousContent, previousAt, saved.getContent(), saved.getUpdatedAt());
+        }
+        eventPublisher.publish(MessageEvent.of(MessageEvent.Type.UPDATED, saved));
+        return saved;
     }
 }
@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.in.cdc;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity storing how far a change data capture reader went
+ * The position moves in the transaction that publishes the changes up to it, so a restart
+ * resumes right after the last published change
+ */
+@Entity
+@Table(name = "cdc_checkpoints")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class CdcCheckpointEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "name", length = 64)
+    public String name;
+
+    // ID of the last published change
+    @Column(name = "last_change_id", nullable = false)
+    public long lastChangeId;
+
+    @Column(name = "updated_at", nullable = false)
+    public LocalDateTime updatedAt;
+
+    public CdcCheckpointEntity(String name, long lastChangeId, LocalDateTime updatedAt) {
+        this.name = name;
+        this.lastChangeId = lastChangeId;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,91 @@
+package io.lostyzen.demo.infrastructure.adapter.in.cdc;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity of the change data capture table
+ * Rows are written by MessageCdcTrigger, one per row changed in messages outside the application,
+ * with the row image after the change (only the ID for a deletion)
+ */
+@Entity
+@Table(name = "message_cdc")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class MessageCdcEntity extends PanacheEntityBase {
+
+    public enum Operation {
+        INSERT,
+        UPDATE,
+        DELETE
+    }
+
+    // Allocated by the trigger one at a time, so the ID order is the capture order
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_cdc_seq")
+    @SequenceGenerator(name = "message_cdc_seq", sequenceName = "message_cdc_seq", allocationSize = 1)
+    @Column(name = "id")
+    public Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", length = 6, nullable = false)
+    public Operation operation;
+
+    @Column(name = "message_id", length = 36, nullable = false)
+    public String messageId;
+
+    // Status before an update, to tell a transition from an edit
+    @Column(name = "previous_status", length = 16)
+    public String previousStatus;
+
+    @Column(name = "content", length = 1000)
+    public String content;
+
+    @Column(name = "status", length = 16)
+    public String status;
+
+    @Column(name = "author")
+    public String author;
+
+    @Column(name = "created_at")
+    public LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    public LocalDateTime updatedAt;
+
+    @Column(name = "published_at")
+    public LocalDateTime publishedAt;
+
+    @Column(name = "deleted_at")
+    public LocalDateTime deletedAt;
+
+    @Column(name = "publish_at")
+    public LocalDateTime publishAt;
+
+    @Column(name = "captured_at", nullable = false)
+    public LocalDateTime capturedAt;
+
+    // Row image after the change; the domain rules reject an image no use case could have produced
+    public Message toDomainModel() {
+        return new Message(
+            MessageId.of(this.messageId),
+            this.content,
+            MessageStatus.valueOf(this.status),
+            this.author,
+            this.createdAt,
+            this.updatedAt,
+            this.publishedAt,
+            this.deletedAt,
+            this.publishAt
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.in.cdc;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the change data capture progress on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class MessageCdcHealthCheck implements HealthCheck {
+
+    private final MessageCdcReader reader;
+
+    @Inject
+    public MessageCdcHealthCheck(MessageCdcReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        MessageCdcReader.Stats stats = reader.stats();
+        return HealthCheckResponse.named("message-cdc")
+                .up()
+                .withData("enabled", stats.enabled())
+                .withData("position", stats.position())
+                .withData("published", stats.published())
+                .withData("rejected", stats.rejected())
+                .withData("lostClaims", stats.lostClaims())
+                .withData("failures", stats.failures())
+                .withData("lastLagMillis", stats.lastLagMillis())
+                .withData("maxLagMillis", stats.maxLagMillis())
+                .withData("lastPollAt", String.valueOf(stats.lastPollAt()))
+                .build();
+    }
+}
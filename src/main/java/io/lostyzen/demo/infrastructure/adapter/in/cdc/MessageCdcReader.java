@@ -0,0 +1,229 @@
+package io.lostyzen.demo.infrastructure.adapter.in.cdc;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change data capture of the messages table: catches the writes that bypass the application
+ * Installs MessageCdcTrigger at startup, then tails the change table in ID order and publishes each
+ * change as a MessageEvent, so every consumer (read model, timelines, feed, streams, webhooks, outbox)
+ * sees it like a write made through the use cases. A change is only read once it is older than the
+ * settle window, as a transaction allocating a smaller ID may still be committing.
+ * The checkpoint moves in the transaction publishing the batch: the outbox rows and the position commit
+ * together. When several instances share the database, the checkpoint update decides which one publishes.
+ */
+@ApplicationScoped
+public class MessageCdcReader {
+
+    private static final Logger LOG = Logger.getLogger(MessageCdcReader.class);
+
+    static final String CHECKPOINT = "messages";
+    private static final String TRIGGER = "messages_cdc";
+
+    private final MessageEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long pollIntervalMillis;
+    private final Duration settleWindow;
+    private final int batchSize;
+
+    private volatile long position;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong lostClaims = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastLagMillis;
+    private volatile long maxLagMillis;
+    private volatile LocalDateTime lastPollAt;
+    private ScheduledExecutorService executor;
+
+    @Inject
+    public MessageCdcReader(MessageEventPublisher eventPublisher,
+                            @ConfigProperty(name = "messages.cdc.enabled", defaultValue = "true") boolean enabled,
+                            @ConfigProperty(name = "messages.cdc.poll-interval-ms", defaultValue = "200")
+                            long pollIntervalMillis,
+                            @ConfigProperty(name = "messages.cdc.settle-ms", defaultValue = "1000") long settleMillis,
+                            @ConfigProperty(name = "messages.cdc.batch-size", defaultValue = "500") int batchSize) {
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.settleWindow = Duration.ofMillis(settleMillis);
+        this.batchSize = batchSize;
+    }
+
+    void start(@Observes StartupEvent event) {
+        QuarkusTransaction.requiringNew().run(this::installTrigger);
+        if (!enabled) {
+            LOG.info("Change data capture disabled, direct writes to messages are not seen");
+            return;
+        }
+        position = loadCheckpoint();
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-cdc-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        LOG.infof("Change data capture of messages started after change %d", position);
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Publishes every settled change after the checkpoint.
+     * Returns the number of changes published.
+     */
+    public int poll() {
+        int total = 0;
+        try {
+            Batch batch;
+            do {
+                batch = readBatch();
+                total += batch.published();
+            } while (batch.read() == batchSize);
+            lastPollAt = LocalDateTime.now();
+        } catch (RuntimeException e) {
+            // Nothing was published: the batch is read again on the next poll
+            failures.incrementAndGet();
+            LOG.error("Change data capture poll failed", e);
+        }
+        return total;
+    }
+
+    private Batch readBatch() {
+        long from = position;
+        LocalDateTime horizon = LocalDateTime.now().minus(settleWindow);
+        Batch batch = QuarkusTransaction.requiringNew().call(() -> {
+            List<MessageCdcEntity> settled = MessageCdcEntity.<MessageCdcEntity>find("id > ?1 order by id", from)
+                .page(0, batchSize)
+                .stream()
+                .takeWhile(change -> change.capturedAt.isBefore(horizon))
+                .toList();
+            if (settled.isEmpty()) {
+                return new Batch(0, 0, from, null);
+            }
+            long to = settled.get(settled.size() - 1).id;
+            // Locks the checkpoint row first: a competing instance waits, then finds it moved
+            int claimed = CdcCheckpointEntity.update("lastChangeId = ?1, updatedAt = ?2 where name = ?3 and lastChangeId = ?4",
+                to, LocalDateTime.now(), CHECKPOINT, from);
+            if (claimed == 0) {
+                CdcCheckpointEntity checkpoint = CdcCheckpointEntity.findById(CHECKPOINT);
+                return new Batch(-1, 0, checkpoint.lastChangeId, null);
+            }
+            int count = (int) settled.stream().filter(this::publish).count();
+            return new Batch(settled.size(), count, to, settled.get(0).capturedAt);
+        });
+
+        position = batch.position();
+        if (batch.read() < 0) {
+            lostClaims.incrementAndGet();
+        } else if (batch.read() > 0) {
+            // Measured once the transaction-bound consumers have run
+            long lag = Math.max(0, Duration.between(batch.oldestCapturedAt(), LocalDateTime.now()).toMillis());
+            lastLagMillis = lag;
+            maxLagMillis = Math.max(maxLagMillis, lag);
+            published.addAndGet(batch.published());
+        }
+        return batch;
+    }
+
+    private boolean publish(MessageCdcEntity change) {
+        if (change.operation == MessageCdcEntity.Operation.DELETE) {
+            eventPublisher.publish(MessageEvent.removed(MessageId.of(change.messageId)));
+            return true;
+        }
+        Message message;
+        try {
+            message = change.toDomainModel();
+        } catch (RuntimeException e) {
+            // Consumers rely on the domain invariants: an invalid row is reported instead of propagated
+            rejected.incrementAndGet();
+            LOG.warnf("Change %d of message %s rejected: %s", change.id, change.messageId, e.getMessage());
+            return false;
+        }
+        eventPublisher.publish(MessageEvent.of(typeOf(change, message), message));
+        return true;
+    }
+
+    private static MessageEvent.Type typeOf(MessageCdcEntity change, Message message) {
+        if (change.operation == MessageCdcEntity.Operation.INSERT) {
+            return MessageEvent.Type.CREATED;
+        }
+        boolean transition = !message.getStatus().name().equals(change.previousStatus);
+        return transition && message.getStatus() != MessageStatus.DRAFT
+            ? MessageEvent.Type.of(message.getStatus())
+            : MessageEvent.Type.UPDATED;
+    }
+
+    // Dropped when disabled, so a schema kept across restarts stops capturing
+    private void installTrigger() {
+        EntityManager entityManager = MessageCdcEntity.getEntityManager();
+        String statement = enabled
+            ? "create trigger if not exists " + TRIGGER + " before insert, update, delete on messages"
+                + " for each row call '" + MessageCdcTrigger.class.getName() + "'"
+            : "drop trigger if exists " + TRIGGER;
+        entityManager.createNativeQuery(statement).executeUpdate();
+    }
+
+    private long loadCheckpoint() {
+        try {
+            return QuarkusTransaction.requiringNew().call(() -> {
+                CdcCheckpointEntity checkpoint = CdcCheckpointEntity.findById(CHECKPOINT);
+                if (checkpoint == null) {
+                    checkpoint = new CdcCheckpointEntity(CHECKPOINT, 0, LocalDateTime.now());
+                    checkpoint.persist();
+                }
+                return checkpoint.lastChangeId;
+            });
+        } catch (RuntimeException e) {
+            // Another instance created the checkpoint at the same time
+            return QuarkusTransaction.requiringNew().call(() ->
+                CdcCheckpointEntity.<CdcCheckpointEntity>findById(CHECKPOINT).lastChangeId);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(enabled, position, published.get(), rejected.get(), lostClaims.get(), failures.get(),
+            lastLagMillis, maxLagMillis, lastPollAt);
+    }
+
+    // read is -1 when another instance published the batch
+    private record Batch(int read, int published, long position, LocalDateTime oldestCapturedAt) {
+    }
+
+    /**
+     * Snapshot of the reader progress
+     *
+     * @param position   ID of the last change published, as stored in the checkpoint
+     * @param rejected   changes whose row image breaks the domain rules, not published
+     * @param lostClaims batches published by another instance sharing the database
+     * @param lastLagMillis delay between the capture of a change and its publication, for the last batch
+     */
+    public record Stats(boolean enabled, long position, long published, long rejected, long lostClaims,
+                        long failures, long lastLagMillis, long maxLagMillis, LocalDateTime lastPollAt) {
+    }
+}
@@ -0,0 +1,109 @@
+package io.lostyzen.demo.infrastructure.adapter.in.cdc;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * H2 row trigger capturing the writes made to the messages table outside the application
+ * Installed by MessageCdcReader. It runs inside the writing transaction, in the JVM holding the database,
+ * so a captured change commits or rolls back with the write. Sessions of the application pool set
+ * the @MESSAGES_APPLICATION variable and are skipped: their changes already go through the use cases.
+ * An external update leaving updated_at untouched gets it stamped, so version-stamped caches see it.
+ */
+public class MessageCdcTrigger implements Trigger {
+
+    static final String APPLICATION_SESSION_VARIABLE = "@MESSAGES_APPLICATION";
+
+    private static final String INSERT_CHANGE = "insert into message_cdc (id, operation, message_id, previous_status,"
+        + " content, status, author, created_at, updated_at, published_at, deleted_at, publish_at, captured_at)"
+        + " values (next value for message_cdc_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private int id;
+    private int content;
+    private int status;
+    private int author;
+    private int createdAt;
+    private int updatedAt;
+    private int publishedAt;
+    private int deletedAt;
+    private int publishAt;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName, boolean before,
+                     int type) throws SQLException {
+        // Row arrays follow the column order of the table, which the trigger does not assume
+        Map<String, Integer> positions = new HashMap<>();
+        try (ResultSet columns = conn.getMetaData().getColumns(null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                positions.put(columns.getString("COLUMN_NAME").toLowerCase(), columns.getInt("ORDINAL_POSITION") - 1);
+            }
+        }
+        id = position(positions, "id");
+        content = position(positions, "content");
+        status = position(positions, "status");
+        author = position(positions, "author");
+        createdAt = position(positions, "created_at");
+        updatedAt = position(positions, "updated_at");
+        publishedAt = position(positions, "published_at");
+        deletedAt = position(positions, "deleted_at");
+        publishAt = position(positions, "publish_at");
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (isApplicationSession(conn)) {
+            return;
+        }
+        MessageCdcEntity.Operation operation = oldRow == null ? MessageCdcEntity.Operation.INSERT
+            : newRow == null ? MessageCdcEntity.Operation.DELETE
+            : MessageCdcEntity.Operation.UPDATE;
+        if (operation == MessageCdcEntity.Operation.UPDATE && Objects.equals(oldRow[updatedAt], newRow[updatedAt])) {
+            newRow[updatedAt] = LocalDateTime.now();
+        }
+
+        try (PreparedStatement insert = conn.prepareStatement(INSERT_CHANGE)) {
+            insert.setString(1, operation.name());
+            insert.setObject(2, (newRow != null ? newRow : oldRow)[id]);
+            insert.setObject(3, oldRow != null && newRow != null ? text(oldRow[status]) : null);
+            Object[] image = newRow != null ? newRow : new Object[oldRow.length];
+            insert.setObject(4, image[content]);
+            insert.setObject(5, text(image[status]));
+            insert.setObject(6, image[author]);
+            insert.setObject(7, image[createdAt]);
+            insert.setObject(8, image[updatedAt]);
+            insert.setObject(9, image[publishedAt]);
+            insert.setObject(10, image[deletedAt]);
+            insert.setObject(11, image[publishAt]);
+            insert.setObject(12, LocalDateTime.now());
+            insert.executeUpdate();
+        }
+    }
+
+    private static boolean isApplicationSession(Connection conn) throws SQLException {
+        try (PreparedStatement query = conn.prepareStatement("select " + APPLICATION_SESSION_VARIABLE);
+             ResultSet result = query.executeQuery()) {
+            return result.next() && Boolean.TRUE.equals(result.getObject(1, Boolean.class));
+        }
+    }
+
+    private static int position(Map<String, Integer> positions, String column) throws SQLException {
+        Integer position = positions.get(column);
+        if (position == null) {
+            throw new SQLException("Column " + column + " not found in the captured table");
+        }
+        return position;
+    }
+
+    // Enum columns come back as their name or as an enum value depending on the column type
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package io.lostyzen.demo.infrastructure.adapter.in.graphql;
+
+import lombok.Getter;
+import org.eclipse.microprofile.graphql.Type;
+
+/**
+ * GraphQL representation of an author
+ * Authors are not stored on their own: messages and counts are resolved from the author name
+ */
+@Getter
+@Type("Author")
+public class AuthorNode {
+
+    private final String name;
+
+    public AuthorNode(String name) {
+        this.name = name;
+    }
+}
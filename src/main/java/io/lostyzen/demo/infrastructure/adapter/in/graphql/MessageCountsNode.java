@@ -0,0 +1,29 @@
+package io.lostyzen.demo.infrastructure.adapter.in.graphql;
+
+import io.lostyzen.demo.domain.model.MessageStatus;
+import lombok.Getter;
+import org.eclipse.microprofile.graphql.Type;
+
+import java.util.Map;
+
+/**
+ * GraphQL representation of the message counts per status
+ */
+@Getter
+@Type("MessageCounts")
+public class MessageCountsNode {
+
+    private final long draft;
+    private final long published;
+    private final long archived;
+    private final long deleted;
+    private final long total;
+
+    public MessageCountsNode(Map<MessageStatus, Long> counts) {
+        this.draft = counts.get(MessageStatus.DRAFT);
+        this.published = counts.get(MessageStatus.PUBLISHED);
+        this.archived = counts.get(MessageStatus.ARCHIVED);
+        this.deleted = counts.get(MessageStatus.DELETED);
+        this.total = counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
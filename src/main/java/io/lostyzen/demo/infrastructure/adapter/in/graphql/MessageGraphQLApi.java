@@ -0,0 +1,152 @@
+package io.lostyzen.demo.infrastructure.adapter.in.graphql;
+
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageField;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageQuery;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.in.GetMessagesPort;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.graphql.DefaultValue;
+import org.eclipse.microprofile.graphql.Description;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.GraphQLException;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.NonNull;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * GraphQL Adapter (Adapter In) over the message read ports, served at /graphql
+ * Nested fields take the whole list of parent objects (@Source List): a nested selection is resolved
+ * with one repository query per level, whatever the number of parents, and repeated authors are loaded once.
+ * Every list argument is capped, and the query depth and complexity are limited in application.properties.
+ */
+@GraphQLApi
+public class MessageGraphQLApi {
+
+    private static final Logger LOG = Logger.getLogger(MessageGraphQLApi.class.getName());
+
+    static final int MAX_IDS = MessageQuery.MAX_PAGE_SIZE;
+    static final int MAX_AUTHORS = 100;
+    static final int MAX_MESSAGES_PER_AUTHOR = 50;
+
+    private final GetMessagesPort getMessagesPort;
+
+    @Inject
+    public MessageGraphQLApi(GetMessagesPort getMessagesPort) {
+        this.getMessagesPort = getMessagesPort;
+    }
+
+    @Query("message")
+    @Description("A message by ID, or null when it does not exist")
+    public MessageNode message(@Name("id") @NonNull String id) {
+        try {
+            return new MessageNode(getMessagesPort.getById(MessageId.of(id)));
+        } catch (MessageNotFoundException e) {
+            return null;
+        }
+    }
+
+    @Query("messagesByIds")
+    @Description("Messages by ID in input order; unknown IDs are skipped")
+    public List<MessageNode> messagesByIds(@Name("ids") @NonNull List<String> ids) throws GraphQLException {
+        requireAtMost("ids", ids.size(), MAX_IDS);
+        try {
+            return toNodes(getMessagesPort.getByIds(ids.stream().map(MessageId::of).toList()).getFound());
+        } catch (IllegalArgumentException e) {
+            throw new GraphQLException(e.getMessage());
+        }
+    }
+
+    @Query("messages")
+    @Description("One page of messages matching the filters; deleted messages are excluded unless requested")
+    public List<MessageNode> messages(@Name("statuses") List<MessageStatus> statuses,
+                                      @Name("author") String author,
+                                      @Name("sort") @DefaultValue("createdAt") String sort,
+                                      @Name("ascending") @DefaultValue("false") boolean ascending,
+                                      @Name("page") @DefaultValue("0") int page,
+                                      @Name("size") @DefaultValue("" + MessageQuery.DEFAULT_PAGE_SIZE) int size)
+            throws GraphQLException {
+        LOG.info("GraphQL messages - Statuses: " + statuses + ", Author: " + author);
+        try {
+            MessageCriteria.MessageCriteriaBuilder criteria = MessageCriteria.builder()
+                .statuses(statusFilter(statuses))
+                .author(author == null || author.isBlank() ? null : author.trim());
+            MessageQuery query = new MessageQuery(criteria.build(), MessageField.fromFieldName(sort), ascending, page, size);
+            return toNodes(getMessagesPort.search(query).getItems());
+        } catch (IllegalArgumentException e) {
+            throw new GraphQLException(e.getMessage());
+        }
+    }
+
+    @Query("authors")
+    @Description("Authors by name, to select their messages and counts")
+    public List<AuthorNode> authors(@Name("names") @NonNull List<String> names) throws GraphQLException {
+        requireAtMost("names", names.size(), MAX_AUTHORS);
+        return names.stream().distinct().map(AuthorNode::new).toList();
+    }
+
+    @Query("messageCounts")
+    @Description("Number of messages of each status, counted in one query")
+    public MessageCountsNode messageCounts() {
+        return new MessageCountsNode(getMessagesPort.countByStatus());
+    }
+
+    @Name("authorProfile")
+    @Description("The author of the message")
+    public List<AuthorNode> authorProfile(@Source List<MessageNode> messages) {
+        return messages.stream().map(message -> new AuthorNode(message.getAuthor())).toList();
+    }
+
+    @Name("messages")
+    @Description("Latest messages of the author, newest first; deleted messages are excluded unless requested")
+    public List<List<MessageNode>> authorMessages(@Source List<AuthorNode> authors,
+                                                  @Name("statuses") List<MessageStatus> statuses,
+                                                  @Name("first") @DefaultValue("10") int first)
+            throws GraphQLException {
+        if (first < 1) {
+            throw new GraphQLException("first must be positive");
+        }
+        requireAtMost("first", first, MAX_MESSAGES_PER_AUTHOR);
+        // One query for every author of this level
+        Map<String, List<Message>> messages = getMessagesPort.getLatestByAuthors(
+            authors.stream().map(AuthorNode::getName).toList(), statusFilter(statuses), first);
+        return authors.stream().map(author -> toNodes(messages.get(author.getName()))).toList();
+    }
+
+    @Name("messageCount")
+    @Description("Number of messages of the author; deleted messages are excluded unless requested")
+    public List<Long> messageCount(@Source List<AuthorNode> authors, @Name("statuses") List<MessageStatus> statuses) {
+        // One GROUP BY query for every author of this level
+        Map<String, Long> counts = getMessagesPort.countByAuthors(
+            authors.stream().map(AuthorNode::getName).toList(), statusFilter(statuses));
+        return authors.stream().map(author -> counts.get(author.getName())).toList();
+    }
+
+    // Like the REST list endpoints, deleted messages only show up when asked for
+    private static Set<MessageStatus> statusFilter(List<MessageStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return EnumSet.complementOf(EnumSet.of(MessageStatus.DELETED));
+        }
+        return EnumSet.copyOf(statuses);
+    }
+
+    private static void requireAtMost(String argument, int value, int max) throws GraphQLException {
+        if (value > max) {
+            throw new GraphQLException(argument + " is limited to " + max);
+        }
+    }
+
+    private static List<MessageNode> toNodes(List<Message> messages) {
+        return messages.stream().map(MessageNode::new).toList();
+    }
+}
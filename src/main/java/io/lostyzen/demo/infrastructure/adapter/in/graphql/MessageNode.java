@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.in.graphql;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import lombok.Getter;
+import org.eclipse.microprofile.graphql.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * GraphQL representation of a message
+ * Nested fields (authorProfile) are resolved by batched resolvers in MessageGraphQLApi
+ */
+@Getter
+@Type("Message")
+public class MessageNode {
+
+    private final String id;
+    private final String content;
+    private final MessageStatus status;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime publishedAt;
+    private final LocalDateTime deletedAt;
+    private final LocalDateTime publishAt;
+
+    public MessageNode(Message message) {
+        this.id = message.getId().getValue();
+        this.content = message.getContent();
+        this.status = message.getStatus();
+        this.author = message.getAuthor();
+        this.createdAt = message.getCreatedAt();
+        this.updatedAt = message.getUpdatedAt();
+        this.publishedAt = message.getPublishedAt();
+        this.deletedAt = message.getDeletedAt();
+        this.publishAt = message.getPublishAt();
+    }
+}
@@ -0,0 +1,248 @@
+package io.lostyzen.demo.infrastructure.adapter.in.grpc;
+
+import io.grpc.Status;
+import io.lostyzen.demo.domain.exception.MessageAlreadyDeletedException;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageField;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessagePage;
+import io.lostyzen.demo.domain.model.MessageQuery;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.in.CreateMessagePort;
+import io.lostyzen.demo.domain.port.in.DeleteMessagePort;
+import io.lostyzen.demo.domain.port.in.GetMessagesPort;
+import io.lostyzen.demo.domain.port.in.PublishMessagePort;
+import io.lostyzen.demo.domain.port.in.UpdateMessagePort;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.CreateMessageRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.CreateMessagesReply;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.DeleteMessageReply;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.ListMessagesRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.MessageIdRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.MessageReply;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.MessageService;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.UpdateMessageRequest;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * gRPC Adapter (Adapter In) exposing the same input ports as the REST controller
+ * Contract: src/main/proto/message_service.proto, compiled by quarkus-grpc at build time.
+ * Blocking calls run on worker threads like the REST endpoints; domain errors become gRPC status codes.
+ */
+@GrpcService
+public class MessageGrpcService implements MessageService {
+
+    private static final Logger LOG = Logger.getLogger(MessageGrpcService.class.getName());
+
+    // Same clock as the CBOR encoding, so both binary adapters agree on epoch values
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final CreateMessagePort createMessagePort;
+    private final UpdateMessagePort updateMessagePort;
+    private final PublishMessagePort publishMessagePort;
+    private final DeleteMessagePort deleteMessagePort;
+    private final GetMessagesPort getMessagesPort;
+
+    @Inject
+    public MessageGrpcService(CreateMessagePort createMessagePort,
+                              UpdateMessagePort updateMessagePort,
+                              PublishMessagePort publishMessagePort,
+                              DeleteMessagePort deleteMessagePort,
+                              GetMessagesPort getMessagesPort) {
+        this.createMessagePort = createMessagePort;
+        this.updateMessagePort = updateMessagePort;
+        this.publishMessagePort = publishMessagePort;
+        this.deleteMessagePort = deleteMessagePort;
+        this.getMessagesPort = getMessagesPort;
+    }
+
+    @Override
+    @Blocking
+    public Uni<MessageReply> createMessage(CreateMessageRequest request) {
+        LOG.info("gRPC CreateMessage - Author: " + request.getAuthor());
+        return call(() -> toReply(createMessagePort.execute(request.getContent(), request.getAuthor())));
+    }
+
+    @Override
+    @Blocking
+    public Uni<MessageReply> updateMessage(UpdateMessageRequest request) {
+        LOG.info("gRPC UpdateMessage - ID: " + request.getId());
+        return call(() -> toReply(updateMessagePort.execute(MessageId.of(request.getId()), request.getContent())));
+    }
+
+    @Override
+    @Blocking
+    public Uni<MessageReply> publishMessage(MessageIdRequest request) {
+        LOG.info("gRPC PublishMessage - ID: " + request.getId());
+        return call(() -> toReply(publishMessagePort.execute(MessageId.of(request.getId()))));
+    }
+
+    @Override
+    @Blocking
+    public Uni<DeleteMessageReply> deleteMessage(MessageIdRequest request) {
+        LOG.info("gRPC DeleteMessage - ID: " + request.getId());
+        return call(() -> {
+            deleteMessagePort.execute(MessageId.of(request.getId()));
+            return DeleteMessageReply.newBuilder().setId(request.getId()).build();
+        });
+    }
+
+    /**
+     * Streams matching messages, newest first.
+     * One page is read per round of client demand: a slow client pauses the reads instead of
+     * making the server buffer the whole result. Each page resumes after the last message sent,
+     * so writes during the stream neither repeat nor skip messages.
+     */
+    @Override
+    public Multi<MessageReply> listMessages(ListMessagesRequest request) {
+        LOG.info("gRPC ListMessages - Statuses: " + request.getStatusesList() + ", Author: " + request.getAuthor());
+        MessageCriteria criteria;
+        int pageSize;
+        try {
+            criteria = toCriteria(request);
+            pageSize = request.getPageSize() == 0 ? MessageQuery.DEFAULT_PAGE_SIZE : request.getPageSize();
+            // Rejects an out-of-range page size before the stream starts
+            new MessageQuery(criteria, MessageField.CREATED_AT, false, 0, pageSize);
+        } catch (IllegalArgumentException e) {
+            return Multi.createFrom().failure(toStatus(e));
+        }
+
+        AtomicInteger nextPage = new AtomicInteger();
+        AtomicReference<Message> lastSent = new AtomicReference<>();
+        return Multi.createBy().repeating()
+            .uni(() -> Uni.createFrom()
+                .item(() -> readPage(new MessageQuery(criteria, MessageField.CREATED_AT, false,
+                    nextPage.getAndIncrement(), pageSize), lastSent))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool()))
+            // The page without a successor is emitted, then the stream completes
+            .whilst(MessagePage::isHasNext)
+            .onItem().transformToIterable(MessagePage::getItems)
+            .map(MessageGrpcService::toReply)
+            .onFailure().transform(MessageGrpcService::toStatus);
+    }
+
+    /**
+     * Creates messages as the client streams them.
+     * Requests are taken from the client in small batches, so a fast client is held back by
+     * gRPC flow control rather than queued in memory; a rejected request does not stop the others.
+     */
+    @Override
+    public Uni<CreateMessagesReply> createMessages(Multi<CreateMessageRequest> requests) {
+        AtomicInteger index = new AtomicInteger();
+        return requests
+            .emitOn(Infrastructure.getDefaultWorkerPool())
+            .map(request -> createOne(index.getAndIncrement(), request))
+            .collect().in(CreateMessagesReply::newBuilder, (reply, item) -> {
+                reply.addItems(item);
+                if (item.getError().isEmpty()) {
+                    reply.setCreated(reply.getCreated() + 1);
+                } else {
+                    reply.setFailed(reply.getFailed() + 1);
+                }
+            })
+            .map(reply -> {
+                LOG.info("gRPC CreateMessages - Created: " + reply.getCreated() + ", Failed: " + reply.getFailed());
+                return reply.build();
+            });
+    }
+
+    private CreateMessagesReply.Item createOne(int index, CreateMessageRequest request) {
+        CreateMessagesReply.Item.Builder item = CreateMessagesReply.Item.newBuilder().setIndex(index);
+        try {
+            item.setId(createMessagePort.execute(request.getContent(), request.getAuthor()).getId().getValue());
+        } catch (IllegalArgumentException e) {
+            item.setError(e.getMessage());
+        }
+        return item.build();
+    }
+
+    // Each page in its own short transaction: no connection is held while waiting for the client
+    private MessagePage readPage(MessageQuery query, AtomicReference<Message> lastSent) {
+        MessagePage page = QuarkusTransaction.requiringNew()
+            .call(() -> getMessagesPort.searchAfter(query, lastSent.get()));
+        if (!page.getItems().isEmpty()) {
+            lastSent.set(page.getItems().get(page.getItems().size() - 1));
+        }
+        return page;
+    }
+
+    private static MessageCriteria toCriteria(ListMessagesRequest request) {
+        MessageCriteria.MessageCriteriaBuilder criteria = MessageCriteria.builder();
+        if (request.getStatusesList().isEmpty()) {
+            // Same default as the REST list endpoints: deleted messages are hidden
+            Arrays.stream(MessageStatus.values())
+                .filter(status -> status != MessageStatus.DELETED)
+                .forEach(criteria::status);
+        } else {
+            request.getStatusesList().forEach(status -> criteria.status(toDomain(status)));
+        }
+        if (!request.getAuthor().isBlank()) {
+            criteria.author(request.getAuthor().trim());
+        }
+        return criteria.build();
+    }
+
+    private static MessageStatus toDomain(MessageReply.Status status) {
+        if (status == MessageReply.Status.STATUS_UNSPECIFIED || status == MessageReply.Status.UNRECOGNIZED) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+        return MessageStatus.valueOf(status.name());
+    }
+
+    static MessageReply toReply(Message message) {
+        MessageReply.Builder reply = MessageReply.newBuilder()
+            .setId(message.getId().getValue())
+            .setContent(message.getContent())
+            .setAuthor(message.getAuthor())
+            .setStatus(MessageReply.Status.valueOf(message.getStatus().name()))
+            .setCreatedAt(toEpochMillis(message.getCreatedAt()))
+            .setUpdatedAt(toEpochMillis(message.getUpdatedAt()));
+        if (message.getPublishedAt() != null) {
+            reply.setPublishedAt(toEpochMillis(message.getPublishedAt()));
+        }
+        if (message.getDeletedAt() != null) {
+            reply.setDeletedAt(toEpochMillis(message.getDeletedAt()));
+        }
+        if (message.getPublishAt() != null) {
+            reply.setPublishAt(toEpochMillis(message.getPublishAt()));
+        }
+        return reply.build();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static <T> Uni<T> call(Supplier<T> action) {
+        return Uni.createFrom().item(action).onFailure().transform(MessageGrpcService::toStatus);
+    }
+
+    // Unknown IDs, forbidden transitions and invalid input; REST answers 404, 400 and 400
+    private static Throwable toStatus(Throwable error) {
+        if (error instanceof MessageNotFoundException) {
+            return Status.NOT_FOUND.withDescription(error.getMessage()).asRuntimeException();
+        }
+        if (error instanceof MessageAlreadyDeletedException || error instanceof IllegalStateException) {
+            return Status.FAILED_PRECONDITION.withDescription(error.getMessage()).asRuntimeException();
+        }
+        if (error instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(error.getMessage()).asRuntimeException();
+        }
+        return error;
+    }
+}
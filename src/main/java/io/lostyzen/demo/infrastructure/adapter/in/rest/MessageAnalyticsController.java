@@ -0,0 +1,44 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import io.lostyzen.demo.domain.port.in.AuthorActivityPort;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.AuthorActivityDto;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.logging.Logger;
+
+/**
+ * REST Adapter (Adapter In) for the approximate statistics on message creations
+ */
+@Path("/api/messages/analytics")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Messages - Analytics", description = "Approximate statistics on message creations")
+public class MessageAnalyticsController {
+
+    private static final Logger LOG = Logger.getLogger(MessageAnalyticsController.class.getName());
+
+    private final AuthorActivityPort authorActivityPort;
+
+    @Inject
+    public MessageAnalyticsController(AuthorActivityPort authorActivityPort) {
+        this.authorActivityPort = authorActivityPort;
+    }
+
+    @GET
+    @Path("/authors")
+    @Operation(summary = "Estimate the distinct and the most active authors over the latest time windows")
+    public AuthorActivityDto getAuthorActivity(@QueryParam("windows") @DefaultValue("24") int windows,
+                                               @QueryParam("top") @DefaultValue("10") int top) {
+        LOG.info("GET /api/messages/analytics/authors - Summarizing " + windows + " windows");
+
+        try {
+            return new AuthorActivityDto(authorActivityPort.getAuthorActivity(windows, top));
+        } catch (IllegalArgumentException e) {
+            LOG.warning("GET /api/messages/analytics/authors - Invalid parameters: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+}
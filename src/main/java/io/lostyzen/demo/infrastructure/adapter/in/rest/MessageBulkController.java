@@ -0,0 +1,127 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import io.lostyzen.demo.domain.model.BulkItemResult;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.port.in.BulkTransitionPort;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.cache.MessageJsonCache;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.cbor.CborMessageBodyProvider;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.BulkCountDto;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.BulkCriteriaRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.BulkIdsRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.BulkResultDto;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+/**
+ * REST Adapter (Adapter In) for bulk operations on messages
+ * One request and one transaction for many messages, with a result per message
+ */
+@Path("/api/messages/bulk")
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyProvider.APPLICATION_CBOR})
+@Consumes({MediaType.APPLICATION_JSON, CborMessageBodyProvider.APPLICATION_CBOR})
+@Tag(name = "Messages - Bulk", description = "Bulk status transitions on messages")
+public class MessageBulkController {
+
+    private static final Logger LOG = Logger.getLogger(MessageBulkController.class.getName());
+
+    private final BulkTransitionPort bulkTransitionPort;
+    private final MessageJsonCache jsonCache;
+
+    @Inject
+    public MessageBulkController(BulkTransitionPort bulkTransitionPort, MessageJsonCache jsonCache) {
+        this.bulkTransitionPort = bulkTransitionPort;
+        this.jsonCache = jsonCache;
+    }
+
+    @POST
+    @Path("/publish")
+    @Operation(summary = "Publish a list of messages")
+    public BulkResultDto publishMessages(@Valid BulkIdsRequest request) {
+        return execute("publish", request, bulkTransitionPort::publishAll);
+    }
+
+    @POST
+    @Path("/archive")
+    @Operation(summary = "Archive a list of messages")
+    public BulkResultDto archiveMessages(@Valid BulkIdsRequest request) {
+        return execute("archive", request, bulkTransitionPort::archiveAll);
+    }
+
+    @POST
+    @Path("/delete")
+    @Operation(summary = "Delete a list of messages")
+    public BulkResultDto deleteMessages(@Valid BulkIdsRequest request) {
+        return execute("delete", request, bulkTransitionPort::deleteAll);
+    }
+
+    @POST
+    @Path("/publish-matching")
+    @Operation(summary = "Publish every message matching the criteria")
+    public BulkCountDto publishMatchingMessages(BulkCriteriaRequest request) {
+        return executeMatching("publish-matching", request, bulkTransitionPort::publishMatching);
+    }
+
+    @POST
+    @Path("/archive-matching")
+    @Operation(summary = "Archive every message matching the criteria")
+    public BulkCountDto archiveMatchingMessages(BulkCriteriaRequest request) {
+        return executeMatching("archive-matching", request, bulkTransitionPort::archiveMatching);
+    }
+
+    @POST
+    @Path("/delete-matching")
+    @Operation(summary = "Delete every message matching the criteria")
+    public BulkCountDto deleteMatchingMessages(BulkCriteriaRequest request) {
+        return executeMatching("delete-matching", request, bulkTransitionPort::deleteMatching);
+    }
+
+    private BulkCountDto executeMatching(String operation, BulkCriteriaRequest request,
+                                         ToLongFunction<MessageCriteria> bulkOperation) {
+        if (request == null) {
+            throw new BadRequestException("Criteria are required");
+        }
+        MessageCriteria criteria = request.toCriteria();
+        LOG.info("POST /api/messages/bulk/" + operation + " - " + criteria);
+
+        try {
+            // Cached JSON is stamped with updatedAt, so entries changed here are never served stale
+            long affected = bulkOperation.applyAsLong(criteria);
+
+            LOG.info("POST /api/messages/bulk/" + operation + " - " + affected + " message(s) changed");
+            return new BulkCountDto(affected);
+
+        } catch (IllegalArgumentException e) {
+            LOG.warning("POST /api/messages/bulk/" + operation + " - Invalid criteria: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private BulkResultDto execute(String operation, BulkIdsRequest request,
+                                  Function<List<MessageId>, List<BulkItemResult>> bulkOperation) {
+        LOG.info("POST /api/messages/bulk/" + operation + " - " + request.getIds().size() + " ID(s)");
+
+        List<MessageId> messageIds = request.getIds().stream()
+            .map(id -> MessageId.of(id.trim()))
+            .toList();
+        List<BulkItemResult> results = bulkOperation.apply(messageIds);
+
+        results.stream()
+            .filter(BulkItemResult::isSuccess)
+            .forEach(result -> jsonCache.invalidate(result.getMessageId()));
+
+        BulkResultDto response = new BulkResultDto(results);
+        LOG.info("POST /api/messages/bulk/" + operation + " - " + response.getSucceeded() + " succeeded, "
+            + response.getFailed() + " failed");
+        return response;
+    }
+}
@@ -3,22 +3,53 @@ package io.lostyzen.demo.infrastructure.adapter.in.rest;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.Variant;
 import lombok.extern.slf4j.Slf4j;
 import io.lostyzen.demo.domain.exception.MessageAlreadyDeletedException;
 import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.ChangeCursor;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageField;
 import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageLookup;
+import io.lostyzen.demo.domain.model.MessageProjection;
+import io.lostyzen.demo.domain.model.MessageQuery;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageView;
 import io.lostyzen.demo.domain.port.in.*;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.cache.MessageJsonCache;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.cbor.CborMessageBodyProvider;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.BulkIdsRequest;
 import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.CreateMessageRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessageChangesDto;
 import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessageDto;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessageLookupDto;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessagePageDto;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessageProjectionDto;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.TimelinePageDto;
 import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.UpdateMessageRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.ViewedMessageDto;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.logging.Logger;
 
 /**
@@ -27,74 +58,293 @@ import java.util.logging.Logger;
  * Depends on Port interfaces (not implementations) for loose coupling
  */
 @Path("/api/messages")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyProvider.APPLICATION_CBOR})
+@Consumes({MediaType.APPLICATION_JSON, CborMessageBodyProvider.APPLICATION_CBOR})
 @Tag(name = "Messages", description = "Message management API with hexagonal architecture")
 public class MessageController {
 
     private static final Logger LOG = Logger.getLogger(MessageController.class.getName());
 
+    // Clients may keep responses but must revalidate them (If-None-Match) before reuse
+    private static final CacheControl REVALIDATE = noCache();
+
+    // Representations offered by the read endpoints, JSON first (default without Accept header)
+    private static final List<Variant> VARIANTS = Variant.mediaTypes(
+            MediaType.APPLICATION_JSON_TYPE, CborMessageBodyProvider.APPLICATION_CBOR_TYPE).build();
+
+    // Same limit as the bulk endpoints (BulkIdsRequest)
+    private static final int MAX_LOOKUP_IDS = 1000;
+
+    // Page size bounds of the delta sync feed
+    private static final int DEFAULT_CHANGES_LIMIT = 100;
+    private static final int MAX_CHANGES_LIMIT = 1000;
+
     // ✅ Dependencies on PORT INTERFACES (not concrete classes)
     private final CreateMessagePort createMessagePort;
     private final GetMessagesPort getMessagesPort;
     private final UpdateMessagePort updateMessagePort;
     private final PublishMessagePort publishMessagePort;
     private final DeleteMessagePort deleteMessagePort;
+    private final ArchiveMessagePort archiveMessagePort;
+    private final MessageViewsPort messageViewsPort;
+
+    // Pre-encoded JSON of messages, so hot reads skip DTO mapping and Jackson
+    private final MessageJsonCache jsonCache;
 
     @Inject
     public MessageController(CreateMessagePort createMessagePort,
                            GetMessagesPort getMessagesPort,
                            UpdateMessagePort updateMessagePort,
                            PublishMessagePort publishMessagePort,
-                           DeleteMessagePort deleteMessagePort) {
+                           DeleteMessagePort deleteMessagePort,
+                           ArchiveMessagePort archiveMessagePort,
+                           MessageViewsPort messageViewsPort,
+                           MessageJsonCache jsonCache) {
         this.createMessagePort = createMessagePort;
         this.getMessagesPort = getMessagesPort;
         this.updateMessagePort = updateMessagePort;
         this.publishMessagePort = publishMessagePort;
         this.deleteMessagePort = deleteMessagePort;
+        this.archiveMessagePort = archiveMessagePort;
+        this.messageViewsPort = messageViewsPort;
+        this.jsonCache = jsonCache;
     }
 
     @GET
-    @Operation(summary = "Retrieve all active messages")
-    public List<MessageDto> getAllMessages() {
+    @Operation(summary = "Retrieve all active messages, or the messages listed in ?ids=")
+    public Response getAllMessages(@QueryParam("fields") String fields,
+                                   @QueryParam("view") String view,
+                                   @QueryParam("ids") String ids,
+                                   @Context Request request) {
+        if (ids != null) {
+            LOG.info("GET /api/messages?ids= - Looking up messages");
+            List<String> idList = Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .toList();
+            if (idList.isEmpty() || idList.size() > MAX_LOOKUP_IDS) {
+                throw new BadRequestException("Between 1 and " + MAX_LOOKUP_IDS + " IDs are required");
+            }
+            return Response.ok(lookup(idList)).build();
+        }
+
         LOG.info("GET /api/messages - Retrieving all active messages");
 
-        List<Message> messages = getMessagesPort.getAllActive();
-        List<MessageDto> result = messages.stream()
-            .map(MessageDto::new)
-            .toList();
+        return conditionalList(request, parseView(fields, view),
+            () -> {
+                List<Message> result = getMessagesPort.getAllActive();
 
-        LOG.info("GET /api/messages - Returning " + result.size() + " message(s)");
-        return result;
+                LOG.info("GET /api/messages - Returning " + result.size() + " message(s)");
+                return result;
+            },
+            getMessagesPort::getAllActive);
+    }
+
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Retrieve a message by ID")
+    public Response getMessage(@PathParam("id") String id, @Context Request request,
+                               @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        LOG.info("GET /api/messages/" + id);
+
+        try {
+            MediaType mediaType = negotiate(request);
+            Message message = getMessagesPort.getById(MessageId.of(id));
+            // The stored gzip variant is its own representation, so it gets its own tag
+            byte[] gzip = isJson(mediaType) && MessageJsonCache.acceptsGzip(acceptEncoding)
+                ? jsonCache.getGzip(message)
+                : null;
+            String version = message.getUpdatedAt().toString();
+            EntityTag etag = etagOf(gzip != null ? version + "+gzip" : version, mediaType);
+
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+            if (notModified != null) {
+                LOG.fine("GET /api/messages/" + id + " - Not modified");
+                return notModified.tag(etag).cacheControl(REVALIDATE).build();
+            }
+
+            // Only a full body counts as a view: conditional polling must not inflate the ranking
+            messageViewsPort.recordView(message);
+            if (gzip != null) {
+                return Response.ok(gzip, mediaType)
+                        .tag(etag)
+                        .cacheControl(REVALIDATE)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+            Object body = isJson(mediaType) ? jsonCache.get(message) : new MessageDto(message);
+            return Response.ok(body, mediaType)
+                    .tag(etag)
+                    .cacheControl(REVALIDATE)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+
+        } catch (MessageNotFoundException e) {
+            LOG.warning("GET /api/messages/" + id + " - Message not found");
+            throw new NotFoundException(e.getMessage());
+        }
+    }
+
+    @GET
+    @Path("/changes")
+    @Operation(summary = "Retrieve the messages changed since a cursor, deletions included")
+    public MessageChangesDto getChanges(@QueryParam("since") String since,
+                                        @QueryParam("limit") @DefaultValue("" + DEFAULT_CHANGES_LIMIT) int limit) {
+        LOG.info("GET /api/messages/changes - since " + since);
+
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_CHANGES_LIMIT);
+        }
+        ChangeCursor cursor;
+        try {
+            cursor = since == null || since.isBlank() ? null : ChangeCursor.decode(since.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + since);
+        }
+
+        MessageChangesDto response = new MessageChangesDto(getMessagesPort.getChangesSince(cursor, limit));
+        LOG.info("GET /api/messages/changes - Returning " + response.getChanges().size() + " change(s)");
+        return response;
+    }
+
+    @GET
+    @Path("/feed")
+    @Operation(summary = "Retrieve the most recently published messages, newest first")
+    public Response getFeed(@QueryParam("limit") @DefaultValue("" + MessageQuery.DEFAULT_PAGE_SIZE) int limit,
+                            @Context Request request) {
+        LOG.info("GET /api/messages/feed - Latest " + limit + " published message(s)");
+
+        if (limit < 1 || limit > MessageQuery.MAX_PAGE_SIZE) {
+            throw new BadRequestException("Limit must be between 1 and " + MessageQuery.MAX_PAGE_SIZE);
+        }
+        return conditionalList(request, null, () -> getMessagesPort.getRecentlyPublished(limit), null);
+    }
+
+    @GET
+    @Path("/top")
+    @Operation(summary = "Retrieve the most viewed published messages with their view counts")
+    public List<ViewedMessageDto> getMostViewed(@QueryParam("limit") @DefaultValue("10") int limit) {
+        LOG.info("GET /api/messages/top - Top " + limit + " viewed message(s)");
+
+        try {
+            return messageViewsPort.getMostViewed(limit).stream()
+                .map(ViewedMessageDto::new)
+                .toList();
+        } catch (IllegalArgumentException e) {
+            LOG.warning("GET /api/messages/top - Invalid limit: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    @GET
+    @Path("/query")
+    @Operation(summary = "Search messages with combined filters, sorting and pagination")
+    public MessagePageDto queryMessages(@QueryParam("status") List<String> statuses,
+                                        @QueryParam("author") String author,
+                                        @QueryParam("createdFrom") String createdFrom,
+                                        @QueryParam("createdTo") String createdTo,
+                                        @QueryParam("publishedFrom") String publishedFrom,
+                                        @QueryParam("publishedTo") String publishedTo,
+                                        @QueryParam("sort") @DefaultValue("createdAt") String sort,
+                                        @QueryParam("order") @DefaultValue("desc") String order,
+                                        @QueryParam("page") @DefaultValue("0") int page,
+                                        @QueryParam("size") @DefaultValue("" + MessageQuery.DEFAULT_PAGE_SIZE) int size) {
+        LOG.info("GET /api/messages/query - Searching messages");
+
+        if (!"asc".equalsIgnoreCase(order) && !"desc".equalsIgnoreCase(order)) {
+            throw new BadRequestException("Invalid order: " + order);
+        }
+        try {
+            MessageCriteria.MessageCriteriaBuilder criteria = MessageCriteria.builder()
+                .author(author == null || author.isBlank() ? null : author.trim())
+                .createdFrom(parseDateTime(createdFrom))
+                .createdTo(parseDateTime(createdTo))
+                .publishedFrom(parseDateTime(publishedFrom))
+                .publishedTo(parseDateTime(publishedTo));
+            if (statuses.isEmpty()) {
+                // Like the other list endpoints, deleted messages only show up when asked for
+                Arrays.stream(MessageStatus.values())
+                    .filter(status -> status != MessageStatus.DELETED)
+                    .forEach(criteria::status);
+            } else {
+                statuses.forEach(status -> criteria.status(MessageStatus.valueOf(status.trim().toUpperCase())));
+            }
+
+            MessageQuery query = new MessageQuery(criteria.build(), MessageField.fromFieldName(sort),
+                "asc".equalsIgnoreCase(order), page, size);
+            MessagePageDto response = new MessagePageDto(getMessagesPort.search(query));
+
+            LOG.info("GET /api/messages/query - Returning " + response.getItems().size() + " message(s)");
+            return response;
+
+        } catch (IllegalArgumentException e) {
+            LOG.warning("GET /api/messages/query - Invalid query: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
     }
 
     @GET
     @Path("/status/{status}")
     @Operation(summary = "Retrieve messages by status")
-    public List<MessageDto> getMessagesByStatus(@PathParam("status") String status) {
+    public Response getMessagesByStatus(@PathParam("status") String status,
+                                        @QueryParam("fields") String fields,
+                                        @QueryParam("view") String view,
+                                        @Context Request request) {
         LOG.info("GET /api/messages/status/" + status);
 
+        MessageStatus messageStatus;
         try {
-            MessageStatus messageStatus = MessageStatus.valueOf(status.toUpperCase());
-            List<Message> messages = getMessagesPort.getByStatus(messageStatus);
-            return messages.stream()
-                .map(MessageDto::new)
-                .toList();
+            messageStatus = MessageStatus.valueOf(status.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new BadRequestException("Invalid status: " + status);
         }
+
+        return conditionalList(request, parseView(fields, view),
+            () -> getMessagesPort.getByStatus(messageStatus),
+            messageView -> getMessagesPort.getByStatus(messageStatus, messageView));
     }
 
     @GET
     @Path("/author/{author}")
     @Operation(summary = "Retrieve messages by author")
-    public List<MessageDto> getMessagesByAuthor(@PathParam("author") String author) {
+    public Response getMessagesByAuthor(@PathParam("author") String author,
+                                        @QueryParam("fields") String fields,
+                                        @QueryParam("view") String view,
+                                        @Context Request request) {
         LOG.info("GET /api/messages/author/" + author);
 
-        List<Message> messages = getMessagesPort.getByAuthor(author);
-        return messages.stream()
-            .map(MessageDto::new)
-            .toList();
+        return conditionalList(request, parseView(fields, view),
+            () -> getMessagesPort.getByAuthor(author),
+            messageView -> getMessagesPort.getByAuthor(author, messageView));
+    }
+
+    @GET
+    @Path("/author/{author}/timeline")
+    @Operation(summary = "Retrieve an author's message summaries, newest first, one page at a time")
+    public TimelinePageDto getAuthorTimeline(@PathParam("author") String author,
+                                             @QueryParam("page") @DefaultValue("0") int page,
+                                             @QueryParam("size") @DefaultValue("" + MessageQuery.DEFAULT_PAGE_SIZE) int size) {
+        LOG.info("GET /api/messages/author/" + author + "/timeline - page " + page);
+
+        try {
+            TimelinePageDto response = new TimelinePageDto(getMessagesPort.getTimeline(author, page, size));
+
+            LOG.info("GET /api/messages/author/" + author + "/timeline - Returning " + response.getItems().size() + " message(s)");
+            return response;
+
+        } catch (IllegalArgumentException e) {
+            LOG.warning("GET /api/messages/author/" + author + "/timeline - Invalid page: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    @POST
+    @Path("/lookup")
+    @Operation(summary = "Retrieve several messages by ID")
+    public MessageLookupDto lookupMessages(@Valid BulkIdsRequest request) {
+        LOG.info("POST /api/messages/lookup - " + request.getIds().size() + " ID(s)");
+        return lookup(request.getIds());
     }
 
     @POST
@@ -131,6 +381,7 @@ public class MessageController {
         try {
             MessageId messageId = MessageId.of(id);
             Message message = updateMessagePort.execute(messageId, request.getContent().trim());
+            jsonCache.invalidate(messageId);
 
             LOG.info("PUT /api/messages/" + id + " - Message updated successfully");
             return new MessageDto(message);
@@ -153,6 +404,7 @@ public class MessageController {
         try {
             MessageId messageId = MessageId.of(id);
             Message message = publishMessagePort.execute(messageId);
+            jsonCache.invalidate(messageId);
 
             LOG.info("POST /api/messages/" + id + "/publish - Message published successfully");
             return new MessageDto(message);
@@ -166,6 +418,29 @@ public class MessageController {
         }
     }
 
+    @POST
+    @Path("/{id}/archive")
+    @Operation(summary = "Archive a message")
+    public MessageDto archiveMessage(@PathParam("id") String id) {
+        LOG.info("POST /api/messages/" + id + "/archive - Archiving message");
+
+        try {
+            MessageId messageId = MessageId.of(id);
+            Message message = archiveMessagePort.execute(messageId);
+            jsonCache.invalidate(messageId);
+
+            LOG.info("POST /api/messages/" + id + "/archive - Message archived successfully");
+            return new MessageDto(message);
+
+        } catch (MessageNotFoundException e) {
+            LOG.warning("POST /api/messages/" + id + "/archive - Message not found");
+            throw new NotFoundException(e.getMessage());
+        } catch (IllegalStateException e) {
+            LOG.warning("POST /api/messages/" + id + "/archive - Error: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
     @DELETE
     @Path("/{id}")
     @Operation(summary = "Delete a message")
@@ -175,6 +450,7 @@ public class MessageController {
         try {
             MessageId messageId = MessageId.of(id);
             deleteMessagePort.execute(messageId);
+            jsonCache.invalidate(messageId);
 
             LOG.info("DELETE /api/messages/" + id + " - Message deleted successfully");
             return Response.noContent().build();
@@ -187,4 +463,112 @@ public class MessageController {
             throw new BadRequestException(e.getMessage());
         }
     }
+
+    private MessageLookupDto lookup(List<String> ids) {
+        MessageLookup lookup = getMessagesPort.getByIds(ids.stream()
+            .map(id -> MessageId.of(id.trim()))
+            .toList());
+
+        LOG.info("Lookup - " + lookup.getFound().size() + " found, " + lookup.getMissing().size() + " missing");
+        return new MessageLookupDto(lookup);
+    }
+
+    /**
+     * Answers a list request with 304 when the client already holds the current collection version.
+     * The version is read before the list so the returned data is never older than its tag.
+     * Without a view, full messages are written from the JSON cache; with one, only the view fields are loaded.
+     */
+    private Response conditionalList(Request request, MessageView view,
+                                     Supplier<List<Message>> fullLoader,
+                                     Function<MessageView, List<MessageProjection>> projectedLoader) {
+        MediaType mediaType = negotiate(request);
+        EntityTag etag = etagOf(getMessagesPort.getCollectionVersion(), mediaType);
+
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+        if (notModified != null) {
+            return notModified.tag(etag).cacheControl(REVALIDATE).build();
+        }
+
+        Object body;
+        if (view == null && isJson(mediaType)) {
+            List<Message> messages = fullLoader.get();
+            body = (StreamingOutput) output -> jsonCache.writeArray(messages, output);
+        } else if (view == null) {
+            body = fullLoader.get().stream()
+                .map(MessageDto::new)
+                .toList();
+        } else {
+            body = projectedLoader.apply(view).stream()
+                .map(MessageProjectionDto::new)
+                .toList();
+        }
+
+        return Response.ok(body, mediaType)
+                .tag(etag)
+                .cacheControl(REVALIDATE)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    /**
+     * Builds the requested view from ?fields= and ?view=, or null for the full representation.
+     * view=summary returns id, author, status and an 80-char content excerpt; fields= overrides the field list.
+     */
+    private static MessageView parseView(String fields, String view) {
+        boolean summary = "summary".equalsIgnoreCase(view);
+        if (view != null && !summary && !"full".equalsIgnoreCase(view)) {
+            throw new BadRequestException("Invalid view: " + view);
+        }
+        if (fields == null || fields.isBlank()) {
+            return summary ? MessageView.summary() : null;
+        }
+
+        try {
+            Set<MessageField> selected = Arrays.stream(fields.split(","))
+                .filter(name -> !name.isBlank())
+                .map(MessageField::fromFieldName)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(MessageField.class)));
+            return summary
+                ? MessageView.of(selected, MessageView.SUMMARY_CONTENT_LENGTH)
+                : MessageView.of(selected);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    private static MediaType negotiate(Request request) {
+        Variant variant = request.selectVariant(VARIANTS);
+        if (variant == null) {
+            throw new NotAcceptableException();
+        }
+        return variant.getMediaType();
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        return MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType);
+    }
+
+    // Every domain write refreshes updatedAt / the collection version; each encoding gets its own tag
+    // Plain "no-cache": a new CacheControl also sets no-transform by default
+    private static CacheControl noCache() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+
+    private static EntityTag etagOf(String version, MediaType mediaType) {
+        return new EntityTag(isJson(mediaType) ? version : version + "+cbor");
+    }
 }
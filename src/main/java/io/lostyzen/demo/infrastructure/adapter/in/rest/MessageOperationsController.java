@@ -0,0 +1,77 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import io.lostyzen.demo.domain.exception.BatchAbortedException;
+import io.lostyzen.demo.domain.model.MessageOperation;
+import io.lostyzen.demo.domain.model.OperationResult;
+import io.lostyzen.demo.domain.port.in.ExecuteOperationsPort;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.cache.MessageJsonCache;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.cbor.CborMessageBodyProvider;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.OperationRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.OperationsRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.OperationsResultDto;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * REST Adapter (Adapter In) running a batch of heterogeneous operations in one request
+ * Lets a client create, edit and publish a message in a single round trip and a single transaction
+ */
+@Path("/api/messages/ops")
+@Produces({MediaType.APPLICATION_JSON, CborMessageBodyProvider.APPLICATION_CBOR})
+@Consumes({MediaType.APPLICATION_JSON, CborMessageBodyProvider.APPLICATION_CBOR})
+@Tag(name = "Messages - Operations", description = "Ordered batches of message operations")
+public class MessageOperationsController {
+
+    private static final Logger LOG = Logger.getLogger(MessageOperationsController.class.getName());
+
+    private final ExecuteOperationsPort executeOperationsPort;
+    private final MessageJsonCache jsonCache;
+
+    @Inject
+    public MessageOperationsController(ExecuteOperationsPort executeOperationsPort, MessageJsonCache jsonCache) {
+        this.executeOperationsPort = executeOperationsPort;
+        this.jsonCache = jsonCache;
+    }
+
+    @POST
+    @Operation(summary = "Execute an ordered batch of operations in one transaction")
+    public Response executeOperations(@Valid OperationsRequest request) {
+        LOG.info("POST /api/messages/ops - " + request.getOperations().size() + " operation(s)");
+
+        List<MessageOperation> operations = new ArrayList<>(request.getOperations().size());
+        for (int index = 0; index < request.getOperations().size(); index++) {
+            OperationRequest operation = request.getOperations().get(index);
+            try {
+                operations.add(operation.toOperation());
+            } catch (IllegalArgumentException e) {
+                LOG.warning("POST /api/messages/ops - Invalid operation " + index + ": " + e.getMessage());
+                throw new BadRequestException("Operation " + index + ": " + e.getMessage());
+            }
+        }
+
+        try {
+            List<OperationResult> results = executeOperationsPort.execute(operations);
+            results.stream()
+                .filter(OperationResult::isSuccess)
+                .forEach(result -> jsonCache.invalidate(result.getMessage().getId()));
+
+            LOG.info("POST /api/messages/ops - " + results.size() + " operation(s) committed");
+            return Response.ok(new OperationsResultDto(true, results)).build();
+
+        } catch (BatchAbortedException e) {
+            LOG.warning("POST /api/messages/ops - Batch rolled back: " + e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new OperationsResultDto(false, e.getResults()))
+                    .build();
+        }
+    }
+}
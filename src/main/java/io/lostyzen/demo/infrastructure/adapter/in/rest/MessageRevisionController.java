@@ -0,0 +1,62 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.exception.RevisionNotFoundException;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.port.in.GetRevisionsPort;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessageRevisionDto;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * REST Adapter (Adapter In) for the content history of messages
+ */
+@Path("/api/messages/{id}/revisions")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Messages - Revisions", description = "Content history of messages")
+public class MessageRevisionController {
+
+    private static final Logger LOG = Logger.getLogger(MessageRevisionController.class.getName());
+
+    private final GetRevisionsPort getRevisionsPort;
+
+    @Inject
+    public MessageRevisionController(GetRevisionsPort getRevisionsPort) {
+        this.getRevisionsPort = getRevisionsPort;
+    }
+
+    @GET
+    @Operation(summary = "Retrieve every content revision of a message, oldest first")
+    public List<MessageRevisionDto> getRevisions(@PathParam("id") String id) {
+        LOG.info("GET /api/messages/" + id + "/revisions - Retrieving revisions");
+
+        try {
+            return getRevisionsPort.getRevisions(MessageId.of(id)).stream()
+                .map(MessageRevisionDto::new)
+                .toList();
+        } catch (MessageNotFoundException e) {
+            LOG.warning("GET /api/messages/" + id + "/revisions - Message not found");
+            throw new NotFoundException(e.getMessage());
+        }
+    }
+
+    @GET
+    @Path("/{revision}")
+    @Operation(summary = "Rebuild one content revision of a message")
+    public MessageRevisionDto getRevision(@PathParam("id") String id, @PathParam("revision") int revision) {
+        LOG.info("GET /api/messages/" + id + "/revisions/" + revision + " - Rebuilding revision");
+
+        try {
+            return new MessageRevisionDto(getRevisionsPort.getRevision(MessageId.of(id), revision));
+        } catch (MessageNotFoundException | RevisionNotFoundException e) {
+            LOG.warning("GET /api/messages/" + id + "/revisions/" + revision + " - Not found");
+            throw new NotFoundException(e.getMessage());
+        }
+    }
+}
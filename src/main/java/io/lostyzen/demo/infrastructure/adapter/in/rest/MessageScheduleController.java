@@ -0,0 +1,81 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.port.in.SchedulePublicationPort;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.cache.MessageJsonCache;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessageDto;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.SchedulePublicationRequest;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.logging.Logger;
+
+/**
+ * REST Adapter (Adapter In) for scheduled publication of messages
+ * The message goes live on its own at publishAt; no external call to /publish is needed
+ */
+@Path("/api/messages/{id}/schedule")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Messages - Schedule", description = "Scheduled publication of messages")
+public class MessageScheduleController {
+
+    private static final Logger LOG = Logger.getLogger(MessageScheduleController.class.getName());
+
+    private final SchedulePublicationPort schedulePublicationPort;
+    private final MessageJsonCache jsonCache;
+
+    @Inject
+    public MessageScheduleController(SchedulePublicationPort schedulePublicationPort, MessageJsonCache jsonCache) {
+        this.schedulePublicationPort = schedulePublicationPort;
+        this.jsonCache = jsonCache;
+    }
+
+    @PUT
+    @Operation(summary = "Schedule or reschedule the publication of a message")
+    public MessageDto schedulePublication(@PathParam("id") String id, @Valid SchedulePublicationRequest request) {
+        LOG.info("PUT /api/messages/" + id + "/schedule - Scheduling publication at " + request.getPublishAt());
+
+        try {
+            MessageId messageId = MessageId.of(id);
+            Message message = schedulePublicationPort.schedule(messageId, request.getPublishAt());
+            jsonCache.invalidate(messageId);
+
+            LOG.info("PUT /api/messages/" + id + "/schedule - Publication scheduled successfully");
+            return new MessageDto(message);
+
+        } catch (MessageNotFoundException e) {
+            LOG.warning("PUT /api/messages/" + id + "/schedule - Message not found");
+            throw new NotFoundException(e.getMessage());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            LOG.warning("PUT /api/messages/" + id + "/schedule - Error: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    @DELETE
+    @Operation(summary = "Cancel the scheduled publication of a message")
+    public MessageDto cancelPublication(@PathParam("id") String id) {
+        LOG.info("DELETE /api/messages/" + id + "/schedule - Cancelling scheduled publication");
+
+        try {
+            MessageId messageId = MessageId.of(id);
+            Message message = schedulePublicationPort.cancel(messageId);
+            jsonCache.invalidate(messageId);
+            return new MessageDto(message);
+
+        } catch (MessageNotFoundException e) {
+            LOG.warning("DELETE /api/messages/" + id + "/schedule - Message not found");
+            throw new NotFoundException(e.getMessage());
+        } catch (IllegalStateException e) {
+            LOG.warning("DELETE /api/messages/" + id + "/schedule - Error: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+}
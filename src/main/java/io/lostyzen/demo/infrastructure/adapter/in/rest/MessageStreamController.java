@@ -0,0 +1,69 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.stream.MessageStreamBroadcaster;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * REST Adapter (Adapter In) pushing message lifecycle events as Server-Sent Events
+ * Replaces polling of the list endpoints: clients keep one connection and receive changes as they commit
+ */
+@Path("/api/messages/stream")
+@Tag(name = "Messages - Stream", description = "Server-Sent Events feed of message changes")
+public class MessageStreamController {
+
+    private static final Logger LOG = Logger.getLogger(MessageStreamController.class.getName());
+
+    private final MessageStreamBroadcaster broadcaster;
+
+    @Inject
+    public MessageStreamController(MessageStreamBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @GET
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Operation(summary = "Stream created, updated, published, archived and deleted messages")
+    public void streamMessages(@QueryParam("status") List<String> statuses,
+                               @QueryParam("author") String author,
+                               @HeaderParam("Last-Event-ID") String lastEventId,
+                               @Context SseEventSink sink,
+                               @Context Sse sse) {
+        LOG.info("GET /api/messages/stream - New subscriber");
+
+        Set<MessageStatus> statusFilter = EnumSet.noneOf(MessageStatus.class);
+        try {
+            statuses.forEach(status -> statusFilter.add(MessageStatus.valueOf(status.trim().toUpperCase())));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid status: " + statuses);
+        }
+
+        broadcaster.subscribe(sink, sse, statusFilter,
+            author == null || author.isBlank() ? null : author.trim(),
+            parseLastEventId(lastEventId));
+    }
+
+    // An unreadable ID cannot be resumed from: -1 makes the broadcaster ask for a resync
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
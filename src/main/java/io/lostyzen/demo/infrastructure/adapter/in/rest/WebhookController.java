@@ -0,0 +1,87 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import io.lostyzen.demo.domain.exception.WebhookNotFoundException;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+import io.lostyzen.demo.domain.port.in.ManageWebhooksPort;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.CreateWebhookRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.WebhookDto;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * REST Adapter (Adapter In) for webhook subscriptions
+ * Deliveries happen in the background and never slow down the message endpoints
+ */
+@Path("/api/webhooks")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Webhooks", description = "HTTP callbacks on message events")
+public class WebhookController {
+
+    private static final Logger LOG = Logger.getLogger(WebhookController.class.getName());
+
+    private final ManageWebhooksPort manageWebhooksPort;
+
+    @Inject
+    public WebhookController(ManageWebhooksPort manageWebhooksPort) {
+        this.manageWebhooksPort = manageWebhooksPort;
+    }
+
+    @POST
+    @Operation(summary = "Subscribe an endpoint to message events")
+    public Response subscribe(@Valid CreateWebhookRequest request) {
+        LOG.info("POST /api/webhooks - Subscribing " + request.getUrl());
+
+        try {
+            Set<MessageEvent.Type> eventTypes = EnumSet.noneOf(MessageEvent.Type.class);
+            if (request.getEventTypes() != null) {
+                request.getEventTypes().forEach(type -> eventTypes.add(MessageEvent.Type.valueOf(type.trim().toUpperCase())));
+            }
+            WebhookSubscription subscription = manageWebhooksPort.subscribe(request.getUrl(), eventTypes);
+
+            LOG.info("POST /api/webhooks - Subscription created with ID: " + subscription.getId());
+            return Response.status(Response.Status.CREATED)
+                .entity(new WebhookDto(subscription))
+                .build();
+
+        } catch (IllegalArgumentException e) {
+            LOG.warning("POST /api/webhooks - Error: " + e.getMessage());
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    @GET
+    @Operation(summary = "Retrieve all webhook subscriptions")
+    public List<WebhookDto> getSubscriptions() {
+        LOG.info("GET /api/webhooks - Retrieving subscriptions");
+        return manageWebhooksPort.getAll().stream()
+            .map(WebhookDto::new)
+            .toList();
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @Operation(summary = "Remove a webhook subscription")
+    public Response unsubscribe(@PathParam("id") String id) {
+        LOG.info("DELETE /api/webhooks/" + id + " - Removing subscription");
+
+        try {
+            manageWebhooksPort.unsubscribe(id);
+            return Response.noContent().build();
+        } catch (WebhookNotFoundException e) {
+            LOG.warning("DELETE /api/webhooks/" + id + " - Subscription not found");
+            throw new NotFoundException(e.getMessage());
+        }
+    }
+}
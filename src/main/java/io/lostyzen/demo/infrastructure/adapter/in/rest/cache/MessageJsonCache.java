@@ -0,0 +1,276 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessageDto;
+import io.lostyzen.demo.infrastructure.adapter.out.cluster.ClusterInvalidation;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of pre-encoded JSON representations of messages
+ * Entries are keyed by message ID and stamped with the message updatedAt, so an entry
+ * is only served for the exact version it was encoded from, whoever wrote the message.
+ * Memory is bounded by a byte budget; the oldest entries are evicted first.
+ * A gzip variant is compressed on the first request that accepts it and kept with the entry: compressing
+ * a single message costs several times its encoding, while serving the stored variant costs nothing.
+ * Entries stay on the heap: they are small (a few hundred bytes to a few KB), a hit already takes well
+ * under a microsecond, and a direct buffer would add a copy into the response on every read.
+ */
+@ApplicationScoped
+public class MessageJsonCache {
+
+    private static final Logger LOG = Logger.getLogger(MessageJsonCache.class);
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] ARRAY_END = {']'};
+    // Stored in place of a gzip variant that would not be smaller than the JSON itself
+    private static final byte[] NOT_SMALLER = new byte[0];
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedKeys = new AtomicInteger();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong compressions = new AtomicLong();
+
+    @Inject
+    public MessageJsonCache(ObjectMapper objectMapper,
+                            @ConfigProperty(name = "messages.json-cache.max-bytes", defaultValue = "16777216")
+                            long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the JSON encoding of the message, encoding and caching it on a miss
+     */
+    public byte[] get(Message message) {
+        return entry(message).json;
+    }
+
+    /**
+     * Returns the gzip encoding of the message JSON, compressing it once per version,
+     * or null when compression would not make it smaller
+     */
+    public byte[] getGzip(Message message) {
+        Entry entry = entry(message);
+        byte[] gzip = entry.gzip;
+        if (gzip == null) {
+            byte[] compressed = compress(entry.json);
+            gzip = compressed.length < entry.json.length ? compressed : NOT_SMALLER;
+            compressions.incrementAndGet();
+            synchronized (entry) {
+                if (entry.gzip == null) {
+                    entry.gzip = gzip;
+                    if (!entry.released) {
+                        usedBytes.addAndGet(gzip.length);
+                    }
+                }
+            }
+            evictOverBudget();
+        }
+        return gzip == NOT_SMALLER ? null : gzip;
+    }
+
+    /**
+     * Tells whether an Accept-Encoding header value accepts gzip
+     * A q-value that cannot be parsed counts as not acceptable: the plain body is always a valid answer
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.toLowerCase().startsWith("q=") && !isPositiveWeight(parameter.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPositiveWeight(String qValue) {
+        try {
+            return Double.parseDouble(qValue.trim()) > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the messages as a JSON array, reusing cached encodings
+     */
+    public void writeArray(List<Message> messages, OutputStream output) throws IOException {
+        output.write(ARRAY_START);
+        for (int i = 0; i < messages.size(); i++) {
+            if (i > 0) {
+                output.write(ARRAY_SEPARATOR);
+            }
+            output.write(get(messages.get(i)));
+        }
+        output.write(ARRAY_END);
+    }
+
+    /**
+     * Drops the cached encoding of a message, typically right after a write
+     */
+    public void invalidate(MessageId messageId) {
+        Entry removed = entries.remove(messageId.getValue());
+        if (removed != null) {
+            release(removed);
+        }
+    }
+
+    // Entries are version-stamped, so this only frees the memory of an encoding no longer served
+    void onClusterInvalidation(@Observes ClusterInvalidation invalidation) {
+        invalidate(invalidation.messageId());
+    }
+
+    public Stats stats() {
+        return new Stats(entries.size(), usedBytes.get(), maxBytes, hits.get(), misses.get(), evictions.get(),
+            compressions.get());
+    }
+
+    private Entry entry(Message message) {
+        String id = message.getId().getValue();
+        String version = message.getUpdatedAt().toString();
+
+        Entry entry = entries.get(id);
+        if (entry != null && entry.version.equals(version)) {
+            hits.incrementAndGet();
+            return entry;
+        }
+
+        misses.incrementAndGet();
+        entry = new Entry(version, encode(message));
+        put(id, entry);
+        return entry;
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private byte[] encode(Message message) {
+        try {
+            return objectMapper.writeValueAsBytes(new MessageDto(message));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void put(String id, Entry entry) {
+        if (entry.json.length > maxBytes) {
+            entry.released = true; // Served once, never accounted
+            return;
+        }
+
+        usedBytes.addAndGet(entry.json.length);
+        Entry previous = entries.put(id, entry);
+        if (previous != null) {
+            release(previous);
+        } else {
+            insertionOrder.add(id);
+            queuedKeys.incrementAndGet();
+        }
+        evictOverBudget();
+
+        // Invalidated IDs leave stale keys in the queue; compact it when it drifts too far
+        if (queuedKeys.get() > 2 * entries.size() + 1024) {
+            synchronized (insertionOrder) {
+                insertionOrder.retainAll(entries.keySet());
+                queuedKeys.set(insertionOrder.size());
+            }
+            LOG.debugf("JSON cache insertion queue compacted to %d keys", queuedKeys.get());
+        }
+    }
+
+    private void evictOverBudget() {
+        while (usedBytes.get() > maxBytes) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            queuedKeys.decrementAndGet();
+            Entry evicted = entries.remove(eldest);
+            if (evicted != null) {
+                release(evicted);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    // A gzip variant may be attached concurrently: the entry monitor keeps its bytes counted exactly once
+    private void release(Entry entry) {
+        synchronized (entry) {
+            if (!entry.released) {
+                entry.released = true;
+                usedBytes.addAndGet(-entry.size());
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final String version;
+        private final byte[] json;
+        private volatile byte[] gzip;
+        private boolean released; // Guarded by this entry's monitor
+
+        private Entry(String version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+
+        private long size() {
+            byte[] variant = gzip;
+            return json.length + (variant != null ? variant.length : 0);
+        }
+    }
+
+    /**
+     * Snapshot of the cache memory accounting
+     *
+     * @param usedBytes    JSON entries and their stored gzip variants
+     * @param compressions gzip variants computed, each one once per message version
+     */
+    public record Stats(int entries, long usedBytes, long maxBytes, long hits, long misses, long evictions,
+                        long compressions) {
+    }
+}
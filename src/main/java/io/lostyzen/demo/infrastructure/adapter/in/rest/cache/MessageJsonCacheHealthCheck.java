@@ -0,0 +1,37 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.cache;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the JSON cache memory accounting on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class MessageJsonCacheHealthCheck implements HealthCheck {
+
+    private final MessageJsonCache cache;
+
+    @Inject
+    public MessageJsonCacheHealthCheck(MessageJsonCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        MessageJsonCache.Stats stats = cache.stats();
+        return HealthCheckResponse.named("message-json-cache")
+                .up()
+                .withData("entries", stats.entries())
+                .withData("usedBytes", stats.usedBytes())
+                .withData("maxBytes", stats.maxBytes())
+                .withData("hits", stats.hits())
+                .withData("misses", stats.misses())
+                .withData("evictions", stats.evictions())
+                .withData("compressions", stats.compressions())
+                .build();
+    }
+}
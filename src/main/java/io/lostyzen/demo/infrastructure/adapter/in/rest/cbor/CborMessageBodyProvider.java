@@ -0,0 +1,79 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.cbor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * JAX-RS reader/writer for the compact binary CBOR encoding (application/cbor)
+ * Uses the same Jackson annotations as the JSON DTOs, with timestamps encoded as epoch milliseconds
+ */
+@Provider
+@Produces(CborMessageBodyProvider.APPLICATION_CBOR)
+@Consumes(CborMessageBodyProvider.APPLICATION_CBOR)
+public class CborMessageBodyProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(APPLICATION_CBOR);
+
+    private static final ObjectMapper MAPPER = createMapper();
+
+    public static ObjectMapper createMapper() {
+        ObjectMapper mapper = new CBORMapper();
+        mapper.registerModule(new EpochMillisTimeModule());
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        // The container owns the streams
+        mapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        mapper.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return mapper;
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return APPLICATION_CBOR_TYPE.isCompatible(mediaType);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        try {
+            return MAPPER.readValue(entityStream, MAPPER.constructType(genericType));
+        } catch (IOException e) {
+            throw new WebApplicationException("Malformed CBOR body: " + e.getMessage(), Response.Status.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        // Pre-encoded bodies are already bytes, never re-encode them
+        return APPLICATION_CBOR_TYPE.isCompatible(mediaType)
+            && !byte[].class.equals(type)
+            && !StreamingOutput.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        MAPPER.writerFor(MAPPER.constructType(genericType)).writeValue(entityStream, value);
+    }
+}
@@ -0,0 +1,40 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.cbor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Jackson module encoding LocalDateTime as epoch milliseconds instead of ISO strings
+ * Domain timestamps are taken in the server time zone, which is used for the conversion
+ */
+public class EpochMillisTimeModule extends SimpleModule {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    public EpochMillisTimeModule() {
+        super("EpochMillisTimeModule");
+        addSerializer(LocalDateTime.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+                    throws IOException {
+                generator.writeNumber(value.atZone(ZONE).toInstant().toEpochMilli());
+            }
+        });
+        addDeserializer(LocalDateTime.class, new JsonDeserializer<>() {
+            @Override
+            public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZONE);
+            }
+        });
+    }
+}
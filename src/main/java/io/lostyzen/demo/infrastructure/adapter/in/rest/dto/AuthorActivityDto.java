@@ -0,0 +1,55 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.AuthorActivity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for REST representation of the approximate author statistics
+ */
+@Data
+@NoArgsConstructor
+public class AuthorActivityDto {
+
+    @JsonProperty("from")
+    private LocalDateTime from;
+
+    @JsonProperty("to")
+    private LocalDateTime to;
+
+    @JsonProperty("messages")
+    private long messages;
+
+    @JsonProperty("distinctAuthors")
+    private long distinctAuthors;
+
+    // Relative standard error of distinctAuthors
+    @JsonProperty("distinctAuthorsError")
+    private double distinctAuthorsError;
+
+    @JsonProperty("topAuthors")
+    private List<AuthorCountDto> topAuthors;
+
+    // Largest overestimate of an author count, holding with probability countConfidence
+    @JsonProperty("countErrorBound")
+    private long countErrorBound;
+
+    @JsonProperty("countConfidence")
+    private double countConfidence;
+
+    // Constructor from domain model
+    public AuthorActivityDto(AuthorActivity activity) {
+        this.from = activity.getFrom();
+        this.to = activity.getTo();
+        this.messages = activity.getMessages();
+        this.distinctAuthors = activity.getDistinctAuthors();
+        this.distinctAuthorsError = activity.getDistinctAuthorsError();
+        this.topAuthors = activity.getTopAuthors().stream().map(AuthorCountDto::new).toList();
+        this.countErrorBound = activity.getCountErrorBound();
+        this.countConfidence = activity.getCountConfidence();
+    }
+}
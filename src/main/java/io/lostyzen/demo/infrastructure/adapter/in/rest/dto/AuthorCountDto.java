@@ -0,0 +1,26 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.AuthorCount;
+
+/**
+ * DTO for REST representation of an author in the most active authors
+ */
+@Data
+@NoArgsConstructor
+public class AuthorCountDto {
+
+    @JsonProperty("author")
+    private String author;
+
+    @JsonProperty("messages")
+    private long messages;
+
+    // Constructor from domain model
+    public AuthorCountDto(AuthorCount count) {
+        this.author = count.getAuthor();
+        this.messages = count.getMessages();
+    }
+}
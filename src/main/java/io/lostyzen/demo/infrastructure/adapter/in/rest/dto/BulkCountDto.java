@@ -0,0 +1,19 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for REST representation of a criteria-based bulk operation: the number of messages changed
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCountDto {
+
+    @JsonProperty("affected")
+    private long affected;
+}
@@ -0,0 +1,53 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for bulk operations targeting every message matching some criteria via REST API
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCriteriaRequest {
+
+    @JsonProperty("statuses")
+    private List<MessageStatus> statuses;
+
+    @JsonProperty("author")
+    private String author;
+
+    @JsonProperty("createdFrom")
+    private LocalDateTime createdFrom;
+
+    @JsonProperty("createdTo")
+    private LocalDateTime createdTo;
+
+    @JsonProperty("publishedFrom")
+    private LocalDateTime publishedFrom;
+
+    @JsonProperty("publishedTo")
+    private LocalDateTime publishedTo;
+
+    // Convert to domain criteria
+    public MessageCriteria toCriteria() {
+        MessageCriteria.MessageCriteriaBuilder builder = MessageCriteria.builder()
+            .author(author != null && !author.isBlank() ? author.trim() : null)
+            .createdFrom(createdFrom)
+            .createdTo(createdTo)
+            .publishedFrom(publishedFrom)
+            .publishedTo(publishedTo);
+        if (statuses != null) {
+            builder.statuses(statuses);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,26 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk operations targeting a list of message IDs via REST API
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkIdsRequest {
+
+    @JsonProperty("ids")
+    @NotEmpty(message = "IDs cannot be empty")
+    @Size(max = 1000, message = "Cannot process more than 1000 IDs at once")
+    private List<@NotBlank(message = "ID cannot be empty") String> ids;
+}
@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.BulkItemResult;
+import io.lostyzen.demo.domain.model.MessageStatus;
+
+/**
+ * DTO for REST representation of the result of one message in a bulk operation
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class BulkItemResultDto {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("outcome")
+    private BulkItemResult.Outcome outcome;
+
+    @JsonProperty("status")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Absent when the message does not exist
+    private MessageStatus status;
+
+    @JsonProperty("error")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Include only on failure
+    private String error;
+
+    // Constructor from domain model
+    public BulkItemResultDto(BulkItemResult result) {
+        this.id = result.getMessageId().getValue();
+        this.outcome = result.getOutcome();
+        this.status = result.getMessage() != null ? result.getMessage().getStatus() : null;
+        this.error = result.getError();
+    }
+}
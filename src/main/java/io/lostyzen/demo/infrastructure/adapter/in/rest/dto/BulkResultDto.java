@@ -0,0 +1,35 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.BulkItemResult;
+
+import java.util.List;
+
+/**
+ * DTO for REST representation of a bulk operation: totals plus one result per message
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class BulkResultDto {
+
+    @JsonProperty("succeeded")
+    private int succeeded;
+
+    @JsonProperty("failed")
+    private int failed;
+
+    @JsonProperty("results")
+    private List<BulkItemResultDto> results;
+
+    // Constructor from domain results
+    public BulkResultDto(List<BulkItemResult> results) {
+        this.results = results.stream()
+            .map(BulkItemResultDto::new)
+            .toList();
+        this.succeeded = (int) results.stream().filter(BulkItemResult::isSuccess).count();
+        this.failed = results.size() - this.succeeded;
+    }
+}
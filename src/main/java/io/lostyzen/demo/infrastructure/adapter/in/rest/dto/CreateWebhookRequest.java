@@ -0,0 +1,29 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for webhook subscription via REST API
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateWebhookRequest {
+
+    @JsonProperty("url")
+    @NotBlank(message = "URL cannot be empty")
+    @Size(max = 2000, message = "URL is too long (max 2000 characters)")
+    private String url;
+
+    // CREATED, UPDATED, PUBLISHED, ARCHIVED, DELETED; empty = PUBLISHED
+    @JsonProperty("eventTypes")
+    private List<String> eventTypes;
+}
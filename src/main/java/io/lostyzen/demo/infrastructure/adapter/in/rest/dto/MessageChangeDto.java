@@ -0,0 +1,51 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for REST representation of one change in the delta sync feed
+ * A deleted message is sent as a tombstone: its ID and deletion date only
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class MessageChangeDto {
+
+    public enum Type {
+        UPSERT,
+        TOMBSTONE
+    }
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("type")
+    private Type type;
+
+    @JsonProperty("message")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Include only for upserts
+    private MessageDto message;
+
+    @JsonProperty("deletedAt")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Include only for tombstones
+    private LocalDateTime deletedAt;
+
+    // Constructor from domain model
+    public MessageChangeDto(Message message) {
+        this.id = message.getId().getValue();
+        if (message.getStatus() == MessageStatus.DELETED) {
+            this.type = Type.TOMBSTONE;
+            this.deletedAt = message.getDeletedAt();
+        } else {
+            this.type = Type.UPSERT;
+            this.message = new MessageDto(message);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.MessageChanges;
+
+import java.util.List;
+
+/**
+ * DTO for REST representation of a delta sync page: the changes plus the cursor for the next poll
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class MessageChangesDto {
+
+    @JsonProperty("changes")
+    private List<MessageChangeDto> changes;
+
+    @JsonProperty("cursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Absent while nothing has ever changed
+    private String cursor;
+
+    @JsonProperty("hasMore")
+    private boolean hasMore;
+
+    // Constructor from domain model
+    public MessageChangesDto(MessageChanges changes) {
+        this.changes = changes.getChanges().stream()
+            .map(MessageChangeDto::new)
+            .toList();
+        this.cursor = changes.getCursor() != null ? changes.getCursor().encode() : null;
+        this.hasMore = changes.isHasMore();
+    }
+}
@@ -43,6 +43,10 @@ public class MessageDto {
     @JsonInclude(JsonInclude.Include.NON_NULL) // Include only if non-null
     private LocalDateTime deletedAt;
 
+    @JsonProperty("publishAt")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Include only if scheduled
+    private LocalDateTime publishAt;
+
     // Constructor from domain model
     public MessageDto(Message message) {
         this.id = message.getId().getValue();
@@ -53,5 +57,6 @@ public class MessageDto {
         this.updatedAt = message.getUpdatedAt();
         this.publishedAt = message.getPublishedAt();
         this.deletedAt = message.getDeletedAt();
+        this.publishAt = message.getPublishAt();
     }
 }
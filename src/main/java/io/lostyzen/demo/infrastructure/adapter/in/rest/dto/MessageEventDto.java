@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.MessageEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for REST representation of a message lifecycle event (change stream)
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class MessageEventDto {
+
+    @JsonProperty("type")
+    private MessageEvent.Type type;
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("message")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Absent once the message no longer exists
+    private MessageDto message;
+
+    @JsonProperty("occurredAt")
+    private LocalDateTime occurredAt;
+
+    // Constructor from domain model
+    public MessageEventDto(MessageEvent event) {
+        this.type = event.getType();
+        this.id = event.getMessageId().getValue();
+        this.message = event.getMessage() != null ? new MessageDto(event.getMessage()) : null;
+        this.occurredAt = event.getOccurredAt();
+    }
+}
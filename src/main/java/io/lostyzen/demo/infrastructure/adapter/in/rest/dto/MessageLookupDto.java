@@ -0,0 +1,34 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageLookup;
+
+import java.util.List;
+
+/**
+ * DTO for REST representation of a multi-get: found messages in request order plus the unknown IDs
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class MessageLookupDto {
+
+    @JsonProperty("messages")
+    private List<MessageDto> messages;
+
+    @JsonProperty("missing")
+    private List<String> missing;
+
+    // Constructor from domain model
+    public MessageLookupDto(MessageLookup lookup) {
+        this.messages = lookup.getFound().stream()
+            .map(MessageDto::new)
+            .toList();
+        this.missing = lookup.getMissing().stream()
+            .map(MessageId::getValue)
+            .toList();
+    }
+}
@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.MessagePage;
+
+import java.util.List;
+
+/**
+ * DTO for REST representation of one page of search results
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class MessagePageDto {
+
+    @JsonProperty("items")
+    private List<MessageDto> items;
+
+    @JsonProperty("page")
+    private int page;
+
+    @JsonProperty("size")
+    private int size;
+
+    @JsonProperty("hasNext")
+    private boolean hasNext;
+
+    // Constructor from domain model
+    public MessagePageDto(MessagePage page) {
+        this.items = page.getItems().stream()
+            .map(MessageDto::new)
+            .toList();
+        this.page = page.getPage();
+        this.size = page.getSize();
+        this.hasNext = page.isHasNext();
+    }
+}
@@ -0,0 +1,60 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.MessageProjection;
+import io.lostyzen.demo.domain.model.MessageStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for REST representation of a partial message (sparse fieldsets and summary view)
+ * Only the selected fields are serialized
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MessageProjectionDto {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("content")
+    private String content;
+
+    @JsonProperty("status")
+    private MessageStatus status;
+
+    @JsonProperty("author")
+    private String author;
+
+    @JsonProperty("createdAt")
+    private LocalDateTime createdAt;
+
+    @JsonProperty("updatedAt")
+    private LocalDateTime updatedAt;
+
+    @JsonProperty("publishedAt")
+    private LocalDateTime publishedAt;
+
+    @JsonProperty("deletedAt")
+    private LocalDateTime deletedAt;
+
+    @JsonProperty("publishAt")
+    private LocalDateTime publishAt;
+
+    // Constructor from domain projection
+    public MessageProjectionDto(MessageProjection projection) {
+        this.id = projection.getId().getValue();
+        this.content = projection.getContent();
+        this.status = projection.getStatus();
+        this.author = projection.getAuthor();
+        this.createdAt = projection.getCreatedAt();
+        this.updatedAt = projection.getUpdatedAt();
+        this.publishedAt = projection.getPublishedAt();
+        this.deletedAt = projection.getDeletedAt();
+        this.publishAt = projection.getPublishAt();
+    }
+}
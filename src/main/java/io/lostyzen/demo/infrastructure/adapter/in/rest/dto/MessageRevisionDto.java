@@ -0,0 +1,37 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.lostyzen.demo.domain.model.MessageRevision;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for REST representation of a message content revision
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class MessageRevisionDto {
+
+    @JsonProperty("messageId")
+    private String messageId;
+
+    @JsonProperty("revision")
+    private int revision;
+
+    @JsonProperty("content")
+    private String content;
+
+    @JsonProperty("editedAt")
+    private LocalDateTime editedAt;
+
+    // Constructor from domain model
+    public MessageRevisionDto(MessageRevision revision) {
+        this.messageId = revision.getMessageId().getValue();
+        this.revision = revision.getNumber();
+        this.content = revision.getContent();
+        this.editedAt = revision.getEditedAt();
+    }
+}
@@ -0,0 +1,43 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.MessageOperation;
+
+/**
+ * DTO for one operation of a batch via REST API
+ * The id is a message ID or "$n" to reference the message produced by operation n of the same batch
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperationRequest {
+
+    @JsonProperty("op")
+    @NotNull(message = "Operation type cannot be null")
+    private MessageOperation.Type op;
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("content")
+    private String content;
+
+    @JsonProperty("author")
+    private String author;
+
+    // Convert to domain operation
+    public MessageOperation toOperation() {
+        return switch (op) {
+            case CREATE -> MessageOperation.create(content, author);
+            case UPDATE -> MessageOperation.update(id, content);
+            case PUBLISH -> MessageOperation.publish(id);
+            case ARCHIVE -> MessageOperation.archive(id);
+            case DELETE -> MessageOperation.delete(id);
+        };
+    }
+}
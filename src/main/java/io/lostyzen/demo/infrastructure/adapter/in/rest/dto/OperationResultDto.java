@@ -0,0 +1,43 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.MessageOperation;
+import io.lostyzen.demo.domain.model.OperationResult;
+
+/**
+ * DTO for REST representation of the result of one operation in a batch
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class OperationResultDto {
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("op")
+    private MessageOperation.Type op;
+
+    @JsonProperty("outcome")
+    private OperationResult.Outcome outcome;
+
+    @JsonProperty("message")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Include only on success
+    private MessageDto message;
+
+    @JsonProperty("error")
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Include only for the failed operation
+    private String error;
+
+    // Constructor from domain model
+    public OperationResultDto(OperationResult result) {
+        this.index = result.getIndex();
+        this.op = result.getType();
+        this.outcome = result.getOutcome();
+        this.message = result.getMessage() != null ? new MessageDto(result.getMessage()) : null;
+        this.error = result.getError();
+    }
+}
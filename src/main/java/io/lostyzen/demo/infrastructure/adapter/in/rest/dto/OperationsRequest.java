@@ -0,0 +1,27 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for an ordered batch of operations executed in one transaction via REST API
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperationsRequest {
+
+    @JsonProperty("operations")
+    @NotEmpty(message = "Operations cannot be empty")
+    @Size(max = 100, message = "Cannot execute more than 100 operations at once")
+    private List<@Valid @NotNull(message = "Operation cannot be null") OperationRequest> operations;
+}
@@ -0,0 +1,31 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.OperationResult;
+
+import java.util.List;
+
+/**
+ * DTO for REST representation of a batch of operations: whether it was committed plus one result per operation
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class OperationsResultDto {
+
+    @JsonProperty("committed")
+    private boolean committed;
+
+    @JsonProperty("results")
+    private List<OperationResultDto> results;
+
+    // Constructor from domain results
+    public OperationsResultDto(boolean committed, List<OperationResult> results) {
+        this.committed = committed;
+        this.results = results.stream()
+            .map(OperationResultDto::new)
+            .toList();
+    }
+}
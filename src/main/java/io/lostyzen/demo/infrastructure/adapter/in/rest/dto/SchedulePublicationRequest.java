@@ -0,0 +1,23 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for scheduling the publication of a message via REST API
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulePublicationRequest {
+
+    @JsonProperty("publishAt")
+    @NotNull(message = "Publication time is required")
+    private LocalDateTime publishAt;
+}
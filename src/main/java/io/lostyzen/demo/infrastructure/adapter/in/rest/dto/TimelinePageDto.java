@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.TimelinePage;
+
+import java.util.List;
+
+/**
+ * DTO for REST representation of one page of an author's timeline
+ * Items are message summaries (see MessageProjectionDto)
+ */
+@Data
+@NoArgsConstructor
+public class TimelinePageDto {
+
+    @JsonProperty("items")
+    private List<MessageProjectionDto> items;
+
+    @JsonProperty("page")
+    private int page;
+
+    @JsonProperty("size")
+    private int size;
+
+    @JsonProperty("hasNext")
+    private boolean hasNext;
+
+    // Constructor from domain model
+    public TimelinePageDto(TimelinePage page) {
+        this.items = page.getItems().stream()
+            .map(MessageProjectionDto::new)
+            .toList();
+        this.page = page.getPage();
+        this.size = page.getSize();
+        this.hasNext = page.isHasNext();
+    }
+}
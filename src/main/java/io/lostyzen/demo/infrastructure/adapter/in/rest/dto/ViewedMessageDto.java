@@ -0,0 +1,26 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.lostyzen.demo.domain.model.ViewedMessage;
+
+/**
+ * DTO for REST representation of a message in the most viewed list
+ */
+@Data
+@NoArgsConstructor
+public class ViewedMessageDto {
+
+    @JsonProperty("message")
+    private MessageDto message;
+
+    @JsonProperty("views")
+    private long views;
+
+    // Constructor from domain model
+    public ViewedMessageDto(ViewedMessage viewed) {
+        this.message = new MessageDto(viewed.getMessage());
+        this.views = viewed.getViews();
+    }
+}
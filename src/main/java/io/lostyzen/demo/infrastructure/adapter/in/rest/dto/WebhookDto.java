@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DTO for REST representation of a webhook subscription
+ * Uses Lombok to reduce boilerplate code
+ */
+@Data
+@NoArgsConstructor
+public class WebhookDto {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("url")
+    private String url;
+
+    @JsonProperty("eventTypes")
+    private Set<MessageEvent.Type> eventTypes;
+
+    @JsonProperty("createdAt")
+    private LocalDateTime createdAt;
+
+    // Constructor from domain model
+    public WebhookDto(WebhookSubscription subscription) {
+        this.id = subscription.getId();
+        this.url = subscription.getUrl();
+        this.eventTypes = subscription.getEventTypes();
+        this.createdAt = subscription.getCreatedAt();
+    }
+}
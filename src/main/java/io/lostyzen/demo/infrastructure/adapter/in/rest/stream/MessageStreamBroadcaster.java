@@ -0,0 +1,183 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.MessageEventDto;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans committed message events out to the SSE subscribers of /api/messages/stream
+ * Each event is encoded once, numbered, kept in a replay ring and queued to every matching subscriber.
+ * A single timer thread sends keep-alive comments to idle connections and forgets closed ones.
+ */
+@ApplicationScoped
+public class MessageStreamBroadcaster {
+
+    private static final Logger LOG = Logger.getLogger(MessageStreamBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final StreamSubscriber.OverflowPolicy overflowPolicy;
+    private final long heartbeatSeconds;
+
+    // Guards the ring and the subscriber registration, so a resuming client gets neither a gap nor a duplicate
+    private final Object lock = new Object();
+    private final ReplayRing replay;
+    private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService heartbeat;
+
+    @Inject
+    public MessageStreamBroadcaster(ObjectMapper objectMapper,
+                                    @ConfigProperty(name = "messages.stream.buffer-size", defaultValue = "256")
+                                    int bufferSize,
+                                    @ConfigProperty(name = "messages.stream.replay-size", defaultValue = "1024")
+                                    int replaySize,
+                                    @ConfigProperty(name = "messages.stream.overflow", defaultValue = "DISCONNECT")
+                                    StreamSubscriber.OverflowPolicy overflowPolicy,
+                                    @ConfigProperty(name = "messages.stream.heartbeat-seconds", defaultValue = "30")
+                                    long heartbeatSeconds) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.heartbeatSeconds = heartbeatSeconds;
+        this.replay = new ReplayRing(replaySize, System.currentTimeMillis() * 1000);
+    }
+
+    void start(@Observes StartupEvent event) {
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(this::keepAlive, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        subscribers.forEach(StreamSubscriber::close);
+    }
+
+    // Only committed changes are streamed; outside a transaction the event arrives immediately
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        try {
+            String data = objectMapper.writeValueAsString(new MessageEventDto(event));
+            String name = event.getType().name().toLowerCase();
+            synchronized (lock) {
+                StreamEvent streamEvent = new StreamEvent(replay.nextSequence(), name, data, event);
+                replay.append(streamEvent);
+                subscribers.forEach(subscriber -> deliver(subscriber, streamEvent));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Never fail the write that raised the event
+            LOG.errorf(e, "Could not stream %s", event);
+        }
+    }
+
+    /**
+     * Registers an SSE connection.
+     *
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, or null for live events only
+     */
+    public void subscribe(SseEventSink sink, Sse sse, Set<MessageStatus> statuses, String author, Long lastEventId) {
+        StreamSubscriber[] holder = new StreamSubscriber[1];
+        StreamSubscriber subscriber = new StreamSubscriber(new StreamFilter(statuses, author), bufferSize,
+            overflowPolicy,
+            streamEvent -> sink.send(toOutbound(sse, streamEvent)),
+            sink::isClosed,
+            () -> {
+                subscribers.remove(holder[0]);
+                try {
+                    sink.close();
+                } catch (RuntimeException e) {
+                    LOG.debugf("Stream connection already gone: %s", e);
+                }
+            });
+        holder[0] = subscriber;
+        register(subscriber, lastEventId);
+    }
+
+    void register(StreamSubscriber subscriber, Long lastEventId) {
+        synchronized (lock) {
+            if (lastEventId != null) {
+                Optional<List<StreamEvent>> missed = replay.after(lastEventId);
+                if (missed.isPresent()) {
+                    missed.get().forEach(subscriber::offer);
+                } else {
+                    subscriber.offer(new StreamEvent(replay.lastSequence(), StreamEvent.RESET,
+                        "{\"reason\":\"events after " + lastEventId + " are no longer available\"}", null));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        LOG.debugf("Stream subscriber added (%d connected)", subscribers.size());
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Must not throw: an exception escaping a scheduled task cancels every later heartbeat
+    void keepAlive() {
+        for (StreamSubscriber subscriber : subscribers) {
+            try {
+                if (!subscriber.isClosed() && subscriber.isDisconnected()) {
+                    subscriber.close();
+                }
+                if (subscriber.isClosed()) {
+                    subscribers.remove(subscriber);
+                } else if (subscriber.isIdle()) {
+                    subscriber.offer(StreamEvent.HEARTBEAT);
+                }
+            } catch (RuntimeException e) {
+                LOG.debugf("Stream keep-alive failed, dropping subscriber: %s", e);
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    // One failing subscriber must not keep the event from the others
+    private static void deliver(StreamSubscriber subscriber, StreamEvent streamEvent) {
+        try {
+            subscriber.offer(streamEvent);
+        } catch (RuntimeException e) {
+            LOG.debugf("Stream delivery failed, disconnecting subscriber: %s", e);
+            subscriber.close();
+        }
+    }
+
+    private static OutboundSseEvent toOutbound(Sse sse, StreamEvent streamEvent) {
+        if (streamEvent.isHeartbeat()) {
+            // A comment line, ignored by EventSource clients
+            return sse.newEventBuilder().comment("keep-alive").build();
+        }
+        return sse.newEventBuilder()
+                .id(Long.toString(streamEvent.sequence()))
+                .name(streamEvent.name())
+                .mediaType(MediaType.TEXT_PLAIN_TYPE) // Already encoded JSON, written as is
+                .data(String.class, streamEvent.data())
+                .build();
+    }
+}
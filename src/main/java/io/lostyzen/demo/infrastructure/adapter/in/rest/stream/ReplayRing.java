@@ -0,0 +1,61 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fixed-size ring of the latest stream events, used to resume a subscriber from its Last-Event-ID
+ * Not thread-safe: the broadcaster guards it with its lock
+ */
+final class ReplayRing {
+
+    private final StreamEvent[] events;
+    private final long firstSequence;
+    private long lastSequence;
+
+    /**
+     * @param firstSequence sequence of the first event; starting from the clock makes IDs of a
+     *                      previous process fall outside the ring, so their holders are told to resync
+     */
+    ReplayRing(int capacity, long firstSequence) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Replay capacity must be positive");
+        }
+        this.events = new StreamEvent[capacity];
+        this.firstSequence = firstSequence;
+        this.lastSequence = firstSequence - 1;
+    }
+
+    long nextSequence() {
+        return lastSequence + 1;
+    }
+
+    void append(StreamEvent event) {
+        lastSequence = event.sequence();
+        events[(int) (event.sequence() % events.length)] = event;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Events after the given sequence, oldest first.
+     * Empty when some of them have already been overwritten, i.e. the subscriber must resync.
+     */
+    Optional<List<StreamEvent>> after(long sequence) {
+        if (sequence == lastSequence) {
+            return Optional.of(List.of());
+        }
+        long oldestKept = Math.max(firstSequence, lastSequence - events.length + 1);
+        if (sequence > lastSequence || sequence + 1 < oldestKept) {
+            return Optional.empty();
+        }
+        List<StreamEvent> missed = new ArrayList<>((int) (lastSequence - sequence));
+        for (long next = sequence + 1; next <= lastSequence; next++) {
+            missed.add(events[(int) (next % events.length)]);
+        }
+        return Optional.of(missed);
+    }
+}
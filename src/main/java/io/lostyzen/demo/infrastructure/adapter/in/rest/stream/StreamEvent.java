@@ -0,0 +1,25 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.stream;
+
+import io.lostyzen.demo.domain.model.MessageEvent;
+
+/**
+ * Event ready to be written to SSE subscribers
+ * The payload is encoded once and shared by every subscriber
+ *
+ * @param sequence SSE event ID, increasing; clients send it back as Last-Event-ID to resume
+ * @param name     SSE event name
+ * @param data     encoded payload
+ * @param source   domain event, null for control events (reset)
+ */
+record StreamEvent(long sequence, String name, String data, MessageEvent source) {
+
+    // Tells a resuming client that the events it missed are gone and it must resync
+    static final String RESET = "reset";
+
+    // Keep-alive sent on idle connections, written as an SSE comment
+    static final StreamEvent HEARTBEAT = new StreamEvent(-1, null, null, null);
+
+    boolean isHeartbeat() {
+        return name == null;
+    }
+}
@@ -0,0 +1,23 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.stream;
+
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageStatus;
+
+import java.util.Set;
+
+/**
+ * Server-side filter of a subscriber: only events on matching messages are queued
+ *
+ * @param statuses statuses after the change, empty = any
+ * @param author   message author, null = any
+ */
+record StreamFilter(Set<MessageStatus> statuses, String author) {
+
+    boolean accepts(MessageEvent event) {
+        if (!statuses.isEmpty() && !statuses.contains(event.getStatus())) {
+            return false;
+        }
+        // Physically deleted messages have no author left to match
+        return author == null || (event.getMessage() != null && author.equals(event.getMessage().getAuthor()));
+    }
+}
@@ -0,0 +1,126 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.stream;
+
+import org.jboss.logging.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * One SSE connection with its bounded buffer
+ * No thread is attached to a subscriber: an offer starts an asynchronous send, and each completed
+ * send picks the next queued event, so an idle subscriber is just an empty queue.
+ */
+final class StreamSubscriber {
+
+    private static final Logger LOG = Logger.getLogger(StreamSubscriber.class);
+
+    /**
+     * What to do when a subscriber does not read fast enough and its buffer is full
+     */
+    enum OverflowPolicy {
+        DISCONNECT,  // Close the stream; the client reconnects with Last-Event-ID and replays
+        DROP_OLDEST  // Keep the stream open and lose the oldest buffered events
+    }
+
+    private final StreamFilter filter;
+    private final Queue<StreamEvent> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final Function<StreamEvent, CompletionStage<?>> sender;
+    private final BooleanSupplier disconnected;
+    private final Runnable closer;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+
+    StreamSubscriber(StreamFilter filter, int bufferSize, OverflowPolicy overflowPolicy,
+                     Function<StreamEvent, CompletionStage<?>> sender, BooleanSupplier disconnected, Runnable closer) {
+        this.filter = filter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.overflowPolicy = overflowPolicy;
+        this.sender = sender;
+        this.disconnected = disconnected;
+        this.closer = closer;
+    }
+
+    /**
+     * Queues an event if it passes the filter; never blocks the caller
+     */
+    void offer(StreamEvent event) {
+        if (closed.get() || (event.source() != null && !filter.accepts(event.source()))) {
+            return;
+        }
+        while (!buffer.offer(event)) {
+            if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                LOG.debugf("Stream subscriber too slow, disconnecting at event %d", event.sequence());
+                close();
+                return;
+            }
+            if (buffer.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+        drain();
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            closer.run();
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    // True once the client went away, even if no send has failed yet
+    boolean isDisconnected() {
+        return disconnected.getAsBoolean();
+    }
+
+    boolean isIdle() {
+        return !sending.get() && buffer.isEmpty();
+    }
+
+    long getDropped() {
+        return dropped.get();
+    }
+
+    // At most one send in flight per subscriber keeps events in order
+    private void drain() {
+        while (!closed.get() && sending.compareAndSet(false, true)) {
+            StreamEvent next = buffer.poll();
+            if (next == null) {
+                sending.set(false);
+                // An offer may have slipped in between poll() and set(false)
+                if (buffer.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            CompletionStage<?> send;
+            try {
+                send = sender.apply(next);
+            } catch (Throwable error) {
+                // A closed connection fails the send before returning a stage: nothing would ever complete it
+                LOG.debugf("Stream send failed, disconnecting: %s", error);
+                close();
+                return;
+            }
+            send.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    close();
+                } else {
+                    sending.set(false);
+                    drain();
+                }
+            });
+            return;
+        }
+    }
+}
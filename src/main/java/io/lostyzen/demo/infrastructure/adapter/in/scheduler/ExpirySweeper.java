@@ -0,0 +1,137 @@
+package io.lostyzen.demo.infrastructure.adapter.in.scheduler;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.port.in.ExpireMessagesPort;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background sweeper archiving published messages once their lifetime is over
+ * Each run drains the expired messages oldest first, one bounded transaction per batch,
+ * pausing between batches so that at most max-rows-per-second rows are archived:
+ * row locks stay short and foreground writes are never queued behind a long sweep.
+ * Disabled when messages.expiry.lifetime is not set.
+ */
+@ApplicationScoped
+public class ExpirySweeper {
+
+    private static final Logger LOG = Logger.getLogger(ExpirySweeper.class);
+
+    private final ExpireMessagesPort expireMessagesPort;
+    private final Optional<Duration> lifetime;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final long pauseMillis;
+
+    private final AtomicLong archived = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunArchived;
+    private ScheduledExecutorService executor;
+
+    @Inject
+    public ExpirySweeper(ExpireMessagesPort expireMessagesPort,
+                         @ConfigProperty(name = "messages.expiry.lifetime") Optional<Duration> lifetime,
+                         @ConfigProperty(name = "messages.expiry.batch-size", defaultValue = "500") int batchSize,
+                         @ConfigProperty(name = "messages.expiry.interval-ms", defaultValue = "60000")
+                         long intervalMillis,
+                         @ConfigProperty(name = "messages.expiry.max-rows-per-second", defaultValue = "2000")
+                         int maxRowsPerSecond) {
+        this.expireMessagesPort = expireMessagesPort;
+        this.lifetime = lifetime;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.pauseMillis = 1000L * batchSize / Math.max(maxRowsPerSecond, 1);
+    }
+
+    void start(@Observes StartupEvent event) {
+        if (lifetime.isEmpty()) {
+            LOG.info("Message expiry disabled (messages.expiry.lifetime not set)");
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-expiry-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Archives every message expired at the start of the run, batch after batch.
+     *
+     * @return the number of messages archived by this run
+     */
+    public synchronized long sweep() {
+        if (lifetime.isEmpty()) {
+            return 0;
+        }
+        long runArchived = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Message> batch = expireMessagesPort.archiveExpired(lifetime.get(), batchSize);
+                runArchived += batch.size();
+                archived.addAndGet(batch.size());
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive; the next run picks up where this one stopped
+            failures.incrementAndGet();
+            LOG.error("Message expiry sweep failed", e);
+        }
+        if (runArchived > 0) {
+            LOG.infof("Archived %d expired messages", runArchived);
+        }
+        lastRunAt = LocalDateTime.now();
+        lastRunArchived = runArchived;
+        return runArchived;
+    }
+
+    public Stats stats() {
+        if (lifetime.isEmpty()) {
+            return new Stats(false, 0, 0, archived.get(), failures.get(), lastRunAt, lastRunArchived);
+        }
+        // Lag: how long the oldest published message has outlived its lifetime
+        long lagMillis = expireMessagesPort.getOldestPublishedAt()
+            .map(oldest -> Duration.between(oldest.plus(lifetime.get()), LocalDateTime.now()).toMillis())
+            .filter(lag -> lag > 0)
+            .orElse(0L);
+        return new Stats(true, expireMessagesPort.countExpired(lifetime.get()), lagMillis, archived.get(),
+            failures.get(), lastRunAt, lastRunArchived);
+    }
+
+    /**
+     * Snapshot of the sweeper progress
+     *
+     * @param pending   published messages past their lifetime, not archived yet
+     * @param lagMillis time since the oldest pending message expired
+     */
+    public record Stats(boolean enabled, long pending, long lagMillis, long archived, long failures,
+                        LocalDateTime lastRunAt, long lastRunArchived) {
+    }
+}
@@ -0,0 +1,37 @@
+package io.lostyzen.demo.infrastructure.adapter.in.scheduler;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the expiry sweeper progress on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class ExpirySweeperHealthCheck implements HealthCheck {
+
+    private final ExpirySweeper sweeper;
+
+    @Inject
+    public ExpirySweeperHealthCheck(ExpirySweeper sweeper) {
+        this.sweeper = sweeper;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        ExpirySweeper.Stats stats = sweeper.stats();
+        return HealthCheckResponse.named("message-expiry")
+                .up()
+                .withData("enabled", stats.enabled())
+                .withData("pending", stats.pending())
+                .withData("lagMillis", stats.lagMillis())
+                .withData("archived", stats.archived())
+                .withData("failures", stats.failures())
+                .withData("lastRunAt", String.valueOf(stats.lastRunAt()))
+                .withData("lastRunArchived", stats.lastRunArchived())
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package io.lostyzen.demo.infrastructure.adapter.in.scheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timing wheel: a ring of buckets, one per tick, each holding the entries due in that slot
+ * Scheduling is O(1); advancing one tick only visits the bucket under the cursor, whatever the total size.
+ * Entries further away than one revolution wait in their bucket with a count of remaining rounds.
+ * Any thread may schedule; entries are handed over through a lock-free queue and placed in buckets
+ * by the single thread that calls advance().
+ */
+class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Entry<T>>[] buckets;
+    private final Queue<Entry<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = (List<Entry<T>>[]) new List<?>[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.buckets[i] = new LinkedList<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules an item; safe to call from any thread.
+     * A deadline already passed makes the item due at the next advance.
+     */
+    void schedule(T item, long deadlineMillis) {
+        incoming.add(new Entry<>(item, deadlineMillis));
+        size.incrementAndGet();
+    }
+
+    /**
+     * Moves the cursor to the given time and returns the items that became due.
+     * Only the thread driving the wheel may call it.
+     */
+    List<T> advance(long nowMillis) {
+        List<T> due = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            transferIncoming(due);
+            expire(buckets[(int) (currentTick & mask)], due);
+        }
+        // Entries scheduled in the past are returned now rather than one tick later
+        transferIncoming(due);
+        size.addAndGet(-due.size());
+        return due;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private void transferIncoming(List<T> due) {
+        Entry<T> entry;
+        while ((entry = incoming.poll()) != null) {
+            // Rounded up: an item is never returned before its deadline
+            long deadlineTick = Math.floorDiv(entry.deadlineMillis + tickMillis - 1, tickMillis);
+            if (deadlineTick <= currentTick) {
+                due.add(entry.item);
+                continue;
+            }
+            long ticksAhead = deadlineTick - currentTick;
+            entry.remainingRounds = (ticksAhead - 1) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(entry);
+        }
+    }
+
+    private static <T> void expire(List<Entry<T>> bucket, List<T> due) {
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.remainingRounds == 0) {
+                iterator.remove();
+                due.add(entry.item);
+            } else {
+                entry.remainingRounds--;
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Entry(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
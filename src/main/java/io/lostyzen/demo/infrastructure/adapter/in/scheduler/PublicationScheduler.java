@@ -0,0 +1,182 @@
+package io.lostyzen.demo.infrastructure.adapter.in.scheduler;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.port.in.SchedulePublicationPort;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes scheduled messages when their time comes
+ * Only the messages due within the next window are held in memory, in a hashed timing wheel:
+ * the window is loaded from the publish_at index in keyset batches and slides forward on every load,
+ * so the number of scheduled messages in the table does not affect the cost of a tick.
+ * Schedules committed inside the loaded window are added to the wheel as their events arrive.
+ * Due messages are published in batches through the use case, which re-checks each schedule.
+ */
+@ApplicationScoped
+public class PublicationScheduler {
+
+    private static final Logger LOG = Logger.getLogger(PublicationScheduler.class);
+
+    private final SchedulePublicationPort schedulePublicationPort;
+    private final long tickMillis;
+    private final long windowMillis;
+    private final int loadBatchSize;
+    private final int publishBatchSize;
+    private final long retryDelayMillis;
+    private final HashedTimingWheel<Due> wheel;
+
+    // Everything scheduled before this time is in the wheel, or will be through its event
+    private volatile long loadedUntilMillis;
+    private LocalDateTime cursorPublishAt;
+    private MessageId cursorId;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastLagMillis;
+    private ScheduledExecutorService executor;
+
+    @Inject
+    public PublicationScheduler(SchedulePublicationPort schedulePublicationPort,
+                                @ConfigProperty(name = "messages.scheduler.tick-ms", defaultValue = "100")
+                                long tickMillis,
+                                @ConfigProperty(name = "messages.scheduler.wheel-size", defaultValue = "1024")
+                                int wheelSize,
+                                @ConfigProperty(name = "messages.scheduler.window-ms", defaultValue = "60000")
+                                long windowMillis,
+                                @ConfigProperty(name = "messages.scheduler.load-batch-size", defaultValue = "1000")
+                                int loadBatchSize,
+                                @ConfigProperty(name = "messages.scheduler.publish-batch-size", defaultValue = "200")
+                                int publishBatchSize,
+                                @ConfigProperty(name = "messages.scheduler.retry-delay-ms", defaultValue = "5000")
+                                long retryDelayMillis) {
+        this.schedulePublicationPort = schedulePublicationPort;
+        this.tickMillis = tickMillis;
+        this.windowMillis = windowMillis;
+        this.loadBatchSize = loadBatchSize;
+        this.publishBatchSize = publishBatchSize;
+        this.retryDelayMillis = retryDelayMillis;
+        this.wheel = new HashedTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    void start(@Observes StartupEvent event) {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-publication-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Both tasks run on the same thread: the wheel and the load cursor need no locking
+        executor.scheduleWithFixedDelay(this::loadWindow, 0, Math.max(windowMillis / 2, tickMillis),
+            TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    // Schedules beyond the loaded window are picked up by a later load
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        Message message = event.getMessage();
+        if (message != null && message.isScheduled()) {
+            long deadline = toMillis(message.getPublishAt());
+            if (deadline < loadedUntilMillis) {
+                wheel.schedule(new Due(message.getId(), deadline), deadline);
+            }
+        }
+    }
+
+    /**
+     * Slides the window forward and loads the schedules that entered it.
+     * The bound moves first, so a schedule committed during the scan is either read by the scan
+     * or seen by the event observer, never missed by both.
+     */
+    void loadWindow() {
+        try {
+            long until = System.currentTimeMillis() + windowMillis;
+            loadedUntilMillis = until;
+            LocalDateTime untilTime = toLocalDateTime(until);
+            List<Message> batch;
+            do {
+                batch = schedulePublicationPort.getScheduledBefore(untilTime, cursorPublishAt, cursorId, loadBatchSize);
+                for (Message message : batch) {
+                    long deadline = toMillis(message.getPublishAt());
+                    wheel.schedule(new Due(message.getId(), deadline), deadline);
+                }
+                if (!batch.isEmpty()) {
+                    Message last = batch.get(batch.size() - 1);
+                    cursorPublishAt = last.getPublishAt();
+                    cursorId = last.getId();
+                }
+            } while (batch.size() == loadBatchSize);
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive; the next load resumes from the cursor
+            LOG.error("Could not load scheduled publications", e);
+        }
+    }
+
+    void tick() {
+        long now = System.currentTimeMillis();
+        List<Due> due = wheel.advance(now);
+        for (int start = 0; start < due.size(); start += publishBatchSize) {
+            List<Due> chunk = due.subList(start, Math.min(start + publishBatchSize, due.size()));
+            try {
+                published.addAndGet(schedulePublicationPort.publishDue(
+                    chunk.stream().map(Due::messageId).toList()).size());
+                chunk.stream().mapToLong(Due::publishAtMillis).min()
+                    .ifPresent(earliest -> lastLagMillis = Math.max(0, now - earliest));
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                LOG.warnf("Could not publish %d scheduled messages, retrying in %d ms: %s",
+                    chunk.size(), retryDelayMillis, e.getMessage());
+                chunk.forEach(item -> wheel.schedule(item, now + retryDelayMillis));
+            }
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(wheel.size(), toLocalDateTime(loadedUntilMillis), published.get(), failures.get(),
+            lastLagMillis);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private record Due(MessageId messageId, long publishAtMillis) {
+    }
+
+    /**
+     * Snapshot of the scheduler progress
+     *
+     * @param inWheel       messages due within the loaded window
+     * @param loadedUntil   end of the loaded window
+     * @param failures      publication batches that failed and were retried
+     * @param lastLagMillis delay between the scheduled time and the publication, for the last batch
+     */
+    public record Stats(int inWheel, LocalDateTime loadedUntil, long published, long failures, long lastLagMillis) {
+    }
+}
@@ -0,0 +1,35 @@
+package io.lostyzen.demo.infrastructure.adapter.in.scheduler;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the publication scheduler progress on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class PublicationSchedulerHealthCheck implements HealthCheck {
+
+    private final PublicationScheduler scheduler;
+
+    @Inject
+    public PublicationSchedulerHealthCheck(PublicationScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        PublicationScheduler.Stats stats = scheduler.stats();
+        return HealthCheckResponse.named("message-publication-scheduler")
+                .up()
+                .withData("inWheel", stats.inWheel())
+                .withData("loadedUntil", String.valueOf(stats.loadedUntil()))
+                .withData("published", stats.published())
+                .withData("failures", stats.failures())
+                .withData("lastLagMillis", stats.lastLagMillis())
+                .build();
+    }
+}
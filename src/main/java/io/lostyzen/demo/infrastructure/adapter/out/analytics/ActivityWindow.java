@@ -0,0 +1,58 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import java.util.Collection;
+
+/**
+ * Sketches of the message creations of one time window
+ * A slot of the window ring: it is cleared and reused when a later window maps to it, so its memory is allocated
+ * once. The window index is the number of window lengths since the epoch.
+ */
+class ActivityWindow {
+
+    // Guarded by this object's monitor
+    private long index = -1;
+    private final HyperLogLog authors;
+    private final CountMinSketch counts;
+    private final SpaceSaving heavyHitters;
+
+    ActivityWindow(int precision, int width, int depth, int trackedAuthors) {
+        this.authors = new HyperLogLog(precision);
+        this.counts = new CountMinSketch(width, depth);
+        this.heavyHitters = new SpaceSaving(trackedAuthors);
+    }
+
+    /**
+     * Records one creation in the given window
+     *
+     * @return false when the slot already moved on to a later window, so the creation is dropped
+     */
+    synchronized boolean record(long index, String author) {
+        if (index < this.index) {
+            return false;
+        }
+        if (index > this.index) {
+            authors.clear();
+            counts.clear();
+            heavyHitters.clear();
+            this.index = index;
+        }
+        authors.add(author);
+        counts.add(author, 1);
+        heavyHitters.add(author);
+        return true;
+    }
+
+    // Adds this window to the accumulators if it still holds the given window
+    synchronized void mergeInto(long index, HyperLogLog authors, CountMinSketch counts, Collection<String> candidates) {
+        if (this.index != index) {
+            return;
+        }
+        authors.merge(this.authors);
+        counts.merge(this.counts);
+        candidates.addAll(heavyHitters.monitored());
+    }
+
+    int sizeInBytes() {
+        return authors.sizeInBytes() + counts.sizeInBytes();
+    }
+}
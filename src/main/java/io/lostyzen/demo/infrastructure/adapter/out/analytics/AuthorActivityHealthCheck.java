@@ -0,0 +1,39 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the author activity sketches on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class AuthorActivityHealthCheck implements HealthCheck {
+
+    private final SketchAuthorActivity sketch;
+
+    @Inject
+    public AuthorActivityHealthCheck(SketchAuthorActivity sketch) {
+        this.sketch = sketch;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        SketchAuthorActivity.Stats stats = sketch.stats();
+        return HealthCheckResponse.named("message-analytics")
+                .up()
+                .withData("window", stats.window().toString())
+                .withData("retainedWindows", stats.retainedWindows())
+                .withData("trackedAuthors", stats.trackedAuthors())
+                .withData("recorded", stats.recorded())
+                .withData("dropped", stats.dropped())
+                .withData("sizeInBytes", stats.sizeInBytes())
+                .withData("distinctAuthorsError", String.valueOf(stats.distinctAuthorsError()))
+                .withData("countEpsilon", String.valueOf(stats.countEpsilon()))
+                .withData("countConfidence", String.valueOf(stats.countConfidence()))
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min frequency sketch
+ * depth rows of width counters; an item adds to one counter per row and its estimate is the smallest of them.
+ * With width = ceil(e / epsilon) and depth = ceil(ln(1 / delta)), an estimate is never below the true count
+ * and exceeds it by at most epsilon * total with probability 1 - delta. Not thread-safe.
+ */
+class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long total;
+
+    CountMinSketch(double epsilon, double delta) {
+        this(widthFor(epsilon), depthFor(delta));
+    }
+
+    CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("Width and depth must be positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    void add(String item, long count) {
+        long hash = Hashing.hash64(item);
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + column(hash, row)] += count;
+        }
+        total += count;
+    }
+
+    long estimate(String item) {
+        long hash = Hashing.hash64(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + column(hash, row)]);
+        }
+        return estimate;
+    }
+
+    // Sketch of both streams: same result as adding the other sketch's items here
+    void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Cannot merge sketches of different dimensions");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        total += other.total;
+    }
+
+    long total() {
+        return total;
+    }
+
+    // Largest overestimate of any count, holding with probability confidence()
+    long errorBound() {
+        return (long) Math.ceil(Math.E / width * total);
+    }
+
+    double confidence() {
+        return 1 - Math.exp(-depth);
+    }
+
+    void clear() {
+        Arrays.fill(counters, 0);
+        total = 0;
+    }
+
+    int width() {
+        return width;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    int sizeInBytes() {
+        return counters.length * Long.BYTES;
+    }
+
+    // Row positions derived from two halves of one hash (Kirsch-Mitzenmacher), as good as independent hashes
+    private int column(long hash, int row) {
+        long combined = (int) hash + (long) row * (int) (hash >>> 32);
+        return (int) Math.floorMod(combined, (long) width);
+    }
+
+    private static int widthFor(double epsilon) {
+        if (epsilon <= 0 || epsilon >= 1) {
+            throw new IllegalArgumentException("Epsilon must be between 0 and 1");
+        }
+        return (int) Math.ceil(Math.E / epsilon);
+    }
+
+    private static int depthFor(double delta) {
+        if (delta <= 0 || delta >= 1) {
+            throw new IllegalArgumentException("Delta must be between 0 and 1");
+        }
+        return (int) Math.ceil(Math.log(1 / delta));
+    }
+}
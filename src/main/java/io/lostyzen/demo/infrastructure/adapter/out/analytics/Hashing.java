@@ -0,0 +1,26 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+/**
+ * 64-bit hash shared by the sketches
+ * FNV-1a over the characters, then the MurmurHash3 finalizer so that every output bit depends on every input bit:
+ * the sketches take their register index and their row positions from different bits of the same hash.
+ */
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,83 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog cardinality sketch
+ * 2^precision one-byte registers each keep the longest run of leading zeros seen among the hashes routed to them.
+ * The estimate has a relative standard error of 1.04 / sqrt(2^precision), whatever the number of items;
+ * small cardinalities use linear counting on the empty registers. Not thread-safe.
+ */
+class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must be between 4 and 18");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    void add(String item) {
+        long hash = Hashing.hash64(item);
+        int index = (int) (hash >>> (64 - precision));
+        // The sentinel bit caps the rank at 64 - precision + 1 when the remaining bits are all zeros
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    // Union of the two sets: same result as adding the other sketch's items here
+    void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches of different precisions");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int empty = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                empty++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && empty > 0) {
+            estimate = m * Math.log((double) m / empty);
+        }
+        return Math.round(estimate);
+    }
+
+    double standardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    void clear() {
+        Arrays.fill(registers, (byte) 0);
+    }
+
+    int sizeInBytes() {
+        return registers.length;
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+}
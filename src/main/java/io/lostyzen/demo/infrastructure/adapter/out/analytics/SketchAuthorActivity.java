@@ -0,0 +1,146 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import io.lostyzen.demo.domain.model.AuthorActivity;
+import io.lostyzen.demo.domain.model.AuthorCount;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.port.out.AuthorActivitySketch;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Author statistics kept in probabilistic sketches over tumbling windows
+ * Each committed creation goes into the sketches of its window: a HyperLogLog for the distinct authors,
+ * a Count-Min sketch for the per-author counts and a Space-Saving list of the candidate heaviest authors.
+ * Windows are aligned on the epoch and held in a ring of retained-windows slots allocated at startup, so the
+ * memory is fixed. A summary merges the sketches of the requested windows: its cost depends on the sketch
+ * sizes only, never on the number of messages. Each instance counts the creations it commits.
+ */
+@ApplicationScoped
+public class SketchAuthorActivity implements AuthorActivitySketch {
+
+    private final long windowMillis;
+    private final int precision;
+    private final int width;
+    private final int depth;
+    private final int trackedAuthors;
+    private final ActivityWindow[] windows;
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Inject
+    public SketchAuthorActivity(@ConfigProperty(name = "messages.analytics.window", defaultValue = "PT1H")
+                                Duration window,
+                                @ConfigProperty(name = "messages.analytics.retained-windows", defaultValue = "24")
+                                int retainedWindows,
+                                @ConfigProperty(name = "messages.analytics.hll-precision", defaultValue = "12")
+                                int precision,
+                                @ConfigProperty(name = "messages.analytics.count-min.epsilon", defaultValue = "0.002")
+                                double epsilon,
+                                @ConfigProperty(name = "messages.analytics.count-min.delta", defaultValue = "0.01")
+                                double delta,
+                                @ConfigProperty(name = "messages.analytics.tracked-authors", defaultValue = "64")
+                                int trackedAuthors) {
+        if (window.toMillis() < 1 || retainedWindows < 1) {
+            throw new IllegalArgumentException("Window and retained windows must be positive");
+        }
+        CountMinSketch dimensions = new CountMinSketch(epsilon, delta);
+        this.windowMillis = window.toMillis();
+        this.precision = precision;
+        this.width = dimensions.width();
+        this.depth = dimensions.depth();
+        this.trackedAuthors = trackedAuthors;
+        this.windows = new ActivityWindow[retainedWindows];
+        for (int i = 0; i < retainedWindows; i++) {
+            windows[i] = new ActivityWindow(precision, width, depth, trackedAuthors);
+        }
+    }
+
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        if (event.getType() == MessageEvent.Type.CREATED && event.getMessage() != null) {
+            record(event.getMessage().getAuthor(), System.currentTimeMillis());
+        }
+    }
+
+    void record(String author, long atMillis) {
+        long index = atMillis / windowMillis;
+        if (slot(index).record(index, author)) {
+            recorded.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public int getRetainedWindows() {
+        return windows.length;
+    }
+
+    @Override
+    public int getTrackedAuthors() {
+        return trackedAuthors;
+    }
+
+    @Override
+    public AuthorActivity summarize(int windows, int top) {
+        return summarize(windows, top, System.currentTimeMillis());
+    }
+
+    AuthorActivity summarize(int windows, int top, long nowMillis) {
+        long current = nowMillis / windowMillis;
+        HyperLogLog authors = new HyperLogLog(precision);
+        CountMinSketch counts = new CountMinSketch(width, depth);
+        Set<String> candidates = new HashSet<>();
+        for (long index = current - windows + 1; index <= current; index++) {
+            slot(index).mergeInto(index, authors, counts, candidates);
+        }
+
+        // An author above total / tracked-authors in the range is above that share in one window, hence a candidate
+        List<AuthorCount> topAuthors = candidates.stream()
+            .map(author -> new AuthorCount(author, counts.estimate(author)))
+            .sorted(Comparator.comparingLong(AuthorCount::getMessages).reversed()
+                .thenComparing(AuthorCount::getAuthor))
+            .limit(top)
+            .toList();
+        return new AuthorActivity(toLocal(current - windows + 1), toLocal(current + 1), counts.total(),
+            authors.estimate(), authors.standardError(), topAuthors, counts.errorBound(), counts.confidence());
+    }
+
+    public Stats stats() {
+        return new Stats(Duration.ofMillis(windowMillis), windows.length, trackedAuthors, recorded.get(), dropped.get(),
+            (long) windows.length * windows[0].sizeInBytes(), 1.04 / Math.sqrt(1 << precision), Math.E / width,
+            1 - Math.exp(-depth));
+    }
+
+    private ActivityWindow slot(long index) {
+        return windows[(int) Math.floorMod(index, (long) windows.length)];
+    }
+
+    private LocalDateTime toLocal(long index) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(index * windowMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Snapshot of the sketches configuration and usage
+     *
+     * @param dropped      creations recorded after their window had left the ring
+     * @param sizeInBytes  memory held by the sketches of all windows
+     * @param countEpsilon largest overestimate of an author count, as a share of the messages summarized
+     */
+    public record Stats(Duration window, int retainedWindows, int trackedAuthors, long recorded, long dropped,
+                        long sizeInBytes, double distinctAuthorsError, double countEpsilon, double countConfidence) {
+    }
+}
@@ -0,0 +1,60 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy hitters
+ * Monitors at most capacity items; an unmonitored item takes the place of the least counted one and inherits
+ * its count. Any item seen more than total / capacity times is guaranteed to be monitored. Only the monitored
+ * set is used: the counts themselves are read from the Count-Min sketch, which has a stated bound. Not thread-safe.
+ */
+class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, long[]> counts;
+
+    SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.counts = new HashMap<>(capacity * 2);
+    }
+
+    void add(String item) {
+        long[] count = counts.get(item);
+        if (count != null) {
+            count[0]++;
+        } else if (counts.size() < capacity) {
+            counts.put(item, new long[]{1});
+        } else {
+            // Linear scan: the capacity is small and creations are far rarer than reads
+            String least = null;
+            long leastCount = Long.MAX_VALUE;
+            for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+                if (entry.getValue()[0] < leastCount) {
+                    least = entry.getKey();
+                    leastCount = entry.getValue()[0];
+                }
+            }
+            count = counts.remove(least);
+            count[0]++;
+            counts.put(item, count);
+        }
+    }
+
+    List<String> monitored() {
+        return new ArrayList<>(counts.keySet());
+    }
+
+    void clear() {
+        counts.clear();
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,31 @@
+package io.lostyzen.demo.infrastructure.adapter.out.cluster;
+
+import io.lostyzen.demo.domain.model.MessageEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+/**
+ * Writes every message change to the cluster change table, inside the transaction that made it
+ * Like the outbox recorder, the observer is synchronous: the row commits or rolls back with the change.
+ */
+@ApplicationScoped
+public class ClusterChangeRecorder {
+
+    private final ClusterNode node;
+
+    @Inject
+    public ClusterChangeRecorder(ClusterNode node) {
+        this.node = node;
+    }
+
+    // Joins the use case transaction
+    @Transactional
+    void record(@Observes MessageEvent event) {
+        if (node.isEnabled()) {
+            new MessageChangeEntity(event.getMessageId().getValue(), node.getInstanceId(), event.getOccurredAt())
+                .persist();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.lostyzen.demo.infrastructure.adapter.out.cluster;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the cluster invalidation bus progress on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class ClusterHealthCheck implements HealthCheck {
+
+    private final ClusterInvalidationPoller poller;
+
+    @Inject
+    public ClusterHealthCheck(ClusterInvalidationPoller poller) {
+        this.poller = poller;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        ClusterInvalidationPoller.Stats stats = poller.stats();
+        return HealthCheckResponse.named("message-cluster")
+                .up()
+                .withData("enabled", stats.enabled())
+                .withData("instanceId", stats.instanceId())
+                .withData("cursor", stats.cursor())
+                .withData("received", stats.received())
+                .withData("failures", stats.failures())
+                .withData("lastLatencyMillis", stats.lastLatencyMillis())
+                .withData("maxLatencyMillis", stats.maxLatencyMillis())
+                .withData("lastPollAt", String.valueOf(stats.lastPollAt()))
+                .build();
+    }
+}
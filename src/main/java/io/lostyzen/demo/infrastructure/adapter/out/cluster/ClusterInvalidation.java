@@ -0,0 +1,14 @@
+package io.lostyzen.demo.infrastructure.adapter.out.cluster;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+
+/**
+ * CDI event fired when another instance changed a message
+ * Observers holding a copy of the message evict it or refresh it from the state read after the change.
+ * Unlike MessageEvent, it carries no business meaning: outbox, webhooks and streams ignore it.
+ *
+ * @param message current state of the message, or null when it no longer exists
+ */
+public record ClusterInvalidation(MessageId messageId, Message message) {
+}
@@ -0,0 +1,203 @@
+package io.lostyzen.demo.infrastructure.adapter.out.cluster;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Invalidation bus between the instances sharing one database
+ * Tails the cluster change table and, for each message changed by another instance, reads its current state
+ * once and fires a ClusterInvalidation to the local caches and projections.
+ * Change IDs are allocated before their transaction commits, so a smaller ID can appear after a larger one:
+ * rows stay under watch until they are older than the settle window, and only then does the cursor pass them.
+ * Disabled unless messages.cluster.enabled is set.
+ */
+@ApplicationScoped
+public class ClusterInvalidationPoller {
+
+    private static final Logger LOG = Logger.getLogger(ClusterInvalidationPoller.class);
+
+    private static final long CLEANUP_INTERVAL_MILLIS = 60_000;
+
+    private final ClusterNode node;
+    private final MessageRepository messageRepository;
+    private final Event<ClusterInvalidation> invalidations;
+    private final long pollIntervalMillis;
+    private final Duration settleWindow;
+    private final int batchSize;
+    private final Duration retention;
+
+    // Every row up to the cursor has been handled; rows above it that were already handled are remembered
+    private long cursor;
+    private final Set<Long> seen = new HashSet<>();
+    private long lastCleanupMillis;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastLatencyMillis;
+    private volatile long maxLatencyMillis;
+    private volatile LocalDateTime lastPollAt;
+    private ScheduledExecutorService executor;
+
+    @Inject
+    public ClusterInvalidationPoller(ClusterNode node, MessageRepository messageRepository,
+                                     Event<ClusterInvalidation> invalidations,
+                                     @ConfigProperty(name = "messages.cluster.poll-interval-ms", defaultValue = "200")
+                                     long pollIntervalMillis,
+                                     @ConfigProperty(name = "messages.cluster.settle-ms", defaultValue = "2000")
+                                     long settleMillis,
+                                     @ConfigProperty(name = "messages.cluster.batch-size", defaultValue = "500")
+                                     int batchSize,
+                                     @ConfigProperty(name = "messages.cluster.retention", defaultValue = "PT10M")
+                                     Duration retention) {
+        this.node = node;
+        this.messageRepository = messageRepository;
+        this.invalidations = invalidations;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.settleWindow = Duration.ofMillis(settleMillis);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    // Placed before the projections start rebuilding, so a change cannot fall between their snapshot and the cursor
+    void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        if (!node.isEnabled()) {
+            return;
+        }
+        LocalDateTime horizon = LocalDateTime.now().minus(settleWindow);
+        Long settled = QuarkusTransaction.requiringNew().call(() -> MessageChangeEntity.getEntityManager()
+            .createQuery("select max(c.id) from MessageChangeEntity c where c.changedAt < :horizon", Long.class)
+            .setParameter("horizon", horizon)
+            .getSingleResult());
+        cursor = settled == null ? 0 : settled;
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-cluster-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        LOG.infof("Cluster invalidation enabled for instance %s", node.getInstanceId());
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    void poll() {
+        try {
+            boolean progressed;
+            List<Change> changes;
+            do {
+                long from = cursor;
+                changes = QuarkusTransaction.requiringNew().call(() -> loadAfter(from));
+                handle(changes);
+                progressed = cursor > from;
+            } while (changes.size() == batchSize && progressed);
+            lastPollAt = LocalDateTime.now();
+            cleanUp();
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive; the rows stay above the cursor and are read again
+            failures.incrementAndGet();
+            LOG.error("Cluster invalidation poll failed", e);
+        }
+    }
+
+    private void handle(List<Change> changes) {
+        LocalDateTime horizon = LocalDateTime.now().minus(settleWindow);
+        // Several changes of one message collapse into one refresh; the earliest one gives the latency
+        Map<MessageId, LocalDateTime> remote = new LinkedHashMap<>();
+        long settledUpTo = cursor;
+        boolean settling = true;
+        for (Change change : changes) {
+            if (seen.add(change.id()) && !change.instanceId().equals(node.getInstanceId())) {
+                remote.putIfAbsent(MessageId.of(change.messageId()), change.changedAt());
+            }
+            settling = settling && change.changedAt().isBefore(horizon);
+            if (settling) {
+                settledUpTo = change.id();
+            }
+        }
+
+        if (!remote.isEmpty()) {
+            Map<MessageId, Message> current = messageRepository.findAllById(remote.keySet()).stream()
+                .collect(Collectors.toMap(Message::getId, Function.identity()));
+            remote.keySet().forEach(messageId ->
+                invalidations.fire(new ClusterInvalidation(messageId, current.get(messageId))));
+
+            LocalDateTime visibleAt = LocalDateTime.now();
+            for (LocalDateTime changedAt : remote.values()) {
+                long latency = Math.max(0, Duration.between(changedAt, visibleAt).toMillis());
+                lastLatencyMillis = latency;
+                maxLatencyMillis = Math.max(maxLatencyMillis, latency);
+            }
+            received.addAndGet(remote.size());
+        }
+
+        cursor = settledUpTo;
+        seen.removeIf(id -> id <= cursor);
+    }
+
+    private List<Change> loadAfter(long from) {
+        return MessageChangeEntity.<MessageChangeEntity>find("id > ?1 order by id", from)
+            .page(0, batchSize)
+            .stream()
+            .map(entity -> new Change(entity.id, entity.messageId, entity.instanceId, entity.changedAt))
+            .toList();
+    }
+
+    // Any instance may delete expired rows: the statement is idempotent
+    private void cleanUp() {
+        long now = System.currentTimeMillis();
+        if (now - lastCleanupMillis >= CLEANUP_INTERVAL_MILLIS) {
+            lastCleanupMillis = now;
+            QuarkusTransaction.requiringNew().run(() -> MessageChangeEntity.delete(
+                "changedAt < ?1", LocalDateTime.now().minus(retention)));
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(node.isEnabled(), node.getInstanceId(), cursor, received.get(), failures.get(),
+            lastLatencyMillis, maxLatencyMillis, lastPollAt);
+    }
+
+    private record Change(long id, String messageId, String instanceId, LocalDateTime changedAt) {
+    }
+
+    /**
+     * Snapshot of the bus progress
+     *
+     * @param received          remote message changes applied to the local caches
+     * @param lastLatencyMillis delay between a remote change and its invalidation here, for the last one
+     */
+    public record Stats(boolean enabled, String instanceId, long cursor, long received, long failures,
+                        long lastLatencyMillis, long maxLatencyMillis, LocalDateTime lastPollAt) {
+    }
+}
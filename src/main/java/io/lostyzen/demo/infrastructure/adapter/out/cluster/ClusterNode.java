@@ -0,0 +1,33 @@
+package io.lostyzen.demo.infrastructure.adapter.out.cluster;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Identity of this instance among the instances sharing the database
+ */
+@ApplicationScoped
+public class ClusterNode {
+
+    private final boolean enabled;
+    private final String instanceId;
+
+    @Inject
+    public ClusterNode(@ConfigProperty(name = "messages.cluster.enabled", defaultValue = "false") boolean enabled,
+                       @ConfigProperty(name = "messages.cluster.instance-id") Optional<String> instanceId) {
+        this.enabled = enabled;
+        this.instanceId = instanceId.orElseGet(() -> UUID.randomUUID().toString());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+}
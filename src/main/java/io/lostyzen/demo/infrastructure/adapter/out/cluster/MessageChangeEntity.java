@@ -0,0 +1,48 @@
+package io.lostyzen.demo.infrastructure.adapter.out.cluster;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity of the cluster change table
+ * One row per message change, written in the same transaction as the change, and read by every
+ * instance sharing the database to invalidate its in-memory copies of that message
+ */
+@Entity
+@Table(name = "message_changes", indexes = {
+    // Retention cleanup
+    @Index(name = "idx_message_changes_changed_at", columnList = "changed_at")
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class MessageChangeEntity extends PanacheEntityBase {
+
+    // No pooled allocation: IDs must follow allocation time across instances for the readers' cursor
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_changes_seq")
+    @SequenceGenerator(name = "message_changes_seq", sequenceName = "message_changes_seq", allocationSize = 1)
+    @Column(name = "id")
+    public Long id;
+
+    @Column(name = "message_id", length = 36, nullable = false)
+    public String messageId;
+
+    // Instance that made the change, which does not need to hear about it
+    @Column(name = "instance_id", length = 64, nullable = false)
+    public String instanceId;
+
+    @Column(name = "changed_at", nullable = false)
+    public LocalDateTime changedAt;
+
+    public MessageChangeEntity(String messageId, String instanceId, LocalDateTime changedAt) {
+        this.messageId = messageId;
+        this.instanceId = instanceId;
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package io.lostyzen.demo.infrastructure.adapter.out.event;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+
+/**
+ * CDI implementation of the event publisher
+ * Consumers observe MessageEvent with during = TransactionPhase.AFTER_SUCCESS, so they only see
+ * committed changes; outside a transaction they are notified immediately.
+ * The outbox recorder is the exception: it observes synchronously to write within the transaction.
+ */
+@ApplicationScoped
+public class CdiMessageEventPublisher implements MessageEventPublisher {
+
+    private final Event<MessageEvent> events;
+
+    @Inject
+    public CdiMessageEventPublisher(Event<MessageEvent> events) {
+        this.events = events;
+    }
+
+    @Override
+    public void publish(MessageEvent event) {
+        events.fire(event);
+    }
+}
@@ -0,0 +1,38 @@
+package io.lostyzen.demo.infrastructure.adapter.out.event;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JSON shape of a message event sent to external systems (outbox sinks, webhooks)
+ * Kept in one place so every outgoing channel describes an event the same way
+ */
+public final class MessageEventPayload {
+
+    private MessageEventPayload() {
+    }
+
+    public static Map<String, Object> of(MessageEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", event.getType());
+        payload.put("id", event.getMessageId().getValue());
+        Message message = event.getMessage();
+        if (message != null) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("content", message.getContent());
+            state.put("status", message.getStatus());
+            state.put("author", message.getAuthor());
+            state.put("createdAt", message.getCreatedAt());
+            state.put("updatedAt", message.getUpdatedAt());
+            state.put("publishedAt", message.getPublishedAt());
+            state.put("deletedAt", message.getDeletedAt());
+            state.put("publishAt", message.getPublishAt());
+            payload.put("message", state);
+        }
+        payload.put("occurredAt", event.getOccurredAt());
+        return payload;
+    }
+}
@@ -0,0 +1,37 @@
+package io.lostyzen.demo.infrastructure.adapter.out.feed;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the published feed state on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class PublishedFeedHealthCheck implements HealthCheck {
+
+    private final RingPublishedFeed feed;
+
+    @Inject
+    public PublishedFeedHealthCheck(RingPublishedFeed feed) {
+        this.feed = feed;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        RingPublishedFeed.Stats stats = feed.stats();
+        return HealthCheckResponse.named("message-feed")
+                .up()
+                .withData("warmed", stats.warmed())
+                .withData("capacity", stats.capacity())
+                .withData("messages", stats.messages())
+                .withData("appended", stats.appended())
+                .withData("hits", stats.hits())
+                .withData("fallbacks", stats.fallbacks())
+                .withData("warmedAt", String.valueOf(stats.warmedAt()))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package io.lostyzen.demo.infrastructure.adapter.out.feed;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring of the most recently published messages
+ * Each append claims the next sequence number and writes its slot (sequence modulo capacity), so the ring
+ * always holds the last capacity appends. Removals and replacements swap a slot entry with a CAS, keeping
+ * its sequence: readers walk back from the newest sequence and skip slots that hold another lap or a removal.
+ * Reads take no lock and allocate only the result list, whatever the size of the table.
+ */
+class PublishedRing {
+
+    // message is null once removed; the sequence stays, so a late writer of an older lap cannot take the slot
+    private record Entry(long sequence, Message message) {
+    }
+
+    private final int capacity;
+    private final AtomicReferenceArray<Entry> slots;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    PublishedRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    // Number of appends so far; beyond the capacity, older appends have been overwritten
+    long appended() {
+        return nextSequence.get();
+    }
+
+    void append(Message message) {
+        long sequence = nextSequence.getAndIncrement();
+        int slot = slot(sequence);
+        Entry entry = new Entry(sequence, message);
+        Entry current;
+        do {
+            current = slots.get(slot);
+            if (current != null && current.sequence() > sequence) {
+                return; // A later lap already took the slot: this message is no longer among the latest
+            }
+        } while (!slots.compareAndSet(slot, current, entry));
+    }
+
+    boolean remove(MessageId messageId) {
+        for (int slot = 0; slot < capacity; slot++) {
+            Entry current = slots.get(slot);
+            if (current != null && current.message() != null && current.message().getId().equals(messageId)) {
+                // A failed CAS means the slot was reused meanwhile: the message is gone anyway
+                return slots.compareAndSet(slot, current, new Entry(current.sequence(), null));
+            }
+        }
+        return false;
+    }
+
+    // State held for a message, or null when it is not in the ring
+    Message find(MessageId messageId) {
+        for (int slot = 0; slot < capacity; slot++) {
+            Entry current = slots.get(slot);
+            if (current != null && current.message() != null && current.message().getId().equals(messageId)) {
+                return current.message();
+            }
+        }
+        return null;
+    }
+
+    // Swaps in a newer state of a message that is still in the ring
+    boolean replace(Message message) {
+        for (int slot = 0; slot < capacity; slot++) {
+            Entry current = slots.get(slot);
+            if (current != null && current.message() != null && current.message().getId().equals(message.getId())) {
+                if (current.message().getUpdatedAt().isAfter(message.getUpdatedAt())) {
+                    return false;
+                }
+                return slots.compareAndSet(slot, current, new Entry(current.sequence(), message));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns up to limit messages, the most recently appended first.
+     * A slot claimed by an append still in progress is skipped.
+     */
+    List<Message> latest(int limit) {
+        long head = nextSequence.get();
+        long oldest = Math.max(0, head - capacity);
+        List<Message> result = new ArrayList<>(Math.min(limit, capacity));
+        for (long sequence = head - 1; sequence >= oldest && result.size() < limit; sequence--) {
+            Entry entry = slots.get(slot(sequence));
+            if (entry != null && entry.sequence() == sequence && entry.message() != null) {
+                result.add(entry.message());
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        int size = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            Entry entry = slots.get(slot);
+            if (entry != null && entry.message() != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % capacity);
+    }
+}
@@ -0,0 +1,198 @@
+package io.lostyzen.demo.infrastructure.adapter.out.feed;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageField;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.PublishedFeed;
+import io.lostyzen.demo.infrastructure.adapter.out.cluster.ClusterInvalidation;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Feed of the latest published messages, held in a lock-free ring
+ * Warmed from the database at startup on a background thread, then fed by committed events:
+ * a publication appends the message, an edit replaces it, an archive or a deletion removes it.
+ * Changes made by other instances arrive as cluster invalidations and are applied the same way.
+ * Removals leave holes: when the ring holds fewer messages than asked for while older publications
+ * may exist outside it, the use case falls back to the database.
+ */
+@ApplicationScoped
+public class RingPublishedFeed implements PublishedFeed {
+
+    private static final Logger LOG = Logger.getLogger(RingPublishedFeed.class);
+
+    private final MessageRepository messageRepository;
+    private final PublishedRing ring;
+
+    // Events are buffered until the warm-up has filled the ring, then the path is lock-free
+    private final Object warmUpLock = new Object();
+    private List<Runnable> pendingChanges = new ArrayList<>();
+    private volatile boolean warmed;
+    // True when the warm-up could not load every published message
+    private volatile boolean truncated;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+    private volatile LocalDateTime warmedAt;
+
+    @Inject
+    public RingPublishedFeed(MessageRepository messageRepository,
+                             @ConfigProperty(name = "messages.feed.capacity", defaultValue = "200") int capacity) {
+        this.messageRepository = messageRepository;
+        this.ring = new PublishedRing(capacity);
+    }
+
+    void start(@Observes StartupEvent event) {
+        Thread thread = new Thread(this::warmUp, "message-feed-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void warmUp() {
+        List<Message> latest;
+        try {
+            latest = messageRepository.findMatching(MessageCriteria.builder().status(MessageStatus.PUBLISHED).build(),
+                MessageField.PUBLISHED_AT, false, 0, ring.capacity() + 1);
+        } catch (RuntimeException e) {
+            LOG.error("Could not warm up the published feed, it is served by the database", e);
+            synchronized (warmUpLock) {
+                pendingChanges = null;
+            }
+            return;
+        }
+
+        synchronized (warmUpLock) {
+            truncated = latest.size() > ring.capacity();
+            // Oldest first, so the newest publication ends up at the head
+            for (int i = Math.min(latest.size(), ring.capacity()) - 1; i >= 0; i--) {
+                ring.append(copyOf(latest.get(i)));
+            }
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+            warmed = true;
+        }
+        warmedAt = LocalDateTime.now();
+        LOG.infof("Published feed warmed up with %d messages", ring.size());
+    }
+
+    // Runs in the writing thread right after the commit, so the writer's next read sees its change
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        onChange(() -> apply(event));
+    }
+
+    // A change committed by another instance: only its resulting state is known, not the transition
+    void onClusterInvalidation(@Observes ClusterInvalidation invalidation) {
+        onChange(() -> applyRemote(invalidation.messageId(), invalidation.message()));
+    }
+
+    private void onChange(Runnable change) {
+        if (!warmed) {
+            synchronized (warmUpLock) {
+                if (!warmed) {
+                    if (pendingChanges != null) {
+                        pendingChanges.add(change);
+                    }
+                    return;
+                }
+            }
+        }
+        change.run();
+    }
+
+    @Override
+    public Optional<List<Message>> findLatest(int limit) {
+        if (!warmed || limit > ring.capacity()) {
+            fallbacks.incrementAndGet();
+            return Optional.empty();
+        }
+        List<Message> latest = ring.latest(limit);
+        if (latest.size() < limit && mayMissOlder()) {
+            fallbacks.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(latest);
+    }
+
+    public Stats stats() {
+        return new Stats(warmed, ring.capacity(), ring.size(), ring.appended(), hits.get(), fallbacks.get(), warmedAt);
+    }
+
+    private void apply(MessageEvent event) {
+        Message message = event.getMessage();
+        if (event.getType() == MessageEvent.Type.CREATED && event.getStatus() != MessageStatus.PUBLISHED) {
+            return; // A new message is a draft, unless it was inserted directly in the database
+        }
+        if (message == null || message.getStatus() != MessageStatus.PUBLISHED) {
+            ring.remove(event.getMessageId());
+        } else if (event.getType() == MessageEvent.Type.PUBLISHED || event.getType() == MessageEvent.Type.CREATED) {
+            // A (re)published message moves to the head
+            ring.remove(message.getId());
+            ring.append(copyOf(message));
+        } else {
+            ring.replace(copyOf(message));
+        }
+    }
+
+    private void applyRemote(MessageId messageId, Message message) {
+        if (message == null || message.getStatus() != MessageStatus.PUBLISHED) {
+            ring.remove(messageId);
+            return;
+        }
+        Message held = ring.find(messageId);
+        if (held != null && held.getPublishedAt().equals(message.getPublishedAt())) {
+            ring.replace(copyOf(message));
+        } else if (held != null || !olderThanRing(message)) {
+            // Published (again) since the ring last saw it: it moves to the head
+            ring.remove(messageId);
+            ring.append(copyOf(message));
+        }
+    }
+
+    // An edit of a publication the ring no longer covers must not bring it back
+    private boolean olderThanRing(Message message) {
+        if (!mayMissOlder()) {
+            return false;
+        }
+        List<Message> held = ring.latest(ring.capacity());
+        return !held.isEmpty() && message.getPublishedAt().isBefore(held.get(held.size() - 1).getPublishedAt());
+    }
+
+    // Publications older than the ring exist once it has wrapped, or when the warm-up had to leave some out
+    private boolean mayMissOlder() {
+        return truncated || ring.appended() > ring.capacity();
+    }
+
+    // Own copy: the event's instance stays with the caller that raised it
+    private static Message copyOf(Message message) {
+        return new Message(message.getId(), message.getContent(), message.getStatus(), message.getAuthor(),
+            message.getCreatedAt(), message.getUpdatedAt(), message.getPublishedAt(), message.getDeletedAt(),
+            message.getPublishAt());
+    }
+
+    /**
+     * Snapshot of the feed state
+     *
+     * @param messages  published messages currently in the ring
+     * @param appended  publications appended since startup, warm-up included
+     * @param fallbacks reads the ring could not answer, served by the database
+     */
+    public record Stats(boolean warmed, int capacity, int messages, long appended, long hits, long fallbacks,
+                        LocalDateTime warmedAt) {
+    }
+}
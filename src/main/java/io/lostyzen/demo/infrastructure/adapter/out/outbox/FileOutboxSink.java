@@ -0,0 +1,43 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import io.quarkus.arc.Unremovable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sink appending each entry payload as one line of a JSON Lines file
+ * A batch is written with a single append and forced to disk before it is acknowledged
+ */
+@ApplicationScoped
+@Named("file")
+@Unremovable
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+
+    @Inject
+    public FileOutboxSink(@ConfigProperty(name = "messages.outbox.file.path", defaultValue = "data/outbox.jsonl")
+                          Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> batch) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        batch.forEach(message -> lines.append(message.payload()).append('\n'));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, lines, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+    }
+}
@@ -0,0 +1,28 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import io.quarkus.arc.Unremovable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sink keeping delivered entries in memory, for tests and local experiments
+ */
+@ApplicationScoped
+@Named("memory")
+@Unremovable
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxMessage> delivered = new ArrayList<>();
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> batch) {
+        delivered.addAll(batch);
+    }
+
+    public synchronized List<OutboxMessage> getDelivered() {
+        return List.copyOf(delivered);
+    }
+}
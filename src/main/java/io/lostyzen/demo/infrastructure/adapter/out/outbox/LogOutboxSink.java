@@ -0,0 +1,25 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import io.quarkus.arc.Unremovable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+
+/**
+ * Default sink: writes each entry to the application log
+ */
+@ApplicationScoped
+@Named("log")
+@Unremovable
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger LOG = Logger.getLogger(LogOutboxSink.class);
+
+    @Override
+    public void deliver(List<OutboxMessage> batch) {
+        batch.forEach(message -> LOG.infof("Outbox %d %s %s: %s",
+            message.id(), message.eventType(), message.messageId(), message.payload()));
+    }
+}
@@ -0,0 +1,57 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity of the transactional outbox
+ * A row is written in the same transaction as the message change it describes,
+ * then marked delivered by the relay once the sink has accepted it
+ */
+@Entity
+@Table(name = "message_outbox", indexes = {
+    // Pending entries in insertion order
+    @Index(name = "idx_message_outbox_delivered_at_id", columnList = "delivered_at, id")
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class OutboxEntryEntity extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_outbox_seq")
+    @SequenceGenerator(name = "message_outbox_seq", sequenceName = "message_outbox_seq", allocationSize = 50)
+    @Column(name = "id")
+    public Long id;
+
+    @Column(name = "event_type", length = 16, nullable = false)
+    public String eventType;
+
+    @Column(name = "message_id", length = 36, nullable = false)
+    public String messageId;
+
+    // JSON of the event, including the message state after the change
+    @Column(name = "payload", length = 8000, nullable = false)
+    public String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    public LocalDateTime occurredAt;
+
+    @Column(name = "delivered_at")
+    public LocalDateTime deliveredAt; // Null until the sink has accepted the entry
+
+    @Column(name = "attempts", nullable = false)
+    public int attempts;
+
+    @Column(name = "last_error", length = 500)
+    public String lastError;
+
+    public OutboxMessage toOutboxMessage() {
+        return new OutboxMessage(id, eventType, messageId, payload, occurredAt, attempts);
+    }
+}
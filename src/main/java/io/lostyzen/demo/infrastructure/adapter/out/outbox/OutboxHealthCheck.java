@@ -0,0 +1,35 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the outbox relay progress on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class OutboxHealthCheck implements HealthCheck {
+
+    private final OutboxRelay relay;
+
+    @Inject
+    public OutboxHealthCheck(OutboxRelay relay) {
+        this.relay = relay;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        OutboxRelay.Stats stats = relay.stats();
+        return HealthCheckResponse.named("message-outbox")
+                .up()
+                .withData("pending", stats.pending())
+                .withData("lagMillis", stats.lagMillis())
+                .withData("delivered", stats.delivered())
+                .withData("failures", stats.failures())
+                .withData("lastDeliveryAt", String.valueOf(stats.lastDeliveryAt()))
+                .build();
+    }
+}
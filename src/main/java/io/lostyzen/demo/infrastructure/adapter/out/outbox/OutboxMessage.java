@@ -0,0 +1,17 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox entry handed to a sink
+ * Delivery is at least once: a sink may see the same ID again after a failure or a restart
+ *
+ * @param id        outbox ID, increasing; lets consumers drop duplicates
+ * @param eventType CREATED, UPDATED, PUBLISHED, ARCHIVED or DELETED
+ * @param messageId ID of the changed message
+ * @param payload   JSON of the event
+ * @param attempts  previous failed deliveries
+ */
+public record OutboxMessage(long id, String eventType, String messageId, String payload,
+                            LocalDateTime occurredAt, int attempts) {
+}
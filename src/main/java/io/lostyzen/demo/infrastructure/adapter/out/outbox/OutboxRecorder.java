@@ -0,0 +1,49 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.infrastructure.adapter.out.event.MessageEventPayload;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes message events to the outbox table inside the transaction that raised them
+ * The observer is synchronous (TransactionPhase.IN_PROGRESS): if the outbox insert fails, the message
+ * change rolls back with it, and a rolled-back change never leaves an outbox row behind.
+ */
+@ApplicationScoped
+public class OutboxRecorder {
+
+    private final ObjectMapper objectMapper;
+    private final Set<MessageEvent.Type> recordedTypes;
+
+    @Inject
+    public OutboxRecorder(ObjectMapper objectMapper,
+                          @ConfigProperty(name = "messages.outbox.event-types", defaultValue = "PUBLISHED,DELETED")
+                          List<MessageEvent.Type> recordedTypes) {
+        this.objectMapper = objectMapper;
+        this.recordedTypes = EnumSet.copyOf(recordedTypes);
+    }
+
+    // Joins the use case transaction
+    @Transactional
+    void record(@Observes MessageEvent event) throws JsonProcessingException {
+        if (!recordedTypes.contains(event.getType())) {
+            return;
+        }
+        OutboxEntryEntity entry = new OutboxEntryEntity();
+        entry.eventType = event.getType().name();
+        entry.messageId = event.getMessageId().getValue();
+        entry.payload = objectMapper.writeValueAsString(MessageEventPayload.of(event));
+        entry.occurredAt = event.getOccurredAt();
+        entry.persist();
+    }
+}
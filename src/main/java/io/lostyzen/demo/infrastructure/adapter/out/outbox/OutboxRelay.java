@@ -0,0 +1,144 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background relay from the outbox table to the configured sink
+ * Each poll drains pending entries in batches: read a batch, deliver it, then mark it delivered.
+ * A crash between delivery and marking re-delivers the batch, hence at-least-once delivery.
+ * No database lock is held while the sink works, so the relay never slows down the write path.
+ */
+@ApplicationScoped
+public class OutboxRelay {
+
+    private static final Logger LOG = Logger.getLogger(OutboxRelay.class);
+
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final Duration retention;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile LocalDateTime lastDeliveryAt;
+    private ScheduledExecutorService executor;
+
+    @Inject
+    public OutboxRelay(@Any Instance<OutboxSink> sinks,
+                       @ConfigProperty(name = "messages.outbox.sink", defaultValue = "log") String sinkName,
+                       @ConfigProperty(name = "messages.outbox.batch-size", defaultValue = "100") int batchSize,
+                       @ConfigProperty(name = "messages.outbox.poll-interval-ms", defaultValue = "500")
+                       long pollIntervalMillis,
+                       @ConfigProperty(name = "messages.outbox.retention", defaultValue = "PT24H") Duration retention) {
+        Instance<OutboxSink> selected = sinks.select(NamedLiteral.of(sinkName));
+        if (!selected.isResolvable()) {
+            throw new IllegalArgumentException("Unknown outbox sink: " + sinkName);
+        }
+        this.sink = selected.get();
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retention = retention;
+    }
+
+    void start(@Observes StartupEvent event) {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Delivers pending entries until the outbox is drained or the sink fails.
+     * A failed batch stays pending and is retried, in order, at the next poll.
+     */
+    void poll() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<OutboxMessage> batch = QuarkusTransaction.requiringNew().call(this::loadPending);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Long> ids = batch.stream().map(OutboxMessage::id).toList();
+                try {
+                    sink.deliver(batch);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                    LOG.warnf("Outbox delivery of %d entries failed, retrying later: %s", batch.size(), e.getMessage());
+                    QuarkusTransaction.requiringNew().run(() -> recordFailure(ids, e));
+                    break;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                QuarkusTransaction.requiringNew().run(() -> OutboxEntryEntity.update(
+                    "deliveredAt = ?1 where id in ?2", now, ids));
+                delivered.addAndGet(batch.size());
+                lastDeliveryAt = now;
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+            QuarkusTransaction.requiringNew().run(() -> OutboxEntryEntity.delete(
+                "deliveredAt < ?1", LocalDateTime.now().minus(retention)));
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive
+            LOG.error("Outbox relay poll failed", e);
+        }
+    }
+
+    private List<OutboxMessage> loadPending() {
+        return OutboxEntryEntity.<OutboxEntryEntity>find("deliveredAt is null order by id")
+            .page(0, batchSize)
+            .stream()
+            .map(OutboxEntryEntity::toOutboxMessage)
+            .toList();
+    }
+
+    private static void recordFailure(List<Long> ids, Exception error) {
+        String message = String.valueOf(error.getMessage());
+        OutboxEntryEntity.update("attempts = attempts + 1, lastError = ?1 where id in ?2",
+            message.length() > 500 ? message.substring(0, 500) : message, ids);
+    }
+
+    public Stats stats() {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            OutboxEntryEntity oldest = OutboxEntryEntity.<OutboxEntryEntity>find("deliveredAt is null order by id")
+                .firstResult();
+            long pending = OutboxEntryEntity.count("deliveredAt is null");
+            long lagMillis = oldest == null ? 0 : Duration.between(oldest.occurredAt, LocalDateTime.now()).toMillis();
+            return new Stats(pending, lagMillis, delivered.get(), failures.get(), lastDeliveryAt);
+        });
+    }
+
+    /**
+     * Snapshot of the relay progress
+     *
+     * @param lagMillis age of the oldest pending entry
+     */
+    public record Stats(long pending, long lagMillis, long delivered, long failures, LocalDateTime lastDeliveryAt) {
+    }
+}
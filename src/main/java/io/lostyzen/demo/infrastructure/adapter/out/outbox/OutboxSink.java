@@ -0,0 +1,16 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the outbox relay (broker, file, log...)
+ * Implementations are CDI beans named after the value of messages.outbox.sink
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers a batch of entries, oldest first.
+     * Returning normally acknowledges the whole batch; throwing makes the relay retry it later.
+     */
+    void deliver(List<OutboxMessage> batch) throws Exception;
+}
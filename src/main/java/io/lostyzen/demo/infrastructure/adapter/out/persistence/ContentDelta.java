@@ -0,0 +1,144 @@
+package io.lostyzen.demo.infrastructure.adapter.out.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary encoding of stored revisions
+ * A checkpoint holds the whole content. A delta holds what changed against the previous revision:
+ * the lengths of the unchanged prefix and suffix, and the text that replaced the middle.
+ * Typical edits (a typo, an added sentence) thus cost a few bytes instead of the whole content.
+ * Either form is deflated when that makes it smaller; the first byte says which.
+ */
+final class ContentDelta {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    // Below this size deflate headers outweigh any gain
+    private static final int MIN_DEFLATE_SIZE = 64;
+
+    private ContentDelta() {
+    }
+
+    static byte[] checkpoint(String content) {
+        return pack(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String readCheckpoint(byte[] data) {
+        return new String(unpack(data), StandardCharsets.UTF_8);
+    }
+
+    static byte[] delta(String from, String to) {
+        int max = Math.min(from.length(), to.length());
+        int prefix = 0;
+        while (prefix < max && from.charAt(prefix) == to.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && from.charAt(from.length() - 1 - suffix) == to.charAt(to.length() - 1 - suffix)) {
+            suffix++;
+        }
+        // Never split a surrogate pair: the replaced middle must be valid text on its own
+        if (prefix > 0 && Character.isHighSurrogate(to.charAt(prefix - 1))) {
+            prefix--;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(to.charAt(to.length() - suffix))) {
+            suffix--;
+        }
+
+        byte[] middle = to.substring(prefix, to.length() - suffix).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(middle.length + 6);
+        writeVarInt(out, prefix);
+        writeVarInt(out, suffix);
+        out.writeBytes(middle);
+        return pack(out.toByteArray());
+    }
+
+    static String applyDelta(String base, byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(unpack(data));
+        int prefix = readVarInt(buffer);
+        int suffix = readVarInt(buffer);
+        if (prefix + suffix > base.length()) {
+            throw new IllegalStateException("Delta does not apply to a " + base.length() + "-character base");
+        }
+        String middle = StandardCharsets.UTF_8.decode(buffer).toString();
+        return base.substring(0, prefix) + middle + base.substring(base.length() - suffix);
+    }
+
+    private static byte[] pack(byte[] body) {
+        if (body.length >= MIN_DEFLATE_SIZE) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(body);
+                deflater.finish();
+                byte[] buffer = new byte[body.length];
+                int length = deflater.deflate(buffer);
+                if (deflater.finished() && length < body.length) {
+                    return withHeader(DEFLATED, buffer, length);
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+        return withHeader(RAW, body, body.length);
+    }
+
+    private static byte[] unpack(byte[] data) {
+        byte[] body = Arrays.copyOfRange(data, 1, data.length);
+        if (data[0] == RAW) {
+            return body;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(body);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("Truncated revision data");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted revision data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] body, int length) {
+        byte[] data = new byte[length + 1];
+        data[0] = header;
+        System.arraycopy(body, 0, data, 1, length);
+        return data;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -1,14 +1,45 @@
 package io.lostyzen.demo.infrastructure.adapter.out.persistence;
 
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
+import io.lostyzen.demo.domain.model.ChangeCursor;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageField;
 import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageProjection;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageView;
+import io.lostyzen.demo.domain.model.MessageViews;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.infrastructure.adapter.out.cluster.ClusterInvalidation;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
 
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * JPA implementation of the message repository
@@ -18,8 +49,28 @@ import java.util.Optional;
 @Transactional
 public class JpaMessageRepository implements MessageRepository {
 
+    // Keeps IN lists well below database parameter limits
+    static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    // Prefix distinguishing this process, so versions never repeat across restarts
+    private final String instanceTag = Long.toHexString(System.currentTimeMillis());
+    private final AtomicLong writeVersion = new AtomicLong();
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    // Rows updated per transaction by criteria-based transitions, bounding lock hold time
+    @ConfigProperty(name = "messages.bulk.chunk-size", defaultValue = "500")
+    int bulkChunkSize;
+
+    // updatedAt is set before commit, so the most recent changes may still be in flight in other
+    // transactions; the change feed stops short of them so a cursor never skips a late commit
+    @ConfigProperty(name = "messages.changes.settle-window-ms", defaultValue = "1000")
+    long changesSettleWindowMs;
+
     @Override
     public Message save(Message message) {
+        bumpVersionAfterCompletion();
         MessageEntity entity = MessageEntity.findById(message.getId().getValue());
 
         if (entity == null) {
@@ -34,12 +85,133 @@ public class JpaMessageRepository implements MessageRepository {
         return entity.toDomainModel();
     }
 
+    @Override
+    public List<Message> saveAll(Collection<Message> messages) {
+        bumpVersionAfterCompletion();
+        // A bulk transition loaded these rows earlier in the transaction: they are reused, not queried again
+        List<MessageEntity> entities = findEntitiesById(messages.stream().map(Message::getId).toList());
+        Map<String, MessageEntity> entitiesById = new HashMap<>();
+        entities.forEach(entity -> entitiesById.put(entity.id, entity));
+
+        List<Message> saved = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            MessageEntity entity = entitiesById.get(message.getId().getValue());
+            if (entity == null) {
+                entity = new MessageEntity(message);
+                entity.persist();
+            } else {
+                entity.updateFromDomainModel(message);
+            }
+            saved.add(entity.toDomainModel());
+        }
+
+        // One flush: Hibernate groups the identical UPDATE statements into JDBC batches
+        MessageEntity.flush();
+        return saved;
+    }
+
     @Override
     public Optional<Message> findById(MessageId id) {
         MessageEntity entity = MessageEntity.findById(id.getValue());
         return entity != null ? Optional.of(entity.toDomainModel()) : Optional.empty();
     }
 
+    @Override
+    public List<Message> findAllById(Collection<MessageId> ids) {
+        return findEntitiesById(ids).stream()
+                .map(MessageEntity::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public List<Message> findMatching(MessageCriteria criteria, MessageField sortField, boolean ascending,
+                                      int offset, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        String direction = ascending ? " asc" : " desc";
+        // The sort field comes from the MessageQuery allow-list, never from raw user input
+        TypedQuery<MessageEntity> query = MessageEntity.getEntityManager().createQuery(
+                "from MessageEntity m where " + criteriaCondition(criteria, parameters)
+                        + " order by m." + sortField.getFieldName() + direction + " nulls last, m.id" + direction,
+                MessageEntity.class);
+        parameters.forEach(query::setParameter);
+        return query.setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(MessageEntity::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public List<Message> findMatchingOlderThan(MessageCriteria criteria, LocalDateTime beforeCreatedAt,
+                                               MessageId beforeId, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        String condition = criteriaCondition(criteria, parameters);
+        if (beforeCreatedAt != null) {
+            // (createdAt, id) < cursor, written so the range on created_at drives the index scan
+            condition += " and m.createdAt <= :beforeCreatedAt and (m.createdAt < :beforeCreatedAt or m.id < :beforeId)";
+            parameters.put("beforeCreatedAt", beforeCreatedAt);
+            parameters.put("beforeId", beforeId.getValue());
+        }
+        TypedQuery<MessageEntity> query = MessageEntity.getEntityManager().createQuery(
+                "from MessageEntity m where " + condition + " order by m.createdAt desc, m.id desc",
+                MessageEntity.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit)
+                .getResultStream()
+                .map(MessageEntity::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public List<Message> findChangedSince(ChangeCursor since, int limit) {
+        LocalDateTime horizon = LocalDateTime.now().minus(changesSettleWindowMs, ChronoUnit.MILLIS);
+        TypedQuery<MessageEntity> query;
+        if (since == null) {
+            query = MessageEntity.getEntityManager().createQuery(
+                    "from MessageEntity m where m.updatedAt < :horizon order by m.updatedAt, m.id",
+                    MessageEntity.class);
+        } else {
+            // (updatedAt, id) > cursor, written so the range on updated_at drives the index scan
+            query = MessageEntity.getEntityManager().createQuery(
+                    "from MessageEntity m where m.updatedAt >= :updatedAt"
+                            + " and (m.updatedAt > :updatedAt or m.id > :lastId)"
+                            + " and m.updatedAt < :horizon order by m.updatedAt, m.id",
+                    MessageEntity.class)
+                    .setParameter("updatedAt", since.getUpdatedAt())
+                    .setParameter("lastId", since.getLastId().getValue());
+        }
+        return query.setParameter("horizon", horizon)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(MessageEntity::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public List<Message> findScheduledBefore(LocalDateTime until, LocalDateTime afterPublishAt, MessageId afterId,
+                                             int limit) {
+        TypedQuery<MessageEntity> query;
+        if (afterPublishAt == null) {
+            query = MessageEntity.getEntityManager().createQuery(
+                    "from MessageEntity m where m.publishAt < :until order by m.publishAt, m.id",
+                    MessageEntity.class);
+        } else {
+            // (publishAt, id) > cursor, written so the range on publish_at drives the index scan
+            query = MessageEntity.getEntityManager().createQuery(
+                    "from MessageEntity m where m.publishAt >= :publishAt"
+                            + " and (m.publishAt > :publishAt or m.id > :lastId)"
+                            + " and m.publishAt < :until order by m.publishAt, m.id",
+                    MessageEntity.class)
+                    .setParameter("publishAt", afterPublishAt)
+                    .setParameter("lastId", afterId.getValue());
+        }
+        return query.setParameter("until", until)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(MessageEntity::toDomainModel)
+                .toList();
+    }
+
     @Override
     public List<Message> findByStatus(MessageStatus status) {
         return MessageEntity.<MessageEntity>list("status", status)
@@ -64,8 +236,87 @@ public class JpaMessageRepository implements MessageRepository {
                 .toList();
     }
 
+    @Override
+    public List<MessageProjection> findByStatus(MessageStatus status, MessageView view) {
+        return findProjected(view, "m.status = :status", Map.of("status", status));
+    }
+
+    @Override
+    public List<MessageProjection> findByAuthor(String author, MessageView view) {
+        return findProjected(view, "m.author = :author", Map.of("author", author));
+    }
+
+    @Override
+    public List<MessageProjection> findAllActive(MessageView view) {
+        return findProjected(view, "m.status <> :status", Map.of("status", MessageStatus.DELETED));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public long transitionMatching(MessageCriteria criteria, MessageStatus targetStatus,
+                                   Consumer<List<Message>> onChunk) {
+        // Same rule as Message.publish()/archive()/delete(): only allowed source statuses are touched
+        Set<MessageStatus> sources = MessageStatus.sourcesOf(targetStatus);
+        if (!criteria.getStatuses().isEmpty()) {
+            sources.retainAll(criteria.getStatuses());
+        }
+        if (sources.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Object> parameters = new HashMap<>();
+        String condition = criteriaCondition(criteria.toBuilder().clearStatuses().statuses(sources).build(), parameters);
+
+        // Keyset over the primary key: each chunk selects the next IDs, then updates them in one statement
+        long affected = 0;
+        String lastId = "";
+        while (true) {
+            String after = lastId;
+            ChunkResult chunk = QuarkusTransaction.requiringNew()
+                    .call(() -> transitionChunk(condition, parameters, targetStatus, after, onChunk));
+            if (chunk.lastId() == null) {
+                return affected;
+            }
+            affected += chunk.changed().size();
+            lastId = chunk.lastId();
+        }
+    }
+
+    @Override
+    public List<Message> archivePublishedBefore(LocalDateTime cutoff, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("publishedStatus", MessageStatus.PUBLISHED);
+        parameters.put("cutoff", cutoff);
+        String condition = "m.status = :publishedStatus and m.publishedAt < :cutoff";
+
+        // Oldest first: a range scan of idx_messages_status_published_at, stopped after limit rows
+        TypedQuery<String> select = MessageEntity.getEntityManager().createQuery(
+                "select m.id from MessageEntity m where " + condition + " order by m.publishedAt, m.id",
+                String.class);
+        parameters.forEach(select::setParameter);
+        List<String> ids = select.setMaxResults(limit).getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return applyTransition(condition, parameters, MessageStatus.ARCHIVED, ids);
+    }
+
+    @Override
+    public long countPublishedBefore(LocalDateTime cutoff) {
+        return MessageEntity.count("status = ?1 and publishedAt < ?2", MessageStatus.PUBLISHED, cutoff);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestPublishedAt() {
+        return Optional.ofNullable(MessageEntity.getEntityManager().createQuery(
+                "select min(m.publishedAt) from MessageEntity m where m.status = :status", LocalDateTime.class)
+                .setParameter("status", MessageStatus.PUBLISHED)
+                .getSingleResult());
+    }
+
     @Override
     public void deleteById(MessageId id) {
+        bumpVersionAfterCompletion();
         MessageEntity.deleteById(id.getValue());
     }
 
@@ -73,4 +324,311 @@ public class JpaMessageRepository implements MessageRepository {
     public long countByStatus(MessageStatus status) {
         return MessageEntity.count("status", status);
     }
+
+    @Override
+    public Map<MessageStatus, Long> countGroupedByStatus() {
+        Map<MessageStatus, Long> counts = new EnumMap<>(MessageStatus.class);
+        MessageEntity.getEntityManager().createQuery(
+                        "select m.status, count(m) from MessageEntity m group by m.status", Tuple.class)
+                .getResultList()
+                .forEach(row -> counts.put(row.get(0, MessageStatus.class), row.get(1, Long.class)));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> countByAuthors(Collection<String> authors, Set<MessageStatus> statuses) {
+        Map<String, Long> counts = new HashMap<>();
+        List<String> values = List.copyOf(authors);
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            MessageEntity.getEntityManager().createQuery(
+                            "select m.author, count(m) from MessageEntity m"
+                                    + " where m.author in :authors and m.status in :statuses group by m.author",
+                            Tuple.class)
+                    .setParameter("authors", values.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, values.size())))
+                    .setParameter("statuses", statuses)
+                    .getResultList()
+                    .forEach(row -> counts.put(row.get(0, String.class), row.get(1, Long.class)));
+        }
+        return counts;
+    }
+
+    /**
+     * Ranks each author's messages with row_number() so the per-author limit is applied by the database.
+     * The ranking walks the (author, status) index; only the kept rows are read in full.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Message> findLatestByAuthors(Collection<String> authors, Set<MessageStatus> statuses,
+                                             int limitPerAuthor) {
+        List<String> values = List.copyOf(authors);
+        List<String> statusNames = statuses.stream().map(Enum::name).toList();
+        List<Message> messages = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<MessageEntity> entities = MessageEntity.getEntityManager().createNativeQuery(
+                            "select m.* from messages m join ("
+                                    + "select id, row_number() over (partition by author order by created_at desc, id desc) as author_rank"
+                                    + " from messages where author in (:authors) and status in (:statuses)"
+                                    + ") ranked on ranked.id = m.id"
+                                    + " where ranked.author_rank <= :limit"
+                                    + " order by m.author, m.created_at desc, m.id desc",
+                            MessageEntity.class)
+                    .setParameter("authors", values.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, values.size())))
+                    .setParameter("statuses", statusNames)
+                    .setParameter("limit", limitPerAuthor)
+                    .getResultList();
+            entities.forEach(entity -> messages.add(entity.toDomainModel()));
+        }
+        return messages;
+    }
+
+    /**
+     * Counters are excluded from the entity updates (updatable = false) and only move here, by increments.
+     * Views are not part of the message representation, so the collection version does not change.
+     */
+    @Override
+    public void addViews(Map<MessageId, Long> deltas) {
+        // Sorted: concurrent flushes (several instances) lock the rows in the same order and cannot deadlock
+        List<Map.Entry<String, Long>> rows = deltas.entrySet().stream()
+                .map(delta -> Map.entry(delta.getKey().getValue(), delta.getValue()))
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        MessageEntity.getEntityManager().unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement update = connection.prepareStatement(
+                    "update messages set views = views + ? where id = ?")) {
+                for (Map.Entry<String, Long> row : rows) {
+                    update.setLong(1, row.getValue());
+                    update.setString(2, row.getKey());
+                    update.addBatch();
+                }
+                update.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public Map<MessageId, Long> findPublishedViews(Collection<MessageId> ids) {
+        Map<MessageId, Long> views = new HashMap<>();
+        List<String> values = ids.stream().map(MessageId::getValue).toList();
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            MessageEntity.getEntityManager().createQuery(
+                            "select m.id, m.views from MessageEntity m where m.id in :ids and m.status = :status",
+                            Tuple.class)
+                    .setParameter("ids", values.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, values.size())))
+                    .setParameter("status", MessageStatus.PUBLISHED)
+                    .getResultList()
+                    .forEach(row -> views.put(MessageId.of(row.get(0, String.class)), row.get(1, Long.class)));
+        }
+        return views;
+    }
+
+    @Override
+    public List<MessageViews> findMostViewed(int limit) {
+        return MessageEntity.getEntityManager().createQuery(
+                        "select m.id, m.views from MessageEntity m where m.status = :status and m.views > 0"
+                                + " order by m.views desc, m.id",
+                        Tuple.class)
+                .setParameter("status", MessageStatus.PUBLISHED)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(row -> new MessageViews(MessageId.of(row.get(0, String.class)), row.get(1, Long.class)))
+                .toList();
+    }
+
+    @Override
+    public String getCollectionVersion() {
+        return instanceTag + "-" + writeVersion.get();
+    }
+
+    // Another instance committed a write: the collection tags served so far are outdated
+    @Transactional(Transactional.TxType.SUPPORTS)
+    void onClusterInvalidation(@Observes ClusterInvalidation invalidation) {
+        writeVersion.incrementAndGet();
+    }
+
+    // Writes captured from outside the application reach the pipeline as events only. The lists served from
+    // the read model do not rely on this: their tag also carries the read model version, moved after the apply
+    @Transactional(Transactional.TxType.SUPPORTS)
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        writeVersion.incrementAndGet();
+    }
+
+    private ChunkResult transitionChunk(String condition, Map<String, Object> parameters,
+                                        MessageStatus targetStatus, String afterId,
+                                        Consumer<List<Message>> onChunk) {
+        TypedQuery<String> select = MessageEntity.getEntityManager().createQuery(
+                "select m.id from MessageEntity m where " + condition + " and m.id > :afterId order by m.id",
+                String.class);
+        parameters.forEach(select::setParameter);
+        List<String> ids = select.setParameter("afterId", afterId)
+                .setMaxResults(bulkChunkSize)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return new ChunkResult(null, List.of());
+        }
+
+        List<Message> changed = applyTransition(condition, parameters, targetStatus, ids);
+        // Still inside the chunk transaction: what the callback writes commits or rolls back with the chunk
+        onChunk.accept(changed);
+        return new ChunkResult(ids.get(ids.size() - 1), changed);
+    }
+
+    /**
+     * Moves the selected rows still matching the condition to the target status in one UPDATE
+     *
+     * @return the changed messages, reloaded in their new state
+     */
+    private List<Message> applyTransition(String condition, Map<String, Object> parameters,
+                                          MessageStatus targetStatus, List<String> ids) {
+        if (ids.size() <= IN_CLAUSE_CHUNK_SIZE) {
+            return applyTransitionChunk(condition, parameters, targetStatus, ids);
+        }
+        // Larger selections (a chunk size or an expiry batch configured above the limit) are split
+        List<Message> changed = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            changed.addAll(applyTransitionChunk(condition, parameters, targetStatus,
+                ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()))));
+        }
+        return changed;
+    }
+
+    private List<Message> applyTransitionChunk(String condition, Map<String, Object> parameters,
+                                               MessageStatus targetStatus, List<String> ids) {
+        // The condition is repeated so rows changed since the select are left alone
+        StringJoiner assignments = new StringJoiner(", ");
+        // Any transition fulfils or cancels a scheduled publication
+        assignments.add("m.status = :targetStatus").add("m.updatedAt = :now").add("m.publishAt = null");
+        if (targetStatus == MessageStatus.PUBLISHED) {
+            assignments.add("m.publishedAt = :now");
+        } else if (targetStatus == MessageStatus.DELETED) {
+            assignments.add("m.deletedAt = :now");
+        }
+        var update = MessageEntity.getEntityManager().createQuery(
+                "update MessageEntity m set " + assignments + " where m.id in :ids and " + condition);
+        parameters.forEach(update::setParameter);
+        // Truncated to the column precision so the reload below can match on it
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated = update.setParameter("targetStatus", targetStatus)
+                .setParameter("now", now)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        if (updated == 0) {
+            return List.of();
+        }
+        bumpVersionAfterCompletion();
+
+        // Reload what this statement changed, so callers can publish the new states
+        return MessageEntity.<MessageEntity>list(
+                        "id in ?1 and status = ?2 and updatedAt = ?3", ids, targetStatus, now)
+                .stream()
+                .map(MessageEntity::toDomainModel)
+                .toList();
+    }
+
+    private static String criteriaCondition(MessageCriteria criteria, Map<String, Object> parameters) {
+        StringJoiner condition = new StringJoiner(" and ");
+        condition.setEmptyValue("1 = 1");
+        if (!criteria.getStatuses().isEmpty()) {
+            condition.add("m.status in :statuses");
+            parameters.put("statuses", criteria.getStatuses());
+        }
+        if (criteria.getAuthor() != null) {
+            condition.add("m.author = :author");
+            parameters.put("author", criteria.getAuthor());
+        }
+        if (criteria.getCreatedFrom() != null) {
+            condition.add("m.createdAt >= :createdFrom");
+            parameters.put("createdFrom", criteria.getCreatedFrom());
+        }
+        if (criteria.getCreatedTo() != null) {
+            condition.add("m.createdAt < :createdTo");
+            parameters.put("createdTo", criteria.getCreatedTo());
+        }
+        if (criteria.getPublishedFrom() != null) {
+            condition.add("m.publishedAt >= :publishedFrom");
+            parameters.put("publishedFrom", criteria.getPublishedFrom());
+        }
+        if (criteria.getPublishedTo() != null) {
+            condition.add("m.publishedAt < :publishedTo");
+            parameters.put("publishedTo", criteria.getPublishedTo());
+        }
+        return condition.toString();
+    }
+
+    private record ChunkResult(String lastId, List<Message> changed) {
+    }
+
+    // Entities the transaction already holds come from the persistence context without a query;
+    // the others are loaded with IN lists of at most IN_CLAUSE_CHUNK_SIZE IDs
+    private List<MessageEntity> findEntitiesById(Collection<MessageId> ids) {
+        List<String> values = ids.stream().map(MessageId::getValue).distinct().toList();
+        return MessageEntity.getEntityManager().unwrap(Session.class)
+                .byMultipleIds(MessageEntity.class)
+                .enableSessionCheck(true)
+                .withBatchSize(IN_CLAUSE_CHUNK_SIZE)
+                .multiLoad(values)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Selects only the columns of the view, so unused fields are neither read nor transferred.
+     * The content excerpt is cut by the database with substring().
+     */
+    private List<MessageProjection> findProjected(MessageView view, String condition, Map<String, Object> parameters) {
+        List<MessageField> fields = new ArrayList<>(view.getFields());
+        List<String> selectItems = fields.stream()
+                .map(field -> selectItem(field, view))
+                .toList();
+
+        TypedQuery<Tuple> query = MessageEntity.getEntityManager().createQuery(
+                "select " + String.join(", ", selectItems) + " from MessageEntity m where " + condition,
+                Tuple.class);
+        parameters.forEach(query::setParameter);
+
+        return query.getResultList().stream()
+                .map(tuple -> toProjection(tuple, fields))
+                .toList();
+    }
+
+    private static String selectItem(MessageField field, MessageView view) {
+        if (field == MessageField.CONTENT && view.isContentTruncated()) {
+            return "substring(m.content, 1, " + view.getContentMaxLength() + ")";
+        }
+        return "m." + field.getFieldName();
+    }
+
+    private static MessageProjection toProjection(Tuple tuple, List<MessageField> fields) {
+        Object[] values = new Object[MessageField.values().length];
+        for (int i = 0; i < fields.size(); i++) {
+            values[fields.get(i).ordinal()] = tuple.get(i);
+        }
+        return new MessageProjection(
+            MessageId.of((String) values[MessageField.ID.ordinal()]),
+            (String) values[MessageField.CONTENT.ordinal()],
+            (MessageStatus) values[MessageField.STATUS.ordinal()],
+            (String) values[MessageField.AUTHOR.ordinal()],
+            (LocalDateTime) values[MessageField.CREATED_AT.ordinal()],
+            (LocalDateTime) values[MessageField.UPDATED_AT.ordinal()],
+            (LocalDateTime) values[MessageField.PUBLISHED_AT.ordinal()],
+            (LocalDateTime) values[MessageField.DELETED_AT.ordinal()],
+            (LocalDateTime) values[MessageField.PUBLISH_AT.ordinal()]
+        );
+    }
+
+    // The version must only move once the write is visible to other transactions, otherwise a concurrent
+    // database reader could tag stale data with the new version. In-memory projections apply the write later,
+    // after this callback, so lists served from them add their own version to the tag
+    private void bumpVersionAfterCompletion() {
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                writeVersion.incrementAndGet();
+            }
+        });
+    }
 }
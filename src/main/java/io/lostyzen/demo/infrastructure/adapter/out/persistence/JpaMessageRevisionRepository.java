@@ -0,0 +1,131 @@
+package io.lostyzen.demo.infrastructure.adapter.out.persistence;
+
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageRevision;
+import io.lostyzen.demo.domain.port.out.MessageRevisionRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JPA implementation of the revision history, stored as deltas with periodic checkpoints
+ * Revisions 1, 1 + interval, 1 + 2 x interval... are checkpoints, so rebuilding any revision
+ * reads one checkpoint and fewer than interval deltas, in a single range query.
+ * Deltas are computed against the content the use case had before the edit, which is the latest revision
+ * as long as content only changes through UpdateMessageUseCase.
+ */
+@ApplicationScoped
+@Transactional
+public class JpaMessageRevisionRepository implements MessageRevisionRepository {
+
+    @ConfigProperty(name = "messages.revisions.checkpoint-interval", defaultValue = "10")
+    int checkpointInterval;
+
+    // Write-path cost and storage gain, reported by MessageRevisionHealthCheck
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong recordNanos = new AtomicLong();
+    private final AtomicLong contentBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    @Override
+    public int record(MessageId messageId, String previousContent, LocalDateTime previousAt,
+                      String newContent, LocalDateTime editedAt) {
+        long start = System.nanoTime();
+        Integer last = MessageRevisionEntity.getEntityManager().createQuery(
+                "select max(r.revision) from MessageRevisionEntity r where r.messageId = :messageId", Integer.class)
+                .setParameter("messageId", messageId.getValue())
+                .getSingleResult();
+        if (last == null) {
+            // First edit: keep the original content as revision 1
+            store(messageId, 1, previousContent, null, previousAt);
+            last = 1;
+        }
+        // Concurrent edits of one message compute the same number: the unique key rejects the second one
+        int next = last + 1;
+        store(messageId, next, newContent, previousContent, editedAt);
+        recordNanos.addAndGet(System.nanoTime() - start);
+        recorded.incrementAndGet();
+        return next;
+    }
+
+    @Override
+    public Optional<MessageRevision> findRevision(MessageId messageId, int number) {
+        if (number < 1) {
+            return Optional.empty();
+        }
+        int checkpoint = (number - 1) / checkpointInterval * checkpointInterval + 1;
+        List<MessageRevisionEntity> chain = MessageRevisionEntity.list(
+                "messageId = ?1 and revision between ?2 and ?3 order by revision",
+                messageId.getValue(), checkpoint, number);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).revision != number) {
+            return Optional.empty();
+        }
+        List<MessageRevision> rebuilt = rebuild(messageId, chain);
+        return Optional.of(rebuilt.get(rebuilt.size() - 1));
+    }
+
+    @Override
+    public List<MessageRevision> findAll(MessageId messageId) {
+        return rebuild(messageId, MessageRevisionEntity.list("messageId = ?1 order by revision",
+                messageId.getValue()));
+    }
+
+    @Override
+    public void deleteAll(MessageId messageId) {
+        MessageRevisionEntity.delete("messageId", messageId.getValue());
+    }
+
+    public Stats stats() {
+        long count = recorded.get();
+        return new Stats(count, count == 0 ? 0 : recordNanos.get() / count / 1000,
+                contentBytes.get(), storedBytes.get());
+    }
+
+    private boolean isCheckpoint(int revision) {
+        return (revision - 1) % checkpointInterval == 0;
+    }
+
+    private void store(MessageId messageId, int revision, String content, String previousContent,
+                       LocalDateTime editedAt) {
+        boolean checkpoint = previousContent == null || isCheckpoint(revision);
+        byte[] data = checkpoint ? ContentDelta.checkpoint(content) : ContentDelta.delta(previousContent, content);
+        new MessageRevisionEntity(messageId.getValue(), revision, checkpoint, data, editedAt).persist();
+        contentBytes.addAndGet(content.getBytes(StandardCharsets.UTF_8).length);
+        storedBytes.addAndGet(data.length);
+    }
+
+    // Rows must start with a checkpoint and follow each other without gaps
+    private static List<MessageRevision> rebuild(MessageId messageId, List<MessageRevisionEntity> chain) {
+        List<MessageRevision> revisions = new ArrayList<>(chain.size());
+        String content = null;
+        for (MessageRevisionEntity entity : chain) {
+            if (entity.checkpoint) {
+                content = ContentDelta.readCheckpoint(entity.data);
+            } else if (content == null) {
+                throw new IllegalStateException("Revision " + entity.revision + " of message " + messageId
+                        + " has no checkpoint before it");
+            } else {
+                content = ContentDelta.applyDelta(content, entity.data);
+            }
+            revisions.add(new MessageRevision(messageId, entity.revision, content, entity.editedAt));
+        }
+        return revisions;
+    }
+
+    /**
+     * Revision history counters since startup
+     *
+     * @param averageRecordMicros time added to an update by recording its revision
+     * @param contentBytes        UTF-8 size of the recorded contents
+     * @param storedBytes         size actually stored
+     */
+    public record Stats(long recorded, long averageRecordMicros, long contentBytes, long storedBytes) {
+    }
+}
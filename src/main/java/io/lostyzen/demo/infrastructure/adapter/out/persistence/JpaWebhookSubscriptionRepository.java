@@ -0,0 +1,36 @@
+package io.lostyzen.demo.infrastructure.adapter.out.persistence;
+
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+import io.lostyzen.demo.domain.port.out.WebhookSubscriptionRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+import java.util.List;
+
+/**
+ * JPA implementation of the webhook subscription repository
+ */
+@ApplicationScoped
+@Transactional
+public class JpaWebhookSubscriptionRepository implements WebhookSubscriptionRepository {
+
+    @Override
+    public WebhookSubscription save(WebhookSubscription subscription) {
+        WebhookSubscriptionEntity entity = new WebhookSubscriptionEntity(subscription);
+        entity.persist();
+        return entity.toDomainModel();
+    }
+
+    @Override
+    public List<WebhookSubscription> findAll() {
+        return WebhookSubscriptionEntity.<WebhookSubscriptionEntity>list("order by createdAt, id")
+                .stream()
+                .map(WebhookSubscriptionEntity::toDomainModel)
+                .toList();
+    }
+
+    @Override
+    public boolean deleteById(String subscriptionId) {
+        return WebhookSubscriptionEntity.deleteById(subscriptionId);
+    }
+}
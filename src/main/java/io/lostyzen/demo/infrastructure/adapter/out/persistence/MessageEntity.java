@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import io.lostyzen.demo.domain.model.Message;
 import io.lostyzen.demo.domain.model.MessageId;
 import io.lostyzen.demo.domain.model.MessageStatus;
@@ -17,7 +18,17 @@ import java.time.LocalDateTime;
  * Uses Lombok to reduce boilerplate code
  */
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+    // Serve the author/status filters and the criteria-based bulk transitions
+    @Index(name = "idx_messages_author_status", columnList = "author, status"),
+    @Index(name = "idx_messages_status_published_at", columnList = "status, published_at"),
+    // Keyset scan of the change feed
+    @Index(name = "idx_messages_updated_at_id", columnList = "updated_at, id"),
+    // Default search order (newest first)
+    @Index(name = "idx_messages_created_at", columnList = "created_at"),
+    // Window loads of the publication scheduler
+    @Index(name = "idx_messages_publish_at_id", columnList = "publish_at, id")
+})
 @Data
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = false)
@@ -49,6 +60,15 @@ public class MessageEntity extends PanacheEntityBase {
     @Column(name = "deleted_at")
     public LocalDateTime deletedAt; // Nullable because non-deleted messages don't have deletion date
 
+    @Column(name = "publish_at")
+    public LocalDateTime publishAt; // Nullable because most messages are not scheduled
+
+    // Only moved by increments (JpaMessageRepository.addViews), never by saving the entity;
+    // the default lets rows inserted outside the application omit it
+    @Column(name = "views", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    public long views;
+
     // Constructor from domain model
     public MessageEntity(Message message) {
         this.id = message.getId().getValue();
@@ -59,6 +79,7 @@ public class MessageEntity extends PanacheEntityBase {
         this.updatedAt = message.getUpdatedAt();
         this.publishedAt = message.getPublishedAt();
         this.deletedAt = message.getDeletedAt();
+        this.publishAt = message.getPublishAt();
     }
 
     // Convert to domain model
@@ -71,7 +92,8 @@ public class MessageEntity extends PanacheEntityBase {
             this.createdAt,
             this.updatedAt,
             this.publishedAt,
-            this.deletedAt
+            this.deletedAt,
+            this.publishAt
         );
     }
 
@@ -83,5 +105,6 @@ public class MessageEntity extends PanacheEntityBase {
         this.updatedAt = message.getUpdatedAt();
         this.publishedAt = message.getPublishedAt();
         this.deletedAt = message.getDeletedAt();
+        this.publishAt = message.getPublishAt();
     }
 }
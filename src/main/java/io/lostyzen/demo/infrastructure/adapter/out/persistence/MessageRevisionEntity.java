@@ -0,0 +1,56 @@
+package io.lostyzen.demo.infrastructure.adapter.out.persistence;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity of the content revision history
+ * Each row is either a checkpoint (whole content) or a delta against the previous revision,
+ * both encoded by ContentDelta
+ */
+@Entity
+@Table(name = "message_revisions", uniqueConstraints = {
+    // One row per revision; also serves the range reads from a checkpoint
+    @UniqueConstraint(name = "uk_message_revisions_message_id_revision", columnNames = {"message_id", "revision"})
+})
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class MessageRevisionEntity extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_revisions_seq")
+    @SequenceGenerator(name = "message_revisions_seq", sequenceName = "message_revisions_seq", allocationSize = 50)
+    @Column(name = "id")
+    public Long id;
+
+    @Column(name = "message_id", length = 36, nullable = false)
+    public String messageId;
+
+    @Column(name = "revision", nullable = false)
+    public int revision;
+
+    @Column(name = "checkpoint", nullable = false)
+    public boolean checkpoint;
+
+    // Content is at most 1000 characters, i.e. 3000 bytes of UTF-8, plus the encoding header
+    @Column(name = "data", length = 4096, nullable = false)
+    public byte[] data;
+
+    @Column(name = "edited_at", nullable = false)
+    public LocalDateTime editedAt;
+
+    public MessageRevisionEntity(String messageId, int revision, boolean checkpoint, byte[] data,
+                                 LocalDateTime editedAt) {
+        this.messageId = messageId;
+        this.revision = revision;
+        this.checkpoint = checkpoint;
+        this.data = data;
+        this.editedAt = editedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package io.lostyzen.demo.infrastructure.adapter.out.persistence;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the revision history write cost and storage gain on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class MessageRevisionHealthCheck implements HealthCheck {
+
+    private final JpaMessageRevisionRepository revisionRepository;
+
+    @Inject
+    public MessageRevisionHealthCheck(JpaMessageRevisionRepository revisionRepository) {
+        this.revisionRepository = revisionRepository;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        JpaMessageRevisionRepository.Stats stats = revisionRepository.stats();
+        return HealthCheckResponse.named("message-revisions")
+                .up()
+                .withData("recorded", stats.recorded())
+                .withData("averageRecordMicros", stats.averageRecordMicros())
+                .withData("contentBytes", stats.contentBytes())
+                .withData("storedBytes", stats.storedBytes())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package io.lostyzen.demo.infrastructure.adapter.out.persistence;
+
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
+/**
+ * JPA entity for webhook subscription persistence
+ */
+@Entity
+@Table(name = "webhook_subscriptions")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class WebhookSubscriptionEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "id", length = 36)
+    public String id;
+
+    @Column(name = "url", length = 2000, nullable = false)
+    public String url;
+
+    // Comma-separated event types, e.g. "PUBLISHED,DELETED"
+    @Column(name = "event_types", length = 100, nullable = false)
+    public String eventTypes;
+
+    @Column(name = "created_at", nullable = false)
+    public LocalDateTime createdAt;
+
+    // Constructor from domain model
+    public WebhookSubscriptionEntity(WebhookSubscription subscription) {
+        this.id = subscription.getId();
+        this.url = subscription.getUrl();
+        this.eventTypes = subscription.getEventTypes().stream().map(Enum::name).collect(Collectors.joining(","));
+        this.createdAt = subscription.getCreatedAt();
+    }
+
+    // Convert to domain model
+    public WebhookSubscription toDomainModel() {
+        EnumSet<MessageEvent.Type> types = EnumSet.noneOf(MessageEvent.Type.class);
+        Arrays.stream(eventTypes.split(",")).map(MessageEvent.Type::valueOf).forEach(types::add);
+        return new WebhookSubscription(id, url, types, createdAt);
+    }
+}
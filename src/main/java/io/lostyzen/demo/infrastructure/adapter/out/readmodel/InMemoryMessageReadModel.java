@@ -0,0 +1,321 @@
+package io.lostyzen.demo.infrastructure.adapter.out.readmodel;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageReadModel;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.infrastructure.adapter.out.cluster.ClusterInvalidation;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory projection of the messages table serving the list reads
+ * Every message is indexed by status and by author in creation order, so a list read is a copy
+ * of one index instead of a query. The projection is rebuilt from the database at startup,
+ * on a background thread; until then reads fall back to the repository. Committed events keep it
+ * up to date afterwards: each one carries the message state, and an event older than the state
+ * already held (by updatedAt) is ignored, so late or replayed events cannot roll a message back.
+ * Writes that bypass the command use cases are not seen, except those of other instances once the
+ * cluster invalidation bus is enabled.
+ */
+@ApplicationScoped
+public class InMemoryMessageReadModel implements MessageReadModel {
+
+    private static final Logger LOG = Logger.getLogger(InMemoryMessageReadModel.class);
+
+    private final MessageRepository messageRepository;
+    private final boolean enabled;
+
+    // Reads copy an index under the read lock; events update every index under the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<MessageId, Message> byId = new HashMap<>();
+    private final Map<MessageStatus, TreeMap<OrderKey, Message>> byStatus = new EnumMap<>(MessageStatus.class);
+    private final Map<String, TreeMap<OrderKey, Message>> byAuthor = new HashMap<>();
+    private final TreeMap<OrderKey, Message> active = new TreeMap<>();
+
+    // Changes committed while the rebuild reads the table, replayed on top of what it read
+    private List<Runnable> pendingChanges;
+    private volatile boolean ready;
+    // Moved under the write lock once a change is applied, never before: a reader holding it sees that change
+    private volatile long version;
+
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicLong staleEvents = new AtomicLong();
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong readNanos = new AtomicLong();
+    private volatile long lastLagMicros;
+    private volatile long maxLagMicros;
+    private volatile LocalDateTime rebuiltAt;
+    private volatile long rebuildMillis;
+
+    @Inject
+    public InMemoryMessageReadModel(MessageRepository messageRepository,
+                                    @ConfigProperty(name = "messages.read-model.enabled", defaultValue = "true")
+                                    boolean enabled) {
+        this.messageRepository = messageRepository;
+        this.enabled = enabled;
+        for (MessageStatus status : MessageStatus.values()) {
+            byStatus.put(status, new TreeMap<>());
+        }
+    }
+
+    void start(@Observes StartupEvent event) {
+        if (!enabled) {
+            LOG.info("Message read model disabled, list reads go to the database");
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "message-read-model-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reloads the whole projection from the database.
+     * Reads keep going to the repository until the reload is complete.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        List<Message> snapshot;
+        try {
+            snapshot = new ArrayList<>(messageRepository.findAllActive());
+            snapshot.addAll(messageRepository.findByStatus(MessageStatus.DELETED));
+        } catch (RuntimeException e) {
+            LOG.error("Could not build the message read model, list reads stay on the database", e);
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            clear();
+            // A message changed between the two queries is read twice: the newer state wins
+            snapshot.forEach(this::upsert);
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+            version++;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        rebuildMillis = (System.nanoTime() - start) / 1_000_000;
+        rebuiltAt = LocalDateTime.now();
+        LOG.infof("Message read model built with %d messages in %d ms", snapshot.size(), rebuildMillis);
+    }
+
+    // The write is committed and the writing thread waits for this, so its next read sees it
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        onChange(() -> apply(event));
+    }
+
+    // A change committed by another instance, with the message as read after it
+    void onClusterInvalidation(@Observes ClusterInvalidation invalidation) {
+        onChange(() -> {
+            boolean applied = invalidation.message() == null
+                ? remove(invalidation.messageId())
+                : upsert(invalidation.message());
+            (applied ? eventsApplied : staleEvents).incrementAndGet();
+        });
+    }
+
+    private void onChange(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            } else if (ready) {
+                change.run();
+                version++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public List<Message> findAllActive() {
+        return read(active.values());
+    }
+
+    @Override
+    public List<Message> findByStatus(MessageStatus status) {
+        return read(byStatus.get(status).values());
+    }
+
+    @Override
+    public List<Message> findByAuthor(String author) {
+        lock.readLock().lock();
+        try {
+            TreeMap<OrderKey, Message> messages = byAuthor.get(author);
+            return messages == null ? List.of() : copy(messages.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        long readCount = reads.get();
+        lock.readLock().lock();
+        try {
+            return new Stats(ready, byId.size(), byAuthor.size(), eventsApplied.get(), staleEvents.get(),
+                lastLagMicros, maxLagMicros, readCount,
+                readCount == 0 ? 0 : readNanos.get() / readCount / 1000, rebuiltAt, rebuildMillis);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Message> read(Collection<Message> index) {
+        lock.readLock().lock();
+        try {
+            return copy(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Message> copy(Collection<Message> messages) {
+        long start = System.nanoTime();
+        List<Message> result = List.copyOf(messages);
+        readNanos.addAndGet(System.nanoTime() - start);
+        reads.incrementAndGet();
+        return result;
+    }
+
+    private void apply(MessageEvent event) {
+        boolean applied = event.getMessage() == null ? remove(event.getMessageId()) : upsert(event.getMessage());
+        if (!applied) {
+            staleEvents.incrementAndGet();
+            return;
+        }
+        eventsApplied.incrementAndGet();
+        long lagMicros = Math.max(0, Duration.between(event.getOccurredAt(), LocalDateTime.now()).toNanos() / 1000);
+        lastLagMicros = lagMicros;
+        maxLagMicros = Math.max(maxLagMicros, lagMicros);
+    }
+
+    private boolean upsert(Message message) {
+        Message current = byId.get(message.getId());
+        if (current != null && current.getUpdatedAt().isAfter(message.getUpdatedAt())) {
+            return false;
+        }
+        if (current != null) {
+            unindex(current);
+        }
+        // Own copy: the event's instance stays with the caller that raised it
+        Message copy = copyOf(message);
+        OrderKey key = OrderKey.of(copy);
+        byId.put(copy.getId(), copy);
+        byStatus.get(copy.getStatus()).put(key, copy);
+        byAuthor.computeIfAbsent(copy.getAuthor(), author -> new TreeMap<>()).put(key, copy);
+        if (copy.getStatus() != MessageStatus.DELETED) {
+            active.put(key, copy);
+        }
+        return true;
+    }
+
+    private boolean remove(MessageId messageId) {
+        Message current = byId.remove(messageId);
+        if (current != null) {
+            unindex(current);
+        }
+        return true;
+    }
+
+    private void unindex(Message message) {
+        OrderKey key = OrderKey.of(message);
+        byStatus.get(message.getStatus()).remove(key);
+        active.remove(key);
+        TreeMap<OrderKey, Message> authorMessages = byAuthor.get(message.getAuthor());
+        if (authorMessages != null) {
+            authorMessages.remove(key);
+            if (authorMessages.isEmpty()) {
+                byAuthor.remove(message.getAuthor());
+            }
+        }
+    }
+
+    private void clear() {
+        byId.clear();
+        byStatus.values().forEach(TreeMap::clear);
+        byAuthor.clear();
+        active.clear();
+    }
+
+    private static Message copyOf(Message message) {
+        return new Message(message.getId(), message.getContent(), message.getStatus(), message.getAuthor(),
+            message.getCreatedAt(), message.getUpdatedAt(), message.getPublishedAt(), message.getDeletedAt(),
+            message.getPublishAt());
+    }
+
+    // Creation order, the ID breaking ties between messages created in the same instant
+    private record OrderKey(LocalDateTime createdAt, String id) implements Comparable<OrderKey> {
+
+        static OrderKey of(Message message) {
+            return new OrderKey(message.getCreatedAt(), message.getId().getValue());
+        }
+
+        @Override
+        public int compareTo(OrderKey other) {
+            int byTime = createdAt.compareTo(other.createdAt);
+            return byTime != 0 ? byTime : id.compareTo(other.id);
+        }
+    }
+
+    /**
+     * Snapshot of the projection state
+     *
+     * @param staleEvents   events ignored because a newer state was already held
+     * @param lastLagMicros delay between the change and its visibility in the projection, for the last event
+     * @param avgReadMicros average time spent copying an index for a read
+     */
+    public record Stats(boolean ready, int messages, int authors, long eventsApplied, long staleEvents,
+                        long lastLagMicros, long maxLagMicros, long reads, long avgReadMicros,
+                        LocalDateTime rebuiltAt, long rebuildMillis) {
+    }
+}
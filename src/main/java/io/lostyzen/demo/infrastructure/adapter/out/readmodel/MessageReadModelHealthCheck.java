@@ -0,0 +1,42 @@
+package io.lostyzen.demo.infrastructure.adapter.out.readmodel;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the read model size, read latency and event-to-visibility lag on /q/health/ready
+ * Stays up while the projection is being built: reads are then served by the database
+ */
+@Readiness
+@ApplicationScoped
+public class MessageReadModelHealthCheck implements HealthCheck {
+
+    private final InMemoryMessageReadModel readModel;
+
+    @Inject
+    public MessageReadModelHealthCheck(InMemoryMessageReadModel readModel) {
+        this.readModel = readModel;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        InMemoryMessageReadModel.Stats stats = readModel.stats();
+        return HealthCheckResponse.named("message-read-model")
+                .up()
+                .withData("ready", stats.ready())
+                .withData("messages", stats.messages())
+                .withData("authors", stats.authors())
+                .withData("eventsApplied", stats.eventsApplied())
+                .withData("staleEvents", stats.staleEvents())
+                .withData("lastLagMicros", stats.lastLagMicros())
+                .withData("maxLagMicros", stats.maxLagMicros())
+                .withData("reads", stats.reads())
+                .withData("avgReadMicros", stats.avgReadMicros())
+                .withData("rebuiltAt", String.valueOf(stats.rebuiltAt()))
+                .withData("rebuildMillis", stats.rebuildMillis())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package io.lostyzen.demo.infrastructure.adapter.out.timeline;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the author timeline cache usage on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class AuthorTimelineHealthCheck implements HealthCheck {
+
+    private final InMemoryAuthorTimelineCache cache;
+
+    @Inject
+    public AuthorTimelineHealthCheck(InMemoryAuthorTimelineCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        InMemoryAuthorTimelineCache.Stats stats = cache.stats();
+        return HealthCheckResponse.named("message-timelines")
+                .up()
+                .withData("authors", stats.authors())
+                .withData("entries", stats.entries())
+                .withData("depth", stats.depth())
+                .withData("hits", stats.hits())
+                .withData("misses", stats.misses())
+                .withData("evictions", stats.evictions())
+                .withData("rejectedFills", stats.rejectedFills())
+                .withData("eventsApplied", stats.eventsApplied())
+                .build();
+    }
+}
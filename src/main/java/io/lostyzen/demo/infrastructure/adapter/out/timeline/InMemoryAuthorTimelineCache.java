@@ -0,0 +1,218 @@
+package io.lostyzen.demo.infrastructure.adapter.out.timeline;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageProjection;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageView;
+import io.lostyzen.demo.domain.model.TimelinePage;
+import io.lostyzen.demo.domain.port.out.AuthorTimelineCache;
+import io.lostyzen.demo.infrastructure.adapter.out.cluster.ClusterInvalidation;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-author timelines held in memory: a ring of the newest message summaries of each author
+ * Rings are filled on the first read of an author and then follow the committed events (fan-out on write):
+ * a new message goes to the head, an edit or a transition replaces its summary, a deletion removes it.
+ * Each ring always holds the newest messages of its author without gaps, so any page inside it can be
+ * served from memory. Only max-authors rings are kept; the author read least recently is evicted first.
+ */
+@ApplicationScoped
+public class InMemoryAuthorTimelineCache implements AuthorTimelineCache {
+
+    // Same order as the newest-first database read: creation date, then ID
+    private static final Comparator<MessageProjection> NEWEST_FIRST = Comparator
+        .comparing(MessageProjection::getCreatedAt)
+        .thenComparing(projection -> projection.getId().getValue())
+        .reversed();
+
+    private final int depth;
+    private final int maxAuthors;
+
+    // All state is guarded by this object's monitor; every operation is bounded by the ring depth
+    private final Map<String, Timeline> timelines = new HashMap<>();
+    // Access-ordered on reads only, so writes to an author do not keep it cached
+    private final LinkedHashMap<String, Boolean> readOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> loading = new HashMap<>();
+    private long nextTicket;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejectedFills;
+    private long eventsApplied;
+
+    @Inject
+    public InMemoryAuthorTimelineCache(@ConfigProperty(name = "messages.timeline.depth", defaultValue = "100")
+                                       int depth,
+                                       @ConfigProperty(name = "messages.timeline.max-authors", defaultValue = "1000")
+                                       int maxAuthors) {
+        if (depth < 1 || maxAuthors < 1) {
+            throw new IllegalArgumentException("Timeline depth and max authors must be positive");
+        }
+        this.depth = depth;
+        this.maxAuthors = maxAuthors;
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public synchronized Optional<TimelinePage> findPage(String author, int page, int size) {
+        Timeline timeline = timelines.get(author);
+        long from = (long) page * size;
+        long to = from + size;
+        if (timeline == null || (to > timeline.ring.size() && !timeline.complete)) {
+            misses++;
+            return Optional.empty();
+        }
+        readOrder.get(author);
+        hits++;
+
+        int held = timeline.ring.size();
+        int start = (int) Math.min(from, held);
+        int end = (int) Math.min(to, held);
+        return Optional.of(new TimelinePage(timeline.ring.slice(start, end), page, size,
+            end < held || !timeline.complete));
+    }
+
+    @Override
+    public synchronized long reserve(String author) {
+        long ticket = ++nextTicket;
+        loading.put(author, ticket);
+        return ticket;
+    }
+
+    @Override
+    public synchronized boolean fill(String author, long ticket, List<MessageProjection> newest, boolean complete) {
+        if (!loading.remove(author, ticket)) {
+            // A write raced with the load: the list may already be outdated
+            rejectedFills++;
+            return false;
+        }
+        Timeline timeline = new Timeline(new TimelineRing(depth), complete && newest.size() <= depth);
+        newest.stream().limit(depth).forEach(timeline.ring::addLast);
+        timelines.put(author, timeline);
+        readOrder.put(author, Boolean.TRUE);
+
+        Iterator<String> leastRecentlyRead = readOrder.keySet().iterator();
+        while (timelines.size() > maxAuthors) {
+            timelines.remove(leastRecentlyRead.next());
+            leastRecentlyRead.remove();
+            evictions++;
+        }
+        return true;
+    }
+
+    // Runs in the writing thread right after the commit, so the writer's next read sees its change
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        applyChange(event.getMessageId(), event.getMessage());
+    }
+
+    // A change committed by another instance, with the message as read after it
+    void onClusterInvalidation(@Observes ClusterInvalidation invalidation) {
+        applyChange(invalidation.messageId(), invalidation.message());
+    }
+
+    private synchronized void applyChange(MessageId messageId, Message message) {
+        if (message == null) {
+            // Physical deletion: the author is unknown, so look the ID up everywhere
+            loading.clear();
+            timelines.values().forEach(timeline -> timeline.remove(messageId));
+            eventsApplied++;
+            return;
+        }
+        loading.remove(message.getAuthor());
+        Timeline timeline = timelines.get(message.getAuthor());
+        if (timeline != null) {
+            timeline.apply(message);
+            eventsApplied++;
+        }
+    }
+
+    public synchronized Stats stats() {
+        int entries = timelines.values().stream().mapToInt(timeline -> timeline.ring.size()).sum();
+        return new Stats(timelines.size(), entries, depth, hits, misses, evictions, rejectedFills, eventsApplied);
+    }
+
+    private static final class Timeline {
+
+        private final TimelineRing ring;
+        // True when the ring holds every non-deleted message of the author
+        private boolean complete;
+
+        private Timeline(TimelineRing ring, boolean complete) {
+            this.ring = ring;
+            this.complete = complete;
+        }
+
+        void apply(Message message) {
+            MessageProjection summary = MessageProjection.of(message, MessageView.timeline());
+            int index = ring.indexOf(message.getId());
+            if (index >= 0) {
+                if (ring.get(index).getUpdatedAt().isAfter(message.getUpdatedAt())) {
+                    return; // Older than the summary already held
+                }
+                if (message.getStatus() == MessageStatus.DELETED) {
+                    ring.remove(index); // The ring still holds the newest messages, one fewer
+                } else {
+                    ring.set(index, summary);
+                }
+            } else if (message.getStatus() != MessageStatus.DELETED) {
+                insert(summary);
+            }
+        }
+
+        private void insert(MessageProjection summary) {
+            int position = 0;
+            while (position < ring.size() && NEWEST_FIRST.compare(ring.get(position), summary) < 0) {
+                position++;
+            }
+            if (position < ring.size()) {
+                if (ring.isFull()) {
+                    complete = false; // The oldest entry is pushed out to the database-only part
+                }
+                ring.insert(position, summary);
+            } else if (complete) {
+                // Older than everything held: only kept while the ring still has the whole timeline
+                if (ring.isFull()) {
+                    complete = false;
+                } else {
+                    ring.insert(position, summary);
+                }
+            }
+        }
+
+        void remove(MessageId messageId) {
+            int index = ring.indexOf(messageId);
+            if (index >= 0) {
+                ring.remove(index);
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the cache usage
+     *
+     * @param entries       summaries held across all authors
+     * @param rejectedFills loads discarded because a write to the author raced with them
+     */
+    public record Stats(int authors, int entries, int depth, long hits, long misses, long evictions,
+                        long rejectedFills, long eventsApplied) {
+    }
+}
@@ -0,0 +1,103 @@
+package io.lostyzen.demo.infrastructure.adapter.out.timeline;
+
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageProjection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity ring of message summaries, newest first
+ * A new message is usually the newest one: it is added by moving the head back, in constant time.
+ * Once the ring is full, each insertion drops the oldest entry. Not thread-safe.
+ */
+class TimelineRing {
+
+    private final MessageProjection[] items;
+    private int head;
+    private int size;
+
+    TimelineRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.items = new MessageProjection[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size == items.length;
+    }
+
+    MessageProjection get(int index) {
+        return items[slot(index)];
+    }
+
+    // Appends an older entry at the end, while filling the ring from a newest-first list
+    void addLast(MessageProjection item) {
+        if (isFull()) {
+            throw new IllegalStateException("Ring is full");
+        }
+        items[slot(size)] = item;
+        size++;
+    }
+
+    /**
+     * Inserts an entry at the given position, 0 being the newest.
+     * When the ring is full the oldest entry is dropped to make room.
+     */
+    void insert(int index, MessageProjection item) {
+        if (index < 0 || index > size || (isFull() && index == size)) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (isFull()) {
+            items[slot(size - 1)] = null;
+            size--;
+        }
+        if (index == 0) {
+            head = Math.floorMod(head - 1, items.length);
+        } else {
+            for (int i = size; i > index; i--) {
+                items[slot(i)] = items[slot(i - 1)];
+            }
+        }
+        items[slot(index)] = item;
+        size++;
+    }
+
+    void set(int index, MessageProjection item) {
+        items[slot(index)] = item;
+    }
+
+    void remove(int index) {
+        for (int i = index; i < size - 1; i++) {
+            items[slot(i)] = items[slot(i + 1)];
+        }
+        items[slot(size - 1)] = null;
+        size--;
+    }
+
+    int indexOf(MessageId messageId) {
+        for (int i = 0; i < size; i++) {
+            if (get(i).getId().equals(messageId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    List<MessageProjection> slice(int from, int to) {
+        List<MessageProjection> result = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    private int slot(int index) {
+        return (head + index) % items.length;
+    }
+}
@@ -0,0 +1,109 @@
+package io.lostyzen.demo.infrastructure.adapter.out.views;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-key counts spread over lock stripes, so that concurrent increments of one hot key rarely meet
+ * Each thread starts at its own stripe and moves to the next free one when it is busy; a key is
+ * therefore counted in several stripes, and drain() adds them up. Locks are only held for a map update.
+ */
+class StripedCounts {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    StripedCounts(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        // Power of two, so the stripe index is a mask
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        stripes = new Stripe[Math.max(size, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        mask = stripes.length - 1;
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    void add(String key, long delta) {
+        int start = home();
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[(start + i) & mask];
+            if (stripe.lock.tryLock()) {
+                try {
+                    stripe.add(key, delta);
+                } finally {
+                    stripe.lock.unlock();
+                }
+                return;
+            }
+        }
+        // Every stripe was busy: wait for the thread's own one
+        Stripe stripe = stripes[start];
+        stripe.lock.lock();
+        try {
+            stripe.add(key, delta);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the counts accumulated since the previous drain.
+     * Each stripe is swapped for an empty one under its lock, so no increment is lost or counted twice.
+     */
+    Map<String, Long> drain() {
+        Map<String, Long> total = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<String, long[]> counts;
+            stripe.lock.lock();
+            try {
+                counts = stripe.counts;
+                stripe.counts = new HashMap<>();
+                stripe.total = 0;
+            } finally {
+                stripe.lock.unlock();
+            }
+            counts.forEach((key, count) -> total.merge(key, count[0], Long::sum));
+        }
+        return total;
+    }
+
+    // Counts not drained yet, all keys together
+    long pending() {
+        long pending = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                pending += stripe.total;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return pending;
+    }
+
+    private int home() {
+        long id = Thread.currentThread().getId();
+        // Spreads consecutive thread IDs over the stripes
+        return Long.hashCode(id * 0x9E3779B97F4A7C15L) & mask;
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private HashMap<String, long[]> counts = new HashMap<>();
+        private long total;
+
+        void add(String key, long delta) {
+            counts.computeIfAbsent(key, k -> new long[1])[0] += delta;
+            total += delta;
+        }
+    }
+}
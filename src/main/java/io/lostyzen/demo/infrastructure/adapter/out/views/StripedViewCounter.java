@@ -0,0 +1,177 @@
+package io.lostyzen.demo.infrastructure.adapter.out.views;
+
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageViews;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.ViewCounter;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * View counter aggregating in memory and flushing deltas to the database
+ * A view is one increment in a striped map: a burst on one message spreads over the stripes instead of
+ * queueing on one lock or one row. Every flush-interval-ms the deltas are drained and written in one
+ * batched UPDATE (views = views + delta), then the new totals feed the bounded ranking of the most
+ * viewed messages. The ranking is reloaded from the database every ranking-reload-ms, which brings in
+ * the views counted by other instances. Views not flushed yet are lost if the process dies.
+ */
+@ApplicationScoped
+public class StripedViewCounter implements ViewCounter {
+
+    private static final Logger LOG = Logger.getLogger(StripedViewCounter.class);
+
+    private final MessageRepository messageRepository;
+    private final StripedCounts counts;
+    private final TopViewed ranking;
+    private final long flushIntervalMillis;
+    private final long rankingReloadMillis;
+
+    // Set when a ranked message stops being published: a lower one may now belong in the ranking
+    private volatile boolean reloadRanking = true;
+    private long lastReloadMillis;
+
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile int lastFlushRows;
+    private volatile long lastFlushMillis;
+    private volatile long maxFlushMillis;
+    private volatile LocalDateTime lastFlushAt;
+    private ScheduledExecutorService executor;
+
+    @Inject
+    public StripedViewCounter(MessageRepository messageRepository,
+                              @ConfigProperty(name = "messages.views.stripes", defaultValue = "16") int stripes,
+                              @ConfigProperty(name = "messages.views.top-capacity", defaultValue = "100")
+                              int topCapacity,
+                              @ConfigProperty(name = "messages.views.flush-interval-ms", defaultValue = "1000")
+                              long flushIntervalMillis,
+                              @ConfigProperty(name = "messages.views.ranking-reload-ms", defaultValue = "60000")
+                              long rankingReloadMillis) {
+        this.messageRepository = messageRepository;
+        this.counts = new StripedCounts(stripes);
+        this.ranking = new TopViewed(topCapacity);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.rankingReloadMillis = rankingReloadMillis;
+    }
+
+    void start(@Observes StartupEvent event) {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-views-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The first run loads the ranking
+        executor.scheduleWithFixedDelay(this::flush, 0, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (executor != null) {
+            executor.shutdownNow();
+            flush();
+        }
+    }
+
+    @Override
+    public void increment(MessageId messageId) {
+        counts.add(messageId.getValue(), 1);
+    }
+
+    @Override
+    public int getCapacity() {
+        return ranking.capacity();
+    }
+
+    @Override
+    public List<MessageViews> top(int limit) {
+        return ranking.top(limit);
+    }
+
+    /**
+     * Writes the views counted since the previous flush and updates the ranking.
+     * Serialized by the flush thread; also called at shutdown and by tests.
+     */
+    public synchronized void flush() {
+        Map<String, Long> drained = counts.drain();
+        Map<MessageId, Long> deltas = new HashMap<>();
+        drained.forEach((id, delta) -> deltas.put(MessageId.of(id), delta));
+        boolean written = deltas.isEmpty();
+        try {
+            if (!deltas.isEmpty()) {
+                long start = System.nanoTime();
+                messageRepository.addViews(deltas);
+                written = true;
+                lastFlushMillis = (System.nanoTime() - start) / 1_000_000;
+                maxFlushMillis = Math.max(maxFlushMillis, lastFlushMillis);
+                lastFlushRows = deltas.size();
+                flushedViews.addAndGet(drained.values().stream().mapToLong(Long::longValue).sum());
+                flushes.incrementAndGet();
+                lastFlushAt = LocalDateTime.now();
+
+                Map<MessageId, Long> totals = messageRepository.findPublishedViews(deltas.keySet());
+                deltas.keySet().forEach(messageId -> {
+                    Long total = totals.get(messageId);
+                    if (total != null) {
+                        ranking.offer(messageId, total);
+                    } else {
+                        ranking.remove(messageId);
+                    }
+                });
+            }
+            long now = System.currentTimeMillis();
+            if (reloadRanking || now - lastReloadMillis >= rankingReloadMillis) {
+                reloadRanking = false;
+                lastReloadMillis = now;
+                ranking.replaceAll(messageRepository.findMostViewed(ranking.capacity()));
+            }
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            if (!written) {
+                // The UPDATE rolled back: the views are counted again on the next flush
+                drained.forEach(counts::add);
+            }
+            LOG.error("View counter flush failed", e);
+        }
+    }
+
+    // Runs in the writing thread right after the commit
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        if (event.getStatus() != MessageStatus.PUBLISHED && ranking.remove(event.getMessageId())) {
+            reloadRanking = true;
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(counts.stripeCount(), counts.pending(), ranking.size(), ranking.capacity(), flushes.get(),
+            flushedViews.get(), lastFlushRows, lastFlushMillis, maxFlushMillis, failures.get(), lastFlushAt);
+    }
+
+    /**
+     * Snapshot of the counter state
+     *
+     * @param pendingViews views counted in memory, not flushed yet
+     * @param ranked       messages currently in the ranking
+     * @param lastFlushRows messages updated by the last flush, in one batch
+     */
+    public record Stats(int stripes, long pendingViews, int ranked, int capacity, long flushes, long flushedViews,
+                        int lastFlushRows, long lastFlushMillis, long maxFlushMillis, long failures,
+                        LocalDateTime lastFlushAt) {
+    }
+}
@@ -0,0 +1,90 @@
+package io.lostyzen.demo.infrastructure.adapter.out.views;
+
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageViews;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Bounded ranking of the most viewed messages
+ * Holds at most capacity messages, ordered by view count then ID; an offer better than the last
+ * one evicts it. Counts only grow, so a message left out is offered again with its new total on
+ * its next flush and enters once it passes the last one. Every operation is O(log capacity).
+ */
+class TopViewed {
+
+    private final int capacity;
+
+    // Guarded by this object's monitor
+    private final Map<String, Ranked> byId = new HashMap<>();
+    private final TreeSet<Ranked> ranking = new TreeSet<>();
+
+    TopViewed(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    synchronized int size() {
+        return ranking.size();
+    }
+
+    synchronized void offer(MessageId messageId, long views) {
+        Ranked offered = new Ranked(views, messageId.getValue());
+        Ranked current = byId.get(offered.id());
+        if (current != null) {
+            ranking.remove(current);
+        } else if (ranking.size() == capacity) {
+            Ranked last = ranking.last();
+            if (offered.compareTo(last) >= 0) {
+                return;
+            }
+            ranking.remove(last);
+            byId.remove(last.id());
+        }
+        ranking.add(offered);
+        byId.put(offered.id(), offered);
+    }
+
+    // Returns true if the message was ranked
+    synchronized boolean remove(MessageId messageId) {
+        Ranked current = byId.remove(messageId.getValue());
+        return current != null && ranking.remove(current);
+    }
+
+    synchronized void replaceAll(List<MessageViews> views) {
+        byId.clear();
+        ranking.clear();
+        views.forEach(entry -> offer(entry.getMessageId(), entry.getViews()));
+    }
+
+    synchronized List<MessageViews> top(int limit) {
+        List<MessageViews> result = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Ranked> iterator = ranking.iterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            Ranked ranked = iterator.next();
+            result.add(new MessageViews(MessageId.of(ranked.id()), ranked.views()));
+        }
+        return result;
+    }
+
+    // Most viewed first, the ID breaking ties
+    private record Ranked(long views, String id) implements Comparable<Ranked> {
+
+        @Override
+        public int compareTo(Ranked other) {
+            int byViews = Long.compare(other.views, views);
+            return byViews != 0 ? byViews : id.compareTo(other.id);
+        }
+    }
+}
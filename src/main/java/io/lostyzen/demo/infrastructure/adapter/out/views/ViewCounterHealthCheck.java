@@ -0,0 +1,41 @@
+package io.lostyzen.demo.infrastructure.adapter.out.views;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the view counter state on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class ViewCounterHealthCheck implements HealthCheck {
+
+    private final StripedViewCounter counter;
+
+    @Inject
+    public ViewCounterHealthCheck(StripedViewCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        StripedViewCounter.Stats stats = counter.stats();
+        return HealthCheckResponse.named("message-views")
+                .up()
+                .withData("stripes", stats.stripes())
+                .withData("pendingViews", stats.pendingViews())
+                .withData("ranked", stats.ranked())
+                .withData("capacity", stats.capacity())
+                .withData("flushes", stats.flushes())
+                .withData("flushedViews", stats.flushedViews())
+                .withData("lastFlushRows", stats.lastFlushRows())
+                .withData("lastFlushMillis", stats.lastFlushMillis())
+                .withData("maxFlushMillis", stats.maxFlushMillis())
+                .withData("failures", stats.failures())
+                .withData("lastFlushAt", String.valueOf(stats.lastFlushAt()))
+                .build();
+    }
+}
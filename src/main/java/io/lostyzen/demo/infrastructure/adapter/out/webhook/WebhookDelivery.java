@@ -0,0 +1,14 @@
+package io.lostyzen.demo.infrastructure.adapter.out.webhook;
+
+/**
+ * One batched payload on its way to a subscription
+ *
+ * @param deliveryId stable across retries, so receivers can discard duplicates
+ * @param attempt    1 for the first try
+ */
+record WebhookDelivery(String deliveryId, String subscriptionId, byte[] body, int eventCount, int attempt) {
+
+    WebhookDelivery nextAttempt() {
+        return new WebhookDelivery(deliveryId, subscriptionId, body, eventCount, attempt + 1);
+    }
+}
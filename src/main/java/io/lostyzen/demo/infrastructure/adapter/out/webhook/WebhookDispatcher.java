@@ -0,0 +1,299 @@
+package io.lostyzen.demo.infrastructure.adapter.out.webhook;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+import io.lostyzen.demo.domain.port.out.WebhookSubscriptionRepository;
+import io.lostyzen.demo.infrastructure.adapter.out.event.MessageEventPayload;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers committed message events to the webhook subscriptions, off the request path
+ * The observer only offers the event to a bounded queue. A dispatcher thread coalesces bursts
+ * into batches and hands one payload per matching subscription to that endpoint's lane,
+ * which sends it with the non-blocking JDK HTTP client and retries failures with exponential backoff.
+ * When the queue or a lane is full, events are dropped and counted rather than slowing down writers.
+ */
+@ApplicationScoped
+public class WebhookDispatcher {
+
+    private static final Logger LOG = Logger.getLogger(WebhookDispatcher.class);
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int maxConcurrency;
+    private final int maxPendingBatches;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration requestTimeout;
+    private final long refreshMillis;
+
+    private final BlockingQueue<MessageEvent> queue;
+    private final Map<String, WebhookEndpoint> endpoints = new ConcurrentHashMap<>();
+    private final HttpClient httpClient;
+    private volatile List<WebhookSubscription> subscriptions = List.of();
+    private long subscriptionsLoadedAt;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+    private ExecutorService dispatcher;
+    private ScheduledExecutorService retries;
+
+    @Inject
+    public WebhookDispatcher(WebhookSubscriptionRepository subscriptionRepository,
+                             ObjectMapper objectMapper,
+                             @ConfigProperty(name = "messages.webhooks.queue-capacity", defaultValue = "10000")
+                             int queueCapacity,
+                             @ConfigProperty(name = "messages.webhooks.batch-size", defaultValue = "50")
+                             int batchSize,
+                             @ConfigProperty(name = "messages.webhooks.linger-ms", defaultValue = "200")
+                             long lingerMillis,
+                             @ConfigProperty(name = "messages.webhooks.max-concurrency", defaultValue = "2")
+                             int maxConcurrency,
+                             @ConfigProperty(name = "messages.webhooks.max-pending-batches", defaultValue = "100")
+                             int maxPendingBatches,
+                             @ConfigProperty(name = "messages.webhooks.max-attempts", defaultValue = "6")
+                             int maxAttempts,
+                             @ConfigProperty(name = "messages.webhooks.initial-backoff-ms", defaultValue = "500")
+                             long initialBackoffMillis,
+                             @ConfigProperty(name = "messages.webhooks.max-backoff-ms", defaultValue = "60000")
+                             long maxBackoffMillis,
+                             @ConfigProperty(name = "messages.webhooks.request-timeout-ms", defaultValue = "10000")
+                             long requestTimeoutMillis,
+                             @ConfigProperty(name = "messages.webhooks.refresh-ms", defaultValue = "5000")
+                             long refreshMillis) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.maxConcurrency = maxConcurrency;
+        this.maxPendingBatches = maxPendingBatches;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.refreshMillis = refreshMillis;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(requestTimeout)
+            .build();
+    }
+
+    void start(@Observes StartupEvent event) {
+        dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-webhook-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        retries = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-webhook-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.execute(this::dispatchLoop);
+    }
+
+    void stop(@Observes ShutdownEvent event) {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+        if (retries != null) {
+            retries.shutdownNow();
+        }
+    }
+
+    // Only committed changes are announced; never blocks the thread that completed the transaction
+    void onMessageEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) MessageEvent event) {
+        if (!queue.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void dispatchLoop() {
+        List<MessageEvent> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                // Coalesce the burst: wait up to linger-ms for more events, up to batch-size
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    MessageEvent next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Keep the dispatcher alive
+                LOG.errorf(e, "Could not dispatch %d webhook events", batch.size());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<MessageEvent> batch) {
+        for (WebhookSubscription subscription : currentSubscriptions()) {
+            List<Map<String, Object>> events = batch.stream()
+                .filter(subscription::accepts)
+                .map(MessageEventPayload::of)
+                .toList();
+            if (events.isEmpty()) {
+                continue;
+            }
+            WebhookDelivery delivery = new WebhookDelivery(UUID.randomUUID().toString(), subscription.getId(),
+                encode(subscription, events), events.size(), 1);
+            WebhookEndpoint endpoint = endpoints.computeIfAbsent(subscription.getId(),
+                id -> new WebhookEndpoint(subscription.getUrl(), maxConcurrency, maxPendingBatches, this::send));
+            if (!endpoint.submit(delivery)) {
+                dropped.addAndGet(events.size());
+                LOG.warnf("Webhook %s is backlogged, dropped %d events", subscription.getUrl(), events.size());
+            }
+        }
+    }
+
+    // Subscriptions change rarely: read them at most every refresh-ms rather than per batch
+    private List<WebhookSubscription> currentSubscriptions() {
+        long now = System.currentTimeMillis();
+        if (now - subscriptionsLoadedAt >= refreshMillis) {
+            try {
+                subscriptions = subscriptionRepository.findAll();
+            } catch (RuntimeException e) {
+                // Keep serving the last known subscriptions
+                LOG.warnf("Could not refresh webhook subscriptions: %s", e.getMessage());
+            }
+            subscriptionsLoadedAt = now;
+            Set<String> ids = subscriptions.stream().map(WebhookSubscription::getId).collect(Collectors.toSet());
+            // Lanes of removed subscriptions are forgotten; their in-flight sends still complete
+            endpoints.keySet().retainAll(ids);
+        }
+        return subscriptions;
+    }
+
+    private byte[] encode(WebhookSubscription subscription, List<Map<String, Object>> events) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("subscriptionId", subscription.getId());
+        body.put("events", events);
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode webhook payload", e);
+        }
+    }
+
+    private void send(WebhookEndpoint endpoint, WebhookDelivery delivery) {
+        try {
+            sendAsync(endpoint, delivery);
+        } catch (RuntimeException e) {
+            retryLater(endpoint, delivery, String.valueOf(e.getMessage()));
+            endpoint.release();
+        }
+    }
+
+    private void sendAsync(WebhookEndpoint endpoint, WebhookDelivery delivery) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint.getUrl()))
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .header("X-Webhook-Subscription", delivery.subscriptionId())
+            .header("X-Webhook-Delivery", delivery.deliveryId())
+            .header("X-Webhook-Attempt", Integer.toString(delivery.attempt()))
+            .POST(HttpRequest.BodyPublishers.ofByteArray(delivery.body()))
+            .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                try {
+                    if (error == null && response.statusCode() / 100 == 2) {
+                        delivered.addAndGet(delivery.eventCount());
+                    } else {
+                        retryLater(endpoint, delivery,
+                            error != null ? String.valueOf(error.getMessage()) : "HTTP " + response.statusCode());
+                    }
+                } finally {
+                    endpoint.release();
+                }
+            });
+    }
+
+    private void retryLater(WebhookEndpoint endpoint, WebhookDelivery delivery, String reason) {
+        failedAttempts.incrementAndGet();
+        if (delivery.attempt() >= maxAttempts) {
+            abandoned.addAndGet(delivery.eventCount());
+            LOG.errorf("Webhook %s abandoned delivery %s after %d attempts: %s",
+                endpoint.getUrl(), delivery.deliveryId(), delivery.attempt(), reason);
+            return;
+        }
+        long delay = backoffMillis(delivery.attempt());
+        LOG.warnf("Webhook %s failed (%s), attempt %d retried in %d ms",
+            endpoint.getUrl(), reason, delivery.attempt(), delay);
+        // The batch waits off-lane, so other batches of the endpoint are not held behind it
+        retries.schedule(() -> endpoint.resubmit(delivery.nextAttempt()), delay, TimeUnit.MILLISECONDS);
+    }
+
+    // Exponential backoff with jitter, so endpoints recovering together are not hit in lockstep
+    private long backoffMillis(int attempt) {
+        long base = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 30));
+        return base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+    }
+
+    public Stats stats() {
+        int pendingBatches = 0;
+        int inFlight = 0;
+        for (WebhookEndpoint endpoint : endpoints.values()) {
+            pendingBatches += endpoint.getPendingCount();
+            inFlight += endpoint.getInFlightCount();
+        }
+        return new Stats(queue.size(), pendingBatches, inFlight, delivered.get(), failedAttempts.get(),
+            abandoned.get(), dropped.get());
+    }
+
+    /**
+     * Snapshot of the webhook delivery progress
+     *
+     * @param queued         events waiting to be batched
+     * @param delivered      events acknowledged with a 2xx response
+     * @param failedAttempts sends answered with an error or non-2xx status
+     * @param abandoned      events given up on after max-attempts
+     * @param dropped        events discarded because the queue or a lane was full
+     */
+    public record Stats(int queued, int pendingBatches, int inFlight, long delivered, long failedAttempts,
+                        long abandoned, long dropped) {
+    }
+}
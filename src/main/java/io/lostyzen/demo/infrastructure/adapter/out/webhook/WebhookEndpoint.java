@@ -0,0 +1,88 @@
+package io.lostyzen.demo.infrastructure.adapter.out.webhook;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiConsumer;
+
+/**
+ * Delivery lane of one subscription
+ * At most maxConcurrency batches are in flight at a time; the others wait in a bounded deque.
+ * A slow or failing endpoint fills its own lane only, never the dispatcher queue or another endpoint.
+ */
+class WebhookEndpoint {
+
+    private final String url;
+    private final int maxConcurrency;
+    private final int maxPending;
+    private final BiConsumer<WebhookEndpoint, WebhookDelivery> sender;
+
+    private final Deque<WebhookDelivery> pending = new ArrayDeque<>();
+    private int inFlight;
+
+    WebhookEndpoint(String url, int maxConcurrency, int maxPending,
+                    BiConsumer<WebhookEndpoint, WebhookDelivery> sender) {
+        this.url = url;
+        this.maxConcurrency = maxConcurrency;
+        this.maxPending = maxPending;
+        this.sender = sender;
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    /**
+     * Queues a new batch behind the waiting ones.
+     *
+     * @return false when the lane is full and the batch was not accepted
+     */
+    boolean submit(WebhookDelivery delivery) {
+        synchronized (this) {
+            if (pending.size() >= maxPending) {
+                return false;
+            }
+            pending.addLast(delivery);
+        }
+        pump();
+        return true;
+    }
+
+    // A retried batch has already waited its backoff: it goes first
+    void resubmit(WebhookDelivery delivery) {
+        synchronized (this) {
+            pending.addFirst(delivery);
+        }
+        pump();
+    }
+
+    // Called when a send completes, whatever its outcome
+    void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        pump();
+    }
+
+    synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    private void pump() {
+        while (true) {
+            WebhookDelivery next;
+            synchronized (this) {
+                if (inFlight >= maxConcurrency || pending.isEmpty()) {
+                    return;
+                }
+                next = pending.pollFirst();
+                inFlight++;
+            }
+            // Outside the lock: the sender may complete synchronously and call release()
+            sender.accept(this, next);
+        }
+    }
+}
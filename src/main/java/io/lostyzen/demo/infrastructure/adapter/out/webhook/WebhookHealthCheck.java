@@ -0,0 +1,37 @@
+package io.lostyzen.demo.infrastructure.adapter.out.webhook;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Exposes the webhook delivery progress on /q/health/ready
+ */
+@Readiness
+@ApplicationScoped
+public class WebhookHealthCheck implements HealthCheck {
+
+    private final WebhookDispatcher dispatcher;
+
+    @Inject
+    public WebhookHealthCheck(WebhookDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        WebhookDispatcher.Stats stats = dispatcher.stats();
+        return HealthCheckResponse.named("message-webhooks")
+                .up()
+                .withData("queued", stats.queued())
+                .withData("pendingBatches", stats.pendingBatches())
+                .withData("inFlight", stats.inFlight())
+                .withData("delivered", stats.delivered())
+                .withData("failedAttempts", stats.failedAttempts())
+                .withData("abandoned", stats.abandoned())
+                .withData("dropped", stats.dropped())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package io.lostyzen.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ChangeCursor value object
+ */
+class ChangeCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through its token")
+    void should_round_trip_through_its_token() {
+        // Given
+        ChangeCursor cursor = new ChangeCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123456000),
+            MessageId.of("3f2b8c1e-0000-4000-8000-000000000001"));
+
+        // When
+        String token = cursor.encode();
+
+        // Then
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "token must be URL-safe");
+        assertEquals(cursor, ChangeCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("Should point right after a message")
+    void should_point_right_after_a_message() {
+        // Given
+        Message message = new Message("Content", "John Doe");
+
+        // When
+        ChangeCursor cursor = ChangeCursor.after(message);
+
+        // Then
+        assertEquals(message.getUpdatedAt(), cursor.getUpdatedAt());
+        assertEquals(message.getId(), cursor.getLastId());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void should_reject_malformed_tokens() {
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursor.decode("not a token!"));
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursor.decode("bm90LWEtZGF0ZSxpZA"));
+    }
+}
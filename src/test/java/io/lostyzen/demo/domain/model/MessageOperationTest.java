@@ -0,0 +1,44 @@
+package io.lostyzen.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessageOperation value object
+ */
+class MessageOperationTest {
+
+    @Test
+    @DisplayName("Should recognize references to earlier operations")
+    void should_recognize_references_to_earlier_operations() {
+        // Given & When
+        MessageOperation reference = MessageOperation.publish("$2");
+        MessageOperation direct = MessageOperation.publish("message-id");
+
+        // Then
+        assertTrue(reference.isReference());
+        assertEquals(2, reference.getReferencedIndex());
+        assertFalse(direct.isReference());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed references")
+    void should_reject_malformed_references() {
+        // Given
+        MessageOperation operation = MessageOperation.delete("$first");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, operation::getReferencedIndex);
+    }
+
+    @Test
+    @DisplayName("Should require the fields of each operation type")
+    void should_require_the_fields_of_each_operation_type() {
+        assertThrows(IllegalArgumentException.class, () -> MessageOperation.publish(" "));
+        assertThrows(IllegalArgumentException.class, () -> MessageOperation.update("message-id", null));
+        assertThrows(IllegalArgumentException.class, () -> MessageOperation.create("Content", null));
+        assertNull(MessageOperation.create("Content", "John Doe").getTarget());
+    }
+}
@@ -0,0 +1,57 @@
+package io.lostyzen.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessageQuery value object
+ */
+class MessageQueryTest {
+
+    private final MessageCriteria criteria = MessageCriteria.builder().author("John Doe").build();
+
+    @Test
+    @DisplayName("Should default to newest first on the first page")
+    void should_default_to_newest_first_on_the_first_page() {
+        // When
+        MessageQuery query = MessageQuery.of(criteria);
+
+        // Then
+        assertEquals(MessageField.CREATED_AT, query.getSortField());
+        assertFalse(query.isAscending());
+        assertEquals(0, query.getOffset());
+        assertEquals(MessageQuery.DEFAULT_PAGE_SIZE, query.getSize());
+    }
+
+    @Test
+    @DisplayName("Should compute the offset of a page")
+    void should_compute_the_offset_of_a_page() {
+        // When
+        MessageQuery query = new MessageQuery(criteria, MessageField.PUBLISHED_AT, true, 3, 50);
+
+        // Then
+        assertEquals(150, query.getOffset());
+    }
+
+    @Test
+    @DisplayName("Should only sort by allowed fields")
+    void should_only_sort_by_allowed_fields() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new MessageQuery(criteria, MessageField.CONTENT, true, 0, 20));
+    }
+
+    @Test
+    @DisplayName("Should enforce bounded pagination")
+    void should_enforce_bounded_pagination() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new MessageQuery(criteria, MessageField.CREATED_AT, true, -1, 20));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MessageQuery(criteria, MessageField.CREATED_AT, true, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MessageQuery(criteria, MessageField.CREATED_AT, true, 0, MessageQuery.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MessageQuery(criteria, MessageField.CREATED_AT, true, Integer.MAX_VALUE, 100));
+    }
+}
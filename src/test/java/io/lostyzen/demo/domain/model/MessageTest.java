@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 
+import java.time.LocalDateTime;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -185,6 +188,19 @@ class MessageTest {
             // Then
             assertEquals(MessageStatus.ARCHIVED, message.getStatus());
         }
+
+        @Test
+        @DisplayName("Should list the statuses allowed to reach a target status")
+        void should_list_the_statuses_allowed_to_reach_a_target_status() {
+            // When & Then
+            assertEquals(Set.of(MessageStatus.DRAFT, MessageStatus.ARCHIVED),
+                MessageStatus.sourcesOf(MessageStatus.PUBLISHED));
+            assertEquals(Set.of(MessageStatus.PUBLISHED),
+                MessageStatus.sourcesOf(MessageStatus.ARCHIVED));
+            assertEquals(Set.of(MessageStatus.DRAFT, MessageStatus.PUBLISHED, MessageStatus.ARCHIVED),
+                MessageStatus.sourcesOf(MessageStatus.DELETED));
+            assertTrue(MessageStatus.sourcesOf(MessageStatus.DRAFT).isEmpty());
+        }
     }
 
     @Nested
@@ -328,4 +344,74 @@ class MessageTest {
             assertTrue(message.getUpdatedAt().isAfter(originalUpdatedAt));
         }
     }
+
+    @Nested
+    @DisplayName("Scheduled Publication")
+    class ScheduledPublication {
+
+        @Test
+        @DisplayName("Should schedule publication of draft message")
+        void should_schedule_publication_of_draft_message() {
+            // Given
+            Message message = new Message("Test content", "John Doe");
+            LocalDateTime publishAt = LocalDateTime.now().plusHours(1);
+
+            // When
+            message.schedulePublication(publishAt);
+
+            // Then
+            assertEquals(MessageStatus.DRAFT, message.getStatus());
+            assertEquals(publishAt, message.getPublishAt());
+            assertTrue(message.isScheduled());
+            assertFalse(message.isDueForPublication(LocalDateTime.now()));
+            assertTrue(message.isDueForPublication(publishAt));
+        }
+
+        @Test
+        @DisplayName("Should reject schedule in the past")
+        void should_reject_schedule_in_the_past() {
+            Message message = new Message("Test content", "John Doe");
+
+            assertThrows(IllegalArgumentException.class,
+                () -> message.schedulePublication(LocalDateTime.now().minusSeconds(1)));
+            assertFalse(message.isScheduled());
+        }
+
+        @Test
+        @DisplayName("Should reject schedule of published message")
+        void should_reject_schedule_of_published_message() {
+            Message message = new Message("Test content", "John Doe");
+            message.publish();
+
+            assertThrows(IllegalStateException.class,
+                () -> message.schedulePublication(LocalDateTime.now().plusHours(1)));
+        }
+
+        @Test
+        @DisplayName("Should clear schedule on publication and deletion")
+        void should_clear_schedule_on_publication_and_deletion() {
+            Message published = new Message("Test content", "John Doe");
+            published.schedulePublication(LocalDateTime.now().plusHours(1));
+            Message deleted = new Message("Test content", "John Doe");
+            deleted.schedulePublication(LocalDateTime.now().plusHours(1));
+
+            published.publish();
+            deleted.delete();
+
+            assertNull(published.getPublishAt());
+            assertNull(deleted.getPublishAt());
+        }
+
+        @Test
+        @DisplayName("Should cancel scheduled publication")
+        void should_cancel_scheduled_publication() {
+            Message message = new Message("Test content", "John Doe");
+            message.schedulePublication(LocalDateTime.now().plusHours(1));
+
+            message.cancelScheduledPublication();
+
+            assertFalse(message.isScheduled());
+            assertThrows(IllegalStateException.class, message::cancelScheduledPublication);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package io.lostyzen.demo.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessageView and MessageProjection
+ * Tests field selection rules shared by the repository and in-memory projections
+ */
+class MessageViewTest {
+
+    @Nested
+    @DisplayName("View Definition")
+    class ViewDefinition {
+
+        @Test
+        @DisplayName("Should always include the ID")
+        void should_always_include_the_id() {
+            MessageView view = MessageView.of(EnumSet.of(MessageField.AUTHOR));
+
+            assertTrue(view.includes(MessageField.ID));
+            assertTrue(view.includes(MessageField.AUTHOR));
+            assertFalse(view.includes(MessageField.CONTENT));
+            assertFalse(view.isContentTruncated());
+        }
+
+        @Test
+        @DisplayName("Should define the summary view")
+        void should_define_the_summary_view() {
+            MessageView summary = MessageView.summary();
+
+            assertEquals(EnumSet.of(MessageField.ID, MessageField.AUTHOR, MessageField.STATUS, MessageField.CONTENT),
+                summary.getFields());
+            assertEquals(80, summary.getContentMaxLength());
+        }
+
+        @Test
+        @DisplayName("Should resolve field names case-insensitively")
+        void should_resolve_field_names_case_insensitively() {
+            assertEquals(MessageField.PUBLISHED_AT, MessageField.fromFieldName(" publishedat "));
+            assertThrows(IllegalArgumentException.class, () -> MessageField.fromFieldName("views"));
+        }
+    }
+
+    @Nested
+    @DisplayName("In-Memory Projection")
+    class InMemoryProjection {
+
+        @Test
+        @DisplayName("Should keep only the selected fields")
+        void should_keep_only_the_selected_fields() {
+            Message message = new Message("Full content", "John Doe");
+
+            MessageProjection projection = MessageProjection.of(message,
+                MessageView.of(EnumSet.of(MessageField.STATUS)));
+
+            assertEquals(message.getId(), projection.getId());
+            assertEquals(MessageStatus.DRAFT, projection.getStatus());
+            assertNull(projection.getContent());
+            assertNull(projection.getAuthor());
+            assertNull(projection.getCreatedAt());
+        }
+
+        @Test
+        @DisplayName("Should cut content to the summary length")
+        void should_cut_content_to_the_summary_length() {
+            Message message = new Message("x".repeat(500), "John Doe");
+
+            MessageProjection projection = MessageProjection.of(message, MessageView.summary());
+
+            assertEquals(80, projection.getContent().length());
+            assertEquals("John Doe", projection.getAuthor());
+        }
+
+        @Test
+        @DisplayName("Should project the scheduled publication time")
+        void should_project_the_scheduled_publication_time() {
+            Message message = new Message("Scheduled content", "John Doe");
+            LocalDateTime publishAt = LocalDateTime.now().plusDays(1);
+            message.schedulePublication(publishAt);
+
+            MessageProjection projection = MessageProjection.of(message,
+                MessageView.of(EnumSet.of(MessageField.PUBLISH_AT)));
+
+            assertEquals(publishAt, projection.getPublishAt());
+            assertNull(projection.getPublishedAt());
+            assertEquals(MessageField.PUBLISH_AT, MessageField.fromFieldName("publishAt"));
+        }
+    }
+}
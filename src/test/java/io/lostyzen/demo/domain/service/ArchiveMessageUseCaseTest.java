@@ -0,0 +1,149 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArchiveMessage Use Case
+ * Tests the business logic for archiving messages with proper isolation
+ */
+class ArchiveMessageUseCaseTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageEventPublisher eventPublisher;
+
+    private ArchiveMessageUseCase archiveMessageUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        archiveMessageUseCase = new ArchiveMessageUseCase(messageRepository, eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("Successful Message Archiving")
+    class SuccessfulMessageArchiving {
+
+        @Test
+        @DisplayName("Should archive published message successfully")
+        void should_archive_published_message_successfully() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message publishedMessage = new Message("Test content", "John Doe");
+            publishedMessage.publish();
+
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(publishedMessage));
+            when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            Message result = archiveMessageUseCase.execute(messageId);
+
+            // Then
+            assertEquals(MessageStatus.ARCHIVED, result.getStatus());
+            verify(messageRepository).findById(messageId);
+            verify(messageRepository).save(publishedMessage);
+        }
+    }
+
+    @Nested
+    @DisplayName("Message Not Found")
+    class MessageNotFound {
+
+        @Test
+        @DisplayName("Should throw exception when message does not exist")
+        void should_throw_exception_when_message_not_found() {
+            // Given
+            MessageId messageId = MessageId.of("non-existent-id");
+            when(messageRepository.findById(messageId)).thenReturn(Optional.empty());
+
+            // When & Then
+            MessageNotFoundException exception = assertThrows(
+                MessageNotFoundException.class,
+                () -> archiveMessageUseCase.execute(messageId)
+            );
+
+            assertEquals("non-existent-id", exception.getMessage());
+            verify(messageRepository, never()).save(any(Message.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid State Transitions")
+    class InvalidStateTransitions {
+
+        @Test
+        @DisplayName("Should fail to archive draft message")
+        void should_fail_to_archive_draft_message() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message draftMessage = new Message("Test content", "John Doe");
+
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(draftMessage));
+
+            // When & Then
+            IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> archiveMessageUseCase.execute(messageId)
+            );
+
+            assertTrue(exception.getMessage().contains("Cannot transition"));
+            verify(messageRepository, never()).save(any(Message.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Event Publication")
+    class EventPublication {
+
+        @Test
+        @DisplayName("Should publish a ARCHIVED event with the saved message")
+        void should_publish_a_archived_event_with_the_saved_message() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Test content", "John Doe");
+            message.publish();
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+            when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            archiveMessageUseCase.execute(messageId);
+
+            // Then
+            verify(eventPublisher).publish(argThat(event ->
+                event.getType() == MessageEvent.Type.ARCHIVED && event.getMessage() == message));
+        }
+
+        @Test
+        @DisplayName("Should not publish when the business rules reject the change")
+        void should_not_publish_when_the_business_rules_reject_the_change() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Test content", "John Doe");
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> archiveMessageUseCase.execute(messageId));
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+}
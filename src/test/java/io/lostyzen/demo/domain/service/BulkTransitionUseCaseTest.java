@@ -0,0 +1,233 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.model.BulkItemResult;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkTransition Use Case
+ * Tests per-message results, business rule enforcement and single load/save round trips
+ */
+class BulkTransitionUseCaseTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageEventPublisher eventPublisher;
+
+    private BulkTransitionUseCase bulkTransitionUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        bulkTransitionUseCase = new BulkTransitionUseCase(messageRepository, eventPublisher);
+        when(messageRepository.saveAll(anyCollection())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+    }
+
+    @Nested
+    @DisplayName("Bulk Publishing")
+    class BulkPublishing {
+
+        @Test
+        @DisplayName("Should publish all drafts with one load and one save")
+        void should_publish_all_drafts_with_one_load_and_one_save() {
+            // Given
+            Message first = new Message("First", "John Doe");
+            Message second = new Message("Second", "John Doe");
+            List<MessageId> ids = List.of(first.getId(), second.getId());
+            when(messageRepository.findAllById(ids)).thenReturn(List.of(first, second));
+
+            // When
+            List<BulkItemResult> results = bulkTransitionUseCase.publishAll(ids);
+
+            // Then
+            assertEquals(2, results.size());
+            assertTrue(results.stream().allMatch(BulkItemResult::isSuccess));
+            assertEquals(MessageStatus.PUBLISHED, first.getStatus());
+            assertEquals(MessageStatus.PUBLISHED, second.getStatus());
+            verify(messageRepository, times(1)).findAllById(ids);
+            verify(messageRepository, times(1)).saveAll(List.of(first, second));
+            verify(messageRepository, never()).save(any(Message.class));
+        }
+
+        @Test
+        @DisplayName("Should report per-message failures in input order")
+        void should_report_per_message_failures_in_input_order() {
+            // Given
+            Message draft = new Message("Draft", "John Doe");
+            Message published = new Message("Published", "John Doe");
+            published.publish();
+            MessageId missing = MessageId.of("missing-id");
+            List<MessageId> ids = List.of(missing, published.getId(), draft.getId());
+            when(messageRepository.findAllById(ids)).thenReturn(List.of(draft, published));
+
+            // When
+            List<BulkItemResult> results = bulkTransitionUseCase.publishAll(ids);
+
+            // Then
+            assertEquals(BulkItemResult.Outcome.NOT_FOUND, results.get(0).getOutcome());
+            assertEquals(missing, results.get(0).getMessageId());
+            assertEquals(BulkItemResult.Outcome.INVALID_TRANSITION, results.get(1).getOutcome());
+            assertTrue(results.get(1).getError().contains("Cannot transition"));
+            assertEquals(BulkItemResult.Outcome.SUCCESS, results.get(2).getOutcome());
+            verify(messageRepository).saveAll(List.of(draft));
+        }
+
+        @Test
+        @DisplayName("Should report duplicate IDs once")
+        void should_report_duplicate_ids_once() {
+            // Given
+            Message draft = new Message("Draft", "John Doe");
+            when(messageRepository.findAllById(List.of(draft.getId()))).thenReturn(List.of(draft));
+
+            // When
+            List<BulkItemResult> results = bulkTransitionUseCase.publishAll(List.of(draft.getId(), draft.getId()));
+
+            // Then
+            assertEquals(1, results.size());
+            assertTrue(results.get(0).isSuccess());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Archiving and Deletion")
+    class BulkArchivingAndDeletion {
+
+        @Test
+        @DisplayName("Should archive only published messages")
+        void should_archive_only_published_messages() {
+            // Given
+            Message draft = new Message("Draft", "John Doe");
+            Message published = new Message("Published", "John Doe");
+            published.publish();
+            List<MessageId> ids = List.of(draft.getId(), published.getId());
+            when(messageRepository.findAllById(ids)).thenReturn(List.of(draft, published));
+
+            // When
+            List<BulkItemResult> results = bulkTransitionUseCase.archiveAll(ids);
+
+            // Then
+            assertEquals(BulkItemResult.Outcome.INVALID_TRANSITION, results.get(0).getOutcome());
+            assertEquals(MessageStatus.ARCHIVED, results.get(1).getMessage().getStatus());
+        }
+
+        @Test
+        @DisplayName("Should flag already deleted messages")
+        void should_flag_already_deleted_messages() {
+            // Given
+            Message deleted = new Message("Deleted", "John Doe");
+            deleted.delete();
+            List<MessageId> ids = List.of(deleted.getId());
+            when(messageRepository.findAllById(ids)).thenReturn(List.of(deleted));
+
+            // When
+            List<BulkItemResult> results = bulkTransitionUseCase.deleteAll(ids);
+
+            // Then
+            assertEquals(BulkItemResult.Outcome.ALREADY_DELETED, results.get(0).getOutcome());
+            verify(messageRepository, never()).saveAll(anyCollection());
+        }
+    }
+
+    @Nested
+    @DisplayName("Criteria-Based Transitions")
+    class CriteriaBasedTransitions {
+
+        @Test
+        @DisplayName("Should delegate to a set-based repository update")
+        void should_delegate_to_a_set_based_repository_update() {
+            // Given
+            MessageCriteria criteria = MessageCriteria.builder()
+                .status(MessageStatus.PUBLISHED)
+                .publishedTo(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+            when(messageRepository.transitionMatching(eq(criteria), eq(MessageStatus.ARCHIVED), any())).thenReturn(42L);
+
+            // When
+            long affected = bulkTransitionUseCase.archiveMatching(criteria);
+
+            // Then
+            assertEquals(42L, affected);
+            verify(messageRepository, never()).findAllById(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should reject criteria matching every message")
+        void should_reject_criteria_matching_every_message() {
+            // Given
+            MessageCriteria criteria = MessageCriteria.builder().build();
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> bulkTransitionUseCase.deleteMatching(criteria));
+            verify(messageRepository, never()).transitionMatching(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Event Publication")
+    class EventPublication {
+
+        @Test
+        @DisplayName("Should publish one event per changed message")
+        void should_publish_one_event_per_changed_message() {
+            // Given
+            Message draft = new Message("Draft", "John Doe");
+            Message deleted = new Message("Deleted", "John Doe");
+            deleted.delete();
+            List<MessageId> ids = List.of(draft.getId(), deleted.getId());
+            when(messageRepository.findAllById(ids)).thenReturn(List.of(draft, deleted));
+
+            // When
+            bulkTransitionUseCase.publishAll(ids);
+
+            // Then
+            verify(eventPublisher, times(1)).publish(argThat(event ->
+                event.getType() == MessageEvent.Type.PUBLISHED && event.getMessageId().equals(draft.getId())));
+            verifyNoMoreInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should publish the messages of each chunk")
+        void should_publish_the_messages_of_each_chunk() {
+            // Given
+            MessageCriteria criteria = MessageCriteria.builder().author("John Doe").build();
+            Message deleted = new Message("Content", "John Doe");
+            deleted.delete();
+            when(messageRepository.transitionMatching(eq(criteria), eq(MessageStatus.DELETED), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<List<Message>> onChunk = invocation.getArgument(2);
+                    onChunk.accept(List.of(deleted));
+                    return 1L;
+                });
+
+            // When
+            bulkTransitionUseCase.deleteMatching(criteria);
+
+            // Then
+            verify(eventPublisher).publish(argThat(event ->
+                event.getType() == MessageEvent.Type.DELETED && event.getMessage() == deleted));
+        }
+    }
+}
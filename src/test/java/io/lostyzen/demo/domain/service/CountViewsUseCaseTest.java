@@ -0,0 +1,94 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageViews;
+import io.lostyzen.demo.domain.model.ViewedMessage;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.ViewCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CountViews Use Case
+ * Tests which views are counted and how the ranking is resolved into messages
+ */
+class CountViewsUseCaseTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private ViewCounter viewCounter;
+
+    private CountViewsUseCase countViewsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        countViewsUseCase = new CountViewsUseCase(messageRepository, viewCounter);
+        when(viewCounter.getCapacity()).thenReturn(100);
+    }
+
+    @Test
+    @DisplayName("Should count views of published messages only")
+    void should_count_views_of_published_messages_only() {
+        // When
+        countViewsUseCase.recordView(message("published", MessageStatus.PUBLISHED));
+        countViewsUseCase.recordView(message("draft", MessageStatus.DRAFT));
+        countViewsUseCase.recordView(message("archived", MessageStatus.ARCHIVED));
+
+        // Then
+        verify(viewCounter).increment(MessageId.of("published"));
+        verify(viewCounter, never()).increment(MessageId.of("draft"));
+        verify(viewCounter, never()).increment(MessageId.of("archived"));
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    @DisplayName("Should return the ranked messages still published, most viewed first")
+    void should_return_the_ranked_messages_still_published_most_viewed_first() {
+        // Given: the second one was archived after the last flush
+        when(viewCounter.top(3)).thenReturn(List.of(
+            new MessageViews(MessageId.of("a"), 30),
+            new MessageViews(MessageId.of("b"), 20),
+            new MessageViews(MessageId.of("c"), 10)));
+        when(messageRepository.findAllById(any())).thenReturn(List.of(
+            message("c", MessageStatus.PUBLISHED),
+            message("b", MessageStatus.ARCHIVED),
+            message("a", MessageStatus.PUBLISHED)));
+
+        // When
+        List<ViewedMessage> top = countViewsUseCase.getMostViewed(3);
+
+        // Then
+        assertEquals(List.of("a", "c"), top.stream().map(viewed -> viewed.getMessage().getId().getValue()).toList());
+        assertEquals(30, top.get(0).getViews());
+        assertEquals(10, top.get(1).getViews());
+    }
+
+    @Test
+    @DisplayName("Should reject a limit outside the ranking capacity")
+    void should_reject_a_limit_outside_the_ranking_capacity() {
+        assertThrows(IllegalArgumentException.class, () -> countViewsUseCase.getMostViewed(0));
+        assertThrows(IllegalArgumentException.class, () -> countViewsUseCase.getMostViewed(101));
+        verify(viewCounter, never()).top(anyInt());
+    }
+
+    private static Message message(String id, MessageStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Message(MessageId.of(id), "Content " + id, status, "Author", now, now,
+            status == MessageStatus.DRAFT ? null : now);
+    }
+}
@@ -1,7 +1,9 @@
 package io.lostyzen.demo.domain.service;
 
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,12 +26,15 @@ class CreateMessageUseCaseTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private MessageEventPublisher eventPublisher;
+
     private CreateMessageUseCase createMessageUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        createMessageUseCase = new CreateMessageUseCase(messageRepository);
+        createMessageUseCase = new CreateMessageUseCase(messageRepository, eventPublisher);
     }
 
     @Nested
@@ -179,4 +184,32 @@ class CreateMessageUseCaseTest {
             ));
         }
     }
+
+    @Nested
+    @DisplayName("Event Publication")
+    class EventPublication {
+
+        @Test
+        @DisplayName("Should publish a CREATED event with the saved message")
+        void should_publish_a_created_event_with_the_saved_message() {
+            // Given
+            Message savedMessage = new Message("Test content", "John Doe");
+            when(messageRepository.save(any(Message.class))).thenReturn(savedMessage);
+
+            // When
+            createMessageUseCase.execute("Test content", "John Doe");
+
+            // Then
+            verify(eventPublisher).publish(argThat(event ->
+                event.getType() == MessageEvent.Type.CREATED && event.getMessage() == savedMessage));
+        }
+
+        @Test
+        @DisplayName("Should not publish when validation fails")
+        void should_not_publish_when_validation_fails() {
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> createMessageUseCase.execute("", "John Doe"));
+            verifyNoInteractions(eventPublisher);
+        }
+    }
 }
@@ -3,9 +3,12 @@ package io.lostyzen.demo.domain.service;
 import io.lostyzen.demo.domain.exception.MessageAlreadyDeletedException;
 import io.lostyzen.demo.domain.exception.MessageNotFoundException;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
 import io.lostyzen.demo.domain.model.MessageId;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.MessageRevisionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -28,12 +31,18 @@ class DeleteMessageUseCaseTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private MessageEventPublisher eventPublisher;
+
+    @Mock
+    private MessageRevisionRepository revisionRepository;
+
     private DeleteMessageUseCase deleteMessageUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        deleteMessageUseCase = new DeleteMessageUseCase(messageRepository);
+        deleteMessageUseCase = new DeleteMessageUseCase(messageRepository, eventPublisher, revisionRepository);
     }
 
     @Nested
@@ -198,4 +207,57 @@ class DeleteMessageUseCaseTest {
             assertEquals(MessageStatus.DELETED, originalMessage.getStatus());
         }
     }
+
+    @Nested
+    @DisplayName("Event Publication")
+    class EventPublication {
+
+        @Test
+        @DisplayName("Should publish a DELETED event with the saved message")
+        void should_publish_a_deleted_event_with_the_saved_message() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Test content", "John Doe");
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+            when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            deleteMessageUseCase.execute(messageId);
+
+            // Then
+            verify(eventPublisher).publish(argThat(event ->
+                event.getType() == MessageEvent.Type.DELETED && event.getMessage() == message));
+        }
+
+        @Test
+        @DisplayName("Should not publish when the business rules reject the change")
+        void should_not_publish_when_the_business_rules_reject_the_change() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Test content", "John Doe");
+            message.delete();
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+
+            // When & Then
+            assertThrows(MessageAlreadyDeletedException.class, () -> deleteMessageUseCase.execute(messageId));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should publish a DELETED event without message on hard delete")
+        void should_publish_a_deleted_event_without_message_on_hard_delete() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(new Message("Test content", "John Doe")));
+
+            // When
+            deleteMessageUseCase.executeHardDelete(messageId);
+
+            // Then
+            verify(eventPublisher).publish(argThat(event ->
+                event.getType() == MessageEvent.Type.DELETED && event.getMessage() == null
+                    && event.getMessageId().equals(messageId)));
+            verify(revisionRepository).deleteAll(messageId);
+        }
+    }
 }
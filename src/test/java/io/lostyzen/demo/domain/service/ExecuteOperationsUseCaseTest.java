@@ -0,0 +1,158 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.exception.BatchAbortedException;
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageOperation;
+import io.lostyzen.demo.domain.model.OperationResult;
+import io.lostyzen.demo.domain.port.in.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExecuteOperations Use Case
+ * Tests step ordering, references to earlier steps and all-or-nothing results
+ */
+class ExecuteOperationsUseCaseTest {
+
+    @Mock
+    private CreateMessagePort createMessagePort;
+
+    @Mock
+    private UpdateMessagePort updateMessagePort;
+
+    @Mock
+    private PublishMessagePort publishMessagePort;
+
+    @Mock
+    private ArchiveMessagePort archiveMessagePort;
+
+    @Mock
+    private DeleteMessagePort deleteMessagePort;
+
+    @Mock
+    private GetMessagesPort getMessagesPort;
+
+    private ExecuteOperationsUseCase executeOperationsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        executeOperationsUseCase = new ExecuteOperationsUseCase(createMessagePort, updateMessagePort,
+            publishMessagePort, archiveMessagePort, deleteMessagePort, getMessagesPort);
+    }
+
+    @Nested
+    @DisplayName("Successful Batches")
+    class SuccessfulBatches {
+
+        @Test
+        @DisplayName("Should create, update and publish through references")
+        void should_create_update_and_publish_through_references() {
+            // Given
+            Message created = new Message("Draft", "John Doe");
+            when(createMessagePort.execute("Draft", "John Doe")).thenReturn(created);
+            when(updateMessagePort.execute(created.getId(), "Final")).thenReturn(created);
+            when(publishMessagePort.execute(created.getId())).thenReturn(created);
+
+            // When
+            List<OperationResult> results = executeOperationsUseCase.execute(List.of(
+                MessageOperation.create("Draft", "John Doe"),
+                MessageOperation.update("$0", "Final"),
+                MessageOperation.publish("$0")
+            ));
+
+            // Then
+            assertEquals(3, results.size());
+            assertTrue(results.stream().allMatch(OperationResult::isSuccess));
+            assertEquals(MessageOperation.Type.PUBLISH, results.get(2).getType());
+            verify(updateMessagePort).execute(created.getId(), "Final");
+            verify(publishMessagePort).execute(created.getId());
+        }
+
+        @Test
+        @DisplayName("Should return the deleted message")
+        void should_return_the_deleted_message() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message deleted = new Message("Content", "John Doe");
+            deleted.delete();
+            when(getMessagesPort.getById(messageId)).thenReturn(deleted);
+
+            // When
+            List<OperationResult> results = executeOperationsUseCase.execute(List.of(MessageOperation.delete("test-id")));
+
+            // Then
+            verify(deleteMessagePort).execute(messageId);
+            assertSame(deleted, results.get(0).getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Aborted Batches")
+    class AbortedBatches {
+
+        @Test
+        @DisplayName("Should report rolled back, failed and skipped steps")
+        void should_report_rolled_back_failed_and_skipped_steps() {
+            // Given
+            Message created = new Message("Draft", "John Doe");
+            when(createMessagePort.execute(any(), any())).thenReturn(created);
+            when(publishMessagePort.execute(MessageId.of("missing-id")))
+                .thenThrow(new MessageNotFoundException("missing-id"));
+
+            // When
+            BatchAbortedException exception = assertThrows(BatchAbortedException.class,
+                () -> executeOperationsUseCase.execute(List.of(
+                    MessageOperation.create("Draft", "John Doe"),
+                    MessageOperation.publish("missing-id"),
+                    MessageOperation.publish("$0")
+                )));
+
+            // Then
+            List<OperationResult> results = exception.getResults();
+            assertEquals(OperationResult.Outcome.ROLLED_BACK, results.get(0).getOutcome());
+            assertEquals(OperationResult.Outcome.FAILED, results.get(1).getOutcome());
+            assertTrue(results.get(1).getError().contains("missing-id"));
+            assertEquals(OperationResult.Outcome.SKIPPED, results.get(2).getOutcome());
+            verify(publishMessagePort, never()).execute(created.getId());
+        }
+
+        @Test
+        @DisplayName("Should reject references to later steps")
+        void should_reject_references_to_later_steps() {
+            // When & Then
+            BatchAbortedException exception = assertThrows(BatchAbortedException.class,
+                () -> executeOperationsUseCase.execute(List.of(MessageOperation.publish("$0"))));
+
+            assertTrue(exception.getMessage().contains("earlier operation"));
+            verifyNoInteractions(publishMessagePort);
+        }
+
+        @Test
+        @DisplayName("Should abort on business rule violations")
+        void should_abort_on_business_rule_violations() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            when(archiveMessagePort.execute(messageId))
+                .thenThrow(new IllegalStateException("Cannot transition from Draft to ARCHIVED"));
+
+            // When & Then
+            BatchAbortedException exception = assertThrows(BatchAbortedException.class,
+                () -> executeOperationsUseCase.execute(List.of(MessageOperation.archive("test-id"))));
+
+            assertEquals("Cannot transition from Draft to ARCHIVED", exception.getResults().get(0).getError());
+        }
+    }
+}
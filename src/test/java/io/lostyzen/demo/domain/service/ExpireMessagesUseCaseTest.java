@@ -0,0 +1,85 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ExpireMessages Use Case
+ * Tests the business logic for archiving expired messages with proper isolation
+ */
+class ExpireMessagesUseCaseTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageEventPublisher eventPublisher;
+
+    private ExpireMessagesUseCase expireMessagesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        expireMessagesUseCase = new ExpireMessagesUseCase(messageRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should archive messages published before the lifetime cutoff")
+    void should_archive_messages_published_before_the_lifetime_cutoff() {
+        // Given
+        Message archived = new Message("Test content", "John Doe");
+        archived.publish();
+        archived.archive();
+        when(messageRepository.archivePublishedBefore(any(LocalDateTime.class), eq(100)))
+            .thenReturn(List.of(archived));
+
+        // When
+        LocalDateTime before = LocalDateTime.now().minusDays(7);
+        List<Message> result = expireMessagesUseCase.archiveExpired(Duration.ofDays(7), 100);
+
+        // Then
+        assertEquals(List.of(archived), result);
+        verify(messageRepository).archivePublishedBefore(
+            argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(LocalDateTime.now().minusDays(6))),
+            eq(100));
+        verify(eventPublisher).publish(argThat(event -> event.getType() == MessageEvent.Type.ARCHIVED));
+    }
+
+    @Test
+    @DisplayName("Should publish no event when nothing expired")
+    void should_publish_no_event_when_nothing_expired() {
+        // Given
+        when(messageRepository.archivePublishedBefore(any(LocalDateTime.class), eq(100))).thenReturn(List.of());
+
+        // When
+        List<Message> result = expireMessagesUseCase.archiveExpired(Duration.ofDays(7), 100);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive lifetime")
+    void should_reject_non_positive_lifetime() {
+        assertThrows(IllegalArgumentException.class, () -> expireMessagesUseCase.archiveExpired(Duration.ZERO, 100));
+        verifyNoInteractions(messageRepository);
+    }
+}
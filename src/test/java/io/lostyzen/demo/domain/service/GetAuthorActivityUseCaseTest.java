@@ -0,0 +1,57 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.model.AuthorActivity;
+import io.lostyzen.demo.domain.port.out.AuthorActivitySketch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetAuthorActivity Use Case
+ * Tests the parameter validation against what the sketches retain
+ */
+class GetAuthorActivityUseCaseTest {
+
+    @Mock
+    private AuthorActivitySketch authorActivitySketch;
+
+    private GetAuthorActivityUseCase getAuthorActivityUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        getAuthorActivityUseCase = new GetAuthorActivityUseCase(authorActivitySketch);
+        when(authorActivitySketch.getRetainedWindows()).thenReturn(24);
+        when(authorActivitySketch.getTrackedAuthors()).thenReturn(64);
+    }
+
+    @Test
+    @DisplayName("Should summarize the requested windows")
+    void should_summarize_the_requested_windows() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        AuthorActivity activity = new AuthorActivity(now.minusHours(24), now, 0, 0, 0.016, List.of(), 0, 0.99);
+        when(authorActivitySketch.summarize(24, 10)).thenReturn(activity);
+
+        // When / Then
+        assertSame(activity, getAuthorActivityUseCase.getAuthorActivity(24, 10));
+    }
+
+    @Test
+    @DisplayName("Should reject windows or top outside what the sketches retain")
+    void should_reject_windows_or_top_outside_what_the_sketches_retain() {
+        assertThrows(IllegalArgumentException.class, () -> getAuthorActivityUseCase.getAuthorActivity(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> getAuthorActivityUseCase.getAuthorActivity(25, 10));
+        assertThrows(IllegalArgumentException.class, () -> getAuthorActivityUseCase.getAuthorActivity(24, 0));
+        assertThrows(IllegalArgumentException.class, () -> getAuthorActivityUseCase.getAuthorActivity(24, 65));
+        verify(authorActivitySketch, never()).summarize(anyInt(), anyInt());
+    }
+}
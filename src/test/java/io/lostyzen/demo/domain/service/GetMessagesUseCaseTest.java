@@ -1,8 +1,23 @@
 package io.lostyzen.demo.domain.service;
 
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.ChangeCursor;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageChanges;
+import io.lostyzen.demo.domain.model.MessageCriteria;
+import io.lostyzen.demo.domain.model.MessageField;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageLookup;
+import io.lostyzen.demo.domain.model.MessagePage;
+import io.lostyzen.demo.domain.model.MessageQuery;
+import io.lostyzen.demo.domain.model.MessageProjection;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageView;
+import io.lostyzen.demo.domain.model.TimelinePage;
+import io.lostyzen.demo.domain.port.out.AuthorTimelineCache;
+import io.lostyzen.demo.domain.port.out.MessageReadModel;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.PublishedFeed;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -13,8 +28,12 @@ import org.mockito.MockitoAnnotations;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -26,12 +45,85 @@ class GetMessagesUseCaseTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private MessageReadModel readModel;
+
+    @Mock
+    private AuthorTimelineCache timelineCache;
+
+    @Mock
+    private PublishedFeed publishedFeed;
+
     private GetMessagesUseCase getMessagesUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        getMessagesUseCase = new GetMessagesUseCase(messageRepository);
+        getMessagesUseCase = new GetMessagesUseCase(messageRepository, readModel, timelineCache, publishedFeed);
+    }
+
+    @Nested
+    @DisplayName("Get Message By ID")
+    class GetMessageById {
+
+        @Test
+        @DisplayName("Should return message when it exists")
+        void should_return_message_when_it_exists() {
+            // Given
+            Message message = new Message("Content", "Author");
+            when(messageRepository.findById(message.getId())).thenReturn(Optional.of(message));
+
+            // When
+            Message result = getMessagesUseCase.getById(message.getId());
+
+            // Then
+            assertSame(message, result);
+            verify(messageRepository).findById(message.getId());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when message does not exist")
+        void should_throw_exception_when_message_does_not_exist() {
+            // Given
+            MessageId messageId = MessageId.of("non-existent-id");
+            when(messageRepository.findById(messageId)).thenReturn(Optional.empty());
+
+            // When & Then
+            MessageNotFoundException exception = assertThrows(
+                MessageNotFoundException.class,
+                () -> getMessagesUseCase.getById(messageId)
+            );
+            assertEquals("non-existent-id", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should delegate collection version to repository")
+        void should_delegate_collection_version_to_repository() {
+            // Given
+            when(messageRepository.getCollectionVersion()).thenReturn("abc-42");
+
+            // When
+            String version = getMessagesUseCase.getCollectionVersion();
+
+            // Then
+            assertEquals("abc-42", version);
+            verify(messageRepository).getCollectionVersion();
+        }
+
+        @Test
+        @DisplayName("Should add the read model version once the read model serves the lists")
+        void should_add_the_read_model_version_once_the_read_model_serves_the_lists() {
+            // Given
+            when(messageRepository.getCollectionVersion()).thenReturn("abc-42");
+            when(readModel.isReady()).thenReturn(true);
+            when(readModel.getVersion()).thenReturn(7L);
+
+            // When
+            String version = getMessagesUseCase.getCollectionVersion();
+
+            // Then
+            assertEquals("abc-42.7", version);
+        }
     }
 
     @Nested
@@ -253,6 +345,46 @@ class GetMessagesUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Partial Messages")
+    class GetPartialMessages {
+
+        @Test
+        @DisplayName("Should delegate view to repository for all active messages")
+        void should_delegate_view_to_repository_for_all_active_messages() {
+            // Given
+            MessageView view = MessageView.summary();
+            List<MessageProjection> projections = List.of(
+                MessageProjection.of(new Message("Content", "Author"), view));
+            when(messageRepository.findAllActive(view)).thenReturn(projections);
+
+            // When
+            List<MessageProjection> result = getMessagesUseCase.getAllActive(view);
+
+            // Then
+            assertSame(projections, result);
+            verify(messageRepository).findAllActive(view);
+            verify(messageRepository, never()).findAllActive();
+        }
+
+        @Test
+        @DisplayName("Should delegate view to repository for status and author filters")
+        void should_delegate_view_to_repository_for_status_and_author_filters() {
+            // Given
+            MessageView view = MessageView.summary();
+            when(messageRepository.findByStatus(MessageStatus.PUBLISHED, view)).thenReturn(Collections.emptyList());
+            when(messageRepository.findByAuthor("John Doe", view)).thenReturn(Collections.emptyList());
+
+            // When
+            getMessagesUseCase.getByStatus(MessageStatus.PUBLISHED, view);
+            getMessagesUseCase.getByAuthor("John Doe", view);
+
+            // Then
+            verify(messageRepository).findByStatus(MessageStatus.PUBLISHED, view);
+            verify(messageRepository).findByAuthor("John Doe", view);
+        }
+    }
+
     @Nested
     @DisplayName("Repository Integration")
     class RepositoryIntegration {
@@ -294,4 +426,438 @@ class GetMessagesUseCaseTest {
             verify(messageRepository, times(1)).findByAuthor("John Doe");
         }
     }
+
+    @Nested
+    @DisplayName("Get Messages By IDs")
+    class GetMessagesByIds {
+
+        @Test
+        @DisplayName("Should return found messages in input order with missing IDs apart")
+        void should_return_found_messages_in_input_order_with_missing_ids_apart() {
+            // Given
+            Message first = new Message("First", "John Doe");
+            Message second = new Message("Second", "Jane Smith");
+            MessageId missing = MessageId.of("missing-id");
+            List<MessageId> ids = List.of(second.getId(), missing, first.getId());
+            when(messageRepository.findAllById(ids)).thenReturn(List.of(first, second));
+
+            // When
+            MessageLookup result = getMessagesUseCase.getByIds(ids);
+
+            // Then
+            assertEquals(List.of(second, first), result.getFound());
+            assertEquals(List.of(missing), result.getMissing());
+            verify(messageRepository, times(1)).findAllById(ids);
+            verify(messageRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should query duplicate IDs once")
+        void should_query_duplicate_ids_once() {
+            // Given
+            Message message = new Message("Content", "John Doe");
+            when(messageRepository.findAllById(List.of(message.getId()))).thenReturn(List.of(message));
+
+            // When
+            MessageLookup result = getMessagesUseCase.getByIds(List.of(message.getId(), message.getId()));
+
+            // Then
+            assertEquals(1, result.getFound().size());
+            assertTrue(result.getMissing().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Changes Since Cursor")
+    class GetChangesSinceCursor {
+
+        @Test
+        @DisplayName("Should return a page and a cursor after its last change")
+        void should_return_a_page_and_a_cursor_after_its_last_change() {
+            // Given
+            Message first = new Message("First", "John Doe");
+            Message second = new Message("Second", "John Doe");
+            Message third = new Message("Third", "John Doe");
+            when(messageRepository.findChangedSince(null, 3)).thenReturn(List.of(first, second, third));
+
+            // When
+            MessageChanges result = getMessagesUseCase.getChangesSince(null, 2);
+
+            // Then
+            assertEquals(List.of(first, second), result.getChanges());
+            assertEquals(ChangeCursor.after(second), result.getCursor());
+            assertTrue(result.isHasMore());
+        }
+
+        @Test
+        @DisplayName("Should keep the cursor when nothing changed")
+        void should_keep_the_cursor_when_nothing_changed() {
+            // Given
+            ChangeCursor since = ChangeCursor.after(new Message("Content", "John Doe"));
+            when(messageRepository.findChangedSince(since, 11)).thenReturn(Collections.emptyList());
+
+            // When
+            MessageChanges result = getMessagesUseCase.getChangesSince(since, 10);
+
+            // Then
+            assertTrue(result.getChanges().isEmpty());
+            assertEquals(since, result.getCursor());
+            assertFalse(result.isHasMore());
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Messages")
+    class SearchMessages {
+
+        @Test
+        @DisplayName("Should fetch one extra row to detect a next page")
+        void should_fetch_one_extra_row_to_detect_a_next_page() {
+            // Given
+            MessageCriteria criteria = MessageCriteria.builder()
+                .status(MessageStatus.PUBLISHED)
+                .status(MessageStatus.ARCHIVED)
+                .author("John Doe")
+                .build();
+            MessageQuery query = new MessageQuery(criteria, MessageField.PUBLISHED_AT, false, 1, 2);
+            Message first = new Message("First", "John Doe");
+            Message second = new Message("Second", "John Doe");
+            Message third = new Message("Third", "John Doe");
+            when(messageRepository.findMatching(criteria, MessageField.PUBLISHED_AT, false, 2, 3))
+                .thenReturn(List.of(first, second, third));
+
+            // When
+            MessagePage result = getMessagesUseCase.search(query);
+
+            // Then
+            assertEquals(List.of(first, second), result.getItems());
+            assertEquals(1, result.getPage());
+            assertTrue(result.isHasNext());
+        }
+
+        @Test
+        @DisplayName("Should report the last page")
+        void should_report_the_last_page() {
+            // Given
+            MessageQuery query = MessageQuery.of(MessageCriteria.builder().author("John Doe").build());
+            when(messageRepository.findMatching(query.getCriteria(), MessageField.CREATED_AT, false, 0,
+                MessageQuery.DEFAULT_PAGE_SIZE + 1)).thenReturn(List.of(new Message("Only", "John Doe")));
+
+            // When
+            MessagePage result = getMessagesUseCase.search(query);
+
+            // Then
+            assertEquals(1, result.getItems().size());
+            assertFalse(result.isHasNext());
+        }
+
+        @Test
+        @DisplayName("Should resume a keyset page after the last message read")
+        void should_resume_a_keyset_page_after_the_last_message_read() {
+            // Given
+            MessageQuery query = new MessageQuery(MessageCriteria.builder().author("John Doe").build(),
+                MessageField.CREATED_AT, false, 1, 2);
+            Message last = new Message("Last read", "John Doe");
+            Message older = new Message("Older", "John Doe");
+            when(messageRepository.findMatchingOlderThan(query.getCriteria(), last.getCreatedAt(), last.getId(), 3))
+                .thenReturn(List.of(older));
+
+            // When
+            MessagePage result = getMessagesUseCase.searchAfter(query, last);
+
+            // Then
+            assertEquals(List.of(older), result.getItems());
+            assertEquals(1, result.getPage());
+            assertFalse(result.isHasNext());
+        }
+
+        @Test
+        @DisplayName("Should start a keyset read from the newest message")
+        void should_start_a_keyset_read_from_the_newest_message() {
+            // Given
+            MessageQuery query = new MessageQuery(MessageCriteria.builder().build(), MessageField.CREATED_AT, false,
+                0, 1);
+            when(messageRepository.findMatchingOlderThan(query.getCriteria(), null, null, 2))
+                .thenReturn(List.of(new Message("Newest", "John Doe"), new Message("Next", "John Doe")));
+
+            // When
+            MessagePage result = getMessagesUseCase.searchAfter(query, null);
+
+            // Then
+            assertEquals("Newest", result.getItems().get(0).getContent());
+            assertTrue(result.isHasNext());
+        }
+
+        @Test
+        @DisplayName("Should reject a keyset read in another order")
+        void should_reject_a_keyset_read_in_another_order() {
+            MessageQuery query = new MessageQuery(MessageCriteria.builder().build(), MessageField.CREATED_AT, true,
+                0, 10);
+
+            assertThrows(IllegalArgumentException.class, () -> getMessagesUseCase.searchAfter(query, null));
+            verifyNoInteractions(messageRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Grouped Reads")
+    class GroupedReads {
+
+        @Test
+        @DisplayName("Should report every status, including those without messages")
+        void should_report_every_status_including_those_without_messages() {
+            // Given
+            when(messageRepository.countGroupedByStatus()).thenReturn(Map.of(MessageStatus.PUBLISHED, 3L));
+
+            // When
+            Map<MessageStatus, Long> counts = getMessagesUseCase.countByStatus();
+
+            // Then
+            assertEquals(3L, counts.get(MessageStatus.PUBLISHED));
+            assertEquals(0L, counts.get(MessageStatus.DRAFT));
+            assertEquals(MessageStatus.values().length, counts.size());
+        }
+
+        @Test
+        @DisplayName("Should count distinct authors in one repository call")
+        void should_count_distinct_authors_in_one_repository_call() {
+            // Given
+            Set<MessageStatus> statuses = Set.of(MessageStatus.PUBLISHED);
+            when(messageRepository.countByAuthors(Set.of("Alice", "Bob"), statuses)).thenReturn(Map.of("Alice", 2L));
+
+            // When
+            Map<String, Long> counts = getMessagesUseCase.countByAuthors(List.of("Alice", "Bob", "Alice"), statuses);
+
+            // Then
+            assertEquals(Map.of("Alice", 2L, "Bob", 0L), counts);
+            verify(messageRepository, times(1)).countByAuthors(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should group latest messages per author, keeping empty authors")
+        void should_group_latest_messages_per_author_keeping_empty_authors() {
+            // Given
+            Set<MessageStatus> statuses = Set.of(MessageStatus.DRAFT);
+            Message newest = new Message("Newest", "Alice");
+            Message oldest = new Message("Oldest", "Alice");
+            when(messageRepository.findLatestByAuthors(Set.of("Alice", "Bob"), statuses, 5))
+                .thenReturn(List.of(newest, oldest));
+
+            // When
+            Map<String, List<Message>> messages = getMessagesUseCase.getLatestByAuthors(List.of("Alice", "Bob"), statuses, 5);
+
+            // Then
+            assertEquals(List.of(newest, oldest), messages.get("Alice"));
+            assertEquals(List.of(), messages.get("Bob"));
+        }
+
+        @Test
+        @DisplayName("Should not query the repository without authors")
+        void should_not_query_the_repository_without_authors() {
+            // When
+            Map<String, List<Message>> messages = getMessagesUseCase.getLatestByAuthors(List.of(), Set.of(MessageStatus.DRAFT), 5);
+
+            // Then
+            assertTrue(messages.isEmpty());
+            verifyNoInteractions(messageRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Read Model")
+    class ReadModel {
+
+        @BeforeEach
+        void setUp() {
+            when(readModel.isReady()).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should serve list reads from the read model once it is ready")
+        void should_serve_list_reads_from_the_read_model_once_it_is_ready() {
+            // Given
+            Message draft = new Message("Draft", "Alice");
+            when(readModel.findAllActive()).thenReturn(List.of(draft));
+            when(readModel.findByStatus(MessageStatus.DRAFT)).thenReturn(List.of(draft));
+            when(readModel.findByAuthor("Alice")).thenReturn(List.of(draft));
+
+            // When & Then
+            assertEquals(List.of(draft), getMessagesUseCase.getAllActive());
+            assertEquals(List.of(draft), getMessagesUseCase.getByStatus(MessageStatus.DRAFT));
+            assertEquals(List.of(draft), getMessagesUseCase.getByAuthor("Alice"));
+            verifyNoInteractions(messageRepository);
+        }
+
+        @Test
+        @DisplayName("Should keep projected reads on the repository pushdown")
+        void should_keep_projected_reads_on_the_repository_pushdown() {
+            // Given
+            MessageView view = MessageView.summary();
+            when(messageRepository.findByAuthor("Alice", view)).thenReturn(List.of());
+            when(messageRepository.findByStatus(MessageStatus.DRAFT, view)).thenReturn(List.of());
+            when(messageRepository.findAllActive(view)).thenReturn(List.of());
+
+            // When
+            getMessagesUseCase.getByAuthor("Alice", view);
+            getMessagesUseCase.getByStatus(MessageStatus.DRAFT, view);
+            getMessagesUseCase.getAllActive(view);
+
+            // Then
+            verify(messageRepository).findByAuthor("Alice", view);
+            verify(messageRepository).findByStatus(MessageStatus.DRAFT, view);
+            verify(messageRepository).findAllActive(view);
+            verify(readModel, never()).findByAuthor(any());
+            verify(readModel, never()).findAllActive();
+        }
+
+        @Test
+        @DisplayName("Should fall back to the repository while the read model is not ready")
+        void should_fall_back_to_the_repository_while_the_read_model_is_not_ready() {
+            // Given
+            when(readModel.isReady()).thenReturn(false);
+            when(messageRepository.findByStatus(MessageStatus.PUBLISHED)).thenReturn(List.of());
+
+            // When
+            getMessagesUseCase.getByStatus(MessageStatus.PUBLISHED);
+
+            // Then
+            verify(messageRepository).findByStatus(MessageStatus.PUBLISHED);
+            verify(readModel, never()).findByStatus(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Author Timeline")
+    class AuthorTimeline {
+
+        @BeforeEach
+        void setUp() {
+            when(timelineCache.getDepth()).thenReturn(3);
+        }
+
+        @Test
+        @DisplayName("Should serve a cached page without touching the repository")
+        void should_serve_a_cached_page_without_touching_the_repository() {
+            // Given
+            TimelinePage cached = new TimelinePage(List.of(), 0, 2, false);
+            when(timelineCache.findPage("Alice", 0, 2)).thenReturn(Optional.of(cached));
+
+            // When
+            TimelinePage result = getMessagesUseCase.getTimeline("Alice", 0, 2);
+
+            // Then
+            assertSame(cached, result);
+            verifyNoInteractions(messageRepository);
+        }
+
+        @Test
+        @DisplayName("Should load the cached depth on a first-page miss")
+        void should_load_the_cached_depth_on_a_first_page_miss() {
+            // Given
+            List<Message> newest = List.of(new Message("Fourth", "Alice"), new Message("Third", "Alice"),
+                new Message("Second", "Alice"), new Message("First", "Alice"));
+            when(timelineCache.findPage("Alice", 0, 2)).thenReturn(Optional.empty());
+            when(timelineCache.reserve("Alice")).thenReturn(7L);
+            when(messageRepository.findMatching(any(), eq(MessageField.CREATED_AT), eq(false), eq(0), eq(4)))
+                .thenReturn(newest);
+
+            // When
+            TimelinePage result = getMessagesUseCase.getTimeline("Alice", 0, 2);
+
+            // Then: only the depth is cached, and the author has more messages than that
+            verify(timelineCache).fill(eq("Alice"), eq(7L), argThat(entries -> entries.size() == 3), eq(false));
+            assertEquals(2, result.getItems().size());
+            assertEquals("Fourth", result.getItems().get(0).getContent());
+            assertEquals("Third", result.getItems().get(1).getContent());
+            assertTrue(result.isHasNext());
+        }
+
+        @Test
+        @DisplayName("Should read a page crossing the cached depth from the repository")
+        void should_read_a_page_crossing_the_cached_depth_from_the_repository() {
+            // Given: with a depth of 3, the second page of 2 would be cut short by the cache
+            when(timelineCache.findPage("Alice", 1, 2)).thenReturn(Optional.empty());
+            when(messageRepository.findMatching(any(), eq(MessageField.CREATED_AT), eq(false), eq(2), eq(3)))
+                .thenReturn(List.of(new Message("Second", "Alice"), new Message("First", "Alice"),
+                    new Message("Zeroth", "Alice")));
+
+            // When
+            TimelinePage result = getMessagesUseCase.getTimeline("Alice", 1, 2);
+
+            // Then: a full page, and nothing loaded into the cache
+            assertEquals(2, result.getItems().size());
+            assertTrue(result.isHasNext());
+            verify(timelineCache, never()).reserve(any());
+        }
+
+        @Test
+        @DisplayName("Should read pages beyond the cached depth from the repository")
+        void should_read_pages_beyond_the_cached_depth_from_the_repository() {
+            // Given
+            when(timelineCache.findPage("Alice", 2, 2)).thenReturn(Optional.empty());
+            when(messageRepository.findMatching(any(), eq(MessageField.CREATED_AT), eq(false), eq(4), eq(3)))
+                .thenReturn(List.of(new Message("Old", "Alice")));
+
+            // When
+            TimelinePage result = getMessagesUseCase.getTimeline("Alice", 2, 2);
+
+            // Then
+            assertEquals(1, result.getItems().size());
+            assertFalse(result.isHasNext());
+            verify(timelineCache, never()).reserve(any());
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid page size")
+        void should_reject_an_invalid_page_size() {
+            assertThrows(IllegalArgumentException.class, () -> getMessagesUseCase.getTimeline("Alice", 0, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Published Feed")
+    class PublishedFeedReads {
+
+        @Test
+        @DisplayName("Should serve the latest publications from the feed")
+        void should_serve_the_latest_publications_from_the_feed() {
+            // Given
+            Message published = new Message("Live", "Alice");
+            published.publish();
+            when(publishedFeed.findLatest(10)).thenReturn(Optional.of(List.of(published)));
+
+            // When
+            List<Message> result = getMessagesUseCase.getRecentlyPublished(10);
+
+            // Then
+            assertEquals(List.of(published), result);
+            verifyNoInteractions(messageRepository);
+        }
+
+        @Test
+        @DisplayName("Should read the database when the feed cannot answer")
+        void should_read_the_database_when_the_feed_cannot_answer() {
+            // Given
+            when(publishedFeed.findLatest(10)).thenReturn(Optional.empty());
+            when(messageRepository.findMatching(any(), eq(MessageField.PUBLISHED_AT), eq(false), eq(0), eq(10)))
+                .thenReturn(List.of());
+
+            // When
+            getMessagesUseCase.getRecentlyPublished(10);
+
+            // Then
+            verify(messageRepository).findMatching(
+                argThat(criteria -> criteria.getStatuses().equals(Set.of(MessageStatus.PUBLISHED))),
+                eq(MessageField.PUBLISHED_AT), eq(false), eq(0), eq(10));
+        }
+
+        @Test
+        @DisplayName("Should reject a limit out of bounds")
+        void should_reject_a_limit_out_of_bounds() {
+            assertThrows(IllegalArgumentException.class, () -> getMessagesUseCase.getRecentlyPublished(0));
+            assertThrows(IllegalArgumentException.class,
+                () -> getMessagesUseCase.getRecentlyPublished(MessageQuery.MAX_PAGE_SIZE + 1));
+            verifyNoInteractions(publishedFeed);
+        }
+    }
 }
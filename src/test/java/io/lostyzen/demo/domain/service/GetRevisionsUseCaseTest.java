@@ -0,0 +1,93 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.exception.RevisionNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageRevision;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.MessageRevisionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetRevisions Use Case
+ * Tests reading the content history with proper isolation
+ */
+class GetRevisionsUseCaseTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageRevisionRepository revisionRepository;
+
+    private GetRevisionsUseCase getRevisionsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        getRevisionsUseCase = new GetRevisionsUseCase(messageRepository, revisionRepository);
+    }
+
+    @Test
+    @DisplayName("Should return stored revisions")
+    void should_return_stored_revisions() {
+        // Given
+        MessageId messageId = MessageId.of("test-id");
+        List<MessageRevision> stored = List.of(
+            new MessageRevision(messageId, 1, "First", LocalDateTime.now().minusHours(1)),
+            new MessageRevision(messageId, 2, "Second", LocalDateTime.now()));
+        when(revisionRepository.findAll(messageId)).thenReturn(stored);
+
+        // When & Then
+        assertEquals(stored, getRevisionsUseCase.getRevisions(messageId));
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    @DisplayName("Should expose an unedited message as its first revision")
+    void should_expose_an_unedited_message_as_its_first_revision() {
+        // Given
+        Message message = new Message("Original", "John Doe");
+        when(revisionRepository.findAll(message.getId())).thenReturn(List.of());
+        when(revisionRepository.findRevision(message.getId(), 1)).thenReturn(Optional.empty());
+        when(messageRepository.findById(message.getId())).thenReturn(Optional.of(message));
+
+        // When
+        List<MessageRevision> revisions = getRevisionsUseCase.getRevisions(message.getId());
+        MessageRevision first = getRevisionsUseCase.getRevision(message.getId(), 1);
+
+        // Then
+        assertEquals(1, revisions.size());
+        assertEquals("Original", first.getContent());
+        assertEquals(message.getCreatedAt(), first.getEditedAt());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for missing revision or message")
+    void should_throw_exception_for_missing_revision_or_message() {
+        // Given
+        Message message = new Message("Original", "John Doe");
+        MessageId unknown = MessageId.of("unknown");
+        when(revisionRepository.findRevision(any(), anyInt())).thenReturn(Optional.empty());
+        when(revisionRepository.findAll(unknown)).thenReturn(List.of());
+        when(messageRepository.findById(message.getId())).thenReturn(Optional.of(message));
+        when(messageRepository.findById(unknown)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RevisionNotFoundException.class, () -> getRevisionsUseCase.getRevision(message.getId(), 3));
+        assertThrows(MessageNotFoundException.class, () -> getRevisionsUseCase.getRevision(unknown, 1));
+        assertThrows(MessageNotFoundException.class, () -> getRevisionsUseCase.getRevisions(unknown));
+    }
+}
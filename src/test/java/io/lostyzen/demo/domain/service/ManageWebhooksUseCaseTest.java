@@ -0,0 +1,104 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.exception.WebhookNotFoundException;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.WebhookSubscription;
+import io.lostyzen.demo.domain.port.out.WebhookSubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ManageWebhooks Use Case
+ * Tests the business logic for webhook subscriptions with proper isolation
+ */
+class ManageWebhooksUseCaseTest {
+
+    @Mock
+    private WebhookSubscriptionRepository subscriptionRepository;
+
+    private ManageWebhooksUseCase manageWebhooksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        manageWebhooksUseCase = new ManageWebhooksUseCase(subscriptionRepository);
+        when(subscriptionRepository.save(any(WebhookSubscription.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Nested
+    @DisplayName("Subscription")
+    class Subscription {
+
+        @Test
+        @DisplayName("Should save subscription with requested event types")
+        void should_save_subscription_with_requested_event_types() {
+            // When
+            WebhookSubscription result = manageWebhooksUseCase.subscribe("https://partner.example/hooks",
+                Set.of(MessageEvent.Type.PUBLISHED, MessageEvent.Type.DELETED));
+
+            // Then
+            assertNotNull(result.getId());
+            assertEquals("https://partner.example/hooks", result.getUrl());
+            assertEquals(Set.of(MessageEvent.Type.PUBLISHED, MessageEvent.Type.DELETED), result.getEventTypes());
+            verify(subscriptionRepository).save(result);
+        }
+
+        @Test
+        @DisplayName("Should default to published events")
+        void should_default_to_published_events() {
+            // When
+            WebhookSubscription result = manageWebhooksUseCase.subscribe("http://localhost:8081/hooks", Set.of());
+
+            // Then
+            assertEquals(Set.of(MessageEvent.Type.PUBLISHED), result.getEventTypes());
+        }
+
+        @Test
+        @DisplayName("Should reject non-HTTP URL")
+        void should_reject_non_http_url() {
+            // When & Then
+            assertThrows(IllegalArgumentException.class,
+                () -> manageWebhooksUseCase.subscribe("ftp://partner.example/hooks", null));
+            assertThrows(IllegalArgumentException.class,
+                () -> manageWebhooksUseCase.subscribe("/relative/path", null));
+            verify(subscriptionRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Unsubscription")
+    class Unsubscription {
+
+        @Test
+        @DisplayName("Should delete existing subscription")
+        void should_delete_existing_subscription() {
+            // Given
+            when(subscriptionRepository.deleteById("hook-id")).thenReturn(true);
+
+            // When & Then
+            assertDoesNotThrow(() -> manageWebhooksUseCase.unsubscribe("hook-id"));
+            verify(subscriptionRepository).deleteById("hook-id");
+        }
+
+        @Test
+        @DisplayName("Should throw exception when subscription does not exist")
+        void should_throw_exception_when_subscription_does_not_exist() {
+            // Given
+            when(subscriptionRepository.deleteById("unknown")).thenReturn(false);
+
+            // When & Then
+            assertThrows(WebhookNotFoundException.class, () -> manageWebhooksUseCase.unsubscribe("unknown"));
+        }
+    }
+}
@@ -2,8 +2,10 @@ package io.lostyzen.demo.domain.service;
 
 import io.lostyzen.demo.domain.exception.MessageNotFoundException;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
 import io.lostyzen.demo.domain.model.MessageId;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,12 +29,15 @@ class PublishMessageUseCaseTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private MessageEventPublisher eventPublisher;
+
     private PublishMessageUseCase publishMessageUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        publishMessageUseCase = new PublishMessageUseCase(messageRepository);
+        publishMessageUseCase = new PublishMessageUseCase(messageRepository, eventPublisher);
     }
 
     @Nested
@@ -194,4 +199,40 @@ class PublishMessageUseCaseTest {
             assertEquals("John Doe", result.getAuthor());
         }
     }
+
+    @Nested
+    @DisplayName("Event Publication")
+    class EventPublication {
+
+        @Test
+        @DisplayName("Should publish a PUBLISHED event with the saved message")
+        void should_publish_a_published_event_with_the_saved_message() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Test content", "John Doe");
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+            when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            publishMessageUseCase.execute(messageId);
+
+            // Then
+            verify(eventPublisher).publish(argThat(event ->
+                event.getType() == MessageEvent.Type.PUBLISHED && event.getMessage() == message));
+        }
+
+        @Test
+        @DisplayName("Should not publish when the business rules reject the change")
+        void should_not_publish_when_the_business_rules_reject_the_change() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Test content", "John Doe");
+            message.delete();
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> publishMessageUseCase.execute(messageId));
+            verifyNoInteractions(eventPublisher);
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package io.lostyzen.demo.domain.service;
+
+import io.lostyzen.demo.domain.exception.MessageNotFoundException;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SchedulePublication Use Case
+ * Tests the business logic for scheduled publication with proper isolation
+ */
+class SchedulePublicationUseCaseTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageEventPublisher eventPublisher;
+
+    private SchedulePublicationUseCase schedulePublicationUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        schedulePublicationUseCase = new SchedulePublicationUseCase(messageRepository, eventPublisher);
+        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messageRepository.saveAll(anyCollection()))
+            .thenAnswer(invocation -> List.copyOf(invocation.<List<Message>>getArgument(0)));
+    }
+
+    // A draft whose scheduled time has already come, as loaded from the database
+    private static Message dueDraft(String id) {
+        LocalDateTime created = LocalDateTime.now().minusHours(1);
+        return new Message(MessageId.of(id), "Test content", MessageStatus.DRAFT, "John Doe",
+            created, created, null, null, LocalDateTime.now().minusSeconds(1));
+    }
+
+    @Nested
+    @DisplayName("Scheduling")
+    class Scheduling {
+
+        @Test
+        @DisplayName("Should schedule message and announce the update")
+        void should_schedule_message_and_announce_the_update() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message draft = new Message("Test content", "John Doe");
+            LocalDateTime publishAt = LocalDateTime.now().plusMinutes(5);
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(draft));
+
+            // When
+            Message result = schedulePublicationUseCase.schedule(messageId, publishAt);
+
+            // Then
+            assertEquals(publishAt, result.getPublishAt());
+            assertEquals(MessageStatus.DRAFT, result.getStatus());
+            verify(eventPublisher).publish(argThat(event -> event.getType() == MessageEvent.Type.UPDATED));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when message does not exist")
+        void should_throw_exception_when_message_does_not_exist() {
+            // Given
+            MessageId messageId = MessageId.of("unknown");
+            when(messageRepository.findById(messageId)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThrows(MessageNotFoundException.class,
+                () -> schedulePublicationUseCase.schedule(messageId, LocalDateTime.now().plusMinutes(5)));
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Due Publication")
+    class DuePublication {
+
+        @Test
+        @DisplayName("Should publish due messages in one batch")
+        void should_publish_due_messages_in_one_batch() {
+            // Given
+            Message first = dueDraft("first");
+            Message second = dueDraft("second");
+            when(messageRepository.findAllById(anyCollection())).thenReturn(List.of(first, second));
+
+            // When
+            List<Message> result = schedulePublicationUseCase.publishDue(List.of(first.getId(), second.getId()));
+
+            // Then
+            assertEquals(2, result.size());
+            assertTrue(result.stream().allMatch(Message::isPublished));
+            assertTrue(result.stream().noneMatch(Message::isScheduled));
+            verify(messageRepository).saveAll(List.of(first, second));
+            verify(eventPublisher, times(2))
+                .publish(argThat(event -> event.getType() == MessageEvent.Type.PUBLISHED));
+        }
+
+        @Test
+        @DisplayName("Should skip rescheduled and cancelled messages")
+        void should_skip_rescheduled_and_cancelled_messages() {
+            // Given
+            Message rescheduled = new Message("Test content", "John Doe");
+            rescheduled.schedulePublication(LocalDateTime.now().plusHours(1));
+            Message cancelled = new Message("Test content", "John Doe");
+            when(messageRepository.findAllById(anyCollection())).thenReturn(List.of(rescheduled, cancelled));
+
+            // When
+            List<Message> result = schedulePublicationUseCase.publishDue(
+                List.of(rescheduled.getId(), cancelled.getId()));
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(messageRepository, never()).saveAll(anyCollection());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+}
@@ -2,9 +2,12 @@ package io.lostyzen.demo.domain.service;
 
 import io.lostyzen.demo.domain.exception.MessageNotFoundException;
 import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
 import io.lostyzen.demo.domain.model.MessageId;
 import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageEventPublisher;
 import io.lostyzen.demo.domain.port.out.MessageRepository;
+import io.lostyzen.demo.domain.port.out.MessageRevisionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Nested;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,12 +31,18 @@ class UpdateMessageUseCaseTest {
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private MessageEventPublisher eventPublisher;
+
+    @Mock
+    private MessageRevisionRepository revisionRepository;
+
     private UpdateMessageUseCase updateMessageUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        updateMessageUseCase = new UpdateMessageUseCase(messageRepository);
+        updateMessageUseCase = new UpdateMessageUseCase(messageRepository, eventPublisher, revisionRepository);
     }
 
     @Nested
@@ -216,4 +226,81 @@ class UpdateMessageUseCaseTest {
             verify(message).updateContent(newContent);
         }
     }
+
+    @Nested
+    @DisplayName("Event Publication")
+    class EventPublication {
+
+        @Test
+        @DisplayName("Should publish a UPDATED event with the saved message")
+        void should_publish_a_updated_event_with_the_saved_message() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Test content", "John Doe");
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+            when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            updateMessageUseCase.execute(messageId, "New content");
+
+            // Then
+            verify(eventPublisher).publish(argThat(event ->
+                event.getType() == MessageEvent.Type.UPDATED && event.getMessage() == message));
+        }
+
+        @Test
+        @DisplayName("Should not publish when the business rules reject the change")
+        void should_not_publish_when_the_business_rules_reject_the_change() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Test content", "John Doe");
+            message.delete();
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> updateMessageUseCase.execute(messageId, "New content"));
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Revision History")
+    class RevisionHistory {
+
+        @Test
+        @DisplayName("Should record the edit with the previous content")
+        void should_record_the_edit_with_the_previous_content() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Original content", "John Doe");
+            LocalDateTime previousAt = message.getUpdatedAt();
+
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+            when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            Message result = updateMessageUseCase.execute(messageId, "Updated content");
+
+            // Then
+            verify(revisionRepository).record(messageId, "Original content", previousAt,
+                "Updated content", result.getUpdatedAt());
+        }
+
+        @Test
+        @DisplayName("Should not record an edit that leaves the content unchanged")
+        void should_not_record_an_edit_that_leaves_the_content_unchanged() {
+            // Given
+            MessageId messageId = MessageId.of("test-id");
+            Message message = new Message("Original content", "John Doe");
+
+            when(messageRepository.findById(messageId)).thenReturn(Optional.of(message));
+            when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            updateMessageUseCase.execute(messageId, "  Original content ");
+
+            // Then
+            verifyNoInteractions(revisionRepository);
+        }
+    }
 }
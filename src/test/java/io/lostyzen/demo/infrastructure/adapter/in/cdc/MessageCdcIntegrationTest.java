@@ -0,0 +1,163 @@
+package io.lostyzen.demo.infrastructure.adapter.in.cdc;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the change data capture of the messages table
+ * Writes are made on a plain JDBC connection to the test database, like an operator's SQL client,
+ * so they bypass the application. The test profile polls every 50 ms with no settle window.
+ */
+@QuarkusTest
+class MessageCdcIntegrationTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Inject
+    MessageCdcReader reader;
+
+    private String createMessage(String author) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "content": "Captured content",
+                    "author": "%s"
+                }
+                """.formatted(author))
+        .when()
+            .post("/api/messages")
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+    }
+
+    private static void externally(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:test", "sa", "");
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private static long capturedChanges() {
+        return QuarkusTransaction.requiringNew().call(() -> MessageCdcEntity.count());
+    }
+
+    private List<String> listContents() {
+        return given().when().get("/api/messages").then().statusCode(200).extract().path("content");
+    }
+
+    private List<String> feedContents() {
+        return given().queryParam("limit", 50).when().get("/api/messages/feed")
+            .then().statusCode(200).extract().path("content");
+    }
+
+    private List<String> timelineContents(String author) {
+        return given().when().get("/api/messages/author/{author}/timeline", author)
+            .then().statusCode(200).extract().path("items.content");
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Captured change never reached the application");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish a direct update to every cached read")
+    void should_publish_a_direct_update_to_every_cached_read() throws Exception {
+        String author = "CDC Author " + UUID.randomUUID();
+        String messageId = createMessage(author);
+        assertTrue(listContents().contains("Captured content"));
+        assertEquals(List.of("Captured content"), timelineContents(author));
+        String etagBefore = given().when().get("/api/messages").then().extract().header("ETag");
+        String messageETagBefore = given().when().get("/api/messages/{id}", messageId).then().extract().header("ETag");
+
+        String edited = "Edited in SQL " + UUID.randomUUID();
+        // updated_at left as is, as a hand-written statement would
+        externally("update messages set content = ? where id = ?", edited, messageId);
+
+        await(() -> listContents().contains(edited) && timelineContents(author).contains(edited));
+        assertNotEquals(etagBefore, given().when().get("/api/messages").then().extract().header("ETag"));
+        given().when().get("/api/messages/{id}", messageId).then()
+            .statusCode(200)
+            .body("content", equalTo(edited));
+        assertNotEquals(messageETagBefore,
+            given().when().get("/api/messages/{id}", messageId).then().extract().header("ETag"));
+    }
+
+    @Test
+    @DisplayName("Should publish direct inserts and deletes in order")
+    void should_publish_direct_inserts_and_deletes_in_order() throws Exception {
+        String messageId = UUID.randomUUID().toString();
+        String content = "Inserted in SQL " + messageId;
+        long publishedBefore = reader.stats().published();
+
+        externally("insert into messages (id, content, status, author, created_at, updated_at, published_at)"
+            + " values (?, ?, 'PUBLISHED', 'SQL Author', current_timestamp, current_timestamp, current_timestamp)",
+            messageId, content);
+        await(() -> listContents().contains(content) && feedContents().contains(content));
+
+        externally("delete from messages where id = ?", messageId);
+        await(() -> !listContents().contains(content) && !feedContents().contains(content));
+
+        await(() -> reader.stats().published() >= publishedBefore + 2);
+        long lastChange = QuarkusTransaction.requiringNew().call(() ->
+            MessageCdcEntity.<MessageCdcEntity>find("order by id desc").firstResult().id);
+        await(() -> reader.stats().position() >= lastChange);
+        assertEquals(reader.stats().position(), QuarkusTransaction.requiringNew().call(() ->
+            CdcCheckpointEntity.<CdcCheckpointEntity>findById(MessageCdcReader.CHECKPOINT).lastChangeId));
+    }
+
+    @Test
+    @DisplayName("Should reject a row breaking the domain rules without stopping")
+    void should_reject_a_row_breaking_the_domain_rules_without_stopping() throws Exception {
+        String messageId = UUID.randomUUID().toString();
+        long rejectedBefore = reader.stats().rejected();
+
+        externally("insert into messages (id, content, status, author, created_at, updated_at)"
+            + " values (?, '   ', 'DRAFT', 'SQL Author', current_timestamp, current_timestamp)", messageId);
+        externally("delete from messages where id = ?", messageId);
+
+        await(() -> reader.stats().rejected() > rejectedBefore);
+        String content = "After rejection " + UUID.randomUUID();
+        String otherId = UUID.randomUUID().toString();
+        externally("insert into messages (id, content, status, author, created_at, updated_at)"
+            + " values (?, ?, 'DRAFT', 'SQL Author', current_timestamp, current_timestamp)", otherId, content);
+        await(() -> listContents().contains(content));
+    }
+
+    @Test
+    @DisplayName("Should not capture the writes of the application")
+    void should_not_capture_the_writes_of_the_application() {
+        long before = capturedChanges();
+
+        String messageId = createMessage("CDC Author " + UUID.randomUUID());
+        given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId)
+            .then().statusCode(200);
+
+        assertEquals(before, capturedChanges());
+        assertTrue(reader.stats().enabled());
+    }
+}
@@ -0,0 +1,123 @@
+package io.lostyzen.demo.infrastructure.adapter.in.graphql;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Integration tests for the GraphQL adapter
+ * Queries are posted to /graphql and run down to the H2 database
+ */
+@QuarkusTest
+class MessageGraphQLIntegrationTest {
+
+    private String createMessage(String content, String author) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "content": "%s",
+                    "author": "%s"
+                }
+                """.formatted(content, author))
+        .when()
+            .post("/api/messages")
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+    }
+
+    private ValidatableResponse graphql(String query) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(Map.of("query", query))
+        .when()
+            .post("/graphql")
+        .then()
+            .statusCode(200);
+    }
+
+    @Test
+    @DisplayName("Should resolve nested author messages and counts for several authors")
+    void should_resolve_nested_author_messages_and_counts_for_several_authors() {
+        String alice = "GraphQL Alice " + System.nanoTime();
+        String bob = "GraphQL Bob " + System.nanoTime();
+        createMessage("Alice 1", alice);
+        String aliceLatest = createMessage("Alice 2", alice);
+        createMessage("Bob 1", bob);
+
+        graphql("""
+            {
+              authors(names: ["%s", "%s"]) {
+                name
+                messageCount
+                messages(first: 1) { id content }
+              }
+            }
+            """.formatted(alice, bob))
+            .body("errors", nullValue())
+            .body("data.authors.name", contains(alice, bob))
+            .body("data.authors.messageCount", contains(2, 1))
+            .body("data.authors[0].messages.id", contains(aliceLatest))
+            .body("data.authors[1].messages.content", contains("Bob 1"));
+    }
+
+    @Test
+    @DisplayName("Should resolve the author of every listed message")
+    void should_resolve_the_author_of_every_listed_message() {
+        String author = "GraphQL Author " + System.nanoTime();
+        createMessage("First", author);
+        createMessage("Second", author);
+
+        graphql("""
+            {
+              messages(author: "%s", size: 10) {
+                content
+                authorProfile { name messageCount }
+              }
+              messageCounts { draft total }
+            }
+            """.formatted(author))
+            .body("errors", nullValue())
+            .body("data.messages.content", contains("Second", "First"))
+            .body("data.messages.authorProfile.messageCount", everyItem(equalTo(2)))
+            .body("data.messageCounts.draft", greaterThanOrEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should return null for an unknown message")
+    void should_return_null_for_an_unknown_message() {
+        graphql("{ message(id: \"unknown-id\") { id } }")
+            .body("errors", nullValue())
+            .body("data.message", nullValue());
+    }
+
+    @Test
+    @DisplayName("Should reject pages larger than the limit")
+    void should_reject_pages_larger_than_the_limit() {
+        graphql("{ messages(size: 10000) { id } }")
+            .body("errors", hasSize(1))
+            .body("errors[0].message", containsString("Page size"));
+    }
+
+    @Test
+    @DisplayName("Should reject queries nested deeper than the limit")
+    void should_reject_queries_nested_deeper_than_the_limit() {
+        graphql("""
+            {
+              messages {
+                authorProfile { messages { authorProfile { messages { authorProfile { messages { id } } } } } }
+              }
+            }
+            """)
+            .body("errors", not(empty()))
+            .body("data.messages", nullValue());
+    }
+}
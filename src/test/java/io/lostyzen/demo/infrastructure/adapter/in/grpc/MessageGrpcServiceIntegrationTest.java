@@ -0,0 +1,167 @@
+package io.lostyzen.demo.infrastructure.adapter.in.grpc;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.CreateMessageRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.CreateMessagesReply;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.ListMessagesRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.MessageIdRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.MessageReply;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.MessageService;
+import io.lostyzen.demo.infrastructure.adapter.in.grpc.proto.UpdateMessageRequest;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the gRPC adapter
+ * Calls go through a real gRPC client to the test server, down to the H2 database
+ */
+@QuarkusTest
+class MessageGrpcServiceIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @GrpcClient("messages")
+    MessageService client;
+
+    private MessageReply create(String content, String author) {
+        return client.createMessage(CreateMessageRequest.newBuilder().setContent(content).setAuthor(author).build())
+            .await().atMost(TIMEOUT);
+    }
+
+    private static Status.Code statusOf(Runnable call) {
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, call::run);
+        return error.getStatus().getCode();
+    }
+
+    @Nested
+    @DisplayName("Unary Calls")
+    class UnaryCalls {
+
+        @Test
+        @DisplayName("Should run a message through its lifecycle")
+        void should_run_a_message_through_its_lifecycle() {
+            MessageReply created = create("gRPC content", "gRPC Author");
+            assertEquals(MessageReply.Status.DRAFT, created.getStatus());
+            assertTrue(created.getCreatedAt() > 0);
+            assertFalse(created.hasPublishedAt());
+
+            MessageReply updated = client.updateMessage(UpdateMessageRequest.newBuilder()
+                    .setId(created.getId()).setContent("Updated gRPC content").build())
+                .await().atMost(TIMEOUT);
+            assertEquals("Updated gRPC content", updated.getContent());
+
+            MessageReply published = client.publishMessage(MessageIdRequest.newBuilder().setId(created.getId()).build())
+                .await().atMost(TIMEOUT);
+            assertEquals(MessageReply.Status.PUBLISHED, published.getStatus());
+            assertTrue(published.hasPublishedAt());
+
+            assertEquals(created.getId(), client.deleteMessage(MessageIdRequest.newBuilder().setId(created.getId()).build())
+                .await().atMost(TIMEOUT).getId());
+        }
+
+        @Test
+        @DisplayName("Should map domain errors to gRPC status codes")
+        void should_map_domain_errors_to_grpc_status_codes() {
+            MessageIdRequest unknown = MessageIdRequest.newBuilder().setId("unknown-id").build();
+            assertEquals(Status.Code.NOT_FOUND,
+                statusOf(() -> client.publishMessage(unknown).await().atMost(TIMEOUT)));
+
+            assertEquals(Status.Code.INVALID_ARGUMENT,
+                statusOf(() -> create("", "gRPC Author")));
+
+            MessageReply created = create("To delete twice", "gRPC Author");
+            MessageIdRequest id = MessageIdRequest.newBuilder().setId(created.getId()).build();
+            client.deleteMessage(id).await().atMost(TIMEOUT);
+            assertEquals(Status.Code.FAILED_PRECONDITION,
+                statusOf(() -> client.deleteMessage(id).await().atMost(TIMEOUT)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming Calls")
+    class StreamingCalls {
+
+        @Test
+        @DisplayName("Should stream every matching message across pages, newest first")
+        void should_stream_every_matching_message_across_pages_newest_first() {
+            String author = "gRPC Stream " + System.nanoTime();
+            String first = create("Stream 1", author).getId();
+            String second = create("Stream 2", author).getId();
+            String third = create("Stream 3", author).getId();
+
+            List<String> ids = client.listMessages(ListMessagesRequest.newBuilder()
+                    .setAuthor(author)
+                    .setPageSize(2)
+                    .build())
+                .map(MessageReply::getId)
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+            assertEquals(List.of(third, second, first), ids);
+        }
+
+        @Test
+        @DisplayName("Should neither repeat nor skip messages when writes happen during the stream")
+        void should_neither_repeat_nor_skip_messages_when_writes_happen_during_the_stream() {
+            String author = "gRPC Keyset " + System.nanoTime();
+            String first = create("Keyset 1", author).getId();
+            String second = create("Keyset 2", author).getId();
+            String third = create("Keyset 3", author).getId();
+
+            // A newer message lands after the first page: with offsets, the second page would repeat a message
+            AtomicBoolean written = new AtomicBoolean();
+            List<String> ids = client.listMessages(ListMessagesRequest.newBuilder()
+                    .setAuthor(author)
+                    .setPageSize(1)
+                    .build())
+                .onItem().call(reply -> written.getAndSet(true)
+                    ? Uni.createFrom().voidItem()
+                    : client.createMessage(CreateMessageRequest.newBuilder()
+                        .setContent("Keyset 4").setAuthor(author).build()).replaceWithVoid())
+                .map(MessageReply::getId)
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+            assertEquals(List.of(third, second, first), ids);
+        }
+
+        @Test
+        @DisplayName("Should reject an out-of-range page size")
+        void should_reject_an_out_of_range_page_size() {
+            assertEquals(Status.Code.INVALID_ARGUMENT, statusOf(() -> client.listMessages(
+                    ListMessagesRequest.newBuilder().setPageSize(10000).build())
+                .collect().asList()
+                .await().atMost(TIMEOUT)));
+        }
+
+        @Test
+        @DisplayName("Should create streamed messages and report rejected ones")
+        void should_create_streamed_messages_and_report_rejected_ones() {
+            String author = "gRPC Bulk " + System.nanoTime();
+
+            CreateMessagesReply reply = client.createMessages(Multi.createFrom().items(
+                    CreateMessageRequest.newBuilder().setContent("Bulk 1").setAuthor(author).build(),
+                    CreateMessageRequest.newBuilder().setContent("").setAuthor(author).build(),
+                    CreateMessageRequest.newBuilder().setContent("Bulk 3").setAuthor(author).build()))
+                .await().atMost(TIMEOUT);
+
+            assertEquals(2, reply.getCreated());
+            assertEquals(1, reply.getFailed());
+            assertEquals(List.of(0, 1, 2), reply.getItemsList().stream().map(CreateMessagesReply.Item::getIndex).toList());
+            assertFalse(reply.getItems(1).getError().isEmpty());
+            assertFalse(reply.getItems(2).getId().isEmpty());
+        }
+    }
+}
@@ -1,15 +1,40 @@
 package io.lostyzen.demo.infrastructure.adapter.in.rest;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lostyzen.demo.domain.model.MessageView;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.cbor.CborMessageBodyProvider;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.dto.CreateMessageRequest;
+import io.lostyzen.demo.infrastructure.adapter.in.rest.stream.MessageStreamBroadcaster;
+import io.lostyzen.demo.infrastructure.adapter.out.views.StripedViewCounter;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Integration tests for MessageController
@@ -574,4 +599,1537 @@ class MessageControllerIntegrationTest {
                 .body("find { it.id == '%s' }".formatted(messageId), nullValue());
         }
     }
+
+    @Nested
+    @DisplayName("Conditional Requests API")
+    class ConditionalRequestsAPI {
+
+        @Test
+        @DisplayName("Should return single message with ETag")
+        void should_return_single_message_with_etag() {
+            String messageId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Message to read by ID",
+                        "author": "Test Author"
+                    }
+                    """)
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+
+            given()
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .body("id", equalTo(messageId))
+                .body("content", equalTo("Message to read by ID"));
+        }
+
+        @Test
+        @DisplayName("Should return 404 for unknown message ID")
+        void should_return_404_for_unknown_message_id() {
+            given()
+            .when()
+                .get("/api/messages/{id}", "non-existent-id")
+            .then()
+                .statusCode(404);
+        }
+
+        @Test
+        @DisplayName("Should answer 304 until the message changes")
+        void should_answer_304_until_the_message_changes() {
+            String messageId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Conditional message",
+                        "author": "Test Author"
+                    }
+                    """)
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+
+            String etag = given()
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .extract().header("ETag");
+
+            given()
+                .header("If-None-Match", etag)
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(304)
+                .body(emptyOrNullString());
+
+            given()
+                .contentType(ContentType.JSON)
+            .when()
+                .post("/api/messages/{id}/publish", messageId)
+            .then()
+                .statusCode(200);
+
+            given()
+                .header("If-None-Match", etag)
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(etag)))
+                .body("status", equalTo("PUBLISHED"));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 on lists until any message is written")
+        void should_answer_304_on_lists_until_any_message_is_written() {
+            String etag = given()
+            .when()
+                .get("/api/messages")
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract().header("ETag");
+
+            given()
+                .header("If-None-Match", etag)
+            .when()
+                .get("/api/messages")
+            .then()
+                .statusCode(304);
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Message changing the collection",
+                        "author": "Test Author"
+                    }
+                    """)
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201);
+
+            given()
+                .header("If-None-Match", etag)
+            .when()
+                .get("/api/messages")
+            .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(etag)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sparse Fieldsets API")
+    class SparseFieldsetsAPI {
+
+        @Test
+        @DisplayName("Should return summary view with truncated content")
+        void should_return_summary_view_with_truncated_content() {
+            String author = "SummaryAuthor" + System.currentTimeMillis();
+            String longContent = "a".repeat(300);
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "%s",
+                        "author": "%s"
+                    }
+                    """.formatted(longContent, author))
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201);
+
+            given()
+                .queryParam("view", "summary")
+            .when()
+                .get("/api/messages/author/{author}", author)
+            .then()
+                .statusCode(200)
+                .body("size()", equalTo(1))
+                .body("[0].id", notNullValue())
+                .body("[0].author", equalTo(author))
+                .body("[0].status", equalTo("DRAFT"))
+                .body("[0].content.length()", equalTo(80))
+                .body("[0].createdAt", nullValue())
+                .body("[0].updatedAt", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should return only requested fields")
+        void should_return_only_requested_fields() {
+            String author = "FieldsAuthor" + System.currentTimeMillis();
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Sparse content",
+                        "author": "%s"
+                    }
+                    """.formatted(author))
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201);
+
+            given()
+                .queryParam("fields", "author,createdAt")
+            .when()
+                .get("/api/messages/author/{author}", author)
+            .then()
+                .statusCode(200)
+                .body("[0].id", notNullValue())
+                .body("[0].author", equalTo(author))
+                .body("[0].createdAt", notNullValue())
+                .body("[0].content", nullValue())
+                .body("[0].status", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should return the scheduled publication time when requested")
+        void should_return_the_scheduled_publication_time_when_requested() {
+            String author = "ScheduledFieldsAuthor" + System.currentTimeMillis();
+
+            String messageId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Scheduled sparse content",
+                        "author": "%s"
+                    }
+                    """.formatted(author))
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"publishAt\": \"" + LocalDateTime.now().plusDays(1) + "\"}")
+            .when()
+                .put("/api/messages/{id}/schedule", messageId)
+            .then()
+                .statusCode(200);
+
+            given()
+                .queryParam("fields", "publishAt")
+            .when()
+                .get("/api/messages/author/{author}", author)
+            .then()
+                .statusCode(200)
+                .body("[0].id", equalTo(messageId))
+                .body("[0].publishAt", notNullValue())
+                .body("[0].publishedAt", nullValue())
+                .body("[0].author", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields and views")
+        void should_reject_unknown_fields_and_views() {
+            given()
+                .queryParam("fields", "id,secret")
+            .when()
+                .get("/api/messages")
+            .then()
+                .statusCode(400);
+
+            given()
+                .queryParam("view", "compact")
+            .when()
+                .get("/api/messages/status/DRAFT")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary Content Negotiation API")
+    class BinaryContentNegotiationAPI {
+
+        private final ObjectMapper cbor = CborMessageBodyProvider.createMapper();
+
+        @Test
+        @DisplayName("Should create and read a message in CBOR")
+        void should_create_and_read_a_message_in_cbor() throws Exception {
+            byte[] request = cbor.writeValueAsBytes(new CreateMessageRequest("Binary content", "Binary Author"));
+
+            byte[] created = given()
+                .contentType(CborMessageBodyProvider.APPLICATION_CBOR)
+                .accept(CborMessageBodyProvider.APPLICATION_CBOR)
+                .body(request)
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .contentType(CborMessageBodyProvider.APPLICATION_CBOR)
+                .extract().asByteArray();
+
+            JsonNode message = cbor.readTree(created);
+            assertEquals("Binary content", message.get("content").asText());
+            assertEquals("DRAFT", message.get("status").asText());
+            // Timestamps are epoch integers, not ISO strings
+            assertTrue(message.get("createdAt").isIntegralNumber());
+
+            byte[] read = given()
+                .accept(CborMessageBodyProvider.APPLICATION_CBOR)
+            .when()
+                .get("/api/messages/{id}", message.get("id").asText())
+            .then()
+                .statusCode(200)
+                .header("Vary", containsString("Accept"))
+                .extract().asByteArray();
+
+            assertEquals("Binary Author", cbor.readTree(read).get("author").asText());
+        }
+
+        @Test
+        @DisplayName("Should produce a smaller payload than JSON")
+        void should_produce_a_smaller_payload_than_json() {
+            String messageId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Payload size comparison",
+                        "author": "Test Author"
+                    }
+                    """)
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+
+            byte[] json = given()
+                .accept(ContentType.JSON)
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .extract().asByteArray();
+
+            byte[] binary = given()
+                .accept(CborMessageBodyProvider.APPLICATION_CBOR)
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .extract().asByteArray();
+
+            assertTrue(binary.length < json.length,
+                "CBOR (" + binary.length + " bytes) should be smaller than JSON (" + json.length + " bytes)");
+        }
+
+        @Test
+        @DisplayName("Should tag each encoding with its own ETag")
+        void should_tag_each_encoding_with_its_own_etag() {
+            String jsonTag = given()
+                .accept(ContentType.JSON)
+            .when()
+                .get("/api/messages")
+            .then()
+                .statusCode(200)
+                .extract().header("ETag");
+
+            given()
+                .accept(CborMessageBodyProvider.APPLICATION_CBOR)
+                .header("If-None-Match", jsonTag)
+            .when()
+                .get("/api/messages")
+            .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(jsonTag)));
+        }
+
+        @Test
+        @DisplayName("Should serve the stored gzip variant to clients accepting it, with its own ETag")
+        void should_serve_the_stored_gzip_variant_to_clients_accepting_it_with_its_own_etag() {
+            String messageId = given()
+                .contentType(ContentType.JSON)
+                .body("{\"content\": \"" + "Compressible content. ".repeat(20) + "\", \"author\": \"Gzip Author\"}")
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+
+            String gzipTag = given()
+                .header("Accept-Encoding", "gzip")
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", containsString("Accept-Encoding"))
+                .body("author", equalTo("Gzip Author"))
+                .extract().header("ETag");
+
+            given()
+                .header("Accept-Encoding", "identity")
+                .header("If-None-Match", gzipTag)
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("ETag", not(equalTo(gzipTag)))
+                .body("author", equalTo("Gzip Author"));
+
+            // A malformed q-value is not an error: the client gets the plain representation
+            given()
+                .header("Accept-Encoding", "gzip;q=x")
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(gzipTag)))
+                .body("author", equalTo("Gzip Author"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Archive and Bulk Transitions API")
+    class ArchiveAndBulkTransitionsAPI {
+
+        private String createMessage(String content) {
+            return given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "%s",
+                        "author": "Bulk Author"
+                    }
+                    """.formatted(content))
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+        }
+
+        @Test
+        @DisplayName("Should archive a published message")
+        void should_archive_a_published_message() {
+            String messageId = createMessage("Message to archive");
+
+            given()
+                .contentType(ContentType.JSON)
+            .when()
+                .post("/api/messages/{id}/archive", messageId)
+            .then()
+                .statusCode(400);
+
+            given()
+                .contentType(ContentType.JSON)
+            .when()
+                .post("/api/messages/{id}/publish", messageId)
+            .then()
+                .statusCode(200);
+
+            given()
+                .contentType(ContentType.JSON)
+            .when()
+                .post("/api/messages/{id}/archive", messageId)
+            .then()
+                .statusCode(200)
+                .body("status", equalTo("ARCHIVED"));
+        }
+
+        @Test
+        @DisplayName("Should publish a list of messages with per-item results")
+        void should_publish_a_list_of_messages_with_per_item_results() {
+            String first = createMessage("Bulk publish 1");
+            String second = createMessage("Bulk publish 2");
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "ids": ["%s", "non-existent-id", "%s"]
+                    }
+                    """.formatted(first, second))
+            .when()
+                .post("/api/messages/bulk/publish")
+            .then()
+                .statusCode(200)
+                .body("succeeded", equalTo(2))
+                .body("failed", equalTo(1))
+                .body("results[0].id", equalTo(first))
+                .body("results[0].status", equalTo("PUBLISHED"))
+                .body("results[1].outcome", equalTo("NOT_FOUND"))
+                .body("results[2].outcome", equalTo("SUCCESS"));
+
+            given()
+            .when()
+                .get("/api/messages/{id}", second)
+            .then()
+                .statusCode(200)
+                .body("status", equalTo("PUBLISHED"));
+        }
+
+        @Test
+        @DisplayName("Should archive and delete lists of messages")
+        void should_archive_and_delete_lists_of_messages() {
+            String draft = createMessage("Bulk draft");
+            String published = createMessage("Bulk published");
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    { "ids": ["%s"] }
+                    """.formatted(published))
+            .when()
+                .post("/api/messages/bulk/publish")
+            .then()
+                .statusCode(200);
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    { "ids": ["%s", "%s"] }
+                    """.formatted(draft, published))
+            .when()
+                .post("/api/messages/bulk/archive")
+            .then()
+                .statusCode(200)
+                .body("results[0].outcome", equalTo("INVALID_TRANSITION"))
+                .body("results[1].status", equalTo("ARCHIVED"));
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    { "ids": ["%s", "%s"] }
+                    """.formatted(draft, published))
+            .when()
+                .post("/api/messages/bulk/delete")
+            .then()
+                .statusCode(200)
+                .body("succeeded", equalTo(2));
+        }
+
+        @Test
+        @DisplayName("Should reject an empty ID list")
+        void should_reject_an_empty_id_list() {
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    { "ids": [] }
+                    """)
+            .when()
+                .post("/api/messages/bulk/publish")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Criteria-Based Bulk Transitions API")
+    class CriteriaBasedBulkTransitionsAPI {
+
+        @Test
+        @DisplayName("Should publish all drafts of an author")
+        void should_publish_all_drafts_of_an_author() {
+            String author = "Criteria Author " + System.nanoTime();
+            for (int i = 0; i < 3; i++) {
+                given()
+                    .contentType(ContentType.JSON)
+                    .body("""
+                        {
+                            "content": "Criteria draft %d",
+                            "author": "%s"
+                        }
+                        """.formatted(i, author))
+                .when()
+                    .post("/api/messages")
+                .then()
+                    .statusCode(201);
+            }
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "statuses": ["DRAFT"],
+                        "author": "%s"
+                    }
+                    """.formatted(author))
+            .when()
+                .post("/api/messages/bulk/publish-matching")
+            .then()
+                .statusCode(200)
+                .body("affected", equalTo(3));
+
+            given()
+            .when()
+                .get("/api/messages/author/{author}", author)
+            .then()
+                .statusCode(200)
+                .body("status", everyItem(equalTo("PUBLISHED")));
+
+            // Already published: archiving is allowed, publishing again is not
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    { "author": "%s" }
+                    """.formatted(author))
+            .when()
+                .post("/api/messages/bulk/publish-matching")
+            .then()
+                .statusCode(200)
+                .body("affected", equalTo(0));
+        }
+
+        @Test
+        @DisplayName("Should reject empty criteria")
+        void should_reject_empty_criteria() {
+            given()
+                .contentType(ContentType.JSON)
+                .body("{}")
+            .when()
+                .post("/api/messages/bulk/delete-matching")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Operations API")
+    class BatchOperationsAPI {
+
+        @Test
+        @DisplayName("Should create, edit and publish in one request")
+        void should_create_edit_and_publish_in_one_request() {
+            String messageId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "operations": [
+                            { "op": "CREATE", "content": "Draft from mobile", "author": "Mobile Author" },
+                            { "op": "UPDATE", "id": "$0", "content": "Final text from mobile" },
+                            { "op": "PUBLISH", "id": "$0" }
+                        ]
+                    }
+                    """)
+            .when()
+                .post("/api/messages/ops")
+            .then()
+                .statusCode(200)
+                .body("committed", equalTo(true))
+                .body("results.outcome", everyItem(equalTo("SUCCESS")))
+                .body("results[2].message.status", equalTo("PUBLISHED"))
+                .body("results[2].message.content", equalTo("Final text from mobile"))
+                .extract().path("results[0].message.id");
+
+            given()
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .body("status", equalTo("PUBLISHED"));
+        }
+
+        @Test
+        @DisplayName("Should roll back every operation when one fails")
+        void should_roll_back_every_operation_when_one_fails() {
+            String author = "Rollback Author " + System.nanoTime();
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "operations": [
+                            { "op": "CREATE", "content": "Never committed", "author": "%s" },
+                            { "op": "ARCHIVE", "id": "$0" },
+                            { "op": "PUBLISH", "id": "$0" }
+                        ]
+                    }
+                    """.formatted(author))
+            .when()
+                .post("/api/messages/ops")
+            .then()
+                .statusCode(400)
+                .body("committed", equalTo(false))
+                .body("results[0].outcome", equalTo("ROLLED_BACK"))
+                .body("results[1].outcome", equalTo("FAILED"))
+                .body("results[1].error", containsString("Cannot transition"))
+                .body("results[2].outcome", equalTo("SKIPPED"));
+
+            given()
+            .when()
+                .get("/api/messages/author/{author}", author)
+            .then()
+                .statusCode(200)
+                .body("size()", equalTo(0));
+        }
+
+        @Test
+        @DisplayName("Should reject an operation without its target")
+        void should_reject_an_operation_without_its_target() {
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    { "operations": [ { "op": "PUBLISH" } ] }
+                    """)
+            .when()
+                .post("/api/messages/ops")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-Get API")
+    class MultiGetAPI {
+
+        private String createMessage(String content) {
+            return given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "%s",
+                        "author": "Lookup Author"
+                    }
+                    """.formatted(content))
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+        }
+
+        @Test
+        @DisplayName("Should fetch messages by IDs in input order")
+        void should_fetch_messages_by_ids_in_input_order() {
+            String first = createMessage("Lookup 1");
+            String second = createMessage("Lookup 2");
+
+            given()
+                .queryParam("ids", second + ",unknown-id," + first)
+            .when()
+                .get("/api/messages")
+            .then()
+                .statusCode(200)
+                .body("messages.id", contains(second, first))
+                .body("missing", contains("unknown-id"));
+        }
+
+        @Test
+        @DisplayName("Should fetch messages by IDs posted in the body")
+        void should_fetch_messages_by_ids_posted_in_the_body() {
+            String first = createMessage("Lookup 3");
+
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    { "ids": ["%s", "unknown-id"] }
+                    """.formatted(first))
+            .when()
+                .post("/api/messages/lookup")
+            .then()
+                .statusCode(200)
+                .body("messages[0].content", equalTo("Lookup 3"))
+                .body("missing[0]", equalTo("unknown-id"));
+        }
+
+        @Test
+        @DisplayName("Should reject an empty ID list")
+        void should_reject_an_empty_id_list() {
+            given()
+                .queryParam("ids", " , ")
+            .when()
+                .get("/api/messages")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Delta Sync API")
+    class DeltaSyncAPI {
+
+        private String latestCursor() {
+            String cursor = null;
+            boolean hasMore = true;
+            while (hasMore) {
+                var response = given()
+                    .queryParam("limit", 1000)
+                    .queryParam("since", cursor == null ? "" : cursor)
+                .when()
+                    .get("/api/messages/changes")
+                .then()
+                    .statusCode(200)
+                    .extract();
+                cursor = response.path("cursor");
+                hasMore = response.path("hasMore");
+            }
+            return cursor;
+        }
+
+        @Test
+        @DisplayName("Should return only changes after the cursor, with tombstones")
+        void should_return_only_changes_after_the_cursor_with_tombstones() {
+            String created = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Synced message",
+                        "author": "Sync Author"
+                    }
+                    """)
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+            String cursor = latestCursor();
+
+            given()
+            .when()
+                .get("/api/messages/changes?since=" + cursor)
+            .then()
+                .statusCode(200)
+                .body("changes", hasSize(0))
+                .body("cursor", equalTo(cursor));
+
+            given()
+            .when()
+                .delete("/api/messages/{id}", created)
+            .then()
+                .statusCode(204);
+
+            given()
+            .when()
+                .get("/api/messages/changes?since=" + cursor)
+            .then()
+                .statusCode(200)
+                .body("changes", hasSize(1))
+                .body("changes[0].id", equalTo(created))
+                .body("changes[0].type", equalTo("TOMBSTONE"))
+                .body("changes[0].deletedAt", notNullValue())
+                .body("changes[0].message", nullValue())
+                .body("cursor", not(equalTo(cursor)));
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid cursor")
+        void should_reject_an_invalid_cursor() {
+            given()
+            .when()
+                .get("/api/messages/changes?since=not-a-cursor")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Search API")
+    class SearchAPI {
+
+        @Test
+        @DisplayName("Should combine filters, sort and paginate")
+        void should_combine_filters_sort_and_paginate() {
+            String author = "Search Author " + System.nanoTime();
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                String id = given()
+                    .contentType(ContentType.JSON)
+                    .body("""
+                        {
+                            "content": "Searchable %d",
+                            "author": "%s"
+                        }
+                        """.formatted(i, author))
+                .when()
+                    .post("/api/messages")
+                .then()
+                    .statusCode(201)
+                    .extract().path("id");
+                ids.add(id);
+            }
+            // Publish in reverse order: the first created message is published last
+            for (int i = ids.size() - 1; i >= 0; i--) {
+                given()
+                    .contentType(ContentType.JSON)
+                .when()
+                    .post("/api/messages/{id}/publish", ids.get(i))
+                .then()
+                    .statusCode(200);
+            }
+
+            given()
+                .queryParam("status", "PUBLISHED")
+                .queryParam("status", "ARCHIVED")
+                .queryParam("author", author)
+                .queryParam("sort", "publishedAt")
+                .queryParam("order", "desc")
+                .queryParam("size", 2)
+            .when()
+                .get("/api/messages/query")
+            .then()
+                .statusCode(200)
+                .body("items.id", contains(ids.get(0), ids.get(1)))
+                .body("hasNext", equalTo(true));
+
+            given()
+                .queryParam("author", author)
+                .queryParam("sort", "publishedAt")
+                .queryParam("size", 2)
+                .queryParam("page", 1)
+            .when()
+                .get("/api/messages/query")
+            .then()
+                .statusCode(200)
+                .body("items.id", contains(ids.get(2)))
+                .body("hasNext", equalTo(false));
+        }
+
+        @Test
+        @DisplayName("Should reject sorting on a field outside the allow-list")
+        void should_reject_sorting_on_a_field_outside_the_allow_list() {
+            given()
+                .queryParam("sort", "content")
+            .when()
+                .get("/api/messages/query")
+            .then()
+                .statusCode(400);
+        }
+
+        @Test
+        @DisplayName("Should reject oversized pages")
+        void should_reject_oversized_pages() {
+            given()
+                .queryParam("size", 10000)
+            .when()
+                .get("/api/messages/query")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream API")
+    class StreamAPI {
+
+        @Inject
+        MessageStreamBroadcaster broadcaster;
+
+        private final HttpClient httpClient = HttpClient.newHttpClient();
+
+        private HttpRequest.Builder streamRequest(String query) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + RestAssured.port + "/api/messages/stream" + query))
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofSeconds(10));
+        }
+
+        // Reads lines until one starts with the prefix, failing after a few seconds
+        private String awaitLine(Iterator<String> lines, String prefix) throws Exception {
+            return CompletableFuture.supplyAsync(() -> {
+                String line = lines.next();
+                while (!line.startsWith(prefix)) {
+                    line = lines.next();
+                }
+                return line;
+            }).get(5, TimeUnit.SECONDS);
+        }
+
+        @Test
+        @DisplayName("Should push committed changes matching the subscriber filter")
+        void should_push_committed_changes_matching_the_subscriber_filter() throws Exception {
+            String author = "Stream Author " + System.nanoTime();
+            int subscribersBefore = broadcaster.getSubscriberCount();
+            CompletableFuture<HttpResponse<Stream<String>>> response = httpClient.sendAsync(
+                streamRequest("?status=PUBLISHED&author=" + author.replace(" ", "%20")).GET().build(),
+                HttpResponse.BodyHandlers.ofLines());
+            long deadline = System.currentTimeMillis() + 5000;
+            while (broadcaster.getSubscriberCount() == subscribersBefore && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // A message by another author and a create event are filtered out
+            given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Not streamed",
+                        "author": "Someone Else"
+                    }
+                    """)
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201);
+            String messageId = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Streamed",
+                        "author": "%s"
+                    }
+                    """.formatted(author))
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+            given()
+                .contentType(ContentType.JSON)
+            .when()
+                .post("/api/messages/{id}/publish", messageId)
+            .then()
+                .statusCode(200);
+
+            try (Stream<String> body = response.get(5, TimeUnit.SECONDS).body()) {
+                Iterator<String> lines = body.iterator();
+                assertTrue(awaitLine(lines, "event:").endsWith("published"));
+                JsonNode data = new ObjectMapper().readTree(awaitLine(lines, "data:").substring("data:".length()));
+                assertEquals("PUBLISHED", data.get("type").asText());
+                assertEquals(messageId, data.get("id").asText());
+                assertEquals(author, data.get("message").get("author").asText());
+            }
+        }
+
+        @Test
+        @DisplayName("Should ask for a resync when the Last-Event-ID can no longer be replayed")
+        void should_ask_for_a_resync_when_the_last_event_id_can_no_longer_be_replayed() throws Exception {
+            HttpResponse<Stream<String>> response = httpClient.sendAsync(
+                streamRequest("").header("Last-Event-ID", "1").GET().build(),
+                HttpResponse.BodyHandlers.ofLines()).get(5, TimeUnit.SECONDS);
+
+            try (Stream<String> body = response.body()) {
+                assertEquals(200, response.statusCode());
+                assertTrue(awaitLine(body.iterator(), "event:").endsWith("reset"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject an unknown status filter")
+        void should_reject_an_unknown_status_filter() {
+            given()
+                .queryParam("status", "UNKNOWN")
+            .when()
+                .get("/api/messages/stream")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Scheduled Publication API")
+    class ScheduledPublicationAPI {
+
+        private String createMessage() {
+            return given()
+                .contentType(ContentType.JSON)
+                .body("""
+                    {
+                        "content": "Scheduled content",
+                        "author": "Schedule Author"
+                    }
+                    """)
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+        }
+
+        private void schedule(String messageId, LocalDateTime publishAt, int expectedStatus) {
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"publishAt\": \"" + publishAt + "\"}")
+            .when()
+                .put("/api/messages/{id}/schedule", messageId)
+            .then()
+                .statusCode(expectedStatus);
+        }
+
+        private String statusOf(String messageId) {
+            return given().when().get("/api/messages/{id}", messageId).then().statusCode(200)
+                .extract().path("status");
+        }
+
+        @Test
+        @DisplayName("Should publish a message at its scheduled time")
+        void should_publish_a_message_at_its_scheduled_time() throws InterruptedException {
+            String messageId = createMessage();
+
+            schedule(messageId, LocalDateTime.now().plusSeconds(1), 200);
+            given()
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .body("status", equalTo("DRAFT"))
+                .body("publishAt", notNullValue());
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!"PUBLISHED".equals(statusOf(messageId)) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+
+            given()
+            .when()
+                .get("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200)
+                .body("status", equalTo("PUBLISHED"))
+                .body("publishedAt", notNullValue())
+                .body("publishAt", nullValue());
+        }
+
+        @Test
+        @DisplayName("Should not publish a cancelled schedule")
+        void should_not_publish_a_cancelled_schedule() throws InterruptedException {
+            String messageId = createMessage();
+            schedule(messageId, LocalDateTime.now().plusSeconds(1), 200);
+
+            given()
+                .contentType(ContentType.JSON)
+            .when()
+                .delete("/api/messages/{id}/schedule", messageId)
+            .then()
+                .statusCode(200)
+                .body("publishAt", nullValue());
+
+            Thread.sleep(1500);
+            assertEquals("DRAFT", statusOf(messageId));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid schedules")
+        void should_reject_invalid_schedules() {
+            String messageId = createMessage();
+
+            // In the past
+            schedule(messageId, LocalDateTime.now().minusMinutes(1), 400);
+            // Nothing to cancel
+            given().contentType(ContentType.JSON).when().delete("/api/messages/{id}/schedule", messageId)
+                .then().statusCode(400);
+            // Already published
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId)
+                .then().statusCode(200);
+            schedule(messageId, LocalDateTime.now().plusHours(1), 400);
+            // Unknown message
+            schedule("non-existent-id", LocalDateTime.now().plusHours(1), 404);
+        }
+    }
+
+    @Nested
+    @DisplayName("Revision History API")
+    class RevisionHistoryAPI {
+
+        private String createMessage(String content) {
+            return given()
+                .contentType(ContentType.JSON)
+                .body("{\"content\": \"" + content + "\", \"author\": \"Revision Author\"}")
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+        }
+
+        private void update(String messageId, String content) {
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"content\": \"" + content + "\"}")
+            .when()
+                .put("/api/messages/{id}", messageId)
+            .then()
+                .statusCode(200);
+        }
+
+        @Test
+        @DisplayName("Should expose the original content as revision 1 before any edit")
+        void should_expose_the_original_content_as_revision_1_before_any_edit() {
+            String messageId = createMessage("Original text");
+
+            given()
+            .when()
+                .get("/api/messages/{id}/revisions", messageId)
+            .then()
+                .statusCode(200)
+                .body("size()", equalTo(1))
+                .body("[0].revision", equalTo(1))
+                .body("[0].content", equalTo("Original text"));
+            given().when().get("/api/messages/{id}/revisions/2", messageId).then().statusCode(404);
+        }
+
+        @Test
+        @DisplayName("Should rebuild every revision across checkpoints")
+        void should_rebuild_every_revision_across_checkpoints() {
+            String messageId = createMessage("Version 1");
+            // More edits than the checkpoint interval
+            for (int version = 2; version <= 25; version++) {
+                update(messageId, "Version " + version + " of a message edited many times");
+            }
+
+            given()
+            .when()
+                .get("/api/messages/{id}/revisions", messageId)
+            .then()
+                .statusCode(200)
+                .body("size()", equalTo(25))
+                .body("[0].content", equalTo("Version 1"))
+                .body("[24].content", equalTo("Version 25 of a message edited many times"));
+
+            for (int version : new int[]{1, 2, 10, 11, 12, 20, 21, 25}) {
+                given()
+                .when()
+                    .get("/api/messages/{id}/revisions/{revision}", messageId, version)
+                .then()
+                    .statusCode(200)
+                    .body("revision", equalTo(version))
+                    .body("content", equalTo(version == 1 ? "Version 1"
+                        : "Version " + version + " of a message edited many times"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return 404 for unknown message")
+        void should_return_404_for_unknown_message() {
+            given().when().get("/api/messages/{id}/revisions", "non-existent-id").then().statusCode(404);
+            given().when().get("/api/messages/{id}/revisions/1", "non-existent-id").then().statusCode(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("Author Timeline API")
+    class AuthorTimelineAPI {
+
+        // Each test gets its own author, so cached timelines do not leak between tests
+        private final String author = "Timeline " + UUID.randomUUID();
+
+        private String createMessage(String content) {
+            return given()
+                .contentType(ContentType.JSON)
+                .body("{\"content\": \"" + content + "\", \"author\": \"" + author + "\"}")
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+        }
+
+        private ValidatableResponse timeline(int page, int size) {
+            return given()
+                .queryParam("page", page)
+                .queryParam("size", size)
+            .when()
+                .get("/api/messages/author/{author}/timeline", author)
+            .then()
+                .statusCode(200);
+        }
+
+        @Test
+        @DisplayName("Should page through the timeline newest first, past the cached depth")
+        void should_page_through_the_timeline_newest_first_past_the_cached_depth() {
+            for (int i = 1; i <= 5; i++) {
+                createMessage("Post " + i);
+            }
+
+            timeline(0, 2)
+                .body("items.content", contains("Post 5", "Post 4"))
+                .body("items[0].author", equalTo(author))
+                .body("items[0].createdAt", notNullValue())
+                .body("items[0].publishedAt", nullValue())
+                .body("hasNext", equalTo(true));
+            // Ends at the cached depth (3 in tests): more messages exist in the database
+            timeline(2, 1)
+                .body("items.content", contains("Post 3"))
+                .body("hasNext", equalTo(true));
+            // Beyond the cached depth: read from the database
+            timeline(2, 2)
+                .body("items.content", contains("Post 1"))
+                .body("hasNext", equalTo(false));
+        }
+
+        @Test
+        @DisplayName("Should reflect creations, transitions and deletions in a cached timeline")
+        void should_reflect_creations_transitions_and_deletions_in_a_cached_timeline() {
+            String first = createMessage("First");
+            String second = createMessage("Second");
+            timeline(0, 3).body("items.content", contains("Second", "First")).body("hasNext", equalTo(false));
+
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", first)
+                .then().statusCode(200);
+            given().when().delete("/api/messages/{id}", second).then().statusCode(204);
+            createMessage("Third");
+
+            timeline(0, 3)
+                .body("items.content", contains("Third", "First"))
+                .body("items[1].status", equalTo("PUBLISHED"))
+                .body("hasNext", equalTo(false));
+        }
+
+        @Test
+        @DisplayName("Should cut content to the summary length")
+        void should_cut_content_to_the_summary_length() {
+            createMessage("x".repeat(200));
+
+            timeline(0, 20).body("items[0].content.length()", equalTo(MessageView.SUMMARY_CONTENT_LENGTH));
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid page size")
+        void should_reject_an_invalid_page_size() {
+            given()
+                .queryParam("size", 0)
+            .when()
+                .get("/api/messages/author/{author}/timeline", author)
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Published Feed API")
+    class PublishedFeedAPI {
+
+        private String createAndPublish(String content) {
+            String messageId = given()
+                .contentType(ContentType.JSON)
+                .body("{\"content\": \"" + content + "\", \"author\": \"Feed Author\"}")
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId)
+                .then().statusCode(200);
+            return messageId;
+        }
+
+        @Test
+        @DisplayName("Should list the latest publications newest first, without archived ones")
+        void should_list_the_latest_publications_newest_first_without_archived_ones() {
+            String first = createAndPublish("Feed first " + UUID.randomUUID());
+            String second = createAndPublish("Feed second " + UUID.randomUUID());
+            String third = createAndPublish("Feed third " + UUID.randomUUID());
+
+            given()
+                .queryParam("limit", 3)
+            .when()
+                .get("/api/messages/feed")
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .body("id", contains(third, second, first))
+                .body("status", everyItem(equalTo("PUBLISHED")));
+
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/archive", second)
+                .then().statusCode(200);
+
+            given()
+                .queryParam("limit", 2)
+            .when()
+                .get("/api/messages/feed")
+            .then()
+                .statusCode(200)
+                .body("id", contains(third, first));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 while no message changed")
+        void should_answer_304_while_no_message_changed() {
+            createAndPublish("Feed cached");
+            String etag = given().when().get("/api/messages/feed").then().statusCode(200).extract().header("ETag");
+
+            given()
+                .header("If-None-Match", etag)
+            .when()
+                .get("/api/messages/feed")
+            .then()
+                .statusCode(304);
+        }
+
+        @Test
+        @DisplayName("Should reject a limit out of bounds")
+        void should_reject_a_limit_out_of_bounds() {
+            given().queryParam("limit", 0).when().get("/api/messages/feed").then().statusCode(400);
+            given().queryParam("limit", 201).when().get("/api/messages/feed").then().statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Most Viewed API")
+    class MostViewedAPI {
+
+        @Inject
+        StripedViewCounter viewCounter;
+
+        private String createMessage(String content) {
+            return given()
+                .contentType(ContentType.JSON)
+                .body("{\"content\": \"" + content + "\", \"author\": \"Views Author\"}")
+            .when()
+                .post("/api/messages")
+            .then()
+                .statusCode(201)
+                .extract().path("id");
+        }
+
+        private void view(String messageId, int times) {
+            for (int i = 0; i < times; i++) {
+                given().when().get("/api/messages/{id}", messageId).then().statusCode(200);
+            }
+        }
+
+        @Test
+        @DisplayName("Should rank published messages by views once flushed")
+        void should_rank_published_messages_by_views_once_flushed() {
+            // Given
+            String popular = createMessage("Viewed often");
+            String quiet = createMessage("Viewed sometimes");
+            String draft = createMessage("Never published");
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", popular)
+                .then().statusCode(200);
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", quiet)
+                .then().statusCode(200);
+
+            // When
+            view(popular, 7);
+            view(quiet, 4);
+            view(draft, 5);
+            viewCounter.flush();
+
+            // Then
+            var response = given()
+                .queryParam("limit", 100)
+            .when()
+                .get("/api/messages/top")
+            .then()
+                .statusCode(200)
+                .body("find { it.message.id == '" + popular + "' }.views", equalTo(7))
+                .body("find { it.message.id == '" + quiet + "' }.views", equalTo(4))
+                .body("message.id", not(hasItem(draft)))
+                .extract();
+            List<String> ids = response.path("message.id");
+            assertTrue(ids.indexOf(popular) < ids.indexOf(quiet));
+        }
+
+        @Test
+        @DisplayName("Should not count a revalidation as a view")
+        void should_not_count_a_revalidation_as_a_view() {
+            // Given
+            String messageId = createMessage("Polled conditionally");
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId)
+                .then().statusCode(200);
+            String etag = given().when().get("/api/messages/{id}", messageId).then().statusCode(200)
+                .extract().header("ETag");
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                given().header("If-None-Match", etag).when().get("/api/messages/{id}", messageId)
+                    .then().statusCode(304);
+            }
+            viewCounter.flush();
+
+            // Then
+            given()
+                .queryParam("limit", 100)
+            .when()
+                .get("/api/messages/top")
+            .then()
+                .statusCode(200)
+                .body("find { it.message.id == '" + messageId + "' }.views", equalTo(1));
+        }
+
+        @Test
+        @DisplayName("Should drop a message from the ranking when it is archived")
+        void should_drop_a_message_from_the_ranking_when_it_is_archived() {
+            String messageId = createMessage("Viewed then archived");
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId)
+                .then().statusCode(200);
+            view(messageId, 3);
+            viewCounter.flush();
+
+            given().contentType(ContentType.JSON).when().post("/api/messages/{id}/archive", messageId)
+                .then().statusCode(200);
+
+            given()
+                .queryParam("limit", 100)
+            .when()
+                .get("/api/messages/top")
+            .then()
+                .statusCode(200)
+                .body("message.id", not(hasItem(messageId)));
+        }
+
+        @Test
+        @DisplayName("Should reject a limit out of bounds")
+        void should_reject_a_limit_out_of_bounds() {
+            given().queryParam("limit", 0).when().get("/api/messages/top").then().statusCode(400);
+            given().queryParam("limit", 101).when().get("/api/messages/top").then().statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("Author Analytics API")
+    class AuthorAnalyticsAPI {
+
+        private long createdMessages() {
+            return given()
+            .when()
+                .get("/api/messages/analytics/authors")
+            .then()
+                .statusCode(200)
+                .extract().jsonPath().getLong("messages");
+        }
+
+        @Test
+        @DisplayName("Should count creations as they commit, with error bounds")
+        void should_count_creations_as_they_commit_with_error_bounds() {
+            // Given
+            long before = createdMessages();
+            for (int i = 0; i < 3; i++) {
+                given()
+                    .contentType(ContentType.JSON)
+                    .body("{\"content\": \"Counted " + i + "\", \"author\": \"Analytics Author\"}")
+                .when()
+                    .post("/api/messages")
+                .then()
+                    .statusCode(201);
+            }
+
+            // When / Then
+            assertTrue(createdMessages() >= before + 3);
+            given()
+                .queryParam("top", 5)
+            .when()
+                .get("/api/messages/analytics/authors")
+            .then()
+                .statusCode(200)
+                .body("distinctAuthors", greaterThanOrEqualTo(1))
+                .body("distinctAuthorsError", greaterThan(0f))
+                .body("countConfidence", greaterThan(0.98f))
+                .body("topAuthors.size()", greaterThanOrEqualTo(1))
+                .body("topAuthors.size()", lessThanOrEqualTo(5))
+                .body("from", notNullValue())
+                .body("to", notNullValue());
+        }
+
+        @Test
+        @DisplayName("Should reject windows or top out of bounds")
+        void should_reject_windows_or_top_out_of_bounds() {
+            given().queryParam("windows", 0).when().get("/api/messages/analytics/authors").then().statusCode(400);
+            given().queryParam("windows", 25).when().get("/api/messages/analytics/authors").then().statusCode(400);
+            given().queryParam("top", 65).when().get("/api/messages/analytics/authors").then().statusCode(400);
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.lostyzen.demo.domain.model.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the pre-encoded JSON cache
+ * Tests version stamping, invalidation and byte budget accounting
+ */
+class MessageJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private MessageJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cache = new MessageJsonCache(objectMapper, 1024 * 1024);
+    }
+
+    @Nested
+    @DisplayName("Encoding and Reuse")
+    class EncodingAndReuse {
+
+        @Test
+        @DisplayName("Should encode message like the DTO serialization")
+        void should_encode_message_like_the_dto_serialization() throws Exception {
+            // Given
+            Message message = new Message("Cached content", "John Doe");
+
+            // When
+            byte[] json = cache.get(message);
+
+            // Then
+            assertEquals("Cached content", objectMapper.readTree(json).get("content").asText());
+            assertEquals("DRAFT", objectMapper.readTree(json).get("status").asText());
+        }
+
+        @Test
+        @DisplayName("Should serve the same bytes while the message is unchanged")
+        void should_serve_the_same_bytes_while_the_message_is_unchanged() {
+            // Given
+            Message message = new Message("Cached content", "John Doe");
+
+            // When
+            byte[] first = cache.get(message);
+            byte[] second = cache.get(message);
+
+            // Then
+            assertSame(first, second);
+            assertEquals(1, cache.stats().hits());
+            assertEquals(1, cache.stats().misses());
+        }
+
+        @Test
+        @DisplayName("Should re-encode once the message version changes")
+        void should_re_encode_once_the_message_version_changes() throws Exception {
+            // Given
+            Message message = new Message("Cached content", "John Doe");
+            cache.get(message);
+
+            // When
+            Thread.sleep(2); // updatedAt must move
+            message.publish();
+            byte[] json = cache.get(message);
+
+            // Then
+            assertEquals("PUBLISHED", objectMapper.readTree(json).get("status").asText());
+            assertEquals(2, cache.stats().misses());
+            assertEquals(1, cache.stats().entries());
+        }
+
+        @Test
+        @DisplayName("Should write a valid JSON array")
+        void should_write_a_valid_json_array() throws Exception {
+            // Given
+            List<Message> messages = List.of(new Message("First", "A"), new Message("Second", "B"));
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            // When
+            cache.writeArray(messages, output);
+
+            // Then
+            var tree = objectMapper.readTree(output.toString(StandardCharsets.UTF_8));
+            assertEquals(2, tree.size());
+            assertEquals("Second", tree.get(1).get("content").asText());
+        }
+    }
+
+    @Nested
+    @DisplayName("Gzip Variant")
+    class GzipVariant {
+
+        @Test
+        @DisplayName("Should compress once per version and decode to the cached JSON")
+        void should_compress_once_per_version_and_decode_to_the_cached_json() throws Exception {
+            // Given
+            Message message = new Message("Compressible content. ".repeat(20), "John Doe");
+
+            // When
+            byte[] first = cache.getGzip(message);
+            byte[] second = cache.getGzip(message);
+
+            // Then
+            assertSame(first, second);
+            assertEquals(1, cache.stats().compressions());
+            try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(first))) {
+                assertArrayEquals(cache.get(message), input.readAllBytes());
+            }
+        }
+
+        @Test
+        @DisplayName("Should count the variant in the budget and release it with the entry")
+        void should_count_the_variant_in_the_budget_and_release_it_with_the_entry() {
+            // Given
+            Message message = new Message("Compressible content. ".repeat(20), "John Doe");
+            int json = cache.get(message).length;
+
+            // When
+            int gzip = cache.getGzip(message).length;
+
+            // Then
+            assertEquals(json + gzip, cache.stats().usedBytes());
+            cache.invalidate(message.getId());
+            assertEquals(0, cache.stats().usedBytes());
+        }
+
+        @Test
+        @DisplayName("Should read gzip acceptance from Accept-Encoding")
+        void should_read_gzip_acceptance_from_accept_encoding() {
+            assertTrue(MessageJsonCache.acceptsGzip("gzip, deflate, br"));
+            assertTrue(MessageJsonCache.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+            assertFalse(MessageJsonCache.acceptsGzip("gzip;q=0"));
+            assertFalse(MessageJsonCache.acceptsGzip("identity"));
+            assertFalse(MessageJsonCache.acceptsGzip(null));
+        }
+
+        @Test
+        @DisplayName("Should treat an unparsable q-value as not acceptable")
+        void should_treat_an_unparsable_q_value_as_not_acceptable() {
+            assertFalse(MessageJsonCache.acceptsGzip("gzip;q=x"));
+            assertFalse(MessageJsonCache.acceptsGzip("gzip;q="));
+            assertTrue(MessageJsonCache.acceptsGzip("gzip;Q=0.8"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory Accounting")
+    class MemoryAccounting {
+
+        @Test
+        @DisplayName("Should release bytes on invalidation")
+        void should_release_bytes_on_invalidation() {
+            // Given
+            Message message = new Message("Cached content", "John Doe");
+            cache.get(message);
+            assertTrue(cache.stats().usedBytes() > 0);
+
+            // When
+            cache.invalidate(message.getId());
+
+            // Then
+            assertEquals(0, cache.stats().usedBytes());
+            assertEquals(0, cache.stats().entries());
+        }
+
+        @Test
+        @DisplayName("Should evict oldest entries beyond the byte budget")
+        void should_evict_oldest_entries_beyond_the_byte_budget() {
+            // Given
+            MessageJsonCache smallCache = new MessageJsonCache(objectMapper, 1000);
+
+            // When
+            for (int i = 0; i < 20; i++) {
+                smallCache.get(new Message("Content number " + i, "Author"));
+            }
+
+            // Then
+            MessageJsonCache.Stats stats = smallCache.stats();
+            assertTrue(stats.usedBytes() <= 1000);
+            assertTrue(stats.evictions() > 0);
+            assertTrue(stats.entries() < 20);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the stream broadcaster
+ * Covers clients that went away: they must not cost the other subscribers their events or heartbeats
+ */
+class MessageStreamBroadcasterTest {
+
+    private MessageStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new MessageStreamBroadcaster(new ObjectMapper().registerModule(new JavaTimeModule()),
+            10, 10, StreamSubscriber.OverflowPolicy.DISCONNECT, 30);
+    }
+
+    @Test
+    @DisplayName("Should keep delivering events and heartbeats when a closed connection fails the send")
+    void should_keep_delivering_events_and_heartbeats_when_a_closed_connection_fails_the_send() {
+        // Given: the dead connection throws on send, as a closed SSE sink does
+        StreamSubscriber dead = new StreamSubscriber(acceptAll(), 10, StreamSubscriber.OverflowPolicy.DISCONNECT,
+            event -> {
+                throw new IllegalStateException("Already closed");
+            }, () -> true, () -> { });
+        List<List<StreamEvent>> received = new ArrayList<>();
+        broadcaster.register(dead, null);
+        for (int i = 0; i < 3; i++) {
+            List<StreamEvent> sent = new ArrayList<>();
+            received.add(sent);
+            broadcaster.register(live(sent), null);
+        }
+
+        // When
+        broadcaster.onMessageEvent(MessageEvent.of(MessageEvent.Type.CREATED, new Message("Content", "John Doe")));
+        broadcaster.keepAlive();
+        broadcaster.keepAlive();
+
+        // Then
+        assertTrue(dead.isClosed());
+        assertEquals(3, broadcaster.getSubscriberCount());
+        for (List<StreamEvent> sent : received) {
+            assertEquals(3, sent.size());
+            assertEquals("created", sent.get(0).name());
+            assertTrue(sent.get(1).isHeartbeat());
+            assertTrue(sent.get(2).isHeartbeat());
+        }
+    }
+
+    @Test
+    @DisplayName("Should forget a subscriber whose client disconnected without a failed send")
+    void should_forget_a_subscriber_whose_client_disconnected_without_a_failed_send() {
+        // Given
+        List<StreamEvent> sent = new ArrayList<>();
+        StreamSubscriber gone = new StreamSubscriber(acceptAll(), 10, StreamSubscriber.OverflowPolicy.DISCONNECT,
+            event -> {
+                sent.add(event);
+                return CompletableFuture.completedFuture(null);
+            }, () -> true, () -> { });
+        broadcaster.register(gone, null);
+
+        // When
+        broadcaster.keepAlive();
+
+        // Then
+        assertTrue(gone.isClosed());
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertTrue(sent.isEmpty());
+    }
+
+    private static StreamSubscriber live(List<StreamEvent> sent) {
+        return new StreamSubscriber(acceptAll(), 10, StreamSubscriber.OverflowPolicy.DISCONNECT, event -> {
+            sent.add(event);
+            return CompletableFuture.completedFuture(null);
+        }, () -> false, () -> { });
+    }
+
+    private static StreamFilter acceptAll() {
+        return new StreamFilter(Set.of(), null);
+    }
+}
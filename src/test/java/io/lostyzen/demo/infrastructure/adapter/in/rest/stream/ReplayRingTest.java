@@ -0,0 +1,75 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Last-Event-ID replay ring
+ */
+class ReplayRingTest {
+
+    private ReplayRing ring;
+
+    @BeforeEach
+    void setUp() {
+        ring = new ReplayRing(3, 100);
+    }
+
+    @Test
+    @DisplayName("Should replay the events after the given sequence in order")
+    void should_replay_the_events_after_the_given_sequence_in_order() {
+        // Given
+        appendEvents(3);
+
+        // When
+        Optional<List<StreamEvent>> missed = ring.after(100);
+
+        // Then
+        assertTrue(missed.isPresent());
+        assertEquals(List.of(101L, 102L), missed.get().stream().map(StreamEvent::sequence).toList());
+    }
+
+    @Test
+    @DisplayName("Should replay nothing for an up-to-date subscriber")
+    void should_replay_nothing_for_an_up_to_date_subscriber() {
+        // Given
+        appendEvents(2);
+
+        // When & Then
+        assertEquals(Optional.of(List.of()), ring.after(101));
+    }
+
+    @Test
+    @DisplayName("Should require a resync once missed events were overwritten")
+    void should_require_a_resync_once_missed_events_were_overwritten() {
+        // Given
+        appendEvents(5);
+
+        // When & Then
+        assertTrue(ring.after(100).isEmpty());
+        assertEquals(3, ring.after(101).orElseThrow().size());
+    }
+
+    @Test
+    @DisplayName("Should require a resync for sequences it never issued")
+    void should_require_a_resync_for_sequences_it_never_issued() {
+        // Given
+        appendEvents(1);
+
+        // When & Then
+        assertTrue(ring.after(50).isEmpty());
+        assertTrue(ring.after(500).isEmpty());
+    }
+
+    private void appendEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            ring.append(new StreamEvent(ring.nextSequence(), "created", "{}", null));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.lostyzen.demo.infrastructure.adapter.in.rest.stream;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for a stream subscriber
+ * The sender completes sends manually to simulate a slow client
+ */
+class StreamSubscriberTest {
+
+    private final List<StreamEvent> sent = new ArrayList<>();
+    private final List<CompletableFuture<Void>> pendingSends = new ArrayList<>();
+    private final AtomicBoolean connectionClosed = new AtomicBoolean();
+
+    @Test
+    @DisplayName("Should send events in order, one at a time")
+    void should_send_events_in_order_one_at_a_time() {
+        // Given
+        StreamSubscriber subscriber = subscriber(acceptAll(), 10, StreamSubscriber.OverflowPolicy.DISCONNECT);
+
+        // When
+        subscriber.offer(event(1));
+        subscriber.offer(event(2));
+
+        // Then
+        assertEquals(List.of(1L), sequences());
+        pendingSends.get(0).complete(null);
+        assertEquals(List.of(1L, 2L), sequences());
+        pendingSends.get(1).complete(null);
+        assertTrue(subscriber.isIdle());
+    }
+
+    @Test
+    @DisplayName("Should only queue events accepted by the filter")
+    void should_only_queue_events_accepted_by_the_filter() {
+        // Given
+        StreamSubscriber subscriber = subscriber(new StreamFilter(Set.of(MessageStatus.PUBLISHED), "Jane"), 10,
+            StreamSubscriber.OverflowPolicy.DISCONNECT);
+        Message janes = new Message("Content", "Jane");
+        janes.publish();
+
+        // When
+        subscriber.offer(event(1, MessageEvent.of(MessageEvent.Type.CREATED, new Message("Content", "Jane"))));
+        subscriber.offer(event(2, MessageEvent.of(MessageEvent.Type.PUBLISHED, janes)));
+
+        // Then
+        assertEquals(List.of(2L), sequences());
+    }
+
+    @Test
+    @DisplayName("Should disconnect a slow subscriber whose buffer is full")
+    void should_disconnect_a_slow_subscriber_whose_buffer_is_full() {
+        // Given - first event in flight, two buffered
+        StreamSubscriber subscriber = subscriber(acceptAll(), 2, StreamSubscriber.OverflowPolicy.DISCONNECT);
+        subscriber.offer(event(1));
+        subscriber.offer(event(2));
+        subscriber.offer(event(3));
+
+        // When
+        subscriber.offer(event(4));
+
+        // Then
+        assertTrue(subscriber.isClosed());
+        assertTrue(connectionClosed.get());
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest buffered events of a slow subscriber")
+    void should_drop_the_oldest_buffered_events_of_a_slow_subscriber() {
+        // Given
+        StreamSubscriber subscriber = subscriber(acceptAll(), 2, StreamSubscriber.OverflowPolicy.DROP_OLDEST);
+        subscriber.offer(event(1));
+        subscriber.offer(event(2));
+        subscriber.offer(event(3));
+
+        // When
+        subscriber.offer(event(4));
+        pendingSends.get(0).complete(null);
+        pendingSends.get(1).complete(null);
+
+        // Then
+        assertFalse(subscriber.isClosed());
+        assertEquals(1, subscriber.getDropped());
+        assertEquals(List.of(1L, 3L, 4L), sequences());
+    }
+
+    @Test
+    @DisplayName("Should close the subscriber when a send fails")
+    void should_close_the_subscriber_when_a_send_fails() {
+        // Given
+        StreamSubscriber subscriber = subscriber(acceptAll(), 10, StreamSubscriber.OverflowPolicy.DISCONNECT);
+        subscriber.offer(event(1));
+
+        // When
+        pendingSends.get(0).completeExceptionally(new IllegalStateException("Connection reset"));
+
+        // Then
+        assertTrue(subscriber.isClosed());
+        assertTrue(connectionClosed.get());
+    }
+
+    @Test
+    @DisplayName("Should close the subscriber when the send throws before returning")
+    void should_close_the_subscriber_when_the_send_throws_before_returning() {
+        // Given
+        StreamSubscriber subscriber = new StreamSubscriber(acceptAll(), 10, StreamSubscriber.OverflowPolicy.DISCONNECT,
+            event -> {
+                throw new IllegalStateException("Already closed");
+            }, () -> true, () -> connectionClosed.set(true));
+
+        // When
+        subscriber.offer(event(1));
+        subscriber.offer(event(2));
+
+        // Then
+        assertTrue(subscriber.isClosed());
+        assertTrue(connectionClosed.get());
+    }
+
+    private StreamSubscriber subscriber(StreamFilter filter, int bufferSize, StreamSubscriber.OverflowPolicy policy) {
+        return new StreamSubscriber(filter, bufferSize, policy, event -> {
+            sent.add(event);
+            CompletableFuture<Void> send = new CompletableFuture<>();
+            pendingSends.add(send);
+            return send;
+        }, () -> false, () -> connectionClosed.set(true));
+    }
+
+    private static StreamFilter acceptAll() {
+        return new StreamFilter(Set.of(), null);
+    }
+
+    private static StreamEvent event(long sequence) {
+        return event(sequence, MessageEvent.of(MessageEvent.Type.CREATED, new Message("Content", "John Doe")));
+    }
+
+    private static StreamEvent event(long sequence, MessageEvent source) {
+        return new StreamEvent(sequence, "created", "{}", source);
+    }
+
+    private List<Long> sequences() {
+        return sent.stream().map(StreamEvent::sequence).toList();
+    }
+}
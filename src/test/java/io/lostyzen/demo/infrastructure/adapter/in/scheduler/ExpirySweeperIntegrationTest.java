@@ -0,0 +1,79 @@
+package io.lostyzen.demo.infrastructure.adapter.in.scheduler;
+
+import io.lostyzen.demo.infrastructure.adapter.out.persistence.MessageEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the expiry sweeper
+ * The test profile archives in batches of 2 and leaves sweeps to the tests
+ */
+@QuarkusTest
+class ExpirySweeperIntegrationTest {
+
+    @Inject
+    ExpirySweeper sweeper;
+
+    private String createPublishedMessage() {
+        String messageId = given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "content": "Expiring content",
+                    "author": "Expiry Author"
+                }
+                """)
+        .when()
+            .post("/api/messages")
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+        given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId)
+            .then().statusCode(200);
+        return messageId;
+    }
+
+    private void publishedDaysAgo(String messageId, int days) {
+        QuarkusTransaction.requiringNew().run(() -> MessageEntity.update("publishedAt = ?1 where id = ?2",
+            LocalDateTime.now().minusDays(days), messageId));
+    }
+
+    private void assertStatus(String messageId, String status) {
+        given().when().get("/api/messages/{id}", messageId).then().statusCode(200).body("status", equalTo(status));
+    }
+
+    @Test
+    @DisplayName("Should archive only messages past their lifetime")
+    void should_archive_only_messages_past_their_lifetime() {
+        String expired1 = createPublishedMessage();
+        String expired2 = createPublishedMessage();
+        String expired3 = createPublishedMessage();
+        String fresh = createPublishedMessage();
+        publishedDaysAgo(expired1, 31);
+        publishedDaysAgo(expired2, 45);
+        publishedDaysAgo(expired3, 60);
+        publishedDaysAgo(fresh, 29);
+        assertTrue(sweeper.stats().pending() >= 3);
+        assertTrue(sweeper.stats().lagMillis() > 0);
+
+        // Several batches of 2 in one run
+        assertTrue(sweeper.sweep() >= 3);
+
+        assertStatus(expired1, "ARCHIVED");
+        assertStatus(expired2, "ARCHIVED");
+        assertStatus(expired3, "ARCHIVED");
+        assertStatus(fresh, "PUBLISHED");
+        assertEquals(0, sweeper.stats().pending());
+        assertEquals(0, sweeper.stats().lagMillis());
+    }
+}
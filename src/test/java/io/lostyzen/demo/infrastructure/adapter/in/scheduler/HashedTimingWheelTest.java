@@ -0,0 +1,86 @@
+package io.lostyzen.demo.infrastructure.adapter.in.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the hashed timing wheel
+ */
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Should return items once their tick is reached")
+    void should_return_items_once_their_tick_is_reached() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.schedule("late", START + 450);
+        wheel.schedule("early", START + 150);
+
+        assertEquals(List.of(), wheel.advance(START + 99));
+        assertEquals(List.of("early"), wheel.advance(START + 250));
+        assertEquals(List.of(), wheel.advance(START + 499));
+        assertEquals(List.of("late"), wheel.advance(START + 500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should keep items beyond one revolution for later rounds")
+    void should_keep_items_beyond_one_revolution_for_later_rounds() {
+        // 8 buckets of 100 ms: one revolution is 800 ms
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.schedule("third-round", START + 2_050);
+        wheel.schedule("exactly-one-revolution", START + 800);
+
+        assertEquals(List.of("exactly-one-revolution"), wheel.advance(START + 1_000));
+        assertEquals(List.of(), wheel.advance(START + 2_099));
+        assertEquals(List.of("third-round"), wheel.advance(START + 2_100));
+    }
+
+    @Test
+    @DisplayName("Should return past deadlines at the next advance")
+    void should_return_past_deadlines_at_the_next_advance() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, START);
+        wheel.advance(START + 500);
+
+        wheel.schedule("overdue", START - 10_000);
+
+        assertEquals(List.of("overdue"), wheel.advance(START + 500));
+    }
+
+    @Test
+    @DisplayName("Should reject wheel size that is not a power of two")
+    void should_reject_wheel_size_that_is_not_a_power_of_two() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<String>(100, 10, START));
+    }
+
+    @Test
+    @DisplayName("Should expire a million items exactly once and on time")
+    void should_expire_a_million_items_exactly_once_and_on_time() {
+        // One million deadlines spread over 10 minutes, far more than one revolution of the wheel
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(100, 1024, START);
+        int count = 1_000_000;
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(i, START + 1 + (i * 600_000L) / count);
+        }
+
+        List<Integer> expired = new ArrayList<>(count);
+        for (long now = START; now <= START + 600_100; now += 100) {
+            for (int item : wheel.advance(now)) {
+                // Never early, never later than one tick
+                long deadline = START + 1 + (item * 600_000L) / count;
+                assertTrue(deadline <= now && now - deadline < 100, "Item " + item + " expired at " + now);
+                expired.add(item);
+            }
+        }
+
+        assertEquals(count, expired.size());
+        assertEquals(count, expired.stream().distinct().count());
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,62 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Count-Min sketch
+ * Checks that estimates never fall below the true counts and stay within the stated bound
+ */
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("Should size the table from epsilon and delta")
+    void should_size_the_table_from_epsilon_and_delta() {
+        CountMinSketch sketch = new CountMinSketch(0.002, 0.01);
+
+        assertEquals(1360, sketch.width());
+        assertEquals(5, sketch.depth());
+        assertEquals(0.99, sketch.confidence(), 0.01);
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0, 0.01));
+    }
+
+    @Test
+    @DisplayName("Should never underestimate and stay within the error bound")
+    void should_never_underestimate_and_stay_within_the_error_bound() {
+        CountMinSketch sketch = new CountMinSketch(0.002, 0.01);
+        // Author i posts i % 50 + 1 messages
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add("author-" + i, i % 50 + 1);
+        }
+
+        long bound = sketch.errorBound();
+        int beyondBound = 0;
+        for (int i = 0; i < 5_000; i++) {
+            long estimate = sketch.estimate("author-" + i);
+            assertTrue(estimate >= i % 50 + 1);
+            if (estimate - (i % 50 + 1) > bound) {
+                beyondBound++;
+            }
+        }
+        assertTrue(beyondBound < 50, beyondBound + " estimates beyond the bound"); // 1 % allowed by delta
+        assertEquals(127_500, sketch.total());
+    }
+
+    @Test
+    @DisplayName("Should add up counts once merged")
+    void should_add_up_counts_once_merged() {
+        CountMinSketch first = new CountMinSketch(0.002, 0.01);
+        CountMinSketch second = new CountMinSketch(0.002, 0.01);
+        first.add("alice", 3);
+        second.add("alice", 4);
+        second.add("bob", 1);
+
+        first.merge(second);
+
+        assertEquals(7, first.estimate("alice"));
+        assertEquals(1, first.estimate("bob"));
+        assertEquals(8, first.total());
+    }
+}
@@ -0,0 +1,58 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the HyperLogLog sketch
+ * Checks the estimates against their stated error, for small and large cardinalities
+ */
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Should count small sets almost exactly")
+    void should_count_small_sets_almost_exactly() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        assertEquals(0, sketch.estimate());
+
+        for (int i = 0; i < 100; i++) {
+            sketch.add("author-" + i);
+            sketch.add("author-" + i); // Duplicates do not count
+        }
+
+        assertEquals(100, sketch.estimate(), 2);
+    }
+
+    @Test
+    @DisplayName("Should estimate large sets within three standard errors")
+    void should_estimate_large_sets_within_three_standard_errors() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        int distinct = 200_000;
+        for (int i = 0; i < distinct; i++) {
+            sketch.add("author-" + i);
+        }
+
+        double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 3 * sketch.standardError(), "Relative error " + error);
+        assertEquals(4096, sketch.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("Should estimate the union once merged")
+    void should_estimate_the_union_once_merged() {
+        HyperLogLog first = new HyperLogLog(12);
+        HyperLogLog second = new HyperLogLog(12);
+        for (int i = 0; i < 30_000; i++) {
+            first.add("author-" + i);
+            second.add("author-" + (i + 20_000)); // 10 000 in common
+        }
+
+        first.merge(second);
+
+        double error = Math.abs(first.estimate() - 50_000) / 50_000.0;
+        assertTrue(error < 3 * first.standardError(), "Relative error " + error);
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new HyperLogLog(10)));
+    }
+}
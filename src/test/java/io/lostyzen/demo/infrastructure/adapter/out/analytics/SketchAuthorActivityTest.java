@@ -0,0 +1,95 @@
+package io.lostyzen.demo.infrastructure.adapter.out.analytics;
+
+import io.lostyzen.demo.domain.model.AuthorActivity;
+import io.lostyzen.demo.domain.model.AuthorCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the author activity sketches
+ * Covers the tumbling windows, the ranking of the heaviest authors and the stated bounds
+ */
+class SketchAuthorActivityTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long T0 = 1_000 * HOUR;
+
+    private SketchAuthorActivity sketch;
+
+    @BeforeEach
+    void setUp() {
+        sketch = new SketchAuthorActivity(Duration.ofHours(1), 3, 12, 0.002, 0.01, 16);
+    }
+
+    @Test
+    @DisplayName("Should summarize only the requested windows")
+    void should_summarize_only_the_requested_windows() {
+        // Given
+        sketch.record("alice", T0 - HOUR);
+        sketch.record("bob", T0 - HOUR);
+        sketch.record("alice", T0);
+        sketch.record("carol", T0 + 10);
+
+        // When
+        AuthorActivity current = sketch.summarize(1, 4, T0 + 20);
+        AuthorActivity both = sketch.summarize(2, 4, T0 + 20);
+
+        // Then
+        assertEquals(2, current.getMessages());
+        assertEquals(2, current.getDistinctAuthors());
+        assertEquals(4, both.getMessages());
+        assertEquals(3, both.getDistinctAuthors());
+        assertEquals(2, both.getTopAuthors().get(0).getMessages());
+        assertEquals("alice", both.getTopAuthors().get(0).getAuthor());
+        assertEquals(Duration.ofHours(2), Duration.between(both.getFrom(), both.getTo()));
+    }
+
+    @Test
+    @DisplayName("Should reuse the slot of a window once it leaves the ring, and drop late creations")
+    void should_reuse_the_slot_of_a_window_once_it_leaves_the_ring_and_drop_late_creations() {
+        // Given
+        sketch.record("alice", T0);
+        sketch.record("bob", T0 + 3 * HOUR); // Same slot, three windows later
+
+        // When
+        sketch.record("carol", T0 + 10);
+
+        // Then
+        AuthorActivity activity = sketch.summarize(3, 4, T0 + 3 * HOUR);
+        assertEquals(1, activity.getMessages());
+        assertEquals("bob", activity.getTopAuthors().get(0).getAuthor());
+        assertEquals(1, sketch.stats().dropped());
+    }
+
+    @Test
+    @DisplayName("Should rank the heaviest authors above a crowd of occasional ones")
+    void should_rank_the_heaviest_authors_above_a_crowd_of_occasional_ones() {
+        // Given: far more occasional authors than tracked ones; both heavy ones are above 1 300 / 16
+        for (int i = 0; i < 1_000; i++) {
+            sketch.record("occasional-" + i, T0);
+            if (i % 5 == 0) {
+                sketch.record("heavy", T0);
+            }
+            if (i % 10 == 0) {
+                sketch.record("regular", T0);
+            }
+        }
+
+        // When
+        AuthorActivity activity = sketch.summarize(1, 2, T0);
+
+        // Then
+        List<AuthorCount> top = activity.getTopAuthors();
+        assertEquals(List.of("heavy", "regular"), top.stream().map(AuthorCount::getAuthor).toList());
+        assertTrue(top.get(0).getMessages() >= 200 && top.get(0).getMessages() <= 200 + activity.getCountErrorBound());
+        assertEquals(1_300, activity.getMessages());
+        double error = Math.abs(activity.getDistinctAuthors() - 1_002) / 1_002.0;
+        assertTrue(error < 3 * activity.getDistinctAuthorsError(), "Relative error " + error);
+    }
+}
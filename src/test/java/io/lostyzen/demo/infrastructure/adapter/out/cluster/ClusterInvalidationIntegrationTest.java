@@ -0,0 +1,154 @@
+package io.lostyzen.demo.infrastructure.adapter.out.cluster;
+
+import io.lostyzen.demo.infrastructure.adapter.out.persistence.MessageEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the cluster invalidation bus
+ * A second instance is played by writing to the shared tables directly, as its JPA adapter would,
+ * under another instance ID; this instance must then serve the change from every in-memory copy.
+ * The test profile polls every 50 ms with no settle window.
+ */
+@QuarkusTest
+class ClusterInvalidationIntegrationTest {
+
+    private static final String OTHER_INSTANCE = "other-instance";
+    // Poll interval plus the time to read the change back, with room for a slow build machine
+    private static final long MAX_PROPAGATION_MILLIS = 2_000;
+
+    @Inject
+    ClusterInvalidationPoller poller;
+
+    private String createPublishedMessage(String author) {
+        String messageId = given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "content": "Shared content",
+                    "author": "%s"
+                }
+                """.formatted(author))
+        .when()
+            .post("/api/messages")
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+        given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId)
+            .then().statusCode(200);
+        return messageId;
+    }
+
+    private List<String> listContents() {
+        return given().when().get("/api/messages").then().statusCode(200).extract().path("content");
+    }
+
+    private List<String> timelineContents(String author) {
+        return given().when().get("/api/messages/author/{author}/timeline", author)
+            .then().statusCode(200).extract().path("items.content");
+    }
+
+    private List<String> feedContents() {
+        return given().queryParam("limit", 50).when().get("/api/messages/feed")
+            .then().statusCode(200).extract().path("content");
+    }
+
+    private String listETag() {
+        return given().when().get("/api/messages").then().statusCode(200).extract().header("ETag");
+    }
+
+    // What the other instance's repository and change recorder commit together
+    private void editOnOtherInstance(String messageId, String content) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            MessageEntity.update("content = ?1, updatedAt = ?2 where id = ?3", content, now, messageId);
+            new MessageChangeEntity(messageId, OTHER_INSTANCE, now).persist();
+        });
+    }
+
+    private void deleteOnOtherInstance(String messageId) {
+        QuarkusTransaction.requiringNew().run(() -> {
+            MessageEntity.deleteById(messageId);
+            new MessageChangeEntity(messageId, OTHER_INSTANCE, LocalDateTime.now()).persist();
+        });
+    }
+
+    private static long awaitMillis(BooleanSupplier condition) throws InterruptedException {
+        long start = System.nanoTime();
+        while (!condition.getAsBoolean()) {
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(elapsed < MAX_PROPAGATION_MILLIS * 5, "Change never became visible");
+            Thread.sleep(10);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    @Test
+    @DisplayName("Should serve an edit made by another instance from every cached read")
+    void should_serve_an_edit_made_by_another_instance_from_every_cached_read() throws InterruptedException {
+        String author = "Cluster Author " + UUID.randomUUID();
+        String messageId = createPublishedMessage(author);
+        // Warm every in-memory copy
+        assertTrue(listContents().contains("Shared content"));
+        assertEquals(List.of("Shared content"), timelineContents(author));
+        assertTrue(feedContents().contains("Shared content"));
+        String etagBefore = listETag();
+        long receivedBefore = poller.stats().received();
+
+        String edited = "Edited elsewhere " + UUID.randomUUID();
+        editOnOtherInstance(messageId, edited);
+
+        long millis = awaitMillis(() -> listContents().contains(edited)
+            && timelineContents(author).contains(edited)
+            && feedContents().contains(edited));
+        assertTrue(millis < MAX_PROPAGATION_MILLIS, "Propagation took " + millis + " ms");
+        assertNotEquals(etagBefore, listETag());
+        given().when().get("/api/messages/{id}", messageId).then().statusCode(200).body("content", equalTo(edited));
+        assertTrue(poller.stats().received() > receivedBefore);
+        assertTrue(poller.stats().maxLatencyMillis() < MAX_PROPAGATION_MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should drop a message deleted by another instance")
+    void should_drop_a_message_deleted_by_another_instance() throws InterruptedException {
+        String author = "Cluster Author " + UUID.randomUUID();
+        String messageId = createPublishedMessage(author);
+        String content = "Deleted elsewhere " + UUID.randomUUID();
+        editOnOtherInstance(messageId, content);
+        awaitMillis(() -> listContents().contains(content) && feedContents().contains(content));
+
+        deleteOnOtherInstance(messageId);
+
+        long millis = awaitMillis(() -> !listContents().contains(content)
+            && timelineContents(author).isEmpty()
+            && !feedContents().contains(content));
+        assertTrue(millis < MAX_PROPAGATION_MILLIS, "Propagation took " + millis + " ms");
+        given().when().get("/api/messages/{id}", messageId).then().statusCode(404);
+    }
+
+    @Test
+    @DisplayName("Should not replay the changes made by this instance")
+    void should_not_replay_the_changes_made_by_this_instance() throws InterruptedException {
+        long receivedBefore = poller.stats().received();
+
+        createPublishedMessage("Cluster Author " + UUID.randomUUID());
+        Thread.sleep(200); // Several polls
+
+        assertEquals(receivedBefore, poller.stats().received());
+        assertTrue(poller.stats().enabled());
+        assertEquals("test-instance", poller.stats().instanceId());
+    }
+}
@@ -0,0 +1,124 @@
+package io.lostyzen.demo.infrastructure.adapter.out.feed;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the lock-free published ring
+ */
+class PublishedRingTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("Should return the latest appends, newest first, once the ring has wrapped")
+    void should_return_the_latest_appends_newest_first_once_the_ring_has_wrapped() {
+        PublishedRing ring = new PublishedRing(3);
+        for (String id : List.of("a", "b", "c", "d", "e")) {
+            ring.append(message(id, T0));
+        }
+
+        assertEquals(List.of("e", "d", "c"), ids(ring.latest(10)));
+        assertEquals(List.of("e", "d"), ids(ring.latest(2)));
+        assertEquals(5, ring.appended());
+    }
+
+    @Test
+    @DisplayName("Should skip removed entries and replace live ones")
+    void should_skip_removed_entries_and_replace_live_ones() {
+        PublishedRing ring = new PublishedRing(4);
+        ring.append(message("a", T0));
+        ring.append(message("b", T0));
+        ring.append(message("c", T0));
+
+        assertTrue(ring.remove(MessageId.of("b")));
+        assertFalse(ring.remove(MessageId.of("b")));
+        assertTrue(ring.replace(message("c", T0.plusMinutes(1))));
+        assertFalse(ring.replace(message("c", T0))); // Older than the entry held
+
+        List<Message> latest = ring.latest(4);
+        assertEquals(List.of("c", "a"), ids(latest));
+        assertEquals(T0.plusMinutes(1), latest.get(0).getUpdatedAt());
+        assertEquals(2, ring.size());
+    }
+
+    @Test
+    @DisplayName("Should keep exactly the last appends under concurrent writers and readers")
+    void should_keep_exactly_the_last_appends_under_concurrent_writers_and_readers() throws Exception {
+        int capacity = 64;
+        int writers = 4;
+        int perWriter = 20_000;
+        PublishedRing ring = new PublishedRing(capacity);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                int w = writer;
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perWriter; i++) {
+                        ring.append(message(w + "-" + i, T0));
+                    }
+                    return null;
+                }));
+            }
+            Future<Integer> reader = executor.submit(() -> {
+                start.await();
+                int reads = 0;
+                while (ring.appended() < (long) writers * perWriter) {
+                    List<Message> latest = ring.latest(capacity);
+                    assertTrue(latest.size() <= capacity);
+                    assertEquals(latest.size(), new HashSet<>(ids(latest)).size());
+                    reads++;
+                }
+                return reads;
+            });
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+            assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Message> latest = ring.latest(capacity);
+        assertEquals(capacity, latest.size());
+        assertEquals(capacity, new HashSet<>(ids(latest)).size());
+        // Newest first: each writer's messages come back in the reverse of its append order
+        Map<String, Integer> previousByWriter = new HashMap<>();
+        for (String id : ids(latest)) {
+            String[] parts = id.split("-");
+            int index = Integer.parseInt(parts[1]);
+            Integer previous = previousByWriter.put(parts[0], index);
+            assertTrue(previous == null || previous > index, "Out of order: " + id);
+        }
+        assertEquals((long) writers * perWriter, ring.appended());
+    }
+
+    private static Message message(String id, LocalDateTime updatedAt) {
+        return new Message(MessageId.of(id), "Content " + id, MessageStatus.PUBLISHED, "Author", T0, updatedAt, T0);
+    }
+
+    private static List<String> ids(List<Message> messages) {
+        return messages.stream().map(message -> message.getId().getValue()).toList();
+    }
+}
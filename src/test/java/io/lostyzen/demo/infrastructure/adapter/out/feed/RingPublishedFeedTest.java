@@ -0,0 +1,132 @@
+package io.lostyzen.demo.infrastructure.adapter.out.feed;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageField;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the published feed
+ * Covers the warm-up, the events that change the ring and when reads fall back to the database
+ */
+class RingPublishedFeedTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private RingPublishedFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        feed = new RingPublishedFeed(messageRepository, 3);
+    }
+
+    @Test
+    @DisplayName("Should not answer before the warm-up")
+    void should_not_answer_before_the_warm_up() {
+        assertTrue(feed.findLatest(1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should serve the warmed messages newest first, then apply buffered events")
+    void should_serve_the_warmed_messages_newest_first_then_apply_buffered_events() {
+        // Given: one publication commits while the warm-up reads the table
+        Message newest = published("b", 2);
+        Message oldest = published("a", 1);
+        feed.onMessageEvent(MessageEvent.of(MessageEvent.Type.PUBLISHED, published("c", 3)));
+        when(messageRepository.findMatching(any(), eq(MessageField.PUBLISHED_AT), eq(false), eq(0), eq(4)))
+            .thenReturn(List.of(newest, oldest));
+
+        // When
+        feed.warmUp();
+
+        // Then
+        assertEquals(List.of("c", "b", "a"), ids(feed.findLatest(3)));
+        assertEquals(List.of("c"), ids(feed.findLatest(1)));
+    }
+
+    @Test
+    @DisplayName("Should remove archived and deleted messages and replace edited ones")
+    void should_remove_archived_and_deleted_messages_and_replace_edited_ones() {
+        // Given
+        warmUpWith(published("b", 2), published("a", 1));
+        Message archived = published("b", 2);
+        archived.archive();
+        Message edited = published("a", 1);
+        edited.updateContent("Edited");
+
+        // When
+        feed.onMessageEvent(MessageEvent.of(MessageEvent.Type.ARCHIVED, archived));
+        feed.onMessageEvent(MessageEvent.of(MessageEvent.Type.UPDATED, edited));
+
+        // Then: every publication was in the ring, so fewer results are still exact
+        List<Message> latest = feed.findLatest(3).orElseThrow();
+        assertEquals(1, latest.size());
+        assertEquals("Edited", latest.get(0).getContent());
+    }
+
+    @Test
+    @DisplayName("Should fall back when holes may hide older publications")
+    void should_fall_back_when_holes_may_hide_older_publications() {
+        // Given: more publications in the table than the ring holds
+        warmUpWith(published("d", 4), published("c", 3), published("b", 2), published("a", 1));
+
+        // When
+        feed.onMessageEvent(MessageEvent.removed(MessageId.of("d")));
+
+        // Then
+        assertEquals(List.of("c", "b"), ids(feed.findLatest(2)));
+        assertTrue(feed.findLatest(3).isEmpty());
+        assertTrue(feed.findLatest(4).isEmpty()); // More than the capacity
+        assertEquals(2, feed.stats().fallbacks());
+    }
+
+    @Test
+    @DisplayName("Should append a message created already published, and skip new drafts")
+    void should_append_a_message_created_already_published_and_skip_new_drafts() {
+        // Given
+        warmUpWith(published("a", 1));
+        LocalDateTime at = T0.plusMinutes(2);
+        Message draft = new Message(MessageId.of("b"), "Draft", MessageStatus.DRAFT, "Author", at, at, null);
+
+        // When: the second one was inserted directly in the database
+        feed.onMessageEvent(MessageEvent.of(MessageEvent.Type.CREATED, draft));
+        feed.onMessageEvent(MessageEvent.of(MessageEvent.Type.CREATED, published("c", 3)));
+
+        // Then
+        assertEquals(List.of("c", "a"), ids(feed.findLatest(3)));
+    }
+
+    private void warmUpWith(Message... newestFirst) {
+        when(messageRepository.findMatching(any(), any(), anyBoolean(), anyInt(), anyInt()))
+            .thenReturn(List.of(newestFirst));
+        feed.warmUp();
+    }
+
+    private static Message published(String id, int minute) {
+        LocalDateTime at = T0.plusMinutes(minute);
+        return new Message(MessageId.of(id), "Content " + id, MessageStatus.PUBLISHED, "Author", at, at, at);
+    }
+
+    private static List<String> ids(Optional<List<Message>> messages) {
+        return messages.orElseThrow().stream().map(message -> message.getId().getValue()).toList();
+    }
+}
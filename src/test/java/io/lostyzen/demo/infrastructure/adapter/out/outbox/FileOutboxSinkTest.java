@@ -0,0 +1,40 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JSON Lines outbox sink
+ */
+class FileOutboxSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should append one line per entry across batches")
+    void should_append_one_line_per_entry_across_batches() throws Exception {
+        // Given
+        Path file = directory.resolve("outbox/events.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(file);
+
+        // When
+        sink.deliver(List.of(entry(1, "{\"id\":\"a\"}"), entry(2, "{\"id\":\"b\"}")));
+        sink.deliver(List.of(entry(3, "{\"id\":\"c\"}")));
+
+        // Then
+        assertEquals(List.of("{\"id\":\"a\"}", "{\"id\":\"b\"}", "{\"id\":\"c\"}"), Files.readAllLines(file));
+    }
+
+    private static OutboxMessage entry(long id, String payload) {
+        return new OutboxMessage(id, "PUBLISHED", "message-" + id, payload, LocalDateTime.now(), 0);
+    }
+}
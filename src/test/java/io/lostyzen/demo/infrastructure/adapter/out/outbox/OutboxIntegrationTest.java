@@ -0,0 +1,83 @@
+package io.lostyzen.demo.infrastructure.adapter.out.outbox;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the transactional outbox
+ * The test profile relays to the in-memory sink every 100 ms
+ */
+@QuarkusTest
+class OutboxIntegrationTest {
+
+    @Inject
+    InMemoryOutboxSink sink;
+
+    private String createMessage() {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "content": "Outbox content",
+                    "author": "Outbox Author"
+                }
+                """)
+        .when()
+            .post("/api/messages")
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+    }
+
+    private List<OutboxMessage> awaitDelivered(String messageId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        List<OutboxMessage> delivered = List.of();
+        while (System.currentTimeMillis() < deadline) {
+            delivered = sink.getDelivered().stream().filter(message -> message.messageId().equals(messageId)).toList();
+            if (delivered.size() >= expected) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        return delivered;
+    }
+
+    @Test
+    @DisplayName("Should relay publish and delete events in order")
+    void should_relay_publish_and_delete_events_in_order() throws InterruptedException {
+        String messageId = createMessage();
+        given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId).then().statusCode(200);
+        given().when().delete("/api/messages/{id}", messageId).then().statusCode(204);
+
+        List<OutboxMessage> delivered = awaitDelivered(messageId, 2);
+
+        // CREATED is not recorded by default
+        assertEquals(List.of("PUBLISHED", "DELETED"), delivered.stream().map(OutboxMessage::eventType).toList());
+        assertTrue(delivered.get(0).id() < delivered.get(1).id());
+        assertTrue(delivered.get(0).payload().contains("\"status\":\"PUBLISHED\""));
+        assertEquals(0L, (long) QuarkusTransaction.requiringNew().call(() ->
+            OutboxEntryEntity.count("messageId = ?1 and deliveredAt is null", messageId)));
+    }
+
+    @Test
+    @DisplayName("Should not record rejected changes")
+    void should_not_record_rejected_changes() throws InterruptedException {
+        String messageId = createMessage();
+        given().when().delete("/api/messages/{id}", messageId).then().statusCode(204);
+        // Already deleted: the use case fails and nothing is written
+        given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId).then().statusCode(400);
+
+        assertEquals(1, awaitDelivered(messageId, 1).size());
+        assertEquals(1L, (long) QuarkusTransaction.requiringNew().call(() ->
+            OutboxEntryEntity.count("messageId", messageId)));
+    }
+}
@@ -0,0 +1,67 @@
+package io.lostyzen.demo.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the revision encoding
+ */
+class ContentDeltaTest {
+
+    private static final String LONG_CONTENT = "The quick brown fox jumps over the lazy dog. ".repeat(20).trim();
+
+    private static void assertRoundTrip(String from, String to) {
+        assertEquals(to, ContentDelta.applyDelta(from, ContentDelta.delta(from, to)));
+    }
+
+    @Test
+    @DisplayName("Should rebuild content from a delta")
+    void should_rebuild_content_from_a_delta() {
+        assertRoundTrip("Hello world", "Hello brave new world");
+        assertRoundTrip("Hello world", "Hello");
+        assertRoundTrip("Hello world", "world");
+        assertRoundTrip("Hello world", "Completely different");
+        assertRoundTrip("aaa", "aaaa");
+        assertRoundTrip("Same", "Same");
+    }
+
+    @Test
+    @DisplayName("Should keep surrogate pairs intact")
+    void should_keep_surrogate_pairs_intact() {
+        // Both emojis share their high surrogate
+        assertRoundTrip("Mood: 😀!", "Mood: 😁!");
+        assertRoundTrip("😀", "😀😀");
+        assertRoundTrip("café au lait", "café noir");
+    }
+
+    @Test
+    @DisplayName("Should store a small edit of long content in a few bytes")
+    void should_store_a_small_edit_of_long_content_in_a_few_bytes() {
+        String edited = LONG_CONTENT.replace("lazy dog. The quick", "lazy cat. The quick");
+
+        byte[] delta = ContentDelta.delta(LONG_CONTENT, edited);
+
+        assertTrue(delta.length < LONG_CONTENT.length() / 10, "Delta of " + delta.length + " bytes");
+        assertEquals(edited, ContentDelta.applyDelta(LONG_CONTENT, delta));
+    }
+
+    @Test
+    @DisplayName("Should compress repetitive checkpoints")
+    void should_compress_repetitive_checkpoints() {
+        byte[] checkpoint = ContentDelta.checkpoint(LONG_CONTENT);
+
+        assertTrue(checkpoint.length < LONG_CONTENT.length() / 2, "Checkpoint of " + checkpoint.length + " bytes");
+        assertEquals(LONG_CONTENT, ContentDelta.readCheckpoint(checkpoint));
+        assertEquals("Short", ContentDelta.readCheckpoint(ContentDelta.checkpoint("Short")));
+    }
+
+    @Test
+    @DisplayName("Should reject a delta that does not fit the base")
+    void should_reject_a_delta_that_does_not_fit_the_base() {
+        byte[] delta = ContentDelta.delta("Hello world", "Hello big world");
+
+        assertThrows(IllegalStateException.class, () -> ContentDelta.applyDelta("Hi", delta));
+    }
+}
@@ -0,0 +1,168 @@
+package io.lostyzen.demo.infrastructure.adapter.out.readmodel;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.port.out.MessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the in-memory read model
+ * Covers the rebuild, the ordering of the indexes and how events move messages between them
+ */
+class InMemoryMessageReadModelTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private InMemoryMessageReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        readModel = new InMemoryMessageReadModel(messageRepository, true);
+    }
+
+    @Test
+    @DisplayName("Should index the rebuilt messages by status and author in creation order")
+    void should_index_the_rebuilt_messages_by_status_and_author_in_creation_order() {
+        // Given
+        Message second = message("b", MessageStatus.PUBLISHED, "Alice", T0.plusMinutes(2), T0.plusMinutes(2));
+        Message first = message("a", MessageStatus.DRAFT, "Alice", T0.plusMinutes(1), T0.plusMinutes(1));
+        Message deleted = message("c", MessageStatus.DELETED, "Bob", T0, T0.plusMinutes(3));
+        when(messageRepository.findAllActive()).thenReturn(List.of(second, first));
+        when(messageRepository.findByStatus(MessageStatus.DELETED)).thenReturn(List.of(deleted));
+
+        // When
+        readModel.rebuild();
+
+        // Then
+        assertTrue(readModel.isReady());
+        assertEquals(List.of("a", "b"), ids(readModel.findAllActive()));
+        assertEquals(List.of("a", "b"), ids(readModel.findByAuthor("Alice")));
+        assertEquals(List.of("c"), ids(readModel.findByAuthor("Bob")));
+        assertEquals(List.of("b"), ids(readModel.findByStatus(MessageStatus.PUBLISHED)));
+        assertEquals(List.of("c"), ids(readModel.findByStatus(MessageStatus.DELETED)));
+        assertEquals(List.of(), readModel.findByAuthor("Carol"));
+    }
+
+    @Test
+    @DisplayName("Should move a message between indexes when its status changes")
+    void should_move_a_message_between_indexes_when_its_status_changes() {
+        // Given
+        rebuildWith(message("a", MessageStatus.DRAFT, "Alice", T0, T0));
+        Message published = message("a", MessageStatus.PUBLISHED, "Alice", T0, T0.plusMinutes(1));
+
+        // When
+        readModel.onMessageEvent(MessageEvent.of(MessageEvent.Type.PUBLISHED, published));
+
+        // Then
+        assertEquals(List.of(), readModel.findByStatus(MessageStatus.DRAFT));
+        assertEquals(List.of("a"), ids(readModel.findByStatus(MessageStatus.PUBLISHED)));
+        assertEquals(MessageStatus.PUBLISHED, readModel.findByAuthor("Alice").get(0).getStatus());
+        assertEquals(1, readModel.stats().eventsApplied());
+    }
+
+    @Test
+    @DisplayName("Should ignore an event older than the state already held")
+    void should_ignore_an_event_older_than_the_state_already_held() {
+        // Given
+        rebuildWith(message("a", MessageStatus.PUBLISHED, "Alice", T0, T0.plusMinutes(5)));
+        Message older = message("a", MessageStatus.DRAFT, "Alice", T0, T0.plusMinutes(1));
+
+        // When
+        readModel.onMessageEvent(MessageEvent.of(MessageEvent.Type.UPDATED, older));
+
+        // Then
+        assertEquals(List.of("a"), ids(readModel.findByStatus(MessageStatus.PUBLISHED)));
+        assertEquals(1, readModel.stats().staleEvents());
+    }
+
+    @Test
+    @DisplayName("Should drop a physically deleted message from every index")
+    void should_drop_a_physically_deleted_message_from_every_index() {
+        // Given
+        rebuildWith(message("a", MessageStatus.DELETED, "Alice", T0, T0));
+
+        // When
+        readModel.onMessageEvent(MessageEvent.removed(MessageId.of("a")));
+
+        // Then
+        assertEquals(List.of(), readModel.findByStatus(MessageStatus.DELETED));
+        assertEquals(List.of(), readModel.findByAuthor("Alice"));
+        assertEquals(0, readModel.stats().authors());
+    }
+
+    @Test
+    @DisplayName("Should keep its own copy of the event message")
+    void should_keep_its_own_copy_of_the_event_message() {
+        // Given
+        rebuildWith();
+        Message message = new Message("Original", "Alice");
+        readModel.onMessageEvent(MessageEvent.of(MessageEvent.Type.CREATED, message));
+
+        // When
+        message.updateContent("Changed after the event");
+
+        // Then
+        assertEquals("Original", readModel.findAllActive().get(0).getContent());
+    }
+
+    @Test
+    @DisplayName("Should move its version only once a change is visible to readers")
+    void should_move_its_version_only_once_a_change_is_visible_to_readers() {
+        // Given
+        rebuildWith();
+        long built = readModel.getVersion();
+        Message message = new Message("Content", "Alice");
+
+        // When
+        readModel.onMessageEvent(MessageEvent.of(MessageEvent.Type.CREATED, message));
+
+        // Then
+        assertEquals(built + 1, readModel.getVersion());
+        assertEquals(1, readModel.findAllActive().size());
+    }
+
+    @Test
+    @DisplayName("Should stay on the repository when disabled")
+    void should_stay_on_the_repository_when_disabled() {
+        // Given
+        InMemoryMessageReadModel disabled = new InMemoryMessageReadModel(messageRepository, false);
+
+        // When
+        disabled.onMessageEvent(MessageEvent.of(MessageEvent.Type.CREATED, new Message("Content", "Alice")));
+
+        // Then
+        assertFalse(disabled.isReady());
+        assertEquals(0, disabled.stats().messages());
+    }
+
+    private void rebuildWith(Message... messages) {
+        when(messageRepository.findAllActive()).thenReturn(List.of(messages));
+        when(messageRepository.findByStatus(MessageStatus.DELETED)).thenReturn(List.of());
+        readModel.rebuild();
+    }
+
+    private static Message message(String id, MessageStatus status, String author,
+                                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return new Message(MessageId.of(id), "Content " + id, status, author, createdAt, updatedAt);
+    }
+
+    private static List<String> ids(List<Message> messages) {
+        return messages.stream().map(message -> message.getId().getValue()).toList();
+    }
+}
@@ -0,0 +1,143 @@
+package io.lostyzen.demo.infrastructure.adapter.out.timeline;
+
+import io.lostyzen.demo.domain.model.Message;
+import io.lostyzen.demo.domain.model.MessageEvent;
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageProjection;
+import io.lostyzen.demo.domain.model.MessageStatus;
+import io.lostyzen.demo.domain.model.MessageView;
+import io.lostyzen.demo.domain.model.TimelinePage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the author timeline cache
+ * Covers which pages are served from memory and how write events keep the rings exact
+ */
+class InMemoryAuthorTimelineCacheTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private InMemoryAuthorTimelineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new InMemoryAuthorTimelineCache(3, 2);
+    }
+
+    @Test
+    @DisplayName("Should serve pages inside the ring and miss beyond it")
+    void should_serve_pages_inside_the_ring_and_miss_beyond_it() {
+        fill("Alice", false, message("c", 3), message("b", 2), message("a", 1));
+
+        TimelinePage first = cache.findPage("Alice", 0, 2).orElseThrow();
+        assertEquals(List.of("c", "b"), ids(first));
+        assertTrue(first.isHasNext());
+        assertTrue(cache.findPage("Alice", 1, 1).orElseThrow().isHasNext()); // More exist in the database
+        assertTrue(cache.findPage("Alice", 1, 2).isEmpty());
+        assertTrue(cache.findPage("Bob", 0, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should answer any page of a complete timeline")
+    void should_answer_any_page_of_a_complete_timeline() {
+        fill("Alice", true, message("b", 2), message("a", 1));
+
+        TimelinePage last = cache.findPage("Alice", 0, 20).orElseThrow();
+        assertEquals(List.of("b", "a"), ids(last));
+        assertFalse(last.isHasNext());
+        assertEquals(List.of(), cache.findPage("Alice", 5, 20).orElseThrow().getItems());
+    }
+
+    @Test
+    @DisplayName("Should put a new message at the head and push the oldest out")
+    void should_put_a_new_message_at_the_head_and_push_the_oldest_out() {
+        fill("Alice", true, message("c", 3), message("b", 2), message("a", 1));
+
+        cache.onMessageEvent(MessageEvent.of(MessageEvent.Type.CREATED, message("d", 4)));
+
+        assertEquals(List.of("d", "c", "b"), ids(cache.findPage("Alice", 0, 3).orElseThrow()));
+        assertTrue(cache.findPage("Alice", 0, 3).orElseThrow().isHasNext());
+        assertTrue(cache.findPage("Alice", 1, 3).isEmpty()); // No longer complete
+    }
+
+    @Test
+    @DisplayName("Should replace transitioned messages and drop deleted ones")
+    void should_replace_transitioned_messages_and_drop_deleted_ones() {
+        fill("Alice", true, message("b", 2), message("a", 1));
+        Message published = message("a", 1);
+        published.publish();
+        Message deleted = message("b", 2);
+        deleted.delete();
+
+        cache.onMessageEvent(MessageEvent.of(MessageEvent.Type.PUBLISHED, published));
+        cache.onMessageEvent(MessageEvent.of(MessageEvent.Type.DELETED, deleted));
+
+        TimelinePage page = cache.findPage("Alice", 0, 3).orElseThrow();
+        assertEquals(List.of("a"), ids(page));
+        assertEquals(MessageStatus.PUBLISHED, page.getItems().get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should ignore an event older than the summary held")
+    void should_ignore_an_event_older_than_the_summary_held() {
+        Message current = message("a", 1);
+        current.publish();
+        fill("Alice", true, current);
+
+        cache.onMessageEvent(MessageEvent.of(MessageEvent.Type.UPDATED,
+            new Message(MessageId.of("a"), "Old", MessageStatus.DRAFT, "Alice", T0.plusMinutes(1), T0)));
+
+        assertEquals(MessageStatus.PUBLISHED, cache.findPage("Alice", 0, 1).orElseThrow().getItems().get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject a fill when a write raced with the load")
+    void should_reject_a_fill_when_a_write_raced_with_the_load() {
+        long ticket = cache.reserve("Alice");
+        cache.onMessageEvent(MessageEvent.of(MessageEvent.Type.CREATED, message("a", 1)));
+
+        assertFalse(cache.fill("Alice", ticket, List.of(), true));
+        assertTrue(cache.findPage("Alice", 0, 1).isEmpty());
+        assertEquals(1, cache.stats().rejectedFills());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently read author")
+    void should_evict_the_least_recently_read_author() {
+        fill("Alice", true, message("a", 1));
+        fill("Bob", true, message("b", 1));
+        cache.findPage("Alice", 0, 1);
+
+        fill("Carol", true, message("c", 1));
+
+        assertTrue(cache.findPage("Alice", 0, 1).isPresent());
+        assertTrue(cache.findPage("Bob", 0, 1).isEmpty());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    private void fill(String author, boolean complete, Message... newest) {
+        List<MessageProjection> entries = Arrays.stream(newest)
+            .map(message -> new Message(message.getId(), message.getContent(), message.getStatus(), author,
+                message.getCreatedAt(), message.getUpdatedAt(), message.getPublishedAt()))
+            .map(message -> MessageProjection.of(message, MessageView.timeline()))
+            .toList();
+        assertTrue(cache.fill(author, cache.reserve(author), entries, complete));
+    }
+
+    private static Message message(String id, int minute) {
+        LocalDateTime createdAt = T0.plusMinutes(minute);
+        return new Message(MessageId.of(id), "Content " + id, MessageStatus.DRAFT, "Alice", createdAt, createdAt);
+    }
+
+    private static List<String> ids(TimelinePage page) {
+        return page.getItems().stream().map(item -> item.getId().getValue()).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package io.lostyzen.demo.infrastructure.adapter.out.timeline;
+
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the timeline ring
+ */
+class TimelineRingTest {
+
+    @Test
+    @DisplayName("Should add newer entries at the head and drop the oldest once full")
+    void should_add_newer_entries_at_the_head_and_drop_the_oldest_once_full() {
+        TimelineRing ring = new TimelineRing(3);
+        for (String id : List.of("a", "b", "c", "d", "e")) {
+            ring.insert(0, entry(id));
+        }
+
+        assertTrue(ring.isFull());
+        assertEquals(List.of("e", "d", "c"), ids(ring));
+    }
+
+    @Test
+    @DisplayName("Should insert, replace and remove in the middle across the wrap-around")
+    void should_insert_replace_and_remove_in_the_middle_across_the_wrap_around() {
+        TimelineRing ring = new TimelineRing(4);
+        ring.insert(0, entry("c"));
+        ring.insert(0, entry("a")); // The head wraps to the end of the array
+        ring.insert(1, entry("b"));
+        ring.insert(3, entry("d"));
+        assertEquals(List.of("a", "b", "c", "d"), ids(ring));
+
+        ring.insert(2, entry("x")); // Full: "d" is dropped
+        assertEquals(List.of("a", "b", "x", "c"), ids(ring));
+
+        ring.remove(1);
+        ring.set(ring.indexOf(MessageId.of("x")), entry("y"));
+        assertEquals(List.of("a", "y", "c"), ids(ring));
+        assertEquals(-1, ring.indexOf(MessageId.of("b")));
+        assertEquals(List.of("y", "c"), ring.slice(1, 3).stream().map(e -> e.getId().getValue()).toList());
+    }
+
+    @Test
+    @DisplayName("Should fill from a newest-first list")
+    void should_fill_from_a_newest_first_list() {
+        TimelineRing ring = new TimelineRing(2);
+        ring.addLast(entry("a"));
+        ring.addLast(entry("b"));
+
+        assertEquals(List.of("a", "b"), ids(ring));
+        assertThrows(IllegalStateException.class, () -> ring.addLast(entry("c")));
+    }
+
+    private static MessageProjection entry(String id) {
+        return new MessageProjection(MessageId.of(id), null, null, null, null, null, null, null, null);
+    }
+
+    private static List<String> ids(TimelineRing ring) {
+        return ring.slice(0, ring.size()).stream().map(e -> e.getId().getValue()).toList();
+    }
+}
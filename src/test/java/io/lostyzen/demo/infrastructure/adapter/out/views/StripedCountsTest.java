@@ -0,0 +1,90 @@
+package io.lostyzen.demo.infrastructure.adapter.out.views;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the striped counts behind the view counter
+ */
+class StripedCountsTest {
+
+    @Test
+    @DisplayName("Should round the stripe count up to a power of two")
+    void should_round_the_stripe_count_up_to_a_power_of_two() {
+        assertEquals(1, new StripedCounts(1).stripeCount());
+        assertEquals(4, new StripedCounts(3).stripeCount());
+        assertEquals(16, new StripedCounts(16).stripeCount());
+        assertThrows(IllegalArgumentException.class, () -> new StripedCounts(0));
+    }
+
+    @Test
+    @DisplayName("Should sum the counts of each key and start over after a drain")
+    void should_sum_the_counts_of_each_key_and_start_over_after_a_drain() {
+        StripedCounts counts = new StripedCounts(4);
+        counts.add("a", 1);
+        counts.add("a", 1);
+        counts.add("b", 5);
+        assertEquals(7, counts.pending());
+
+        assertEquals(Map.of("a", 2L, "b", 5L), counts.drain());
+        assertEquals(0, counts.pending());
+        assertEquals(Map.of(), counts.drain());
+    }
+
+    @Test
+    @DisplayName("Should neither lose nor double count increments drained during a burst on one key")
+    void should_neither_lose_nor_double_count_increments_drained_during_a_burst_on_one_key() throws Exception {
+        StripedCounts counts = new StripedCounts(8);
+        int writers = 8;
+        int increments = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Map<String, Long> drained = new HashMap<>();
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < increments; i++) {
+                        counts.add(i % 10 == 0 ? "other" : "viral", 1);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    counts.drain().forEach((key, count) -> drained.merge(key, count, Long::sum));
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> write : writes) {
+                write.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        counts.drain().forEach((key, count) -> drained.merge(key, count, Long::sum));
+
+        assertEquals(writers * increments * 9L / 10, drained.get("viral"));
+        assertEquals(writers * increments / 10L, drained.get("other"));
+    }
+}
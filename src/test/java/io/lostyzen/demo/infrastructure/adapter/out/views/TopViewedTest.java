@@ -0,0 +1,80 @@
+package io.lostyzen.demo.infrastructure.adapter.out.views;
+
+import io.lostyzen.demo.domain.model.MessageId;
+import io.lostyzen.demo.domain.model.MessageViews;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bounded ranking of the most viewed messages
+ */
+class TopViewedTest {
+
+    @Test
+    @DisplayName("Should keep the most viewed messages within its capacity")
+    void should_keep_the_most_viewed_messages_within_its_capacity() {
+        TopViewed top = new TopViewed(3);
+        top.offer(MessageId.of("a"), 10);
+        top.offer(MessageId.of("b"), 30);
+        top.offer(MessageId.of("c"), 20);
+
+        // Worse than the last one: left out
+        top.offer(MessageId.of("d"), 5);
+        assertEquals(List.of("b", "c", "a"), ids(top.top(10)));
+
+        // Better than the last one: evicts it
+        top.offer(MessageId.of("d"), 15);
+        assertEquals(List.of("b", "c", "d"), ids(top.top(10)));
+        assertEquals(3, top.size());
+    }
+
+    @Test
+    @DisplayName("Should move a ranked message when its total grows")
+    void should_move_a_ranked_message_when_its_total_grows() {
+        TopViewed top = new TopViewed(3);
+        top.offer(MessageId.of("a"), 10);
+        top.offer(MessageId.of("b"), 20);
+
+        top.offer(MessageId.of("a"), 25);
+
+        List<MessageViews> ranked = top.top(2);
+        assertEquals(List.of("a", "b"), ids(ranked));
+        assertEquals(25, ranked.get(0).getViews());
+        assertEquals(2, top.size());
+    }
+
+    @Test
+    @DisplayName("Should break ties by ID and honour the limit")
+    void should_break_ties_by_id_and_honour_the_limit() {
+        TopViewed top = new TopViewed(5);
+        top.offer(MessageId.of("b"), 7);
+        top.offer(MessageId.of("a"), 7);
+        top.offer(MessageId.of("c"), 9);
+
+        assertEquals(List.of("c", "a"), ids(top.top(2)));
+    }
+
+    @Test
+    @DisplayName("Should remove a message and reload the whole ranking")
+    void should_remove_a_message_and_reload_the_whole_ranking() {
+        TopViewed top = new TopViewed(2);
+        top.offer(MessageId.of("a"), 10);
+        top.offer(MessageId.of("b"), 20);
+
+        assertTrue(top.remove(MessageId.of("b")));
+        assertFalse(top.remove(MessageId.of("b")));
+        assertEquals(List.of("a"), ids(top.top(10)));
+
+        top.replaceAll(List.of(new MessageViews(MessageId.of("x"), 3), new MessageViews(MessageId.of("y"), 4),
+            new MessageViews(MessageId.of("z"), 1)));
+        assertEquals(List.of("y", "x"), ids(top.top(10)));
+    }
+
+    private static List<String> ids(List<MessageViews> views) {
+        return views.stream().map(entry -> entry.getMessageId().getValue()).toList();
+    }
+}
@@ -0,0 +1,181 @@
+package io.lostyzen.demo.infrastructure.adapter.out.webhook;
+
+import com.sun.net.httpserver.HttpServer;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for webhook subscriptions and delivery
+ * Deliveries go to a JDK HTTP server started for each test
+ */
+@QuarkusTest
+class WebhookIntegrationTest {
+
+    private HttpServer stub;
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresToReturn = new AtomicInteger();
+    private volatile long delayMillis;
+    private String subscriptionId;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/hooks", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int status = failuresToReturn.getAndDecrement() > 0 ? 500 : 204;
+            if (status == 204) {
+                received.add(body);
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        stub.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        if (subscriptionId != null) {
+            given().when().delete("/api/webhooks/{id}", subscriptionId);
+        }
+        stub.stop(0);
+    }
+
+    private void subscribe(String eventTypes) {
+        subscriptionId = given()
+            .contentType(ContentType.JSON)
+            .body("{\"url\": \"http://localhost:" + stub.getAddress().getPort() + "/hooks\", "
+                + "\"eventTypes\": " + eventTypes + "}")
+        .when()
+            .post("/api/webhooks")
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+    }
+
+    private String createMessage(String author) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("{\"content\": \"Webhook content\", \"author\": \"" + author + "\"}")
+        .when()
+            .post("/api/messages")
+        .then()
+            .statusCode(201)
+            .extract().path("id");
+    }
+
+    private void publish(String messageId) {
+        given().contentType(ContentType.JSON).when().post("/api/messages/{id}/publish", messageId)
+            .then().statusCode(200);
+    }
+
+    private List<String> awaitReceived(String messageId, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            List<String> matching = received.stream().filter(body -> body.contains(messageId)).toList();
+            if (!matching.isEmpty()) {
+                return matching;
+            }
+            Thread.sleep(20);
+        }
+        return List.of();
+    }
+
+    @Test
+    @DisplayName("Should manage subscriptions")
+    void should_manage_subscriptions() {
+        subscribe("[\"published\", \"DELETED\"]");
+
+        given()
+        .when()
+            .get("/api/webhooks")
+        .then()
+            .statusCode(200)
+            .body("find { it.id == '" + subscriptionId + "' }.eventTypes", containsInAnyOrder("PUBLISHED", "DELETED"));
+
+        given().when().delete("/api/webhooks/{id}", subscriptionId).then().statusCode(204);
+        given().when().delete("/api/webhooks/{id}", subscriptionId).then().statusCode(404);
+        subscriptionId = null;
+    }
+
+    @Test
+    @DisplayName("Should reject invalid subscription")
+    void should_reject_invalid_subscription() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"url\": \"not a url\"}")
+        .when()
+            .post("/api/webhooks")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Should deliver a burst of publications as one batch")
+    void should_deliver_a_burst_of_publications_as_one_batch() throws InterruptedException {
+        subscribe("[\"PUBLISHED\"]");
+        String first = createMessage("Webhook Batch");
+        String second = createMessage("Webhook Batch");
+
+        // Within the linger window: coalesced into one payload
+        publish(first);
+        publish(second);
+
+        List<String> bodies = awaitReceived(first, 5000);
+        assertEquals(1, bodies.size());
+        assertTrue(bodies.get(0).contains(second));
+        assertTrue(bodies.get(0).contains("\"subscriptionId\":\"" + subscriptionId + "\""));
+        assertTrue(bodies.get(0).contains("\"type\":\"PUBLISHED\""));
+        // CREATED is not subscribed to
+        assertFalse(bodies.get(0).contains("\"type\":\"CREATED\""));
+    }
+
+    @Test
+    @DisplayName("Should retry failed deliveries")
+    void should_retry_failed_deliveries() throws InterruptedException {
+        subscribe("[\"PUBLISHED\"]");
+        failuresToReturn.set(2);
+        String messageId = createMessage("Webhook Retry");
+
+        publish(messageId);
+
+        assertEquals(1, awaitReceived(messageId, 5000).size());
+    }
+
+    @Test
+    @DisplayName("Should not slow down publication when the endpoint is slow")
+    void should_not_slow_down_publication_when_the_endpoint_is_slow() throws InterruptedException {
+        subscribe("[\"PUBLISHED\"]");
+        delayMillis = 2000;
+        String messageId = createMessage("Webhook Slow");
+
+        long start = System.nanoTime();
+        publish(messageId);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 1000, "Publication took " + elapsedMillis + " ms");
+        assertEquals(1, awaitReceived(messageId, 5000).size());
+    }
+}